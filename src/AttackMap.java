@@ -0,0 +1,213 @@
+/**
+ * <p>Represents the number of pieces of each side that attack each square of a chessboard.</p>
+ * <p>Chessboards update the map whenever a piece is added or removed. Each piece's capture squares are kept, and when
+ * the occupancy of a square changes, only the pieces on the same row, column, or diagonal as the square are asked for
+ * their capture squares again. This covers every blocker of both games: sliding pieces, cannon screens, horse legs,
+ * elephant eyes and facing kings all lie on a line with the piece they block.</p>
+ * <p>Threat and check queries then become a lookup of the square's attack counts.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class AttackMap {
+
+    //region FIELDS
+    /**
+     * Stores the row steps of the 8 directions a square lines up with other squares.
+     */
+    private static final int[] DIRECTION_ROWS = {-1, 1, 0, 0, -1, -1, 1, 1};
+
+    /**
+     * Stores the column steps of the 8 directions a square lines up with other squares.
+     */
+    private static final int[] DIRECTION_COLUMNS = {0, 0, -1, 1, -1, 1, -1, 1};
+
+    /**
+     * Stores the number of pieces attacking each square, indexed by side and then by square index.
+     */
+    private final int[][] counts;
+
+    /**
+     * Stores the piece on each square.
+     */
+    private final ChessPiece[] pieces;
+
+    /**
+     * Stores the square indexes the piece on each square attacks, indexed by the square of the piece.
+     */
+    private final int[][] attacks;
+
+    /**
+     * Stores the number of squares the piece on each square attacks.
+     */
+    private final int[] numAttacks;
+
+    /**
+     * Stores the list used to collect the capture squares of a piece.
+     */
+    private final SquareList captureSquares;
+
+    /**
+     * Stores the number of rows of the chessboard.
+     */
+    private final int numRows;
+
+    /**
+     * Stores the number of columns of the chessboard.
+     */
+    private final int numColumns;
+    //endregion
+
+    //region CONSTRUCTORS
+    /**
+     * <p>Creates an empty attack map for a chessboard of the given size.</p>
+     *
+     * @param numRows       the number of rows of the chessboard
+     * @param numColumns    the number of columns of the chessboard
+     * @since 1.0
+     */
+    public AttackMap(int numRows, int numColumns) {
+        this.numRows = numRows;
+        this.numColumns = numColumns;
+        counts = new int[ChessGame.Side.values().length][numRows * numColumns];
+        pieces = new ChessPiece[numRows * numColumns];
+        attacks = new int[numRows * numColumns][];
+        numAttacks = new int[numRows * numColumns];
+        captureSquares = new SquareList();
+    }
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Updates the map for a piece that was placed on the given row and column.</p>
+     * <p>This must be called after the piece is on the chessboard and its location is set. Any piece that was on the
+     * square before is replaced.</p>
+     *
+     * @param piece     the chess piece that was added
+     * @param row       the row of the chessboard
+     * @param column    the column of the chessboard
+     * @since 1.0
+     */
+    public void add(ChessPiece piece, int row, int column) {
+        int square = row * numColumns + column;
+
+        clearAttacks(square);
+        pieces[square] = piece;
+        updateLines(row, column);
+    }
+
+    /**
+     * <p>Updates the map for a piece that was taken off the given row and column.</p>
+     * <p>This must be called after the piece is taken off the chessboard.</p>
+     *
+     * @param row       the row of the chessboard
+     * @param column    the column of the chessboard
+     * @since 1.0
+     */
+    public void remove(int row, int column) {
+        int square = row * numColumns + column;
+
+        clearAttacks(square);
+        pieces[square] = null;
+        updateLines(row, column);
+    }
+
+    /**
+     * <p>Returns the number of pieces of the given side that attack a square.</p>
+     *
+     * @param side      the side of the attacking pieces
+     * @param row       the row of the chessboard
+     * @param column    the column of the chessboard
+     * @return          the number of attackers of the square
+     * @since 1.0
+     */
+    public int getAttackCount(ChessGame.Side side, int row, int column) {
+        return counts[side.ordinal()][row * numColumns + column];
+    }
+
+    /**
+     * <p>Checks if a square is attacked by any side other than the given side.</p>
+     *
+     * @param row       the row of the chessboard
+     * @param column    the column of the chessboard
+     * @param side      the side whose opponents are checked
+     * @return          <code>true</code> if an opposing piece attacks the square
+     * @since 1.0
+     */
+    public boolean isThreatened(int row, int column, ChessGame.Side side) {
+        for (ChessGame.Side other : ChessGame.Side.values()) {
+            if (other != side && counts[other.ordinal()][row * numColumns + column] > 0)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * <p>Asks the piece on a square, and every piece lined up with the square, for their capture squares again.</p>
+     *
+     * @param row       the row of the square whose occupancy changed
+     * @param column    the column of the square whose occupancy changed
+     * @since 1.0
+     */
+    private void updateLines(int row, int column) {
+        updateAttacks(row * numColumns + column);
+
+        for (int direction = 0; direction < DIRECTION_ROWS.length; direction++) {
+            int i = row + DIRECTION_ROWS[direction];
+            int j = column + DIRECTION_COLUMNS[direction];
+
+            while (i >= 0 && i < numRows && j >= 0 && j < numColumns) {
+                updateAttacks(i * numColumns + j);
+                i += DIRECTION_ROWS[direction];
+                j += DIRECTION_COLUMNS[direction];
+            }
+        }
+    }
+
+    /**
+     * <p>Replaces the attacks of the piece on a square with its current capture squares.</p>
+     *
+     * @param square    the square index of the piece
+     * @since 1.0
+     */
+    private void updateAttacks(int square) {
+        if (pieces[square] == null)
+            return;
+
+        clearAttacks(square);
+
+        captureSquares.clear();
+        pieces[square].addCaptureSquares(captureSquares);
+
+        if (attacks[square] == null || attacks[square].length < captureSquares.size())
+            attacks[square] = new int[Math.max(captureSquares.size(), numRows + numColumns)];
+
+        // Stores the attack counts of the piece's side
+        int[] sideCounts = counts[pieces[square].getSide().ordinal()];
+
+        for (int i = 0; i < captureSquares.size(); i++) {
+            attacks[square][i] = captureSquares.getRow(i) * numColumns + captureSquares.getColumn(i);
+            sideCounts[attacks[square][i]]++;
+        }
+        numAttacks[square] = captureSquares.size();
+    }
+
+    /**
+     * <p>Takes the attacks of the piece on a square, if any, out of the attack counts.</p>
+     *
+     * @param square    the square index of the piece
+     * @since 1.0
+     */
+    private void clearAttacks(int square) {
+        if (pieces[square] == null)
+            return;
+
+        // Stores the attack counts of the piece's side
+        int[] sideCounts = counts[pieces[square].getSide().ordinal()];
+
+        for (int i = 0; i < numAttacks[square]; i++)
+            sideCounts[attacks[square][i]]--;
+        numAttacks[square] = 0;
+    }
+    //endregion
+}
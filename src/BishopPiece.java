@@ -3,7 +3,7 @@
  * <p>Dictates how a bishop can move.</p>
  *
  * @author Nobel Zhou (nxz157)
- * @version 1.0, 12/2/20
+ * @version 3.0, 10/17/26
  */
 public class BishopPiece extends ChessPiece implements CanDiagonalMove, Promotable {
 
@@ -24,6 +24,18 @@ public class BishopPiece extends ChessPiece implements CanDiagonalMove, Promotab
     //endregion
 
     //region METHODS
+    /**
+     * <p>Creates a bishop piece of the same side, icon, and location on another chessboard.</p>
+     *
+     * @param chessBoard    the chessboard of the new bishop piece
+     * @return              the new bishop piece
+     * @since 3.0
+     */
+    @Override
+    protected ChessPiece createPiece(ChessBoard chessBoard) {
+        return new BishopPiece(getSide(), chessBoard, (ChessIcon) getIcon(), getRow(), getColumn());
+    }
+
     /**
      * <p>Returns a boolean representing if the proposed move is legal, assuming that it is unoccupied.</p>
      * @param row       the bishop piece's destination row
@@ -47,6 +59,30 @@ public class BishopPiece extends ChessPiece implements CanDiagonalMove, Promotab
     public boolean isLegalCaptureMove(int row, int column) {
         return isValidDiagonalMove(row, column, this);
     }
+
+    /**
+     * <p>Adds the squares the bishop piece can capture on to a list of squares.</p>
+     * <p>The diagonals are walked up to and including the first piece.</p>
+     *
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    @Override
+    public void addCaptureSquares(SquareList squares) {
+        addDiagonalCaptureSquares(this, squares);
+    }
+
+    /**
+     * <p>Adds the squares the bishop piece can move to to a list of squares.</p>
+     * <p>The diagonals are walked up to the first piece.</p>
+     *
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    @Override
+    public void addMoveSquares(SquareList squares) {
+        addDiagonalMoveSquares(this, squares);
+    }
     
     /**
      * <p>Returns a boolean representing if the bishop piece is dark squared or not.</p>
@@ -56,5 +92,21 @@ public class BishopPiece extends ChessPiece implements CanDiagonalMove, Promotab
     public boolean isDarkSquared() {
         return (getRow() + getColumn()) % 2 == 0;
     }
+
+    /**
+     * <p>Returns the number of pieces that must be in between for the bishop piece to capture along a line in the given
+     * direction.</p>
+     * <p>The bishop piece captures along diagonals with nothing in between.</p>
+     *
+     * @param rowStep       the row step of the direction, from -1 to 1
+     * @param columnStep    the column step of the direction, from -1 to 1
+     * @return              the number of pieces that must be in between, -1 if the bishop piece does not
+     *                      capture this way
+     * @since 3.0
+     */
+    @Override
+    public int getLineScreens(int rowStep, int columnStep) {
+        return rowStep != 0 && columnStep != 0 ? 0 : -1;
+    }
     //endregion
 }
@@ -0,0 +1,535 @@
+/**
+ * <p>Represents a chessboard with no GUI that stores its position in 64-bit occupancy masks.</p>
+ * <p>Each side has one mask per piece type, so occupancy, central piece and threat queries are answered with mask
+ * operations instead of iterating every square of the chessboard.</p>
+ * <p>The chessboard must not have more than 64 squares, which covers the board of Indo-European chess.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class BitboardChessBoard implements ChessBoard {
+
+    //region FIELDS
+    /**
+     * Stores the mask index of pawn pieces.
+     */
+    private static final int PAWN = 0;
+
+    /**
+     * Stores the mask index of knight pieces.
+     */
+    private static final int KNIGHT = 1;
+
+    /**
+     * Stores the mask index of bishop pieces.
+     */
+    private static final int BISHOP = 2;
+
+    /**
+     * Stores the mask index of rook pieces.
+     */
+    private static final int ROOK = 3;
+
+    /**
+     * Stores the mask index of queen pieces.
+     */
+    private static final int QUEEN = 4;
+
+    /**
+     * Stores the mask index of king pieces.
+     */
+    private static final int KING = 5;
+
+    /**
+     * Stores the mask index of any other piece, whose threats are checked with the piece itself.
+     */
+    private static final int OTHER = 6;
+
+    /**
+     * Stores the row steps of the eight ray directions; the first four are straight and the last four are diagonal.
+     */
+    private static final int[] RAY_ROWS = {-1, 1, 0, 0, -1, -1, 1, 1};
+
+    /**
+     * Stores the column steps of the eight ray directions; the first four are straight and the last four are diagonal.
+     */
+    private static final int[] RAY_COLUMNS = {0, 0, -1, 1, -1, 1, -1, 1};
+
+    /**
+     * Stores the rules for the chessboard.
+     */
+    private final ChessGame gameRules;
+
+    /**
+     * Stores the number of columns of the chessboard, used to convert a row and column into a square index.
+     */
+    private final int numColumns;
+
+    /**
+     * Stores the chess piece objects by square index; only squares set in <code>occupied</code> are meaningful.
+     */
+    private final ChessPiece[] squares;
+
+    /**
+     * Stores the occupancy masks of each piece type, indexed by side and then by piece type.
+     */
+    private final long[][] pieceMasks;
+
+    /**
+     * Stores the occupancy masks of each side.
+     */
+    private final long[] sideMasks;
+
+    /**
+     * Stores the occupancy masks of the center pieces of each side.
+     */
+    private final long[] centerMasks;
+
+    /**
+     * Stores the occupancy mask of the whole chessboard.
+     */
+    private long occupied;
+
+    /**
+     * Stores the lists of pieces of each side, so a piece can be found by its index without counting mask bits.
+     */
+    private final PieceList pieceList;
+
+    /**
+     * Stores the knight attacks from each square.
+     */
+    private final long[] knightAttacks;
+
+    /**
+     * Stores the king attacks from each square.
+     */
+    private final long[] kingAttacks;
+
+    /**
+     * Stores the squares a pawn of each side attacks the given square from, indexed by side and then by square.
+     */
+    private final long[][] pawnAttackers;
+
+    /**
+     * Stores the squares of each ray direction from each square, indexed by direction and then by square.
+     */
+    private final long[][] rays;
+    //endregion
+
+    //region CONSTRUCTORS
+    /**
+     * <p>Creates a bitboard chessboard using the given game rules.</p>
+     *
+     * @param gameRules    the game rules for the chessboard
+     * @throws IllegalArgumentException if the game rules have more than 64 squares
+     * @since 1.0
+     */
+    public BitboardChessBoard(ChessGame gameRules) throws IllegalArgumentException {
+        if (gameRules.getNumRows() * gameRules.getNumColumns() > Long.SIZE)
+            throw new IllegalArgumentException("A bitboard chessboard cannot have more than 64 squares.");
+
+        // Initializes the board
+        this.gameRules = gameRules;
+        numColumns = gameRules.getNumColumns();
+        squares = new ChessPiece[gameRules.getNumRows() * numColumns];
+        pieceMasks = new long[ChessGame.Side.values().length][OTHER + 1];
+        sideMasks = new long[ChessGame.Side.values().length];
+        centerMasks = new long[ChessGame.Side.values().length];
+        pieceList = new PieceList(gameRules.getNumRows(), numColumns);
+
+        // Initializes the attack tables
+        knightAttacks = new long[squares.length];
+        kingAttacks = new long[squares.length];
+        pawnAttackers = new long[ChessGame.Side.values().length][squares.length];
+        rays = new long[RAY_ROWS.length][squares.length];
+        for (int row = 0; row < gameRules.getNumRows(); row++) {
+            for (int column = 0; column < numColumns; column++) {
+                int square = toSquare(row, column);
+
+                for (int i = -2; i <= 2; i++) {
+                    for (int j = -2; j <= 2; j++) {
+                        if (Math.abs(i * j) == 2)
+                            knightAttacks[square] |= toMask(row + i, column + j);
+                        else if (Math.abs(i) <= 1 && Math.abs(j) <= 1 && (i != 0 || j != 0))
+                            kingAttacks[square] |= toMask(row + i, column + j);
+                    }
+                }
+
+                // A pawn attacks diagonally forward, so it attacks this square from diagonally behind
+                pawnAttackers[ChessGame.Side.NORTH.ordinal()][square] = toMask(row - 1, column - 1) | toMask(row - 1, column + 1);
+                pawnAttackers[ChessGame.Side.SOUTH.ordinal()][square] = toMask(row + 1, column - 1) | toMask(row + 1, column + 1);
+                pawnAttackers[ChessGame.Side.WEST.ordinal()][square] = toMask(row - 1, column - 1) | toMask(row + 1, column - 1);
+                pawnAttackers[ChessGame.Side.EAST.ordinal()][square] = toMask(row - 1, column + 1) | toMask(row + 1, column + 1);
+
+                for (int direction = 0; direction < RAY_ROWS.length; direction++) {
+                    for (int i = 1; toMask(row + i * RAY_ROWS[direction], column + i * RAY_COLUMNS[direction]) != 0; i++)
+                        rays[direction][square] |= toMask(row + i * RAY_ROWS[direction], column + i * RAY_COLUMNS[direction]);
+                }
+            }
+        }
+    }
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Returns a <code>ChessGame</code> representing the rules of the chessboard.</p>
+     * <p>For example, it can return either the rules for Indo-European Chess or Xiangqi.</p>
+     *
+     * @return the rules of the chessboard
+     * @since 1.0
+     */
+    @Override
+    public ChessGame getGameRules() {
+        return gameRules;
+    }
+
+    /**
+     * <p>Adds a <code>ChessPiece</code> to the chessboard at the given row and column.</p>
+     * <p>If the square is occupied, the piece on it is replaced.</p>
+     *
+     * @param piece  the chess piece to be added
+     * @param row    the row of the chessboard
+     * @param column the column of the chessboard
+     * @since 1.0
+     */
+    @Override
+    public void addPiece(ChessPiece piece, int row, int column) {
+        // Clears the masks of the piece being replaced, if any
+        removePiece(row, column);
+
+        int square = toSquare(row, column);
+        long mask = 1L << square;
+        squares[square] = piece;
+        pieceMasks[piece.getSide().ordinal()][getType(piece)] |= mask;
+        sideMasks[piece.getSide().ordinal()] |= mask;
+        if (piece instanceof CenterPiece)
+            centerMasks[piece.getSide().ordinal()] |= mask;
+        occupied |= mask;
+        pieceList.add(piece, row, column);
+        piece.setLocation(row, column);
+    }
+
+    /**
+     * <p>Adds a <code>ChessPiece</code> to the chessboard at the given row and column, but does not
+     * update the display.</p>
+     * <p>This is used to check for checks when doing a proposed move.</p>
+     * <p>For a bitboard chessboard, this does the exact same thing as the <code>addPiece</code> function.</p>
+     *
+     * @param piece  the chess piece to be added
+     * @param row    the row of the chessboard
+     * @param column the column of the chessboard
+     * @since 1.0
+     */
+    @Override
+    public void simulateAddPiece(ChessPiece piece, int row, int column) {
+        addPiece(piece, row, column);
+    }
+
+    /**
+     * <p>Removes a <code>ChessPiece</code> from the chess board at the given row and column.</p>
+     * <p>Returns the <code>ChessPiece</code> that was just removed, if any.</p>
+     *
+     * @param row    the row of the chessboard
+     * @param column the column of the chessboard
+     * @return the chess piece that was just removed, <code>null</code> if there is no chess piece
+     * @since 1.0
+     */
+    @Override
+    public ChessPiece removePiece(int row, int column) {
+        int square = toSquare(row, column);
+        long mask = 1L << square;
+
+        // Checks if the square is empty
+        if ((occupied & mask) == 0)
+            return null;
+
+        ChessPiece save = squares[square];
+        squares[square] = null;
+        pieceMasks[save.getSide().ordinal()][getType(save)] &= ~mask;
+        sideMasks[save.getSide().ordinal()] &= ~mask;
+        centerMasks[save.getSide().ordinal()] &= ~mask;
+        occupied &= ~mask;
+        pieceList.remove(save, row, column);
+        return save;
+    }
+
+    /**
+     * <p>Removes a <code>ChessPiece</code> from the chess board at the given row and column, but does not
+     * update the display./p>
+     * <p>This is used to check for checks when doing a proposed move.</p>
+     * <p>Returns the <code>ChessPiece</code> that was just removed, if any.</p>
+     * <p>For a bitboard chessboard, this does the exact same thing as the <code>removePiece</code> function.</p>
+     *
+     * @param row    the row of the chessboard
+     * @param column the column of the chessboard
+     * @return the chess piece that was just removed, <code>null</code> if there is no chess piece
+     * @since 1.0
+     */
+    @Override
+    public ChessPiece simulateRemovePiece(int row, int column) {
+        return removePiece(row, column);
+    }
+
+    /**
+     * <p>Checks to see if a piece exists at the given row and column.</p>
+     *
+     * @param row    the row of the chessboard
+     * @param column the column of the chessboard
+     * @return <code>true</code> if the piece exists at the given row and column
+     */
+    @Override
+    public boolean hasPiece(int row, int column) {
+        return (occupied & (1L << toSquare(row, column))) != 0;
+    }
+
+    /**
+     * <p>Returns the <code>ChessPiece</code> of the chess board at the given row and column, if any.</p>
+     *
+     * @param row    the row of the chessboard
+     * @param column the column of the chessboard
+     * @return the chess piece at the given row and column, <code>null</code> if there is no chess piece
+     */
+    @Override
+    public ChessPiece getPiece(int row, int column) {
+        return hasPiece(row, column) ? squares[toSquare(row, column)] : null;
+    }
+
+    /**
+     * <p>Handles how to stop the chess game.</p>
+     * <p>For a bitboard chessboard, this method does nothing.</p>
+     *
+     * @param result the result of the chess game
+     * @param side   the side of the winning player, if there was one
+     * @since 1.0
+     */
+    @Override
+    public void terminate(ChessResult result, ChessGame.Side side) {}
+
+    /**
+     * <p>Returns an array of the <code>ChessPiece</code>s of the given side that are on the chessboard.</p>
+     * <p>The array is a copy, so the chessboard can be changed while iterating it.</p>
+     *
+     * @param side  the side of the pieces
+     * @return      the pieces of the side
+     * @since 1.0
+     */
+    @Override
+    public ChessPiece[] getPieces(ChessGame.Side side) {
+        return pieceList.getPieces(side);
+    }
+
+    /**
+     * <p>Returns the number of pieces of the given side that are on the chessboard.</p>
+     *
+     * @param side  the side of the pieces
+     * @return      the number of pieces of the side
+     * @since 1.0
+     */
+    @Override
+    public int getNumPieces(ChessGame.Side side) {
+        return pieceList.size(side);
+    }
+
+    /**
+     * <p>Returns a piece of the given side by its index in the piece list of the side, without copying the list.</p>
+     *
+     * @param side  the side of the piece
+     * @param index the index of the piece
+     * @return      the piece
+     * @throws IndexOutOfBoundsException if the side has no piece at the index
+     * @since 1.0
+     */
+    @Override
+    public ChessPiece getPiece(ChessGame.Side side, int index) throws IndexOutOfBoundsException {
+        return pieceList.get(side, index);
+    }
+
+    /**
+     * <p>Returns a <code>ChessPiece</code> that represents the central piece of the game, based on the passed in
+     * piece's side.</p>
+     * <p>The central piece is found from the center piece mask of the side.</p>
+     *
+     * @param piece a piece of the game that has the same side as the central piece
+     * @return      the central piece of the same side
+     * @since 1.0
+     */
+    @Override
+    public CenterPiece getCentralPiece(ChessPiece piece) {
+        long mask = centerMasks[piece.getSide().ordinal()];
+        return (mask == 0) ? null : (CenterPiece) squares[Long.numberOfTrailingZeros(mask)];
+    }
+
+    /**
+     * <p>Checks if the <code>ChessPiece</code> in question is threatened by any of the chess pieces of the
+     * opposing side.</p>
+     * <p>The attackers of the square are found by intersecting the attack masks of the square with the piece masks of
+     * each opposing side.</p>
+     *
+     * @param row       the row of the chessboard
+     * @param column    the column of the chessboard
+     * @param piece     the chess piece that is possibly threatened
+     * @return          <code>true</code> if the chess piece is threatened by the opposing side's pieces
+     */
+    @Override
+    public boolean squareThreatened(int row, int column, ChessPiece piece) {
+        int square = toSquare(row, column);
+
+        for (ChessGame.Side side : ChessGame.Side.values()) {
+            // Skips the side of the piece and sides without pieces
+            if (side == piece.getSide() || sideMasks[side.ordinal()] == 0)
+                continue;
+
+            long[] masks = pieceMasks[side.ordinal()];
+            if ((pawnAttackers[side.ordinal()][square] & masks[PAWN]) != 0 ||
+                    (knightAttacks[square] & masks[KNIGHT]) != 0 ||
+                    (kingAttacks[square] & masks[KING]) != 0 ||
+                    (getSlidingAttacks(square, 0) & (masks[ROOK] | masks[QUEEN])) != 0 ||
+                    (getSlidingAttacks(square, 4) & (masks[BISHOP] | masks[QUEEN])) != 0)
+                return true;
+
+            // Asks any other pieces directly
+            for (long others = masks[OTHER]; others != 0; others &= others - 1) {
+                if (squares[Long.numberOfTrailingZeros(others)].isLegalCaptureMove(row, column))
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * <p>Returns the number of pieces of the given side that can capture on a square, whether it is occupied or
+     * not.</p>
+     * <p>The attackers are counted from the intersections of the attack masks of the square with the piece masks of
+     * the side.</p>
+     *
+     * @param side      the side of the attacking pieces
+     * @param row       the row of the chessboard
+     * @param column    the column of the chessboard
+     * @return          the number of pieces of the side attacking the square
+     * @since 1.0
+     */
+    @Override
+    public int getAttackCount(ChessGame.Side side, int row, int column) {
+        int square = toSquare(row, column);
+        long[] masks = pieceMasks[side.ordinal()];
+        int count = Long.bitCount(pawnAttackers[side.ordinal()][square] & masks[PAWN]) +
+                Long.bitCount(knightAttacks[square] & masks[KNIGHT]) +
+                Long.bitCount(kingAttacks[square] & masks[KING]) +
+                Long.bitCount(getSlidingAttacks(square, 0) & (masks[ROOK] | masks[QUEEN])) +
+                Long.bitCount(getSlidingAttacks(square, 4) & (masks[BISHOP] | masks[QUEEN]));
+
+        // Asks any other pieces directly
+        for (long others = masks[OTHER]; others != 0; others &= others - 1) {
+            if (squares[Long.numberOfTrailingZeros(others)].isLegalCaptureMove(row, column))
+                count++;
+        }
+        return count;
+    }
+
+    /**
+     * <p>Returns the number of pieces strictly between two squares on the same row, column, or diagonal.</p>
+     * <p>The squares in between are the ray from the first square with the ray from the second square removed.</p>
+     *
+     * @param fromRow       the row of the first square
+     * @param fromColumn    the column of the first square
+     * @param toRow         the row of the second square
+     * @param toColumn      the column of the second square
+     * @return              the number of pieces between the two squares
+     * @throws IllegalArgumentException if the squares are not on the same row, column, or diagonal
+     * @since 1.0
+     */
+    @Override
+    public int countPiecesBetween(int fromRow, int fromColumn, int toRow, int toColumn) throws IllegalArgumentException {
+        // Checks that the squares are lined up
+        if (fromRow != toRow && fromColumn != toColumn && Math.abs(toRow - fromRow) != Math.abs(toColumn - fromColumn))
+            throw new IllegalArgumentException("The squares are not on the same row, column, or diagonal.");
+
+        // Looks for the ray direction from the first square to the second square
+        for (int direction = 0; direction < RAY_ROWS.length; direction++) {
+            if (RAY_ROWS[direction] == Integer.signum(toRow - fromRow) && RAY_COLUMNS[direction] == Integer.signum(toColumn - fromColumn)) {
+                int to = toSquare(toRow, toColumn);
+                long between = rays[direction][toSquare(fromRow, fromColumn)] & ~rays[direction][to] & ~(1L << to);
+                return Long.bitCount(between & occupied);
+            }
+        }
+        return 0; // Same square
+    }
+
+    /**
+     * <p>Returns the squares reached from a square along four ray directions, up to and including the first occupied
+     * square of each ray.</p>
+     *
+     * @param square            the square index
+     * @param firstDirection    the first of the four ray directions; 0 for straight rays and 4 for diagonal rays
+     * @return                  the mask of the squares reached
+     * @since 1.0
+     */
+    private long getSlidingAttacks(int square, int firstDirection) {
+        long attacks = 0;
+
+        for (int direction = firstDirection; direction < firstDirection + 4; direction++) {
+            long ray = rays[direction][square];
+            long blockers = ray & occupied;
+
+            // Cuts the ray off behind the nearest blocker, which is the lowest square for rays going forward
+            if (blockers != 0) {
+                boolean forward = RAY_ROWS[direction] > 0 || (RAY_ROWS[direction] == 0 && RAY_COLUMNS[direction] > 0);
+                int blocker = forward ? Long.numberOfTrailingZeros(blockers) : Long.SIZE - 1 - Long.numberOfLeadingZeros(blockers);
+                ray ^= rays[direction][blocker];
+            }
+            attacks |= ray;
+        }
+        return attacks;
+    }
+
+    /**
+     * <p>Returns the mask index of the type of the given piece.</p>
+     *
+     * @param piece the chess piece
+     * @return      the mask index of the piece type
+     * @since 1.0
+     */
+    private static int getType(ChessPiece piece) {
+        if (piece instanceof PawnPiece)
+            return PAWN;
+        else if (piece instanceof KnightPiece)
+            return KNIGHT;
+        else if (piece instanceof BishopPiece)
+            return BISHOP;
+        else if (piece instanceof RookPiece)
+            return ROOK;
+        else if (piece instanceof QueenPiece)
+            return QUEEN;
+        else if (piece instanceof KingPiece)
+            return KING;
+        else
+            return OTHER;
+    }
+
+    /**
+     * <p>Returns the square index of the given row and column.</p>
+     *
+     * @param row       the row of the chessboard
+     * @param column    the column of the chessboard
+     * @return          the square index
+     * @since 1.0
+     */
+    private int toSquare(int row, int column) {
+        return row * numColumns + column;
+    }
+
+    /**
+     * <p>Returns the mask of the given row and column, or an empty mask if it is off the chessboard.</p>
+     *
+     * @param row       the row of the chessboard
+     * @param column    the column of the chessboard
+     * @return          the mask of the square
+     * @since 1.0
+     */
+    private long toMask(int row, int column) {
+        if (row < 0 || column < 0 || row >= getGameRules().getNumRows() || column >= numColumns)
+            return 0;
+        return 1L << toSquare(row, column);
+    }
+    //endregion
+}
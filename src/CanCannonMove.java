@@ -2,7 +2,7 @@
  * <p>Represents the ability to make a cannon move in chess.</p>
  *
  * @author Nobel Zhou (nxz157)
- * @version 1.0, 12/4/20
+ * @version 3.0, 10/17/26
  */
 public interface CanCannonMove extends CanMove {
     /**
@@ -18,63 +18,40 @@ public interface CanCannonMove extends CanMove {
     default boolean isValidCannonMove(int row, int column, ChessPiece cp) {
         // Checks to make sure that it's a valid square first and that is a horizontal or vertical square
         if (isValidMove(row, column, cp) && (row == cp.getRow() || column == cp.getColumn())) {
-            // Stores the number of pieces between the proposed move and the chess piece's current location
-            int numOfPiecesBetween = 0;
-
-            // Moves row or column 1 space closer to piece
-            row = (row == cp.getRow()) ? row : (row > cp.getRow()) ? row - 1 : row + 1;
-            column = (column == cp.getColumn()) ? column : (column > cp.getColumn()) ? column - 1 : column + 1;
-
-            // Checks that all of the squares up to it except one are empty
-            if (row == cp.getRow()) { // Horizontal movement
-                if (column > cp.getColumn()) { // Right movement
-                    // Iterates for each square, starting at right and going left
-                    for (int i = column; i > cp.getColumn(); i--) {
-                        // Checks that it is a valid move
-                        if (!isValidMove(row, i, cp))
-                            return false;
-                        // If there is a piece, add one to pieces in between count
-                        else if (cp.getChessBoard().hasPiece(row, i))
-                            numOfPiecesBetween++;
-                    }
-                } else { // Left movement
-                    // Iterates for each square, starting at left and going right
-                    for (int i = column; i < cp.getColumn(); i++) {
-                        // Checks that it is a valid move
-                        if (!isValidMove(row, i, cp))
-                            return false;
-                            // If there is a piece, add one to pieces in between count
-                        else if (cp.getChessBoard().hasPiece(row, i))
-                            numOfPiecesBetween++;
-                    }
-                }
-            } else { // Vertical movement
-                if (row > cp.getRow()) { // Down movement
-                    // Iterates for each square, starting at down and going up
-                    for (int i = row; i > cp.getRow(); i--) {
-                        // Checks that it is a valid move
-                        if (!isValidMove(i, column, cp))
-                            return false;
-                            // If there is a piece, add one to pieces in between count
-                        else if (cp.getChessBoard().hasPiece(i, column))
-                            numOfPiecesBetween++;
-                    }
-                } else { // Up movement
-                    // Iterates for each square, starting at up and going down
-                    for (int i = row; i < cp.getRow(); i++) {
-                        // Checks that it is a valid move
-                        if (!isValidMove(i, column, cp))
-                            return false;
-                            // If there is a piece, add one to pieces in between count
-                        else if (cp.getChessBoard().hasPiece(i, column))
-                            numOfPiecesBetween++;
-                    }
-                }
-            }
-
             // Checks to make sure only 1 piece is in between proposed move and chess piece
-            return numOfPiecesBetween == 1;
+            return cp.getChessBoard().countPiecesBetween(cp.getRow(), cp.getColumn(), row, column) == 1;
         } else
-            return false; // Not a valid diagonal move
+            return false; // Not a valid cannon move
+    }
+
+    /**
+     * <p>Adds the squares the piece can capture on with a cannon move to a list of squares.</p>
+     * <p>These are the squares past exactly 1 piece (the screen), up to and including the next piece.</p>
+     *
+     * @param cp        the chess piece
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    default void addCannonCaptureSquares(ChessPiece cp, SquareList squares) {
+        addRaySquares(-1, 0, 1, cp, squares);
+        addRaySquares(1, 0, 1, cp, squares);
+        addRaySquares(0, -1, 1, cp, squares);
+        addRaySquares(0, 1, 1, cp, squares);
+    }
+
+    /**
+     * <p>Adds the squares the piece can move to as a cannon to a list of squares.</p>
+     * <p>These are the empty squares before the first piece, and the first piece past the screen if it is on an
+     * opposing side.</p>
+     *
+     * @param cp        the chess piece
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    default void addCannonMoveSquares(ChessPiece cp, SquareList squares) {
+        addRayMoveSquares(-1, 0, 1, cp, squares);
+        addRayMoveSquares(1, 0, 1, cp, squares);
+        addRayMoveSquares(0, -1, 1, cp, squares);
+        addRayMoveSquares(0, 1, 1, cp, squares);
     }
 }
@@ -2,9 +2,19 @@
  * <p>Represents the ability to make a castling move in chess.</p>
  *
  * @author Nobel Zhou (nxz157)
- * @version 1.0, 12/2/20
+ * @version 3.0, 10/17/26
  */
 public interface CanCastleMove extends CanMove {
+    /**
+     * Stores the row offsets of the castling moves of every side, matching the column offsets.
+     */
+    int[] CASTLING_ROW_OFFSETS = {0, 0, -2, 2};
+
+    /**
+     * Stores the column offsets of the castling moves of every side, matching the row offsets.
+     */
+    int[] CASTLING_COLUMN_OFFSETS = {-2, 2, 0, 0};
+
     /**
      * <p>Returns a boolean representing if the proposed row and column is a valid castling move from the piece's location.</p>
      * <p>The only valid move will be 2 spaces to the left or right of the king if north/south and up or down of the king if west/east.</p>
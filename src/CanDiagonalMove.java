@@ -2,7 +2,7 @@
  * <code>Represents the ability to make a diagonal move in chess.</code>
  *
  * @author Nobel Zhou (nxz157)
- * @version 1.0, 12/2/20
+ * @version 3.0, 10/17/26
  */
 public interface CanDiagonalMove extends CanMove {
     /**
@@ -17,33 +17,37 @@ public interface CanDiagonalMove extends CanMove {
     default boolean isValidDiagonalMove(int row, int column, ChessPiece cp) {
         // Checks to make sure that it's a valid square first and that is a diagonal square
         if (isValidMove(row, column, cp) && (row - cp.getRow() == column - cp.getColumn() || (row - cp.getRow() == (-1 * (column - cp.getColumn()))))) {
-            // Moves row and column 1 space closer to piece
-            row = (row > cp.getRow()) ? row - 1 : row + 1;
-            column = (column > cp.getColumn()) ? column - 1 : column + 1;
-
-            // Checks if the move won't result in check and that all of the squares up to it are empty
-            // Iterates for each square on the diagonal
-            for (int i = 0; i < Math.abs(cp.getColumn() - column); i++) {
-                if (row > cp.getRow()) { // South movement
-                    if (column > cp.getColumn()) { // Southeast movement
-                        if (!isValidMove(row - i, column - i, cp) || cp.getChessBoard().hasPiece(row - i, column - i))
-                            return false;
-                    } else { // Southwest movement
-                        if (!isValidMove(row - i, column + i, cp) || cp.getChessBoard().hasPiece(row - i, column + i))
-                            return false;
-                    }
-                } else { // North movement
-                    if (column > cp.getColumn()) { // Northeast movement
-                        if (!isValidMove(row + i, column - i, cp) || cp.getChessBoard().hasPiece(row + i, column - i))
-                            return false;
-                    } else { // Northwest movement
-                        if (!isValidMove(row + i, column + i, cp) || cp.getChessBoard().hasPiece(row + i, column + i))
-                            return false;
-                    }
-                }
-            }
-            return true;
+            // Checks that all of the squares up to it are empty
+            return cp.getChessBoard().countPiecesBetween(cp.getRow(), cp.getColumn(), row, column) == 0;
         } else
             return false; // Not a valid diagonal move
     }
+
+    /**
+     * <p>Adds the squares the piece can capture on with a diagonal move to a list of squares.</p>
+     *
+     * @param cp        the chess piece
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    default void addDiagonalCaptureSquares(ChessPiece cp, SquareList squares) {
+        addRaySquares(-1, -1, 0, cp, squares);
+        addRaySquares(-1, 1, 0, cp, squares);
+        addRaySquares(1, -1, 0, cp, squares);
+        addRaySquares(1, 1, 0, cp, squares);
+    }
+
+    /**
+     * <p>Adds the squares the piece can move to with a diagonal move to a list of squares.</p>
+     *
+     * @param cp        the chess piece
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    default void addDiagonalMoveSquares(ChessPiece cp, SquareList squares) {
+        addRayMoveSquares(-1, -1, 0, cp, squares);
+        addRayMoveSquares(-1, 1, 0, cp, squares);
+        addRayMoveSquares(1, -1, 0, cp, squares);
+        addRayMoveSquares(1, 1, 0, cp, squares);
+    }
 }
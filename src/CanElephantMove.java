@@ -2,9 +2,19 @@
  * <p>Represents the ability to make an elephant move in chess.</p>
  *
  * @author Nobel Zhou (nxz157)
- * @version 1.0, 12/4/20
+ * @version 3.0, 10/17/26
  */
 public interface CanElephantMove extends CanDiagonalMove {
+    /**
+     * Stores the row offsets of the elephant moves, matching the column offsets.
+     */
+    int[] ELEPHANT_ROW_OFFSETS = {-2, -2, 2, 2};
+
+    /**
+     * Stores the column offsets of the elephant moves, matching the row offsets.
+     */
+    int[] ELEPHANT_COLUMN_OFFSETS = {-2, 2, -2, 2};
+
     /**
      * <p>Returns a boolean representing if the proposed row and column is a valid elephant
      * move from the piece's location.</p>
@@ -16,7 +26,21 @@ public interface CanElephantMove extends CanDiagonalMove {
      * @since 1.0
      */
     default boolean isValidElephantMove(int row, int column, ChessPiece cp) {
-        if (isValidDiagonalMove(row, column, cp) && Math.abs(row - cp.getRow()) == 2 && Math.abs(column - cp.getColumn()) == 2) {
+        return isValidDiagonalMove(row, column, cp) && isElephantStep(row, column, cp);
+    }
+
+    /**
+     * <p>Returns a boolean representing if the proposed row and column is 2 squares away diagonally and on the
+     * piece's half of the board, whether or not the square in between is empty.</p>
+     *
+     * @param row       the piece's destination row
+     * @param column    the piece's destination column
+     * @param cp        the chess piece
+     * @return          <code>true</code> if the proposed location is an elephant step away
+     * @since 3.0
+     */
+    default boolean isElephantStep(int row, int column, ChessPiece cp) {
+        if (isValidMove(row, column, cp) && Math.abs(row - cp.getRow()) == 2 && Math.abs(column - cp.getColumn()) == 2) {
             // Restricts the elephant move to half of the board, which varies depending on what side you are
             switch (cp.getSide()) {
                 case NORTH:
@@ -31,4 +55,20 @@ public interface CanElephantMove extends CanDiagonalMove {
         } else
             return false;
     }
+
+    /**
+     * <p>Adds the square that must be empty for the piece to make an elephant move to a square (the "eye") to a list
+     * of squares.</p>
+     * <p>Nothing is added if the square is not an elephant step away.</p>
+     *
+     * @param row       the piece's destination row
+     * @param column    the piece's destination column
+     * @param cp        the chess piece
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    default void addElephantEyeSquares(int row, int column, ChessPiece cp, SquareList squares) {
+        if (isElephantStep(row, column, cp))
+            squares.add((row + cp.getRow()) / 2, (column + cp.getColumn()) / 2);
+    }
 }
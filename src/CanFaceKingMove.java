@@ -2,7 +2,7 @@
  * <p>Represents the ability to make a xiangqi facing king move in chess.</p>
  *
  * @author Nobel Zhou (nxz157)
- * @version 1.0, 12/5/20
+ * @version 3.0, 10/17/26
  */
 public interface CanFaceKingMove extends CanMove {
     /**
@@ -25,49 +25,45 @@ public interface CanFaceKingMove extends CanMove {
                     // Checks to see if the move is in the same column
                     if (column != cp.getColumn())
                         return false;
-
-                    // Checks to make sure space in between pieces is empty
-                    if (row > cp.getRow()) { // Down movement
-                        // Iterates for each square, starting at down and going up
-                        for (int i = row - 1; i > cp.getRow(); i--) {
-                            // If not a valid non-capture move, return false
-                            if (!isValidMove(i, column, cp) || cp.getChessBoard().hasPiece(i, column))
-                                return false;
-                        }
-                    } else { // Up movement
-                        // Iterates for each square, starting at up and going down
-                        for (int i = row + 1; i < cp.getRow(); i++) {
-                            // If not a valid non-capture move, return false
-                            if (!isValidMove(i, column, cp) || cp.getChessBoard().hasPiece(i, column))
-                                return false;
-                        }
-                    }
                     break;
                 default: // EAST and WEST
                     // Checks to see if the move is in the same row
                     if (row != cp.getRow())
                         return false;
-
-                    // Checks to make sure space in between pieces is empty
-                    if (column > cp.getColumn()) { // Right movement
-                        // Iterates for each square, starting at right and going left
-                        for (int i = column - 1; i > cp.getColumn(); i--) {
-                            // If not a valid non-capture move, return false
-                            if (!isValidMove(row, i, cp) || cp.getChessBoard().hasPiece(row, i))
-                                return false;
-                        }
-                    } else { // Left movement
-                        // Iterates for each square, starting at left and going right
-                        for (int i = column + 1; i < cp.getColumn(); i++) {
-                            //If not a valid non-capture move, return false
-                            if (!isValidMove(row, i, cp) || cp.getChessBoard().hasPiece(row, i))
-                                return false;
-                        }
-                    }
             }
 
-            return true; // Check complete
+            // Checks to make sure space in between pieces is empty
+            return cp.getChessBoard().countPiecesBetween(cp.getRow(), cp.getColumn(), row, column) == 0;
         } else
             return false; // Not a valid facing king move
     }
+
+    /**
+     * <p>Adds the squares the piece can capture on by facing a xiangqi king piece from afar to a list of squares.</p>
+     * <p>Only the first piece in each direction is considered, and only if it is more than 1 square away; adjacent
+     * squares are left to the piece's single moves.</p>
+     *
+     * @param cp        the chess piece
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    default void addFaceKingCaptureSquares(ChessPiece cp, SquareList squares) {
+        // Stores the direction the king faces, which depends on the side
+        int rowStep = (cp.getSide() == ChessGame.Side.NORTH || cp.getSide() == ChessGame.Side.SOUTH) ? 1 : 0;
+        int columnStep = 1 - rowStep;
+
+        for (int direction = -1; direction <= 1; direction += 2) {
+            int row = cp.getRow() + direction * rowStep;
+            int column = cp.getColumn() + direction * columnStep;
+
+            // Walks to the first piece in the direction
+            while (isValidMove(row, column, cp) && !cp.getChessBoard().hasPiece(row, column)) {
+                row += direction * rowStep;
+                column += direction * columnStep;
+            }
+
+            if (Math.abs(row - cp.getRow()) + Math.abs(column - cp.getColumn()) > 1 && isValidFaceKingMove(row, column, cp))
+                squares.add(row, column);
+        }
+    }
 }
@@ -2,7 +2,7 @@
  * <p>Represents the ability to make a xiangqi horse move in chess.</p>
  *
  * @author Nobel Zhou (nxz157)
- * @version 1.0, 12/4/20
+ * @version 3.0, 10/17/26
  */
 public interface CanHorseMove extends CanLMove {
     /**
@@ -16,10 +16,33 @@ public interface CanHorseMove extends CanLMove {
      * @since 1.0
      */
     default boolean isValidHorseMove(int row, int column, ChessPiece cp) {
-        return isValidLMove(row, column, cp) && ((Math.abs(row - cp.getRow()) == 2) ?
-                ((row - cp.getRow()) < 0) ?
-                        !cp.getChessBoard().hasPiece(row + 1, cp.getColumn()) : !cp.getChessBoard().hasPiece(row - 1, cp.getColumn()) :
-                ((column - cp.getColumn()) < 0) ?
-                        !cp.getChessBoard().hasPiece(cp.getRow(), column + 1) : !cp.getChessBoard().hasPiece(cp.getRow(), column - 1));
+        // Checks for an L move first, then that the square next to the horse in the long direction (the "leg") is empty
+        if (isValidLMove(row, column, cp)) {
+            if (Math.abs(row - cp.getRow()) == 2)
+                return !cp.getChessBoard().hasPiece((row + cp.getRow()) / 2, cp.getColumn());
+            else
+                return !cp.getChessBoard().hasPiece(cp.getRow(), (column + cp.getColumn()) / 2);
+        } else
+            return false; // Not a valid horse move
+    }
+
+    /**
+     * <p>Adds the square that must be empty for the piece to make a horse move to a square (the "leg") to a list of
+     * squares.</p>
+     * <p>Nothing is added if the square is not an L move away.</p>
+     *
+     * @param row       the piece's destination row
+     * @param column    the piece's destination column
+     * @param cp        the chess piece
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    default void addHorseLegSquares(int row, int column, ChessPiece cp, SquareList squares) {
+        if (isValidLMove(row, column, cp)) {
+            if (Math.abs(row - cp.getRow()) == 2)
+                squares.add((row + cp.getRow()) / 2, cp.getColumn());
+            else
+                squares.add(cp.getRow(), (column + cp.getColumn()) / 2);
+        }
     }
 }
@@ -2,9 +2,19 @@
  * <p>Represents the ability to make an L move in chess.</p>
  *
  * @author Nobel Zhou (nxz157)
- * @version 1.0, 12/2/20
+ * @version 3.0, 10/17/26
  */
 public interface CanLMove extends CanMove {
+    /**
+     * Stores the row offsets of the L moves, matching the column offsets.
+     */
+    int[] L_ROW_OFFSETS = {-2, -2, -1, -1, 1, 1, 2, 2};
+
+    /**
+     * Stores the column offsets of the L moves, matching the row offsets.
+     */
+    int[] L_COLUMN_OFFSETS = {-1, 1, -2, 2, -2, 2, -1, 1};
+
     /**
      * <p>Returns a boolean representing if the proposed row and column is a valid L move from the piece's location.</p>
      *
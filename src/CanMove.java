@@ -2,7 +2,7 @@
  * <p>Represents the ability to make a move in chess.</p>
  *
  * @author Nobel Zhou (nxz157)
- * @version 1.0, 12/2/20
+ * @version 3.0, 10/17/26
  */
 public interface CanMove {
     /**
@@ -20,4 +20,63 @@ public interface CanMove {
                 column < cp.getChessBoard().getGameRules().getNumColumns() &&
                 row >= 0 && column >= 0 && (row != cp.getRow() || column != cp.getColumn());
     }
+
+    /**
+     * <p>Adds the squares along a ray from the piece's location to a list of squares.</p>
+     * <p>The ray is walked one step at a time until it leaves the chessboard. Squares are only added once the given
+     * number of pieces (the screens) have been passed, and the walk stops at the first piece after the screens, which
+     * is added as well.</p>
+     *
+     * @param rowStep       the change in row of each step
+     * @param columnStep    the change in column of each step
+     * @param screens       the number of pieces to jump over before squares are added
+     * @param cp            the chess piece
+     * @param squares       the list the squares are added to
+     * @since 3.0
+     */
+    default void addRaySquares(int rowStep, int columnStep, int screens, ChessPiece cp, SquareList squares) {
+        // Stores the number of pieces passed so far
+        int passed = 0;
+
+        for (int row = cp.getRow() + rowStep, column = cp.getColumn() + columnStep; isValidMove(row, column, cp);
+             row += rowStep, column += columnStep) {
+            if (passed == screens)
+                squares.add(row, column);
+
+            // Stops at the first piece past the screens
+            if (cp.getChessBoard().hasPiece(row, column) && ++passed > screens)
+                break;
+        }
+    }
+
+    /**
+     * <p>Adds the squares along a ray from the piece's location that the piece can move to to a list of squares.</p>
+     * <p>Empty squares are added until the first piece is reached. After the given number of pieces (the screens) have
+     * been passed, the next piece is added if it is on an opposing side, and the walk stops.</p>
+     *
+     * @param rowStep       the change in row of each step
+     * @param columnStep    the change in column of each step
+     * @param screens       the number of pieces to jump over before a piece can be captured
+     * @param cp            the chess piece
+     * @param squares       the list the squares are added to
+     * @since 3.0
+     */
+    default void addRayMoveSquares(int rowStep, int columnStep, int screens, ChessPiece cp, SquareList squares) {
+        // Stores the number of pieces passed so far
+        int passed = 0;
+
+        for (int row = cp.getRow() + rowStep, column = cp.getColumn() + columnStep; isValidMove(row, column, cp);
+             row += rowStep, column += columnStep) {
+            if (!cp.getChessBoard().hasPiece(row, column)) {
+                // Empty squares can only be moved to before the first piece
+                if (passed == 0)
+                    squares.add(row, column);
+            } else if (passed++ == screens) {
+                // Captures the first piece past the screens if it is on an opposing side
+                if (cp.getChessBoard().getPiece(row, column).getSide() != cp.getSide())
+                    squares.add(row, column);
+                break;
+            }
+        }
+    }
 }
\ No newline at end of file
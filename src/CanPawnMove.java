@@ -4,9 +4,29 @@
  * <p>A pawn can also only capture diagonally and cannot capture by going forward.</p>
  *
  * @author Nobel Zhou (nxz157)
- * @version 1.0, 12/2/20
+ * @version 3.0, 10/17/26
  */
 public interface CanPawnMove extends CanMove {
+    /**
+     * Stores the row offsets of the pawn capture moves of every side, matching the column offsets.
+     */
+    int[] PAWN_CAPTURE_ROW_OFFSETS = {-1, -1, 1, 1};
+
+    /**
+     * Stores the column offsets of the pawn capture moves of every side, matching the row offsets.
+     */
+    int[] PAWN_CAPTURE_COLUMN_OFFSETS = {-1, 1, -1, 1};
+
+    /**
+     * Stores the row offsets of the pawn moves of every side, matching the column offsets.
+     */
+    int[] PAWN_ROW_OFFSETS = {-2, -1, 1, 2, 0, 0, 0, 0, -1, -1, 1, 1};
+
+    /**
+     * Stores the column offsets of the pawn moves of every side, matching the row offsets.
+     */
+    int[] PAWN_COLUMN_OFFSETS = {0, 0, 0, 0, -2, -1, 1, 2, -1, 1, -1, 1};
+
     /**
      * <p>Returns a boolean representing if the proposed row and column is a valid pawn non-capture move from the piece's location,
      * assuming that the proposed location is unoccupied.</p>
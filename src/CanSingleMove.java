@@ -3,9 +3,19 @@
  * <p>A single move is a move of one space in any direction, including diagonal.</p>
  *
  * @author Nobel Zhou (nxz157)
- * @version 1.0, 12/2/20
+ * @version 3.0, 10/17/26
  */
 public interface CanSingleMove extends CanMove {
+    /**
+     * Stores the row offsets of the single moves, matching the column offsets.
+     */
+    int[] SINGLE_ROW_OFFSETS = {-1, -1, -1, 0, 0, 1, 1, 1};
+
+    /**
+     * Stores the column offsets of the single moves, matching the row offsets.
+     */
+    int[] SINGLE_COLUMN_OFFSETS = {-1, 0, 1, -1, 1, -1, 0, 1};
+
     /**
      * <p>Returns a boolean representing if the proposed row and column is a valid single move from the piece's location.</p>
      *
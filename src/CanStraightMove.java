@@ -2,7 +2,7 @@
  * <p>Represents the ability to make a straight move in chess.</p>
  *
  * @author Nobel Zhou (nxz157)
- * @version 1.0, 12/2/20
+ * @version 3.0, 10/17/26
  */
 public interface CanStraightMove extends CanMove {
     /**
@@ -18,46 +18,37 @@ public interface CanStraightMove extends CanMove {
     default boolean isValidStraightMove(int row, int column, ChessPiece cp) {
         // Checks to make sure that it's a valid square first and that is a horizontal or vertical square
         if (isValidMove(row, column, cp) && (row == cp.getRow() || column == cp.getColumn())) {
-            // Moves row or column 1 space closer to piece
-            row = (row == cp.getRow()) ? row : (row > cp.getRow()) ? row - 1 : row + 1;
-            column = (column == cp.getColumn()) ? column : (column > cp.getColumn()) ? column - 1 : column + 1;
-
             // Checks that all of the squares up to it are empty
-            if (row == cp.getRow()) { // Horizontal movement
-                if (column > cp.getColumn()) { // Right movement
-                    // Iterates for each square, starting at right and going left
-                    for (int i = column; i > cp.getColumn(); i--) {
-                        // If not a valid non-capture move, return false
-                        if (!isValidMove(row, i, cp) || cp.getChessBoard().hasPiece(row, i))
-                            return false;
-                    }
-                } else { // Left movement
-                    // Iterates for each square, starting at left and going right
-                    for (int i = column; i < cp.getColumn(); i++) {
-                        //If not a valid non-capture move, return false
-                        if (!isValidMove(row, i, cp) || cp.getChessBoard().hasPiece(row, i))
-                            return false;
-                    }
-                }
-            } else { // Vertical movement
-                if (row > cp.getRow()) { // Down movement
-                    // Iterates for each square, starting at down and going up
-                    for (int i = row; i > cp.getRow(); i--) {
-                        // If not a valid non-capture move, return false
-                        if (!isValidMove(i, column, cp) || cp.getChessBoard().hasPiece(i, column))
-                            return false;
-                    }
-                } else { // Up movement
-                    // Iterates for each square, starting at up and going down
-                    for (int i = row; i < cp.getRow(); i++) {
-                        // If not a valid non-capture move, return false
-                        if (!isValidMove(i, column, cp) || cp.getChessBoard().hasPiece(i, column))
-                            return false;
-                    }
-                }
-            }
-            return true;
+            return cp.getChessBoard().countPiecesBetween(cp.getRow(), cp.getColumn(), row, column) == 0;
         } else
             return false; // Not a valid straight move
     }
+
+    /**
+     * <p>Adds the squares the piece can capture on with a horizontal or vertical move to a list of squares.</p>
+     *
+     * @param cp        the chess piece
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    default void addStraightCaptureSquares(ChessPiece cp, SquareList squares) {
+        addRaySquares(-1, 0, 0, cp, squares);
+        addRaySquares(1, 0, 0, cp, squares);
+        addRaySquares(0, -1, 0, cp, squares);
+        addRaySquares(0, 1, 0, cp, squares);
+    }
+
+    /**
+     * <p>Adds the squares the piece can move to with a horizontal or vertical move to a list of squares.</p>
+     *
+     * @param cp        the chess piece
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    default void addStraightMoveSquares(ChessPiece cp, SquareList squares) {
+        addRayMoveSquares(-1, 0, 0, cp, squares);
+        addRayMoveSquares(1, 0, 0, cp, squares);
+        addRayMoveSquares(0, -1, 0, cp, squares);
+        addRayMoveSquares(0, 1, 0, cp, squares);
+    }
 }
@@ -3,7 +3,7 @@
  * <p>Dictates how a cannon can move.</p>
  *
  * @author Nobel Zhou
- * @version 1.0, 12/4/20
+ * @version 3.0, 10/17/26
  */
 public class CannonPiece extends ChessPiece implements CanCannonMove, CanStraightMove {
 
@@ -24,6 +24,18 @@ public class CannonPiece extends ChessPiece implements CanCannonMove, CanStraigh
     //endregion
 
     //region METHODS
+    /**
+     * <p>Creates a cannon piece of the same side, icon, and location on another chessboard.</p>
+     *
+     * @param chessBoard    the chessboard of the new cannon piece
+     * @return              the new cannon piece
+     * @since 3.0
+     */
+    @Override
+    protected ChessPiece createPiece(ChessBoard chessBoard) {
+        return new CannonPiece(getSide(), chessBoard, (ChessIcon) getIcon(), getRow(), getColumn());
+    }
+
     /**
      * <p>Returns a boolean representing if the proposed move is legal, assuming that it is unoccupied.</p>
      *
@@ -49,5 +61,45 @@ public class CannonPiece extends ChessPiece implements CanCannonMove, CanStraigh
     public boolean isLegalCaptureMove(int row, int column) {
         return isValidCannonMove(row, column, this);
     }
+
+    /**
+     * <p>Adds the squares the cannon piece can capture on to a list of squares.</p>
+     * <p>The rows and columns are walked past the first piece, up to and including the second piece.</p>
+     *
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    @Override
+    public void addCaptureSquares(SquareList squares) {
+        addCannonCaptureSquares(this, squares);
+    }
+
+    /**
+     * <p>Adds the squares the cannon piece can move to to a list of squares.</p>
+     * <p>The rows and columns are walked up to the first piece past the screen.</p>
+     *
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    @Override
+    public void addMoveSquares(SquareList squares) {
+        addCannonMoveSquares(this, squares);
+    }
+
+    /**
+     * <p>Returns the number of pieces that must be in between for the cannon piece to capture along a line in the given
+     * direction.</p>
+     * <p>The cannon piece captures along rows and columns by jumping over exactly one piece.</p>
+     *
+     * @param rowStep       the row step of the direction, from -1 to 1
+     * @param columnStep    the column step of the direction, from -1 to 1
+     * @return              the number of pieces that must be in between, -1 if the cannon piece does not
+     *                      capture this way
+     * @since 3.0
+     */
+    @Override
+    public int getLineScreens(int rowStep, int columnStep) {
+        return (rowStep == 0) != (columnStep == 0) ? 1 : -1;
+    }
     //endregion
 }
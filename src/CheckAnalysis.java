@@ -0,0 +1,342 @@
+import java.util.Arrays;
+
+/**
+ * <p>Represents the checks and pins against the center piece of a side, found once for a position.</p>
+ * <p>The lines from the center piece are walked once to find the pieces that are pinned to it, including the pieces
+ * between a cannon and the center piece and the piece between two facing xiangqi kings. The squares that would give a
+ * cannon its screen are found the same way, and so are the pieces on the leg of a xiangqi horse. The pieces giving
+ * check are found with the squares that capture or block them.</p>
+ * <p>Whether a move leaves the center piece in check can then be looked up without making the move. Only moves of
+ * the center piece itself and en passant captures, which take a piece off another square, are still tried with
+ * {@link ChessGame#isCheckMove(int, int, ChessPiece)}.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class CheckAnalysis {
+
+    //region FIELDS
+    /**
+     * Stores the row steps of the 8 directions from the center piece.
+     */
+    private static final int[] DIRECTION_ROWS = {-1, 1, 0, 0, -1, -1, 1, 1};
+
+    /**
+     * Stores the column steps of the 8 directions from the center piece.
+     */
+    private static final int[] DIRECTION_COLUMNS = {0, 0, -1, 1, -1, 1, -1, 1};
+
+    /**
+     * Stores the center piece that is analysed, <code>null</code> if the side has none.
+     */
+    private final CenterPiece king;
+
+    /**
+     * Stores the number of columns of the chessboard, used to convert a row and column into a square index.
+     */
+    private final int numColumns;
+
+    /**
+     * Stores the squares each pinned piece can move to, indexed by the square of the piece; <code>null</code> for
+     * pieces that are not pinned.
+     */
+    private final boolean[][] pins;
+
+    /**
+     * Stores the squares that would give a cannon its screen, so no piece can move to them.
+     */
+    private final boolean[] screenSquares;
+
+    /**
+     * Stores the number of pieces giving check.
+     */
+    private int numCheckers;
+
+    /**
+     * Stores the squares that capture or block each piece giving check.
+     */
+    private boolean[][] evasions;
+
+    /**
+     * Stores the squares strictly between each piece giving check along a line and the center piece.
+     */
+    private boolean[][] checkLines;
+
+    /**
+     * Stores the square of the piece of the same side that a checking cannon jumps over, -1 if there is none.
+     */
+    private int[] checkScreens;
+    //endregion
+
+    //region CONSTRUCTORS
+    /**
+     * <p>Analyses the checks and pins against the center piece of the side of the given piece.</p>
+     *
+     * @param piece a chess piece of the side to analyse
+     * @since 1.0
+     */
+    public CheckAnalysis(ChessPiece piece) {
+        ChessBoard board = piece.getChessBoard();
+        numColumns = board.getGameRules().getNumColumns();
+        king = board.getCentralPiece(piece);
+        pins = new boolean[board.getGameRules().getNumRows() * numColumns][];
+        screenSquares = new boolean[pins.length];
+        numCheckers = 0;
+
+        if (king == null)
+            return;
+
+        for (int direction = 0; direction < DIRECTION_ROWS.length; direction++)
+            analyseLine(board, DIRECTION_ROWS[direction], DIRECTION_COLUMNS[direction]);
+
+        // Stores if the center piece is in check
+        boolean inCheck = king.isInCheck();
+        // Stores the legs of a piece
+        SquareList legs = new SquareList();
+
+        for (ChessGame.Side side : ChessGame.Side.values()) {
+            if (side == king.getSide())
+                continue;
+
+            for (int index = 0; index < board.getNumPieces(side); index++) {
+                ChessPiece cp = board.getPiece(side, index);
+                legs.clear();
+                cp.addLegSquares(king.getRow(), king.getColumn(), legs);
+
+                // Stores the only occupied leg, if there is exactly one
+                ChessPiece blocker = null;
+                int occupied = 0;
+                for (int i = 0; i < legs.size(); i++) {
+                    if (board.hasPiece(legs.getRow(i), legs.getColumn(i))) {
+                        blocker = board.getPiece(legs.getRow(i), legs.getColumn(i));
+                        occupied++;
+                    }
+                }
+
+                // A piece of the same side alone on a leg can only move by capturing the piece
+                if (occupied == 1 && blocker.getSide() == king.getSide()) {
+                    boolean[] allowed = new boolean[pins.length];
+                    allowed[getSquare(cp.getRow(), cp.getColumn())] = true;
+                    pin(getSquare(blocker.getRow(), blocker.getColumn()), allowed);
+                }
+
+                if (inCheck && cp.isLegalCaptureMove(king.getRow(), king.getColumn()))
+                    addChecker(board, cp, legs);
+            }
+        }
+    }
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Returns the number of pieces giving check to the center piece.</p>
+     *
+     * @return  the number of checking pieces
+     * @since 1.0
+     */
+    public int getNumCheckers() {
+        return numCheckers;
+    }
+
+    /**
+     * <p>Returns a boolean representing if a move leaves the center piece out of check.</p>
+     * <p>The move must be a legal move of a piece of the analysed side in the position that was analysed.</p>
+     *
+     * @param piece     the piece to move
+     * @param row       the piece's destination row
+     * @param column    the piece's destination column
+     * @return          <code>true</code> if the center piece is not in check after the move
+     * @since 1.0
+     */
+    public boolean isLegalMove(ChessPiece piece, int row, int column) {
+        if (king == null)
+            return true;
+
+        // Tries the moves the analysis does not cover
+        if (piece instanceof CenterPiece || piece.getSide() != king.getSide() || isEnPassantMove(piece, row, column))
+            return piece.getChessBoard().getGameRules().isCheckMove(row, column, piece);
+
+        int from = getSquare(piece.getRow(), piece.getColumn());
+        int to = getSquare(row, column);
+
+        // Checks that a pinned piece stays on its line and that no cannon gets a screen
+        if ((pins[from] != null && !pins[from][to]) || screenSquares[to])
+            return false;
+
+        // Checks that every check is captured or blocked, or that the screen of a checking cannon moves off its line
+        for (int i = 0; i < numCheckers; i++) {
+            if (checkScreens[i] == from ? checkLines[i][to] : !evasions[i][to])
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * <p>Walks a line from the center piece and finds the pins and screen squares of the pieces that capture along
+     * it.</p>
+     * <p>A piece that needs a number of pieces in between to capture pins each piece of the center piece's side when
+     * there is one piece too many, and cannot be given one more when there is one piece too few.</p>
+     *
+     * @param board         the chessboard
+     * @param rowStep       the row step of the line
+     * @param columnStep    the column step of the line
+     * @since 1.0
+     */
+    private void analyseLine(ChessBoard board, int rowStep, int columnStep) {
+        // Stores the pieces found along the line
+        ChessPiece[] found = new ChessPiece[3];
+        int numFound = 0;
+
+        int row = king.getRow() + rowStep;
+        int column = king.getColumn() + columnStep;
+
+        while (numFound < found.length && row >= 0 && row < board.getGameRules().getNumRows() && column >= 0 && column < numColumns) {
+            if (board.hasPiece(row, column)) {
+                ChessPiece cp = board.getPiece(row, column);
+                int screens = cp.getSide() != king.getSide() ? cp.getLineScreens(-rowStep, -columnStep) : -1;
+
+                if (screens >= 0 && numFound == screens + 1) {
+                    // Pins the pieces in between to the empty squares in between and the capturing piece, since
+                    // capturing a piece in between would leave one piece fewer
+                    boolean[] allowed = new boolean[pins.length];
+                    for (int square : getLine(row, column, rowStep, columnStep)) {
+                        if (!board.hasPiece(square / numColumns, square % numColumns))
+                            allowed[square] = true;
+                    }
+                    allowed[getSquare(row, column)] = true;
+
+                    for (int i = 0; i < numFound; i++) {
+                        if (found[i].getSide() == king.getSide())
+                            pin(getSquare(found[i].getRow(), found[i].getColumn()), allowed);
+                    }
+                } else if (screens >= 0 && numFound == screens - 1) {
+                    // Stops pieces from moving in between, onto the empty squares
+                    for (int square : getLine(row, column, rowStep, columnStep)) {
+                        if (!board.hasPiece(square / numColumns, square % numColumns))
+                            screenSquares[square] = true;
+                    }
+                }
+
+                found[numFound++] = cp;
+            }
+
+            row += rowStep;
+            column += columnStep;
+        }
+    }
+
+    /**
+     * <p>Adds a piece giving check, with the squares that capture or block it.</p>
+     *
+     * @param board     the chessboard
+     * @param checker   the piece giving check
+     * @param legs      the legs of the piece, which block it when occupied
+     * @since 1.0
+     */
+    private void addChecker(ChessBoard board, ChessPiece checker, SquareList legs) {
+        if (numCheckers == 0) {
+            evasions = new boolean[2][];
+            checkLines = new boolean[2][];
+            checkScreens = new int[2];
+        } else if (numCheckers == evasions.length) {
+            evasions = Arrays.copyOf(evasions, 2 * numCheckers);
+            checkLines = Arrays.copyOf(checkLines, 2 * numCheckers);
+            checkScreens = Arrays.copyOf(checkScreens, 2 * numCheckers);
+        }
+
+        evasions[numCheckers] = new boolean[pins.length];
+        checkLines[numCheckers] = new boolean[pins.length];
+        checkScreens[numCheckers] = -1;
+
+        evasions[numCheckers][getSquare(checker.getRow(), checker.getColumn())] = true;
+        for (int i = 0; i < legs.size(); i++)
+            evasions[numCheckers][getSquare(legs.getRow(i), legs.getColumn(i))] = true;
+
+        // Stores the direction from the checking piece to the center piece
+        int rowDistance = king.getRow() - checker.getRow();
+        int columnDistance = king.getColumn() - checker.getColumn();
+
+        if (rowDistance == 0 || columnDistance == 0 || Math.abs(rowDistance) == Math.abs(columnDistance)) {
+            int rowStep = Integer.signum(rowDistance);
+            int columnStep = Integer.signum(columnDistance);
+
+            if (checker.getLineScreens(rowStep, columnStep) >= 0) {
+                // Blocks on empty squares in between; the screen of a cannon can instead move off the line
+                for (int square : getLine(checker.getRow(), checker.getColumn(), -rowStep, -columnStep)) {
+                    checkLines[numCheckers][square] = true;
+
+                    if (!board.hasPiece(square / numColumns, square % numColumns))
+                        evasions[numCheckers][square] = true;
+                    else if (board.getPiece(square / numColumns, square % numColumns).getSide() == king.getSide())
+                        checkScreens[numCheckers] = square;
+                }
+            }
+        }
+
+        numCheckers++;
+    }
+
+    /**
+     * <p>Restricts a pinned piece to the given squares, on top of any restriction it already has.</p>
+     *
+     * @param square    the square of the pinned piece
+     * @param allowed   the squares the piece can move to
+     * @since 1.0
+     */
+    private void pin(int square, boolean[] allowed) {
+        if (pins[square] == null)
+            pins[square] = allowed;
+        else {
+            // Stores the squares both restrictions allow
+            boolean[] both = new boolean[pins.length];
+            for (int i = 0; i < both.length; i++)
+                both[i] = pins[square][i] && allowed[i];
+            pins[square] = both;
+        }
+    }
+
+    /**
+     * <p>Returns the squares strictly between the center piece and a square along a line from the center piece.</p>
+     *
+     * @param row           the row of the square
+     * @param column        the column of the square
+     * @param rowStep       the row step of the line from the center piece
+     * @param columnStep    the column step of the line from the center piece
+     * @return              the square indexes
+     * @since 1.0
+     */
+    private int[] getLine(int row, int column, int rowStep, int columnStep) {
+        int[] line = new int[Math.max(Math.abs(row - king.getRow()), Math.abs(column - king.getColumn())) - 1];
+
+        for (int i = 0; i < line.length; i++)
+            line[i] = getSquare(king.getRow() + (i + 1) * rowStep, king.getColumn() + (i + 1) * columnStep);
+        return line;
+    }
+
+    /**
+     * <p>Returns a boolean representing if a move is an en passant capture, which is a pawn moving diagonally onto an
+     * empty square.</p>
+     *
+     * @param piece     the piece to move
+     * @param row       the piece's destination row
+     * @param column    the piece's destination column
+     * @return          <code>true</code> if the move is an en passant capture
+     * @since 1.0
+     */
+    private boolean isEnPassantMove(ChessPiece piece, int row, int column) {
+        return piece instanceof CanEnPassantMove && row != piece.getRow() && column != piece.getColumn() && !piece.getChessBoard().hasPiece(row, column);
+    }
+
+    /**
+     * <p>Returns the square index of a row and column.</p>
+     *
+     * @param row       the row of the chessboard
+     * @param column    the column of the chessboard
+     * @return          the square index
+     * @since 1.0
+     */
+    private int getSquare(int row, int column) {
+        return row * numColumns + column;
+    }
+    //endregion
+}
@@ -1,10 +1,12 @@
+import java.util.ArrayList;
+
 /**
  * <p>Represents an arbitrary chessboard that can be implemented either using Swing or JavaFX.</p>
  * <p>The chessboard uses a <code>ChessGame</code> object to determine how the game should be played.</p>
  * <p>The chessboard checks for pieces and is able to add and remove them.</p>
  *
  * @author Nobel Zhou (nxz157)
- * @version 1.0, 12/2/2020
+ * @version 3.0, 10/17/2026
  */
 public interface ChessBoard {
 
@@ -82,14 +84,6 @@ public interface ChessBoard {
      */
     ChessPiece getPiece(int row, int column);
 
-    /**
-     * <p>Generates a <code>ChessPosition</code> object for the chessboard position.</p>
-     *
-     * @return  the <code>ChessPosition</code> for the chessboard
-     * @since 1.0
-     */
-    ChessPosition generateChessPosition();
-
     /**
      * <p>Handles how to stop the chess game.</p>
      *
@@ -110,6 +104,82 @@ public interface ChessBoard {
      */
     default void invokePromotion(ChessPiece piece) {}
 
+    /**
+     * <p>Generates a <code>ChessPosition</code> object for the chessboard position.</p>
+     * <p>The position is encoded from the pieces of each side, so it does not change when the pieces move later.</p>
+     *
+     * @return  the <code>ChessPosition</code> for the chessboard
+     * @since 1.0
+     */
+    default ChessPosition generateChessPosition() {
+        return new ChessPosition(this);
+    }
+
+    /**
+     * <p>Returns an array of the <code>ChessPiece</code>s of the given side that are on the chessboard.</p>
+     * <p>By default, this iterates every square of the chessboard; chessboards that keep piece lists can return them
+     * directly.</p>
+     * <p>The array is a copy, so the chessboard can be changed while iterating it.</p>
+     *
+     * @param side  the side of the pieces
+     * @return      the pieces of the side
+     * @since 3.0
+     */
+    default ChessPiece[] getPieces(ChessGame.Side side) {
+        // Stores the pieces of the side
+        ArrayList<ChessPiece> pieces = new ArrayList<>();
+
+        for (int i = 0; i < getGameRules().getNumRows(); i++) {
+            for (int j = 0; j < getGameRules().getNumColumns(); j++) {
+                // Looks for same side piece in the chess board
+                if (hasPiece(i, j) && getPiece(i, j).getSide().equals(side))
+                    pieces.add(getPiece(i, j));
+            }
+        }
+
+        return pieces.toArray(new ChessPiece[0]);
+    }
+
+    /**
+     * <p>Returns the number of pieces of the given side that are on the chessboard.</p>
+     * <p>Together with {@link #getPiece(ChessGame.Side, int)}, this iterates the pieces of a side without copying
+     * them, as long as the chessboard is not changed while iterating. By default, this counts the pieces of
+     * {@link #getPieces(ChessGame.Side)}; chessboards that keep piece lists can return their size directly.</p>
+     *
+     * @param side  the side of the pieces
+     * @return      the number of pieces of the side
+     * @since 3.0
+     */
+    default int getNumPieces(ChessGame.Side side) {
+        return getPieces(side).length;
+    }
+
+    /**
+     * <p>Returns a piece of the given side by its index among the pieces of the side that are on the chessboard.</p>
+     * <p>The order of the pieces is only kept while the chessboard is not changed.</p>
+     *
+     * @param side  the side of the piece
+     * @param index the index of the piece, from 0 to {@link #getNumPieces(ChessGame.Side)}
+     * @return      the piece
+     * @throws IndexOutOfBoundsException if the side has no piece at the index
+     * @since 3.0
+     */
+    default ChessPiece getPiece(ChessGame.Side side, int index) throws IndexOutOfBoundsException {
+        return getPieces(side)[index];
+    }
+
+    /**
+     * <p>Generates all the legal moves of the side that is playing.</p>
+     *
+     * @return  an array of <code>Move</code> objects that can be played, empty if the side has no pieces
+     * @since 3.0
+     */
+    default ChessMove[] generateAllMoves() {
+        ChessGame.Side side = getGameRules().getCurrentSide();
+
+        return getNumPieces(side) > 0 ? getGameRules().generateMoves(getPiece(side, 0)) : new ChessMove[0];
+    }
+
     /**
      * <p>Returns a <code>ChessPiece</code> that represents the central piece of the game, based on the passed in
      * piece's side.</p>
@@ -119,18 +189,69 @@ public interface ChessBoard {
      * @since 1.0
      */
     default CenterPiece getCentralPiece(ChessPiece piece) {
-        // Iterates the chess board to look for the same side king piece
-        for (int i = 0; i < getGameRules().getNumRows(); i++) {
-            for (int j = 0; j < getGameRules().getNumColumns(); j++) {
-                // Looks for same side king piece
-                if (hasPiece(i, j) && getPiece(i, j) instanceof CenterPiece && getPiece(i, j).getSide().equals(piece.getSide()))
-                    return (CenterPiece) getPiece(i, j);
-            }
+        // Iterates the pieces of the same side to look for the king piece
+        for (int i = 0; i < getNumPieces(piece.getSide()); i++) {
+            if (getPiece(piece.getSide(), i) instanceof CenterPiece)
+                return (CenterPiece) getPiece(piece.getSide(), i);
         }
 
         return null; // Central piece not found
     }
 
+    /**
+     * <p>Returns the number of pieces strictly between two squares on the same row, column, or diagonal.</p>
+     * <p>By default, this checks each square in between; chessboards that keep occupancy masks can count them
+     * with mask operations instead.</p>
+     *
+     * @param fromRow       the row of the first square
+     * @param fromColumn    the column of the first square
+     * @param toRow         the row of the second square
+     * @param toColumn      the column of the second square
+     * @return              the number of pieces between the two squares
+     * @throws IllegalArgumentException if the squares are not on the same row, column, or diagonal
+     * @since 3.0
+     */
+    default int countPiecesBetween(int fromRow, int fromColumn, int toRow, int toColumn) throws IllegalArgumentException {
+        // Checks that the squares are lined up
+        if (fromRow != toRow && fromColumn != toColumn && Math.abs(toRow - fromRow) != Math.abs(toColumn - fromColumn))
+            throw new IllegalArgumentException("The squares are not on the same row, column, or diagonal.");
+
+        // Stores the direction from the first square to the second square
+        int rowStep = Integer.signum(toRow - fromRow);
+        int columnStep = Integer.signum(toColumn - fromColumn);
+
+        // Counts the pieces on each square in between
+        int count = 0;
+        for (int i = fromRow + rowStep, j = fromColumn + columnStep; (i != toRow || j != toColumn) && (rowStep != 0 || columnStep != 0); i += rowStep, j += columnStep) {
+            if (hasPiece(i, j))
+                count++;
+        }
+        return count;
+    }
+
+    /**
+     * <p>Returns the number of pieces of the given side that can capture on a square, whether it is occupied or
+     * not.</p>
+     * <p>By default, every piece of the side is asked; chessboards that keep attack maps can look the count up
+     * directly.</p>
+     *
+     * @param side      the side of the attacking pieces
+     * @param row       the row of the chessboard
+     * @param column    the column of the chessboard
+     * @return          the number of pieces of the side attacking the square
+     * @since 3.0
+     */
+    default int getAttackCount(ChessGame.Side side, int row, int column) {
+        // Stores the number of attackers found
+        int count = 0;
+
+        for (int i = 0; i < getNumPieces(side); i++) {
+            if (getPiece(side, i).isLegalCaptureMove(row, column))
+                count++;
+        }
+        return count;
+    }
+
     /**
      * <p>Checks if the <code>ChessPiece</code> in question is threatened by any of the chess pieces of the
      * opposing side.</p>
@@ -141,14 +262,30 @@ public interface ChessBoard {
      * @return          <code>true</code> if the chess piece is threatened by the opposing side's pieces
      */
     default boolean squareThreatened(int row, int column, ChessPiece piece) {
-        for (int i = 0; i < getGameRules().getNumRows(); i++) {
-            for (int j = 0; j < getGameRules().getNumColumns(); j++) {
-                if (hasPiece(i, j) && getPiece(i, j).getSide() != piece.getSide() &&
-                        getPiece(i, j).isLegalCaptureMove(row, column))
-                    return true;
+        // Iterates the pieces of every opposing side
+        for (ChessGame.Side side : ChessGame.Side.values()) {
+            if (side != piece.getSide()) {
+                for (int i = 0; i < getNumPieces(side); i++) {
+                    if (getPiece(side, i).isLegalCaptureMove(row, column))
+                        return true;
+                }
             }
         }
         return false;
     }
+
+    /**
+     * <p>Returns the material the side making a move wins once both sides have captured on the move's square for as
+     * long as it gains them anything, without making any moves.</p>
+     * <p>Each side captures with its least valuable attacker, including the pieces behind earlier attackers and the
+     * cannons that find a new screen. This can be used to skip captures that lose material.</p>
+     *
+     * @param move  a legal move on the chessboard
+     * @return      the material won, in hundredths of a pawn; negative if material is lost
+     * @since 3.0
+     */
+    default int staticExchange(ChessMove move) {
+        return StaticExchange.evaluate(move);
+    }
     //endregion
 }
@@ -5,7 +5,7 @@ import java.util.ArrayList;
  *
  * @author Harold Connamacher
  * @author Nobel Zhou (nxz157)
- * @version 1.0, 12/2/2020
+ * @version 3.0, 10/17/2026
  */
 public interface ChessGame {
 
@@ -55,6 +55,106 @@ public interface ChessGame {
      */
     boolean makeMove(ChessPiece piece, int toRow, int toColumn);
 
+    /**
+     * <p>Returns the number of consecutive plies without a capture or a pawn move, as the halfmove clock of a FEN.</p>
+     *
+     * @return  the number of consecutive plies without a capture or a pawn move
+     * @since 3.0
+     */
+    int getFiftyMoveRule();
+
+    /**
+     * <p>Sets the number of consecutive plies without a capture or a pawn move.</p>
+     *
+     * @param fiftyMoveRule the new fifty move rule count
+     * @since 3.0
+     */
+    void setFiftyMoveRule(int fiftyMoveRule);
+
+    /**
+     * <p>Returns the number of consecutive plies without a capture or a pawn move after which the game is drawn by the
+     * fifty move rule.</p>
+     *
+     * @return  the number of plies the fifty move rule allows
+     * @since 3.0
+     */
+    int getFiftyMovePlies();
+
+    /**
+     * <p>Makes a move that is already known to be legal, and returns a record that can take it back.</p>
+     * <p>Unlike {@link #makeMove(ChessPiece, int, int)}, the move is not checked, so searches can make and take back
+     * moves cheaply.</p>
+     *
+     * @param move  the move to make
+     * @return      the record of the move
+     * @since 3.0
+     */
+    MoveRecord makeMove(ChessMove move);
+
+    /**
+     * <p>Takes back the last move made with {@link #makeMove(ChessMove)}.</p>
+     * <p>Restores the pieces, their number of moves and <code>justMoved</code>, the fifty move rule count, and the
+     * side that is playing.</p>
+     *
+     * @param record    the record of the last move
+     * @since 3.0
+     */
+    void unmakeMove(MoveRecord record);
+
+    /**
+     * <p>Returns the Zobrist key of the current position.</p>
+     * <p>The key is updated by {@link #makeMove(ChessMove)} and {@link #unmakeMove(MoveRecord)} with the keys of the
+     * pieces the move changes only.</p>
+     *
+     * @return  the key of the current position
+     * @since 3.0
+     */
+    long getHash();
+
+    /**
+     * <p>Hashes the whole chessboard again to find the Zobrist key of the current position, and scores it again to
+     * find the score of each side.</p>
+     * <p>This is done when the game starts, and must be done after pieces are placed without making moves.</p>
+     *
+     * @param board the chess board
+     * @since 3.0
+     */
+    void resetHash(ChessBoard board);
+
+    /**
+     * <p>Returns the score of the pieces of a side, which is their material plus the bonuses of their squares from
+     * {@link PieceSquareEvaluator#getValue(ChessPiece)}.</p>
+     * <p>The score is updated like the Zobrist key, by {@link #makeMove(ChessMove)} and {@link #unmakeMove(MoveRecord)}
+     * with the values of the pieces the move changes only.</p>
+     *
+     * @param side  the side
+     * @return      the score of the pieces of the side
+     * @since 3.0
+     */
+    int getScore(Side side);
+
+    /**
+     * <p>Returns the moves made since the position was set up, kept as 16-bit codes along with the FEN of the
+     * position.</p>
+     * <p>Like the Zobrist key, the history is updated by {@link #makeMove(ChessMove)} and
+     * {@link #unmakeMove(MoveRecord)}, and starts again from the position when the game starts or a FEN is read.</p>
+     *
+     * @return  the history of the game
+     * @since 3.0
+     */
+    MoveHistory getMoveHistory();
+
+    /**
+     * <p>Returns a copy of the rules and the state of the game, such as the side that is playing and the key of the
+     * current position.</p>
+     * <p>The copy is used with a copy of the chessboard, so the game can be played on the copy without changing the
+     * original.</p>
+     *
+     * @return  the copy of the game
+     * @since 3.0
+     */
+    ChessGame copy();
+
     /**
      * <p>Returns the number of rows in the chessboard.</p>
      *
@@ -109,6 +209,17 @@ public interface ChessGame {
         return true;
     }
 
+    /**
+     * <p>Returns whether a side that cannot move, while not in check, loses the game instead of drawing it.</p>
+     * <p>This method is <code>false</code> by default, where stalemate is a draw.</p>
+     *
+     * @return  <code>true</code> if stalemate loses the game
+     * @since 3.0
+     */
+    default boolean isStalemateLoss() {
+        return false;
+    }
+
 
     /**
      * <p>Determines if it is legal to play a given piece.</p>
@@ -124,13 +235,30 @@ public interface ChessGame {
         if (!piece.getSide().equals(getCurrentSide()))
             return false;
 
-        // Checks for a legal move throughout the whole chess board
-        for (int i = 0; i < getNumRows(); i++) {
-            for (int j = 0; j < getNumColumns(); j++) {
-                // Checks if the piece has a legal move at the row and column specified
-                if ((i != row || j != column) && piece.isLegalMove(i, j) && isCheckMove(i, j, piece))
-                    return true;
-            }
+        return hasLegalMove(piece, row, column, new CheckAnalysis(piece));
+    }
+
+    /**
+     * <p>Determines if a piece has any legal move, other than to the given square, using the checks and pins of the
+     * position.</p>
+     *
+     * @param piece     the piece to be played
+     * @param row       the row of the square the piece is on
+     * @param column    the column of the square the piece is on
+     * @param analysis  the checks and pins against the piece's center piece
+     * @return          <code>true</code> if the piece has a legal move
+     * @since 3.0
+     */
+    default boolean hasLegalMove(ChessPiece piece, int row, int column, CheckAnalysis analysis) {
+        // Stores the squares the piece can reach
+        SquareList squares = new SquareList();
+        piece.addMoveSquares(squares);
+
+        // Checks for a legal move among the reachable squares
+        for (int i = 0; i < squares.size(); i++) {
+            // Checks if the piece has a legal move at the row and column specified
+            if ((squares.getRow(i) != row || squares.getColumn(i) != column) && analysis.isLegalMove(piece, squares.getRow(i), squares.getColumn(i)))
+                return true;
         }
 
         return false; // No legal move to play
@@ -144,33 +272,33 @@ public interface ChessGame {
      * @since 1.0
      */
     default ChessMove[] generateMoves(ChessPiece piece) {
+        // Only the side that is playing has moves
+        if (!piece.getSide().equals(getCurrentSide()))
+            return new ChessMove[0];
 
-        // Stores the same side's pieces
-        ArrayList<ChessPiece> pieces = new ArrayList<>();
-
-        for (int i = 0; i < getNumRows(); i++) {
-            for (int j = 0; j < getNumColumns(); j++) {
-                // Looks for same side piece in the chess board
-                if (piece.getChessBoard().hasPiece(i, j) && piece.getChessBoard().getPiece(i, j).getSide().equals(piece.getSide()))
-                    pieces.add(piece.getChessBoard().getPiece(i, j));
-            }
-        }
-
+        // Stores the chess board
+        ChessBoard board = piece.getChessBoard();
         // Stores all the available moves
         ArrayList<ChessMove> moves = new ArrayList<>();
 
-        //Iterates through each of the same side pieces
-        for (ChessPiece cp : pieces) {
-            if (legalPieceToPlay(cp, cp.getRow(), cp.getColumn())) {
-                for (int i = 0; i < getNumRows(); i++) {
-                    for (int j = 0; j < getNumColumns(); j++) {
-                        if (cp.isLegalMove(i, j) && isCheckMove(i, j, cp))
-                            moves.add(new ChessMove(cp, i, j));
-                    }
-                }
-            }
+        // Stores the squares each piece can reach
+        SquareList squares = new SquareList();
+        // Stores the checks and pins of the position, so moves do not have to be tried
+        CheckAnalysis analysis = new CheckAnalysis(piece);
+
+        // Iterates through each of the same side pieces without copying them, collecting the moves they can make
+        for (int index = 0; index < board.getNumPieces(piece.getSide()); index++) {
+            ChessPiece cp = board.getPiece(piece.getSide(), index);
+            squares.clear();
+            cp.addMoveSquares(squares);
+
+            for (int i = 0; i < squares.size(); i++)
+                moves.add(new ChessMove(cp, squares.getRow(i), squares.getColumn(i)));
         }
 
+        // Keeps the legal moves once the pieces are iterated, since trying a move can reorder the pieces of the board
+        moves.removeIf(move -> !analysis.isLegalMove(move.getPiece(), move.getRow(), move.getColumn()));
+
         // Change to array format
         return moves.toArray(new ChessMove[0]);
     }
@@ -184,20 +312,18 @@ public interface ChessGame {
      * @since 1.0
      */
     default boolean cannotMove(CenterPiece piece) {
-        // Stores the same side's pieces
-        ArrayList<ChessPiece> pieces = new ArrayList<>();
+        // Checks if the piece is the correct side
+        if (!piece.getSide().equals(getCurrentSide()))
+            return true;
 
-        for (int i = 0; i < getNumRows(); i++) {
-            for (int j = 0; j < getNumColumns(); j++) {
-                // Looks for same side piece in the chess board
-                if (piece.getChessBoard().hasPiece(i, j) && piece.getChessBoard().getPiece(i, j).getSide().equals(piece.getSide()))
-                    pieces.add(piece.getChessBoard().getPiece(i, j));
-            }
-        }
+        // Stores the same side's pieces
+        ChessPiece[] pieces = piece.getChessBoard().getPieces(piece.getSide());
+        // Stores the checks and pins of the position, which all the pieces share
+        CheckAnalysis analysis = new CheckAnalysis(piece);
 
         // Iterates through each of the same side pieces
         for (ChessPiece cp : pieces) {
-            if (legalPieceToPlay(cp, cp.getRow(), cp.getColumn()))
+            if (hasLegalMove(cp, cp.getRow(), cp.getColumn(), analysis))
                 return false;
         }
 
@@ -223,18 +349,10 @@ public interface ChessGame {
             ChessBoard board = cp.getChessBoard();
             // Stores the move instructions
             ChessPiece.ProposedMove[] moveInstructions = cp.getMoveInstructions(row, column);
-            // Stores the original rows of the pieces to be moved
-            int[] originalRows = new int[moveInstructions.length];
-            // Stores the original columns of the pieces to be moved
-            int[] originalColumns = new int[moveInstructions.length];
-
-            for (int i = 0; i < moveInstructions.length; i++) {
-                ChessPiece.ProposedMove instruction = moveInstructions[i];
-                originalRows[i] = instruction.getMovedPiece().getRow();
-                originalColumns[i] = instruction.getMovedPiece().getColumn();
 
+            for (ChessPiece.ProposedMove instruction : moveInstructions) {
                 // Simulates the move to check if king is in check
-                board.simulateRemovePiece(originalRows[i], originalColumns[i]);
+                board.simulateRemovePiece(instruction.getFromRow(), instruction.getFromColumn());
                 if (instruction.getRemovedPiece() != null)
                     board.simulateRemovePiece(instruction.getRemovedPiece().getRow(), instruction.getRemovedPiece().getColumn());
                 board.simulateAddPiece(instruction.getMovedPiece(), instruction.getRow(), instruction.getColumn());
@@ -243,14 +361,12 @@ public interface ChessGame {
             // Checks to see if the king is in check
             boolean isInCheck = cp.getChessBoard().getCentralPiece(cp).isInCheck();
 
-            for (int i = 0; i < moveInstructions.length; i++) {
-                ChessPiece.ProposedMove instruction = moveInstructions[i];
-
+            for (ChessPiece.ProposedMove instruction : moveInstructions) {
                 // Reverts the move
                 board.simulateRemovePiece(instruction.getRow(), instruction.getColumn());
                 if (instruction.getRemovedPiece() != null)
                     board.simulateAddPiece(instruction.getRemovedPiece(), instruction.getRemovedPiece().getRow(), instruction.getRemovedPiece().getColumn());
-                board.simulateAddPiece(instruction.getMovedPiece(), originalRows[i], originalColumns[i]);
+                board.simulateAddPiece(instruction.getMovedPiece(), instruction.getFromRow(), instruction.getFromColumn());
             }
 
             return !isInCheck;
@@ -7,7 +7,7 @@ import java.awt.*;
  * <p>Represents a chess piece icon.</p>
  *
  * @author Nobel Zhou (nxz157)
- * @version 3.0, 12/4/20
+ * @version 4.0, 10/17/26
  */
 enum ChessIcon implements Icon {
     WHITE_KNIGHT("chess_pieces/WhiteKnight.png"),
@@ -49,19 +49,23 @@ enum ChessIcon implements Icon {
     private Image image = null;
 
     /**
-     * Stores the side length of the chess icon, set to 1/20 the width of the screen.
+     * Stores the side length of the chess icon, set to 1/20 the width of the screen, or 0 if there is no screen.
      */
-    private final int size = java.awt.Toolkit.getDefaultToolkit().getScreenSize().width / 20;
+    private final int size = GraphicsEnvironment.isHeadless() ? 0 : java.awt.Toolkit.getDefaultToolkit().getScreenSize().width / 20;
     //endregion
 
     //region CONSTRUCTORS
     /**
      * <p>Creates a <code>ChessIcon</code> from a file path.</p>
+     * <p>Without a screen, such as when the pieces are only used for computing moves, the image is not loaded.</p>
      *
      * @param filePath  the file path of the icon image
      * @since 1.0
      */
     ChessIcon(String filePath) {
+        if (GraphicsEnvironment.isHeadless())
+            return;
+
         try {
             imageIcon = new ImageIcon(ImageIO.read(getClass().getResource("/images/" + filePath)).getScaledInstance(size, size, java.awt.Image.SCALE_SMOOTH));
             image = new Image("/images/" + filePath, size * 0.75, size * 0.75, false, true);
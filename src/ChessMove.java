@@ -2,7 +2,7 @@
  * <p>Represents a move in chess.</p>
  *
  * @author Nobel Zhou (nxz157)
- * @version 1.0
+ * @version 3.0, 10/17/2026
  */
 public class ChessMove {
 
@@ -13,6 +13,8 @@ public class ChessMove {
     private final int row;
     // Stores the destination column
     private final int column;
+    // Stores the piece a pawn is promoted to, if any
+    private final ChessPiece promotion;
     //endregion
 
     //region CONSTRUCTORS
@@ -25,9 +27,23 @@ public class ChessMove {
      * @since 1.0
      */
     public ChessMove(ChessPiece piece, int row, int column) {
+        this(piece, row, column, null);
+    }
+
+    /**
+     * <p>Initializes a <code>ChessMove</code> from a given piece, row, column, and the piece it is promoted to.</p>
+     *
+     * @param piece     the chess piece
+     * @param row       the destination row
+     * @param column    the destination column
+     * @param promotion the piece that replaces the chess piece once it is moved, <code>null</code> if none
+     * @since 3.0
+     */
+    public ChessMove(ChessPiece piece, int row, int column, ChessPiece promotion) {
         this.piece = piece;
         this.row = row;
         this.column = column;
+        this.promotion = promotion;
     }
     //endregion
 
@@ -61,5 +77,15 @@ public class ChessMove {
     public int getColumn() {
         return column;
     }
+
+    /**
+     * <p>Returns the <code>ChessPiece</code> the moved piece is promoted to.</p>
+     *
+     * @return  the promotion piece, <code>null</code> if the move is not a promotion
+     * @since 3.0
+     */
+    public ChessPiece getPromotion() {
+        return promotion;
+    }
     //endregion
 }
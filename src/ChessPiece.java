@@ -3,7 +3,7 @@
  * <p>Dictates properties of the chess piece as well as how it moves.</p>
  *
  * @author Nobel Zhou (nxz157)
- * @version 2.0, 12/2/2020
+ * @version 3.0, 10/17/2026
  */
 public abstract class ChessPiece {
 
@@ -52,9 +52,10 @@ public abstract class ChessPiece {
     //region NESTED TYPES
     /**
      * <p>Represents a proposed move that allows the program to properly execute that move.</p>
+     * <p>The piece's location when the proposed move is created is kept, so the move can be taken back.</p>
      *
      * @author Nobel Zhou (nxz157)
-     * @version 1.0, 12/2/2020
+     * @version 3.0, 10/17/2026
      */
     protected static class ProposedMove {
         /**
@@ -82,6 +83,16 @@ public abstract class ChessPiece {
          */
         private final boolean isReversible;
 
+        /**
+         * Stores the row of the piece to be moved before the move.
+         */
+        private final int fromRow;
+
+        /**
+         * Stores the column of the piece to be moved before the move.
+         */
+        private final int fromColumn;
+
         /**
          * <p>Creates a <code>ProposedMove</code> object from 2 pieces and a proposed location.</p>
          *
@@ -98,6 +109,8 @@ public abstract class ChessPiece {
             this.row = row;
             this.column = column;
             this.isReversible = isReversible;
+            fromRow = movedPiece.getRow();
+            fromColumn = movedPiece.getColumn();
         }
 
         /**
@@ -147,6 +160,26 @@ public abstract class ChessPiece {
         public boolean isReversible() {
             return isReversible;
         }
+
+        /**
+         * <p>Returns the row of the piece to be moved before the move.</p>
+         *
+         * @return  the original row
+         * @since 3.0
+         */
+        public int getFromRow() {
+            return fromRow;
+        }
+
+        /**
+         * <p>Returns the column of the piece to be moved before the move.</p>
+         *
+         * @return  the original column
+         * @since 3.0
+         */
+        public int getFromColumn() {
+            return fromColumn;
+        }
     }
     //endregion
 
@@ -194,6 +227,15 @@ public abstract class ChessPiece {
      * @since 1.0
      */
     public abstract boolean isLegalCaptureMove(int row, int column);
+
+    /**
+     * <p>Creates a piece of the same kind, side, icon, and location on another chessboard.</p>
+     *
+     * @param chessBoard    the chessboard of the new piece
+     * @return              the new piece
+     * @since 3.0
+     */
+    protected abstract ChessPiece createPiece(ChessBoard chessBoard);
     //endregion
 
     //region NON-ABSTRACT METHODS
@@ -226,6 +268,28 @@ public abstract class ChessPiece {
         justMoved = false;
     }
 
+    /**
+     * <p>Sets the number of moves the piece has done.</p>
+     * <p>Used to take back moves and to set up positions, since castling and en passant depend on it.</p>
+     *
+     * @param numMoves  the new number of moves
+     * @since 3.0
+     */
+    public void setNumMoves(int numMoves) {
+        this.numMoves = numMoves;
+    }
+
+    /**
+     * <p>Sets if the piece moved last turn.</p>
+     * <p>Used to take back moves and to set up positions, since en passant depends on it.</p>
+     *
+     * @param justMoved <code>true</code> if the piece moved last turn
+     * @since 3.0
+     */
+    public void setJustMoved(boolean justMoved) {
+        this.justMoved = justMoved;
+    }
+
     /**
      * <p>Returns a <code>ChessGame.Side</code> representing the side of the piece.</p>
      *
@@ -256,6 +320,21 @@ public abstract class ChessPiece {
         return icon;
     }
 
+    /**
+     * <p>Returns a copy of the piece for another chessboard, with the same number of moves.</p>
+     * <p>The copy is not added to the chessboard.</p>
+     *
+     * @param chessBoard    the chessboard of the copy
+     * @return              the copy of the piece
+     * @since 3.0
+     */
+    public ChessPiece copy(ChessBoard chessBoard) {
+        ChessPiece copy = createPiece(chessBoard);
+        copy.numMoves = numMoves;
+        copy.justMoved = justMoved;
+        return copy;
+    }
+
     /**
      * <p>Sets the location of the piece.</p>
      * <p>Sets the row and column of the piece.</p>
@@ -283,6 +362,111 @@ public abstract class ChessPiece {
                 (isLegalNonCaptureMove(toRow, toColumn) && !getChessBoard().hasPiece(toRow, toColumn));
     }
 
+    /**
+     * <p>Adds the squares the piece can capture on to a list of squares.</p>
+     * <p>These are the squares where {@link #isLegalCaptureMove(int, int)} is <code>true</code>, whether they are
+     * occupied or not. By default, every square of the chessboard is checked; pieces override this to only check the
+     * squares they can reach.</p>
+     *
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    public void addCaptureSquares(SquareList squares) {
+        for (int i = 0; i < getChessBoard().getGameRules().getNumRows(); i++) {
+            for (int j = 0; j < getChessBoard().getGameRules().getNumColumns(); j++) {
+                if (isLegalCaptureMove(i, j))
+                    squares.add(i, j);
+            }
+        }
+    }
+
+    /**
+     * <p>Adds the squares at the given offsets from the piece that the piece can capture on to a list of squares.</p>
+     *
+     * @param rowOffsets    the row offsets of the squares to check
+     * @param columnOffsets the column offsets of the squares to check, matching the row offsets
+     * @param squares       the list the squares are added to
+     * @since 3.0
+     */
+    protected void addCaptureSquares(int[] rowOffsets, int[] columnOffsets, SquareList squares) {
+        for (int i = 0; i < rowOffsets.length; i++) {
+            int row = getRow() + rowOffsets[i];
+            int column = getColumn() + columnOffsets[i];
+
+            // Skips squares off the chessboard before asking the piece
+            if (row >= 0 && row < getChessBoard().getGameRules().getNumRows() &&
+                    column >= 0 && column < getChessBoard().getGameRules().getNumColumns() && isLegalCaptureMove(row, column))
+                squares.add(row, column);
+        }
+    }
+
+    /**
+     * <p>Adds the squares the piece can move to to a list of squares.</p>
+     * <p>These are the squares where {@link #isLegalMove(int, int)} is <code>true</code>; moves that leave the center
+     * piece in check are not removed. By default, every square of the chessboard is checked; pieces override this to
+     * only check the squares they can reach.</p>
+     *
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    public void addMoveSquares(SquareList squares) {
+        for (int i = 0; i < getChessBoard().getGameRules().getNumRows(); i++) {
+            for (int j = 0; j < getChessBoard().getGameRules().getNumColumns(); j++) {
+                if (isLegalMove(i, j))
+                    squares.add(i, j);
+            }
+        }
+    }
+
+    /**
+     * <p>Returns the number of pieces that must be in between for the piece to capture along a line in the given
+     * direction.</p>
+     * <p>Pieces that capture at any distance along a line, such as rooks, return 0 for their directions, and cannons
+     * return 1, since they jump over exactly one piece. By default, the piece does not capture along lines and -1 is
+     * returned.</p>
+     *
+     * @param rowStep       the row step of the direction, from -1 to 1
+     * @param columnStep    the column step of the direction, from -1 to 1
+     * @return              the number of pieces that must be in between, -1 if the piece does not capture this way
+     * @since 3.0
+     */
+    public int getLineScreens(int rowStep, int columnStep) {
+        return -1;
+    }
+
+    /**
+     * <p>Adds the squares that must be empty for the piece to capture on a square to a list of squares.</p>
+     * <p>Only pieces that jump to a square, but can be blocked on the way, add squares, such as the leg of a xiangqi
+     * horse. Nothing is added if the piece could not capture on the square even with those squares empty. By default,
+     * nothing is added; blocking along lines is covered by {@link #getLineScreens(int, int)}.</p>
+     *
+     * @param row       the row of the square
+     * @param column    the column of the square
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    public void addLegSquares(int row, int column, SquareList squares) {}
+
+    /**
+     * <p>Adds the squares at the given offsets from the piece that the piece can move to to a list of squares.</p>
+     *
+     * @param rowOffsets    the row offsets of the squares to check
+     * @param columnOffsets the column offsets of the squares to check, matching the row offsets
+     * @param squares       the list the squares are added to
+     * @since 3.0
+     */
+    protected void addMoveSquares(int[] rowOffsets, int[] columnOffsets, SquareList squares) {
+        for (int i = 0; i < rowOffsets.length; i++) {
+            int row = getRow() + rowOffsets[i];
+            int column = getColumn() + columnOffsets[i];
+
+            // Skips squares off the chessboard before asking the piece
+            if (row >= 0 && row < getChessBoard().getGameRules().getNumRows() &&
+                    column >= 0 && column < getChessBoard().getGameRules().getNumColumns() && isLegalMove(row, column))
+                squares.add(row, column);
+        }
+    }
+
     /**
      * Returns a <code>ChessBoard</code> object representing the chessboard the piece is on.
      *
@@ -325,11 +509,11 @@ public abstract class ChessPiece {
         justMoved = true;
 
         // Sets the justMoved to false of every other piece
-        for (int i = 0; i < getChessBoard().getGameRules().getNumRows(); i++) {
-            for (int j = 0; j < getChessBoard().getGameRules().getNumColumns(); j++) {
-                // Checks if a chess piece exists at a square
-                if ((i != getRow() || j != getColumn()) && getChessBoard().hasPiece(i, j))
-                    getChessBoard().getPiece(i, j).resetJustMoved(); // Resets the justMoved of the piece
+        for (ChessGame.Side side : ChessGame.Side.values()) {
+            for (int i = 0; i < getChessBoard().getNumPieces(side); i++) {
+                ChessPiece piece = getChessBoard().getPiece(side, i);
+                if (piece != this)
+                    piece.resetJustMoved(); // Resets the justMoved of the piece
             }
         }
     }
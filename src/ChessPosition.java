@@ -1,44 +1,196 @@
+import java.util.Arrays;
+
 /**
  * Represents a position in chess.
  * Used for determining 3 move repetition rule.
+ * The position is stored as a byte per square, holding the side and label of the piece on it, along with the side
+ * to play, the castling rights, the en passant pawn, and the fifty move rule count. It does not refer to any chess
+ * piece, so it does not change when the pieces move, and is cheap to store, compare, and hash.
  *
  * @author Nobel Zhou (nxz157)
- * @version 1.0, 10/30/20
+ * @version 3.0, 10/17/26
  */
-public class ChessPosition {
+public final class ChessPosition {
 
     //region FIELDS
     /**
-     * Stores the board of the position.
+     * Stores the code of an empty square.
+     */
+    public static final byte EMPTY = 0;
+
+    /**
+     * Stores the number of rows of the position.
+     */
+    private final int numRows;
+
+    /**
+     * Stores the number of columns of the position.
      */
-    private final ChessPiece[][] board;
+    private final int numColumns;
+
+    /**
+     * Stores the code of the piece on each square, indexed by square index.
+     */
+    private final byte[] squares;
+
     //Stores the side of the position
     private final ChessGame.Side player;
+
+    /**
+     * Stores the castling rights; bit <code>2 * side</code> is the right to castle towards the last row or column, and
+     * bit <code>2 * side + 1</code> towards the first.
+     */
+    private final int castling;
+
+    /**
+     * Stores the square index of the pawn that can be captured en passant, -1 if there is none.
+     */
+    private final int enPassant;
+
+    /**
+     * Stores the number of non-pawn, non-capture moves in succession.
+     */
+    private final int fiftyMoveRule;
+
+    /**
+     * Stores the hash code of the position.
+     */
+    private final int hashCode;
     //endregion FIELDS
 
     //region CONSTRUCTORS
     /**
-     * Initializes a chess position to the board and player.
+     * Initializes a chess position to the pieces on the chess board and the side playing.
      *
-     * @param board  The chess board
-     * @param player The side of the chess player
-     * @since 1.0
+     * @param board The chess board
+     * @since 3.0
      */
-    public ChessPosition(final ChessPiece[][] board, final ChessGame.Side player) {
-        this.board = board;
+    public ChessPosition(ChessBoard board) {
+        ChessGame game = board.getGameRules();
+        numRows = game.getNumRows();
+        numColumns = game.getNumColumns();
+        squares = new byte[numRows * numColumns];
+        player = game.getCurrentSide();
+        fiftyMoveRule = game.getFiftyMoveRule();
+
+        int castlingRights = 0;
+        int enPassantSquare = -1;
+
+        for (ChessGame.Side side : ChessGame.Side.values()) {
+            for (int i = 0; i < board.getNumPieces(side); i++) {
+                ChessPiece piece = board.getPiece(side, i);
+                squares[piece.getRow() * numColumns + piece.getColumn()] = encode(side, piece.getLabel());
+
+                // Checks for an unmoved king that can still castle
+                if (piece instanceof CanCastleMove && piece.getNumMoves() == 0)
+                    castlingRights |= getCastlingRights(board, piece);
+
+                // Checks for a pawn that can be captured en passant
+                if (piece instanceof PawnPiece && ((PawnPiece) piece).isEnPassantTarget())
+                    enPassantSquare = piece.getRow() * numColumns + piece.getColumn();
+            }
+        }
+
+        castling = castlingRights;
+        enPassant = enPassantSquare;
+        hashCode = computeHashCode();
+    }
+
+    /**
+     * Initializes a chess position to the given encoding.
+     *
+     * @param numRows       The number of rows
+     * @param numColumns    The number of columns
+     * @param squares       The code of the piece on each square, indexed by square index
+     * @param player        The side playing
+     * @param castling      The castling rights
+     * @param enPassant     The square index of the pawn that can be captured en passant, -1 if there is none
+     * @param fiftyMoveRule The fifty move rule count
+     * @throws IllegalArgumentException if the number of squares does not match the number of rows and columns
+     * @since 3.0
+     */
+    public ChessPosition(int numRows, int numColumns, byte[] squares, ChessGame.Side player, int castling, int enPassant, int fiftyMoveRule) throws IllegalArgumentException {
+        if (squares.length != numRows * numColumns)
+            throw new IllegalArgumentException("The number of squares does not match the number of rows and columns.");
+
+        this.numRows = numRows;
+        this.numColumns = numColumns;
+        this.squares = squares.clone();
         this.player = player;
+        this.castling = castling;
+        this.enPassant = enPassant;
+        this.fiftyMoveRule = fiftyMoveRule;
+        hashCode = computeHashCode();
     }
     //endregion
 
     //region METHODS
     /**
-     * Returns the 2-dimensional array of GamePieces.
+     * Returns the code of a piece of the given side and label.
+     * The code holds the side in its upper bits and the letter of the label in its lower 5 bits, so it is never
+     * EMPTY.
      *
-     * @return The 2-dimensional array of GamePieces
-     * @since 1.0
+     * @param side  The side of the piece
+     * @param label The label of the piece
+     * @return The code of the piece
+     * @since 3.0
      */
-    public ChessPiece[][] getBoard() {
-        return board;
+    public static byte encode(ChessGame.Side side, String label) {
+        return (byte) (side.ordinal() << 5 | (label.charAt(0) & 31));
+    }
+
+    /**
+     * Returns the side of a piece code.
+     *
+     * @param code The code of the piece
+     * @return The side of the piece
+     * @since 3.0
+     */
+    public static ChessGame.Side getSide(byte code) {
+        return ChessGame.Side.values()[code >> 5];
+    }
+
+    /**
+     * Returns the label of a piece code.
+     *
+     * @param code The code of the piece
+     * @return The label of the piece
+     * @since 3.0
+     */
+    public static String getLabel(byte code) {
+        return String.valueOf((char) ('@' + (code & 31)));
+    }
+
+    /**
+     * Returns the number of rows of the position.
+     *
+     * @return The number of rows
+     * @since 3.0
+     */
+    public int getNumRows() {
+        return numRows;
+    }
+
+    /**
+     * Returns the number of columns of the position.
+     *
+     * @return The number of columns
+     * @since 3.0
+     */
+    public int getNumColumns() {
+        return numColumns;
+    }
+
+    /**
+     * Returns the code of the piece on a square, EMPTY if there is none.
+     *
+     * @param row    The row of the square
+     * @param column The column of the square
+     * @return The code of the piece
+     * @since 3.0
+     */
+    public byte getSquare(int row, int column) {
+        return squares[row * numColumns + column];
     }
 
     /**
@@ -51,10 +203,52 @@ public class ChessPosition {
         return player;
     }
 
+    /**
+     * Returns the castling rights of the position.
+     *
+     * @return The castling rights
+     * @since 3.0
+     */
+    public int getCastling() {
+        return castling;
+    }
+
+    /**
+     * Returns if a side can still castle in a direction, if the squares allow it.
+     *
+     * @param side The side that castles
+     * @param last If the rook is on the last row or column, rather than the first
+     * @return If the side has the castling right
+     * @since 3.0
+     */
+    public boolean canCastle(ChessGame.Side side, boolean last) {
+        return (castling & 1 << (2 * side.ordinal() + (last ? 0 : 1))) != 0;
+    }
+
+    /**
+     * Returns the square index of the pawn that can be captured en passant.
+     *
+     * @return The square index of the pawn, -1 if there is none
+     * @since 3.0
+     */
+    public int getEnPassant() {
+        return enPassant;
+    }
+
+    /**
+     * Returns the number of non-pawn, non-capture moves in succession.
+     *
+     * @return The fifty move rule count
+     * @since 3.0
+     */
+    public int getFiftyMoveRule() {
+        return fiftyMoveRule;
+    }
+
     /**
      * Compares 2 ChessPositions.
-     * Returns true if the two boards are the same and the side are equal.
-     * Assumes a rectangular array.
+     * Returns true if the pieces, the side, the castling rights, and the en passant pawn are the same.
+     * The fifty move rule count is not compared, since a position repeats whatever the count is.
      *
      * @param o The other chess position
      * @return If the chess positions are equal
@@ -65,28 +259,62 @@ public class ChessPosition {
         //Checks if o can be typecasted into ChessPosition
         if (o instanceof ChessPosition) {
             ChessPosition position = (ChessPosition) o;
-            //Checks for same dimensions
-            if (position.getBoard().length != getBoard().length || position.getBoard()[0].length != getBoard()[0].length)
-                return false;
-
-            for (int i = 0; i < getBoard().length; i++) {
-                for (int j = 0; j < getBoard()[i].length; j++) {
-                    if (getBoard()[i][j] != null) {
-                        //Checks if the pieces are the same
-                        if (!getBoard()[i][j].equals(position.getBoard()[i][j]))
-                            return false;
-                    } else {
-                        //Checks if both squares are empty
-                        if (position.getBoard()[i][j] != null)
-                            return false;
-                    }
-                }
-            }
 
-            //Check the same side
-            return getPlayer().equals(position.getPlayer());
+            return hashCode == position.hashCode && numColumns == position.numColumns && player == position.player &&
+                    castling == position.castling && enPassant == position.enPassant && Arrays.equals(squares, position.squares);
         } else
             return false; //Not ChessPosition object
     }
+
+    /**
+     * Returns the hash code of the chess position.
+     *
+     * @return The hash code of the chess position
+     * @since 3.0
+     */
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    /**
+     * Computes the hash code of the chess position from the fields compared by equals.
+     *
+     * @return The hash code of the chess position
+     * @since 3.0
+     */
+    private int computeHashCode() {
+        return ((Arrays.hashCode(squares) * 31 + player.ordinal()) * 31 + castling) * 31 + enPassant;
+    }
+
+    /**
+     * Returns the castling rights of an unmoved king, which needs an unmoved rook of its side at the end of its row,
+     * for the north and south sides, or of its column, for the east and west sides.
+     *
+     * @param board The chess board
+     * @param king  The unmoved king
+     * @return The castling rights of the king
+     * @since 3.0
+     */
+    private int getCastlingRights(ChessBoard board, ChessPiece king) {
+        // Stores the squares of the rooks towards the last and the first row or column
+        ChessPiece[] rooks;
+
+        switch (king.getSide()) {
+            case NORTH:
+            case SOUTH:
+                rooks = new ChessPiece[] {board.getPiece(king.getRow(), numColumns - 1), board.getPiece(king.getRow(), 0)};
+                break;
+            default: // EAST and WEST
+                rooks = new ChessPiece[] {board.getPiece(numRows - 1, king.getColumn()), board.getPiece(0, king.getColumn())};
+        }
+
+        int rights = 0;
+        for (int i = 0; i < rooks.length; i++) {
+            if (rooks[i] instanceof RookPiece && rooks[i].getSide() == king.getSide() && rooks[i].getNumMoves() == 0)
+                rights |= 1 << (2 * king.getSide().ordinal() + i);
+        }
+        return rights;
+    }
     //endregion
 }
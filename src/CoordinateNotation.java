@@ -0,0 +1,70 @@
+/**
+ * <p>Represents the coordinate notation of moves used by engine protocols: the square a piece moves from and the square
+ * it moves to, such as <code>e2e4</code>, followed by the lower case label of the piece a pawn is promoted to, such as
+ * <code>a7a8q</code>.</p>
+ * <p>Files are letters from <code>a</code>. Ranks count from 1 in Indo-European chess, as in UCI, and from 0 in
+ * Xiangqi, as in the ICCS coordinates of UCCI, from the side of white or red, which is the South side as in
+ * {@link EuropeanChessFen} and {@link XiangqiFen}. A move is read by matching it against the legal moves of the
+ * position, so a move that can be read is always legal.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class CoordinateNotation {
+
+    //region CONSTRUCTORS
+    /**
+     * <p>Prevents the class of static methods from being created.</p>
+     *
+     * @since 1.0
+     */
+    private CoordinateNotation() {}
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Returns the legal move of the side that is playing named in coordinate notation.</p>
+     *
+     * @param name  the name of the move, such as <code>e2e4</code>
+     * @param board the chessboard
+     * @return      the move, which has not been made
+     * @throws IllegalArgumentException if the name is not the name of a legal move
+     * @since 1.0
+     */
+    public static ChessMove read(CharSequence name, ChessBoard board) throws IllegalArgumentException {
+        for (ChessMove move : board.generateAllMoves()) {
+            if (write(move).contentEquals(name))
+                return move;
+        }
+        throw new IllegalArgumentException("The move is not legal: " + name);
+    }
+
+    /**
+     * <p>Returns the name of a move in coordinate notation.</p>
+     *
+     * @param move  the move, with its piece still on the square it moves from
+     * @return      the name of the move
+     * @since 1.0
+     */
+    public static String write(ChessMove move) {
+        ChessPiece piece = move.getPiece();
+        ChessGame game = piece.getChessBoard().getGameRules();
+        String name = getSquareName(game, piece.getRow(), piece.getColumn()) + getSquareName(game, move.getRow(), move.getColumn());
+
+        return move.getPromotion() == null ? name : name + move.getPromotion().getLabel().toLowerCase();
+    }
+
+    /**
+     * <p>Returns the name of a square, which is its file and rank.</p>
+     *
+     * @param game      the rules of the game
+     * @param row       the row of the square
+     * @param column    the column of the square
+     * @return          the name of the square
+     * @since 1.0
+     */
+    private static String getSquareName(ChessGame game, int row, int column) {
+        return (char) ('a' + column) + String.valueOf(game instanceof Xiangqi ? game.getNumRows() - 1 - row : game.getNumRows() - row);
+    }
+    //endregion
+}
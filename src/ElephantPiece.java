@@ -3,7 +3,7 @@
  * <p>Dictates how an elephant can move.</p>
  *
  * @author Nobel Zhou
- * @version 1.0, 12/4/20
+ * @version 3.0, 10/17/26
  */
 public class ElephantPiece extends ChessPiece implements CanElephantMove {
 
@@ -24,6 +24,18 @@ public class ElephantPiece extends ChessPiece implements CanElephantMove {
     //endregion
 
     //region METHODS
+    /**
+     * <p>Creates a elephant piece of the same side, icon, and location on another chessboard.</p>
+     *
+     * @param chessBoard    the chessboard of the new elephant piece
+     * @return              the new elephant piece
+     * @since 3.0
+     */
+    @Override
+    protected ChessPiece createPiece(ChessBoard chessBoard) {
+        return new ElephantPiece(getSide(), chessBoard, (ChessIcon) getIcon(), getRow(), getColumn());
+    }
+
     /**
      * <p>Returns a boolean representing if the proposed move is legal, assuming that it is unoccupied.</p>
      *
@@ -49,5 +61,43 @@ public class ElephantPiece extends ChessPiece implements CanElephantMove {
     public boolean isLegalCaptureMove(int row, int column) {
         return isLegalNonCaptureMove(row, column);
     }
+
+    /**
+     * <p>Adds the squares the elephant piece can capture on to a list of squares.</p>
+     * <p>Only the squares 2 diagonal steps away are checked.</p>
+     *
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    @Override
+    public void addCaptureSquares(SquareList squares) {
+        addCaptureSquares(ELEPHANT_ROW_OFFSETS, ELEPHANT_COLUMN_OFFSETS, squares);
+    }
+
+    /**
+     * <p>Adds the squares the elephant piece can move to to a list of squares.</p>
+     * <p>Only the squares 2 diagonal steps away are checked.</p>
+     *
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    @Override
+    public void addMoveSquares(SquareList squares) {
+        addMoveSquares(ELEPHANT_ROW_OFFSETS, ELEPHANT_COLUMN_OFFSETS, squares);
+    }
+
+    /**
+     * <p>Adds the squares that must be empty for the elephant piece to capture on a square to a list of squares.</p>
+     * <p>This is the eye of the elephant piece, if the square is a move away.</p>
+     *
+     * @param row       the row of the square
+     * @param column    the column of the square
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    @Override
+    public void addLegSquares(int row, int column, SquareList squares) {
+        addElephantEyeSquares(row, column, this, squares);
+    }
     //endregion
 }
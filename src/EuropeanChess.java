@@ -1,11 +1,12 @@
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
+import java.util.HashMap;
 
 /**
  * <p>Represents the ruleset for a game of Indo-European chess.</p>
  *
  * @author Nobel Zhou (nxz157)
- * @version 2.0, 12/2/20
+ * @version 3.0, 10/17/26
  */
 public class EuropeanChess implements ChessGame {
 
@@ -21,14 +22,29 @@ public class EuropeanChess implements ChessGame {
     private Side currentSide;
 
     /**
-     * Stores the game positions of the whole game.
+     * Stores the number of times each position has been reached, keyed by the Zobrist key of the position.
      */
-    private final ArrayList<ChessPosition> positions;
+    private final HashMap<Long, Integer> repetitions;
 
     /**
      * Stores the number of non-pawn, non-capture moves in succession; used for determining the 50 move rule
      */
     private int fiftyMoveRule;
+
+    /**
+     * Stores the Zobrist key of the current position.
+     */
+    private long hash;
+
+    /**
+     * Stores the score of the pieces of each side, indexed by the ordinal of the side.
+     */
+    private final int[] scores = new int[Side.values().length];
+
+    /**
+     * Stores the moves made since the position was set up.
+     */
+    private final MoveHistory history;
     //endregion
 
     //region CONSTRUCTORS
@@ -41,7 +57,24 @@ public class EuropeanChess implements ChessGame {
     public EuropeanChess(Side startingSide) {
         this.startingSide = startingSide;
         currentSide = startingSide;
-        positions = new ArrayList<>();
+        history = new MoveHistory(false);
+        repetitions = new HashMap<>();
+    }
+
+    /**
+     * <p>Initializes the rules of Indo-European chess to a copy of the state of another game.</p>
+     *
+     * @param game  the game to copy
+     * @since 3.0
+     */
+    public EuropeanChess(EuropeanChess game) {
+        startingSide = game.startingSide;
+        currentSide = game.currentSide;
+        repetitions = new HashMap<>(game.repetitions);
+        fiftyMoveRule = game.fiftyMoveRule;
+        hash = game.hash;
+        System.arraycopy(game.scores, 0, scores, 0, scores.length);
+        history = new MoveHistory(game.history);
     }
     //endregion
 
@@ -75,6 +108,7 @@ public class EuropeanChess implements ChessGame {
      * @return  the number of consecutive non-capture and non-pawn moves
      * @since 1.0
      */
+    @Override
     public int getFiftyMoveRule() {
         return fiftyMoveRule;
     }
@@ -85,10 +119,23 @@ public class EuropeanChess implements ChessGame {
      * @param fiftyMoveRule     the new fifty move rule count
      * @since 1.0
      */
+    @Override
     public void setFiftyMoveRule(int fiftyMoveRule) {
         this.fiftyMoveRule = fiftyMoveRule;
     }
 
+    /**
+     * <p>Returns the number of consecutive plies without a capture or a pawn move after which the game is drawn, which
+     * is fifty moves of each side.</p>
+     *
+     * @return  100
+     * @since 3.0
+     */
+    @Override
+    public int getFiftyMovePlies() {
+        return 100;
+    }
+
     /**
      * <p>Returns a <code>ChessGame.Side</code> representing the side that is currently playing.</p>
      *
@@ -123,40 +170,170 @@ public class EuropeanChess implements ChessGame {
     public boolean makeMove(ChessPiece piece, int toRow, int toColumn) {
         // Checks if the move can be played
         if (isCheckMove(toRow, toColumn, piece)) {
-            // Stores the chess board
-            ChessBoard board = piece.getChessBoard();
-            // Stores the move instructions
-            ChessPiece.ProposedMove[] moveInstructions = piece.getMoveInstructions(toRow, toColumn);
-
-            for (ChessPiece.ProposedMove instruction : moveInstructions) {
-                // Checks for capture move
-                if (!instruction.isReversible())
-                    setFiftyMoveRule(0); // Capture just took place; reset fifty move rule counter
-                else
-                    setFiftyMoveRule(getFiftyMoveRule() + 1);
-
-                // Moves the chess pieces
-                board.removePiece(instruction.getMovedPiece().getRow(), instruction.getMovedPiece().getColumn());
-                ChessPiece save = instruction.getRemovedPiece();
-                if (save != null)
-                    board.removePiece(save.getRow(), save.getColumn());
-                board.addPiece(instruction.getMovedPiece(), instruction.getRow(), instruction.getColumn());
-
-                // Piece post-move processing
-                instruction.getMovedPiece().moveDone();
-            }
-
-            // Adds the new position to the ArrayList of ChessPositions to check for threefold repetition later
-            positions.add(board.generateChessPosition());
-
-            // Now opposite player's turn
-            flipSide();
-
+            makeMove(new ChessMove(piece, toRow, toColumn));
             return true; // Successful move
         } else
             return false; // Unsuccessful move
     }
 
+    /**
+     * <p>Makes a move that is already known to be legal, and returns a record that can take it back.</p>
+     *
+     * @param move  the move to make
+     * @return      the record of the move
+     * @since 3.0
+     */
+    @Override
+    public MoveRecord makeMove(ChessMove move) {
+        // Stores the chess board
+        ChessBoard board = move.getPiece().getChessBoard();
+        // Stores the record of the move, which also stores the move instructions
+        MoveRecord record = new MoveRecord(move, getFiftyMoveRule(), getHash());
+        history.add(this, move);
+
+        // Takes the keys of the changed pieces and the side out of the key of the position, and their values out of the scores
+        hash ^= Zobrist.getKey(record.getChangedPieces()) ^ Zobrist.getSideKey(getCurrentSide());
+        PieceSquareEvaluator.addValues(scores, record.getChangedPieces(), -1);
+
+        // Counts the move once, even if it moves more than one piece, unless a capture or a pawn move resets the count
+        setFiftyMoveRule(getFiftyMoveRule() + 1);
+        for (ChessPiece.ProposedMove instruction : record.getInstructions()) {
+            // Checks for capture move
+            if (!instruction.isReversible())
+                setFiftyMoveRule(0); // Capture just took place; reset fifty move rule counter
+
+            // Moves the chess pieces
+            board.removePiece(instruction.getFromRow(), instruction.getFromColumn());
+            ChessPiece save = instruction.getRemovedPiece();
+            if (save != null)
+                board.removePiece(save.getRow(), save.getColumn());
+            board.addPiece(instruction.getMovedPiece(), instruction.getRow(), instruction.getColumn());
+
+            // Piece post-move processing
+            instruction.getMovedPiece().moveDone();
+        }
+
+        // Replaces the pawn with the piece it is promoted to; the record already has the promoted piece's key
+        if (move.getPromotion() != null)
+            board.addPiece(move.getPromotion(), move.getRow(), move.getColumn());
+
+        // Now opposite player's turn
+        flipSide();
+
+        // Puts the keys of the changed pieces and the side back into the key of the position, and their values back into the scores
+        hash ^= Zobrist.getKey(record.getChangedPieces()) ^ Zobrist.getSideKey(getCurrentSide());
+        PieceSquareEvaluator.addValues(scores, record.getChangedPieces(), 1);
+
+        // Counts the new position to check for threefold repetition later
+        repetitions.merge(hash, 1, Integer::sum);
+
+        return record;
+    }
+
+    /**
+     * <p>Takes back the last move made with {@link #makeMove(ChessMove)}.</p>
+     *
+     * @param record    the record of the last move
+     * @since 3.0
+     */
+    @Override
+    public void unmakeMove(MoveRecord record) {
+        // Now the previous player's turn again
+        flipSide();
+        if (repetitions.merge(getHash(), -1, Integer::sum) == 0)
+            repetitions.remove(getHash());
+
+        // Moves the changed pieces back, taking their values out of the scores and putting them back after
+        PieceSquareEvaluator.addValues(scores, record.getChangedPieces(), -1);
+        record.undo();
+        PieceSquareEvaluator.addValues(scores, record.getChangedPieces(), 1);
+        setFiftyMoveRule(record.getFiftyMoveRule());
+        hash = record.getHash();
+        history.removeLast();
+    }
+
+    /**
+     * <p>Returns the Zobrist key of the current position.</p>
+     *
+     * @return  the key of the current position
+     * @since 3.0
+     */
+    @Override
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * <p>Hashes the whole chessboard again to find the Zobrist key of the current position, and scores it again to find
+     * the score of each side.</p>
+     *
+     * @param board the chess board
+     * @since 3.0
+     */
+    @Override
+    public void resetHash(ChessBoard board) {
+        hash = Zobrist.getKey(board);
+        System.arraycopy(PieceSquareEvaluator.getScores(board), 0, scores, 0, scores.length);
+    }
+
+    /**
+     * <p>Returns the score of the pieces of a side, which is their material plus the bonuses of their squares.</p>
+     *
+     * @param side  the side
+     * @return      the score of the pieces of the side
+     * @since 3.0
+     */
+    @Override
+    public int getScore(Side side) {
+        return scores[side.ordinal()];
+    }
+
+    /**
+     * <p>Returns the moves made since the position was set up.</p>
+     *
+     * @return  the history of the game
+     * @since 3.0
+     */
+    @Override
+    public MoveHistory getMoveHistory() {
+        return history;
+    }
+
+    /**
+     * <p>Returns a copy of the rules and the state of the game.</p>
+     *
+     * @return  the copy of the game
+     * @since 3.0
+     */
+    @Override
+    public ChessGame copy() {
+        return new EuropeanChess(this);
+    }
+
+    /**
+     * <p>Generates all the legal moves that can be played.</p>
+     * <p>Pawn moves onto the last rank are generated once for each piece the pawn can be promoted to.</p>
+     *
+     * @param piece a chess piece of the board
+     * @return      an array of <code>Move</code> objects that can be played
+     * @since 3.0
+     */
+    @Override
+    public ChessMove[] generateMoves(ChessPiece piece) {
+        // Stores the moves, with promotions added
+        ArrayList<ChessMove> moves = new ArrayList<>();
+
+        for (ChessMove move : ChessGame.super.generateMoves(piece)) {
+            if (move.getPiece() instanceof PawnPiece && ((PawnPiece) move.getPiece()).isPromotionSquare(move.getRow(), move.getColumn())) {
+                for (ChessPiece promotion : getPromotionPieces(move.getPiece()))
+                    moves.add(new ChessMove(move.getPiece(), move.getRow(), move.getColumn(), promotion));
+            } else
+                moves.add(move);
+        }
+
+        return moves.toArray(new ChessMove[0]);
+    }
+
     /**
      * <p>Returns the number of rows in the chessboard.</p>
      *
@@ -227,7 +404,7 @@ public class EuropeanChess implements ChessGame {
      * @since 1.0
      */
     private void checkThreefoldRepetition(ChessBoard board) {
-        if (positions.size() >= 6 && Collections.frequency(positions, positions.get(positions.size() - 1)) >= 3)
+        if (repetitions.getOrDefault(getHash(), 0) >= 3)
             board.terminate(ChessResult.THREEFOLD_REPETITION, null);
     }
 
@@ -238,7 +415,7 @@ public class EuropeanChess implements ChessGame {
      * @since 1.0
      */
     private void checkFiftyMoveRule(ChessBoard board) {
-        if (getFiftyMoveRule() >= 50)
+        if (getFiftyMoveRule() >= getFiftyMovePlies())
             board.terminate(ChessResult.FIFTY_MOVE_RULE, null);
     }
 
@@ -257,14 +434,9 @@ public class EuropeanChess implements ChessGame {
         // Stores the all of the chess pieces on the board
         ArrayList<ChessPiece> pieces = new ArrayList<>();
 
-        // Iterates for each square of the chess board in search of a piece
-        for (int i = 0; i < getNumRows(); i++) {
-            for (int j = 0; j < getNumColumns(); j++) {
-                //Looks for same side piece in the chess board
-                if (king.getChessBoard().hasPiece(i, j))
-                    pieces.add(king.getChessBoard().getPiece(i, j));
-            }
-        }
+        // Collects the pieces of every side
+        for (ChessGame.Side side : ChessGame.Side.values())
+            pieces.addAll(Arrays.asList(king.getChessBoard().getPieces(side)));
 
         // Checks if it's just bare kings
         if (pieces.size() == 2) {
@@ -304,7 +476,31 @@ public class EuropeanChess implements ChessGame {
      */
     @Override
     public void promote(ChessPiece oldPiece, ChessPiece newPiece) {
+        hash ^= Zobrist.getPieceKey(oldPiece);
+        scores[oldPiece.getSide().ordinal()] -= PieceSquareEvaluator.getValue(oldPiece);
         oldPiece.getChessBoard().addPiece(newPiece, oldPiece.getRow(), oldPiece.getColumn());
+        hash ^= Zobrist.getPieceKey(newPiece);
+        scores[newPiece.getSide().ordinal()] += PieceSquareEvaluator.getValue(newPiece);
+        history.setPromotion(newPiece);
+    }
+
+    /**
+     * <p>Returns the pieces a pawn can be promoted to: a knight, a bishop, a rook, and a queen.</p>
+     *
+     * @param pawn  the pawn to be promoted
+     * @return      the promotion pieces, which are not on the chessboard yet
+     * @since 3.0
+     */
+    private ChessPiece[] getPromotionPieces(ChessPiece pawn) {
+        // Stores if the pawn is on the starting side, which uses white pieces
+        boolean white = pawn.getSide().equals(getStartingSide());
+
+        return new ChessPiece[] {
+                new KnightPiece(pawn.getSide(), pawn.getChessBoard(), white ? ChessIcon.WHITE_KNIGHT : ChessIcon.BLACK_KNIGHT, -1, -1),
+                new BishopPiece(pawn.getSide(), pawn.getChessBoard(), white ? ChessIcon.WHITE_BISHOP : ChessIcon.BLACK_BISHOP, -1, -1),
+                new RookPiece(pawn.getSide(), pawn.getChessBoard(), white ? ChessIcon.WHITE_ROOK : ChessIcon.BLACK_ROOK, -1, -1),
+                new QueenPiece(pawn.getSide(), pawn.getChessBoard(), white ? ChessIcon.WHITE_QUEEN : ChessIcon.BLACK_QUEEN, -1, -1)
+        };
     }
 
     /**
@@ -346,5 +542,8 @@ public class EuropeanChess implements ChessGame {
         // Kings
         chessBoard.addPiece(new KingPiece(ChessGame.Side.SOUTH, chessBoard, ChessIcon.WHITE_KING, 7, 4), 7, 4);
         chessBoard.addPiece(new KingPiece(ChessGame.Side.NORTH, chessBoard, ChessIcon.BLACK_KING, 0, 4), 0, 4);
+
+        resetHash(chessBoard);
+        history.reset(chessBoard);
     }
 }
@@ -0,0 +1,508 @@
+import java.io.IOException;
+
+/**
+ * <p>Represents the Forsyth-Edwards Notation (FEN) of positions of Indo-European chess, read onto and written from any
+ * {@link ChessBoard}.</p>
+ * <p>A FEN has six fields: the pieces of each rank from the 8th to the 1st, the side to move, the castling rights, the
+ * en passant square, the half-move clock, and the full-move number. White is the South side. Castling rights are kept
+ * by the number of moves of the kings and rooks, and the en passant square by the pawn that just moved past it, so
+ * the rules of the game find these moves as if the position had been played.</p>
+ * <p>A FEN is read one character at a time from a <code>CharSequence</code>, with no regular expressions and no
+ * substrings, so millions of positions can be read without making garbage other than the pieces themselves. Writing
+ * appends to any <code>Appendable</code>, such as a <code>StringBuilder</code> or a <code>Writer</code>.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class EuropeanChessFen {
+
+    //region FIELDS
+    /**
+     * Stores the FEN of the starting position of Indo-European chess.
+     */
+    public static final String START = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    /**
+     * Stores the number of rows and columns of the chessboard.
+     */
+    private static final int SIZE = 8;
+
+    /**
+     * Stores the castling right of White on the king side.
+     */
+    private static final int WHITE_KING_SIDE = 1;
+
+    /**
+     * Stores the castling right of White on the queen side.
+     */
+    private static final int WHITE_QUEEN_SIDE = 2;
+
+    /**
+     * Stores the castling right of Black on the king side.
+     */
+    private static final int BLACK_KING_SIDE = 4;
+
+    /**
+     * Stores the castling right of Black on the queen side.
+     */
+    private static final int BLACK_QUEEN_SIDE = 8;
+    //endregion
+
+    //region CONSTRUCTORS
+    /**
+     * <p>Prevents the class of static methods from being created.</p>
+     *
+     * @since 1.0
+     */
+    private EuropeanChessFen() {}
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Reads a FEN onto an empty chessboard: places its pieces, and sets the side to move, the castling rights, the
+     * en passant square, and the half-move clock of the chessboard's game.</p>
+     * <p>The side to move and the fields after it can be left out; they default to White, no castling, no en passant,
+     * and 0 and 1 for the counters. The Zobrist key and the scores of the game are found again once the position is
+     * set up, and the move history of the game starts from the position with the full-move number of the FEN.</p>
+     *
+     * @param fen   the FEN
+     * @param board the empty chessboard, whose game starts with the South side to move
+     * @return      the full-move number of the FEN, which the game only keeps in its move history
+     * @throws IllegalArgumentException if the FEN cannot be read
+     * @since 1.0
+     */
+    public static int read(CharSequence fen, ChessBoard board) throws IllegalArgumentException {
+        ChessGame game = board.getGameRules();
+        if (game.getNumRows() != SIZE || game.getNumColumns() != SIZE)
+            throw new IllegalArgumentException("A FEN of Indo-European chess needs an 8 by 8 chessboard.");
+
+        int length = fen.length();
+        int i = skipSpaces(fen, 0);
+        int row = 0;
+        int column = 0;
+
+        // Places the pieces, rank by rank
+        for (; i < length && !Character.isWhitespace(fen.charAt(i)); i++) {
+            char c = fen.charAt(i);
+
+            if (c == '/') {
+                if (column != SIZE || ++row >= SIZE)
+                    throw error("Each rank must have 8 squares, and there must be 8 ranks", fen);
+                column = 0;
+            } else if (c >= '1' && c <= '8')
+                column += c - '0';
+            else {
+                if (column >= SIZE)
+                    throw error("Each rank must have 8 squares", fen);
+                board.addPiece(createPiece(board, c, row, column), row, column);
+                column++;
+            }
+
+            if (column > SIZE)
+                throw error("Each rank must have 8 squares", fen);
+        }
+        if (row != SIZE - 1 || column != SIZE)
+            throw error("Each rank must have 8 squares, and there must be 8 ranks", fen);
+
+        // Sets the side to move
+        i = skipSpaces(fen, i);
+        if (i < length) {
+            char c = fen.charAt(i++);
+            if (c != 'w' && c != 'b')
+                throw error("The side to move must be w or b", fen);
+            if ((c == 'b') != (game.getCurrentSide() == ChessGame.Side.NORTH))
+                game.flipSide();
+        }
+
+        // Reads the castling rights
+        int rights = 0;
+        for (i = skipSpaces(fen, i); i < length && !Character.isWhitespace(fen.charAt(i)); i++) {
+            switch (fen.charAt(i)) {
+                case 'K':
+                    rights |= WHITE_KING_SIDE;
+                    break;
+                case 'Q':
+                    rights |= WHITE_QUEEN_SIDE;
+                    break;
+                case 'k':
+                    rights |= BLACK_KING_SIDE;
+                    break;
+                case 'q':
+                    rights |= BLACK_QUEEN_SIDE;
+                    break;
+                case '-':
+                    break;
+                default:
+                    throw error("The castling rights must be made of KQkq or be -", fen);
+            }
+        }
+        setUpMoves(board, rights);
+
+        // Reads the en passant square
+        i = skipSpaces(fen, i);
+        if (i < length && fen.charAt(i) != '-') {
+            if (i + 1 >= length)
+                throw error("The en passant square must be a square or -", fen);
+            setUpEnPassant(board, fen.charAt(i) - 'a', SIZE - (fen.charAt(i + 1) - '0'), fen);
+            i += 2;
+        } else if (i < length)
+            i++;
+
+        // Reads the counters
+        i = skipSpaces(fen, i);
+        int halfMoves = 0;
+        for (; i < length && !Character.isWhitespace(fen.charAt(i)); i++)
+            halfMoves = halfMoves * 10 + getDigit(fen, i);
+        game.setFiftyMoveRule(halfMoves);
+
+        i = skipSpaces(fen, i);
+        int fullMoves = i < length ? 0 : 1;
+        for (; i < length && !Character.isWhitespace(fen.charAt(i)); i++)
+            fullMoves = fullMoves * 10 + getDigit(fen, i);
+
+        game.resetHash(board);
+        game.getMoveHistory().reset(board, fullMoves);
+        return fullMoves;
+    }
+
+    /**
+     * <p>Returns a new chessboard with no GUI set up with the position of a FEN, with White as the South side.</p>
+     *
+     * @param fen   the FEN
+     * @return      the chessboard
+     * @throws IllegalArgumentException if the FEN cannot be read
+     * @since 1.0
+     */
+    public static BasicChessBoard createBoard(CharSequence fen) throws IllegalArgumentException {
+        BasicChessBoard board = new BasicChessBoard(new EuropeanChess(ChessGame.Side.SOUTH));
+
+        read(fen, board);
+        return board;
+    }
+
+    /**
+     * <p>Returns the FEN of the position on a chessboard.</p>
+     *
+     * @param board     the chessboard
+     * @param fullMoves the full-move number, which the game does not keep
+     * @return          the FEN
+     * @since 1.0
+     */
+    public static String write(ChessBoard board, int fullMoves) {
+        StringBuilder fen = new StringBuilder(90);
+
+        try {
+            write(board, fullMoves, fen);
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // A StringBuilder does not throw
+        }
+        return fen.toString();
+    }
+
+    /**
+     * <p>Writes the FEN of the position on a chessboard.</p>
+     * <p>Castling rights are written for each king and rook on their starting squares that have not moved. The en
+     * passant square is written after any pawn that just moved two squares, as in the standard, even when no pawn can
+     * capture it.</p>
+     *
+     * @param board     the chessboard
+     * @param fullMoves the full-move number, which the game does not keep
+     * @param out       the output the FEN is appended to
+     * @throws IOException if the output cannot be written
+     * @since 1.0
+     */
+    public static void write(ChessBoard board, int fullMoves, Appendable out) throws IOException {
+        ChessGame game = board.getGameRules();
+
+        // Writes the pieces, rank by rank
+        for (int row = 0; row < SIZE; row++) {
+            int empty = 0;
+
+            for (int column = 0; column < SIZE; column++) {
+                ChessPiece piece = board.getPiece(row, column);
+
+                if (piece == null)
+                    empty++;
+                else {
+                    if (empty > 0)
+                        out.append((char) ('0' + empty));
+                    empty = 0;
+
+                    char letter = piece.getLabel().charAt(0);
+                    out.append(piece.getSide() == ChessGame.Side.SOUTH ? Character.toUpperCase(letter) : Character.toLowerCase(letter));
+                }
+            }
+
+            if (empty > 0)
+                out.append((char) ('0' + empty));
+            if (row < SIZE - 1)
+                out.append('/');
+        }
+
+        out.append(' ').append(game.getCurrentSide() == ChessGame.Side.SOUTH ? 'w' : 'b').append(' ');
+
+        // Writes the castling rights
+        int rights = getRights(board);
+        if (rights == 0)
+            out.append('-');
+        if ((rights & WHITE_KING_SIDE) != 0)
+            out.append('K');
+        if ((rights & WHITE_QUEEN_SIDE) != 0)
+            out.append('Q');
+        if ((rights & BLACK_KING_SIDE) != 0)
+            out.append('k');
+        if ((rights & BLACK_QUEEN_SIDE) != 0)
+            out.append('q');
+        out.append(' ');
+
+        // Writes the en passant square, behind the pawn of the other side that just moved two squares
+        boolean south = game.getCurrentSide() == ChessGame.Side.NORTH;
+        int pawnRow = south ? SIZE / 2 : SIZE / 2 - 1;
+        ChessPiece pawn = null;
+        for (int column = 0; column < SIZE && pawn == null; column++) {
+            ChessPiece piece = board.getPiece(pawnRow, column);
+            if (piece instanceof PawnPiece && piece.getSide() == (south ? ChessGame.Side.SOUTH : ChessGame.Side.NORTH)
+                    && piece.isJustMoved() && piece.getNumMoves() == 1)
+                pawn = piece;
+        }
+
+        if (pawn != null)
+            out.append((char) ('a' + pawn.getColumn())).append((char) ('0' + SIZE - (south ? pawnRow + 1 : pawnRow - 1)));
+        else
+            out.append('-');
+
+        out.append(' ').append(Integer.toString(game.getFiftyMoveRule())).append(' ').append(Integer.toString(fullMoves));
+    }
+
+    /**
+     * <p>Returns the FEN of a position, such as the position a move history started from.</p>
+     * <p>Castling rights are written for each king and rook of the position that have not moved. The en passant square
+     * is only written when a pawn can capture en passant, since the position only keeps the pawn then.</p>
+     *
+     * @param position  the position, with White as the South side
+     * @param fullMoves the full-move number, which the position does not keep
+     * @return          the FEN
+     * @since 1.0
+     */
+    public static String write(ChessPosition position, int fullMoves) {
+        StringBuilder fen = new StringBuilder(90);
+
+        // Writes the pieces, rank by rank
+        for (int row = 0; row < SIZE; row++) {
+            int empty = 0;
+
+            for (int column = 0; column < SIZE; column++) {
+                byte code = position.getSquare(row, column);
+
+                if (code == ChessPosition.EMPTY)
+                    empty++;
+                else {
+                    if (empty > 0)
+                        fen.append((char) ('0' + empty));
+                    empty = 0;
+
+                    char letter = ChessPosition.getLabel(code).charAt(0);
+                    fen.append(ChessPosition.getSide(code) == ChessGame.Side.SOUTH ? Character.toUpperCase(letter) : Character.toLowerCase(letter));
+                }
+            }
+
+            if (empty > 0)
+                fen.append((char) ('0' + empty));
+            if (row < SIZE - 1)
+                fen.append('/');
+        }
+
+        fen.append(' ').append(position.getPlayer() == ChessGame.Side.SOUTH ? 'w' : 'b').append(' ');
+
+        // Writes the castling rights
+        int length = fen.length();
+        if (position.canCastle(ChessGame.Side.SOUTH, true))
+            fen.append('K');
+        if (position.canCastle(ChessGame.Side.SOUTH, false))
+            fen.append('Q');
+        if (position.canCastle(ChessGame.Side.NORTH, true))
+            fen.append('k');
+        if (position.canCastle(ChessGame.Side.NORTH, false))
+            fen.append('q');
+        if (fen.length() == length)
+            fen.append('-');
+        fen.append(' ');
+
+        // Writes the en passant square, behind the pawn that can be captured
+        int pawn = position.getEnPassant();
+        if (pawn >= 0) {
+            int row = pawn / SIZE + (ChessPosition.getSide(position.getSquare(pawn / SIZE, pawn % SIZE)) == ChessGame.Side.SOUTH ? 1 : -1);
+            fen.append((char) ('a' + pawn % SIZE)).append((char) ('0' + SIZE - row));
+        } else
+            fen.append('-');
+
+        return fen.append(' ').append(position.getFiftyMoveRule()).append(' ').append(fullMoves).toString();
+    }
+
+    /**
+     * <p>Returns a new piece for a letter of a FEN.</p>
+     *
+     * @param board     the chessboard
+     * @param letter    the letter of the piece, upper case for White
+     * @param row       the row of the piece
+     * @param column    the column of the piece
+     * @return          the piece
+     * @throws IllegalArgumentException if the letter is not a piece of Indo-European chess
+     * @since 1.0
+     */
+    private static ChessPiece createPiece(ChessBoard board, char letter, int row, int column) throws IllegalArgumentException {
+        boolean south = Character.isUpperCase(letter);
+        ChessGame.Side side = south ? ChessGame.Side.SOUTH : ChessGame.Side.NORTH;
+
+        switch (Character.toLowerCase(letter)) {
+            case 'k':
+                return new KingPiece(side, board, south ? ChessIcon.WHITE_KING : ChessIcon.BLACK_KING, row, column);
+            case 'q':
+                return new QueenPiece(side, board, south ? ChessIcon.WHITE_QUEEN : ChessIcon.BLACK_QUEEN, row, column);
+            case 'r':
+                return new RookPiece(side, board, south ? ChessIcon.WHITE_ROOK : ChessIcon.BLACK_ROOK, row, column);
+            case 'b':
+                return new BishopPiece(side, board, south ? ChessIcon.WHITE_BISHOP : ChessIcon.BLACK_BISHOP, row, column);
+            case 'n':
+                return new KnightPiece(side, board, south ? ChessIcon.WHITE_KNIGHT : ChessIcon.BLACK_KNIGHT, row, column);
+            case 'p':
+                return new PawnPiece(side, board, south ? ChessIcon.WHITE_PAWN : ChessIcon.BLACK_PAWN, row, column);
+            default:
+                throw new IllegalArgumentException("'" + letter + "' is not a piece of Indo-European chess.");
+        }
+    }
+
+    /**
+     * <p>Sets the number of moves of the kings, rooks, and pawns, so kings and rooks can castle only with the given
+     * rights and only pawns on their starting rank can move two squares.</p>
+     *
+     * @param board     the chessboard
+     * @param rights    the castling rights
+     * @since 1.0
+     */
+    private static void setUpMoves(ChessBoard board, int rights) {
+        for (ChessGame.Side side : ChessGame.Side.values()) {
+            boolean south = side == ChessGame.Side.SOUTH;
+            // Stores the castling rights of the side
+            int kingSide = rights & (south ? WHITE_KING_SIDE : BLACK_KING_SIDE);
+            int queenSide = rights & (south ? WHITE_QUEEN_SIDE : BLACK_QUEEN_SIDE);
+            int homeRow = south ? SIZE - 1 : 0;
+
+            for (ChessPiece piece : board.getPieces(side)) {
+                if (piece instanceof KingPiece)
+                    piece.setNumMoves(kingSide != 0 || queenSide != 0 ? 0 : 1);
+                else if (piece instanceof RookPiece)
+                    piece.setNumMoves(piece.getRow() == homeRow && (piece.getColumn() == SIZE - 1 && kingSide != 0 || piece.getColumn() == 0 && queenSide != 0) ? 0 : 1);
+                else if (piece instanceof PawnPiece)
+                    piece.setNumMoves(piece.getRow() == (south ? SIZE - 2 : 1) ? 0 : 1);
+            }
+        }
+    }
+
+    /**
+     * <p>Marks the pawn that moved past an en passant square as having just moved two squares.</p>
+     *
+     * @param board     the chessboard
+     * @param column    the column of the en passant square
+     * @param row       the row of the en passant square
+     * @param fen       the FEN, for the message of an error
+     * @throws IllegalArgumentException if there is no pawn of the other side in front of the square
+     * @since 1.0
+     */
+    private static void setUpEnPassant(ChessBoard board, int column, int row, CharSequence fen) throws IllegalArgumentException {
+        // Stores the row of the pawn that moved past the square, away from the side that is playing
+        int pawnRow = board.getGameRules().getCurrentSide() == ChessGame.Side.SOUTH ? row + 1 : row - 1;
+        ChessPiece pawn = pawnRow >= 0 && pawnRow < SIZE && column >= 0 && column < SIZE ? board.getPiece(pawnRow, column) : null;
+
+        if (!(pawn instanceof PawnPiece) || pawn.getSide() == board.getGameRules().getCurrentSide())
+            throw error("There is no pawn to capture en passant", fen);
+
+        pawn.setNumMoves(1);
+        pawn.setJustMoved(true);
+    }
+
+    /**
+     * <p>Returns the castling rights of the position on a chessboard.</p>
+     *
+     * @param board the chessboard
+     * @return      the castling rights
+     * @since 1.0
+     */
+    private static int getRights(ChessBoard board) {
+        int rights = 0;
+
+        if (hasNotMoved(board, SIZE - 1, 4, KingPiece.class, ChessGame.Side.SOUTH)) {
+            if (hasNotMoved(board, SIZE - 1, SIZE - 1, RookPiece.class, ChessGame.Side.SOUTH))
+                rights |= WHITE_KING_SIDE;
+            if (hasNotMoved(board, SIZE - 1, 0, RookPiece.class, ChessGame.Side.SOUTH))
+                rights |= WHITE_QUEEN_SIDE;
+        }
+        if (hasNotMoved(board, 0, 4, KingPiece.class, ChessGame.Side.NORTH)) {
+            if (hasNotMoved(board, 0, SIZE - 1, RookPiece.class, ChessGame.Side.NORTH))
+                rights |= BLACK_KING_SIDE;
+            if (hasNotMoved(board, 0, 0, RookPiece.class, ChessGame.Side.NORTH))
+                rights |= BLACK_QUEEN_SIDE;
+        }
+        return rights;
+    }
+
+    /**
+     * <p>Returns a boolean representing if a square has a piece of a kind and side that has not moved.</p>
+     *
+     * @param board     the chessboard
+     * @param row       the row of the square
+     * @param column    the column of the square
+     * @param kind      the class of the piece
+     * @param side      the side of the piece
+     * @return          <code>true</code> if the piece is on the square and has not moved
+     * @since 1.0
+     */
+    private static boolean hasNotMoved(ChessBoard board, int row, int column, Class<? extends ChessPiece> kind, ChessGame.Side side) {
+        ChessPiece piece = board.getPiece(row, column);
+
+        return kind.isInstance(piece) && piece.getSide() == side && piece.getNumMoves() == 0;
+    }
+
+    /**
+     * <p>Returns the index of the first character at or after an index that is not a space.</p>
+     *
+     * @param fen   the FEN
+     * @param i     the index
+     * @return      the index of the first character that is not a space, or the length of the FEN
+     * @since 1.0
+     */
+    private static int skipSpaces(CharSequence fen, int i) {
+        while (i < fen.length() && Character.isWhitespace(fen.charAt(i)))
+            i++;
+        return i;
+    }
+
+    /**
+     * <p>Returns the digit at an index of a FEN.</p>
+     *
+     * @param fen   the FEN
+     * @param i     the index
+     * @return      the digit
+     * @throws IllegalArgumentException if the character is not a digit
+     * @since 1.0
+     */
+    private static int getDigit(CharSequence fen, int i) throws IllegalArgumentException {
+        char c = fen.charAt(i);
+        if (c < '0' || c > '9')
+            throw error("The move counters must be numbers", fen);
+        return c - '0';
+    }
+
+    /**
+     * <p>Returns the error of a FEN that cannot be read.</p>
+     *
+     * @param message   why the FEN cannot be read
+     * @param fen       the FEN
+     * @return          the error
+     * @since 1.0
+     */
+    private static IllegalArgumentException error(String message, CharSequence fen) {
+        return new IllegalArgumentException(message + ": " + fen);
+    }
+    //endregion
+}
@@ -0,0 +1,274 @@
+import java.io.IOException;
+
+/**
+ * <p>Represents the Standard Algebraic Notation (SAN) of moves of Indo-European chess, read against the legal moves
+ * of a position on any {@link ChessBoard}.</p>
+ * <p>A move is named by the letter of its piece (none for a pawn), the file or rank or square it moves from if another
+ * piece of the same kind could also make it, an <code>x</code> for a capture, the square it moves to, and the piece
+ * a pawn is promoted to after an <code>=</code>. Castling is <code>O-O</code> on the king side and
+ * <code>O-O-O</code> on the queen side. White is the South side, as in {@link EuropeanChessFen}.</p>
+ * <p>A move is matched against the moves generated by the rules of the game, so a move that can be read is always
+ * legal. The notation is read one character at a time from a <code>CharSequence</code>, with no regular expressions
+ * and no substrings. A move is written from the same legal moves, which tell if the file or rank it moves from is
+ * needed, so writing the moves of a game needs one pass of move generation for each ply.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class EuropeanChessSan {
+
+    //region FIELDS
+    /**
+     * Stores the number of rows and columns of the chessboard.
+     */
+    private static final int SIZE = 8;
+    //endregion
+
+    //region CONSTRUCTORS
+    /**
+     * <p>Prevents the class of static methods from being created.</p>
+     *
+     * @since 1.0
+     */
+    private EuropeanChessSan() {}
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Returns the legal move of the side that is playing named by a SAN.</p>
+     * <p>Checks, mates, and annotations such as <code>+</code>, <code>#</code>, <code>!</code>, and <code>?</code>
+     * at the end of the move are ignored, as are an <code>x</code> that is not needed and a <code>-</code> between
+     * the squares of a move written in long algebraic notation. Castling can also be written with zeros.</p>
+     *
+     * @param san   the SAN of the move
+     * @param board the chessboard, whose game is a game of Indo-European chess
+     * @return      the move, which has not been made
+     * @throws IllegalArgumentException if the SAN cannot be read, or does not name exactly one legal move
+     * @since 1.0
+     */
+    public static ChessMove read(CharSequence san, ChessBoard board) throws IllegalArgumentException {
+        ChessGame game = board.getGameRules();
+        if (game.getNumRows() != SIZE || game.getNumColumns() != SIZE)
+            throw new IllegalArgumentException("A SAN of Indo-European chess needs an 8 by 8 chessboard.");
+
+        // Leaves out checks and annotations
+        int end = san.length();
+        while (end > 0 && "+#!?".indexOf(san.charAt(end - 1)) >= 0)
+            end--;
+        if (end < 2)
+            throw error("The move is too short", san);
+
+        ChessMove[] moves = board.generateAllMoves();
+
+        int castling = getCastling(san, end);
+        if (castling != 0)
+            return findCastling(moves, castling, san);
+
+        // Reads the piece the pawn is promoted to
+        char promotion = 0;
+        if (end >= 2 && san.charAt(end - 2) == '=') {
+            promotion = san.charAt(end - 1);
+            end -= 2;
+        } else if ("QRBN".indexOf(san.charAt(end - 1)) >= 0 && isFile(san.charAt(0)))
+            promotion = san.charAt(--end);
+        if (promotion != 0 && "QRBN".indexOf(promotion) < 0)
+            throw error("A pawn can only be promoted to Q, R, B, or N", san);
+
+        // Reads the square the piece moves to
+        if (end < 2 || !isFile(san.charAt(end - 2)) || !isRank(san.charAt(end - 1)))
+            throw error("The move must end with the square the piece moves to", san);
+        int row = SIZE - (san.charAt(end - 1) - '0');
+        int column = san.charAt(end - 2) - 'a';
+        end -= 2;
+
+        // Reads the piece, and the file and rank it moves from
+        int i = 0;
+        char label = 'P';
+        if ("KQRBN".indexOf(san.charAt(0)) >= 0)
+            label = san.charAt(i++);
+
+        int fromRow = -1;
+        int fromColumn = -1;
+        for (; i < end; i++) {
+            char c = san.charAt(i);
+
+            if (isFile(c))
+                fromColumn = c - 'a';
+            else if (isRank(c))
+                fromRow = SIZE - (c - '0');
+            else if (c != 'x' && c != ':' && c != '-')
+                throw error("Unexpected character '" + c + "'", san);
+        }
+
+        ChessMove found = null;
+        for (ChessMove move : moves) {
+            ChessPiece piece = move.getPiece();
+
+            if (move.getRow() != row || move.getColumn() != column || piece.getLabel().charAt(0) != label
+                    || (fromRow >= 0 && piece.getRow() != fromRow) || (fromColumn >= 0 && piece.getColumn() != fromColumn))
+                continue;
+            if (move.getPromotion() == null ? promotion != 0 : move.getPromotion().getLabel().charAt(0) != promotion)
+                continue;
+
+            if (found != null)
+                throw error("The move is ambiguous", san);
+            found = move;
+        }
+
+        if (found == null)
+            throw error("The move is not legal", san);
+        return found;
+    }
+
+    /**
+     * <p>Returns the SAN of a legal move, without a check or mate.</p>
+     *
+     * @param move  the move, which has not been made
+     * @param moves the legal moves of the side that is playing, which include the move
+     * @return      the SAN of the move
+     * @since 1.0
+     */
+    public static String write(ChessMove move, ChessMove[] moves) {
+        StringBuilder san = new StringBuilder(8);
+
+        try {
+            write(move, moves, san);
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // A StringBuilder does not throw
+        }
+        return san.toString();
+    }
+
+    /**
+     * <p>Writes the SAN of a legal move, without a check or mate.</p>
+     * <p>The file the piece moves from is written if another piece of the same kind can move to the same square, then
+     * the rank if that piece is on the same file, then both if pieces on both the same file and the same rank can.</p>
+     *
+     * @param move  the move, which has not been made
+     * @param moves the legal moves of the side that is playing, which include the move
+     * @param out   the output the SAN is appended to
+     * @throws IOException if the output cannot be written
+     * @since 1.0
+     */
+    public static void write(ChessMove move, ChessMove[] moves, Appendable out) throws IOException {
+        ChessPiece piece = move.getPiece();
+        int row = move.getRow();
+        int column = move.getColumn();
+        boolean capture = piece.getChessBoard().getPiece(row, column) != null;
+
+        if (piece instanceof KingPiece && Math.abs(column - piece.getColumn()) == 2) {
+            out.append(column > piece.getColumn() ? "O-O" : "O-O-O");
+            return;
+        }
+
+        if (piece instanceof PawnPiece) {
+            // A pawn that changes file captures, even en passant onto an empty square
+            if (column != piece.getColumn())
+                out.append((char) ('a' + piece.getColumn())).append('x');
+        } else {
+            out.append(piece.getLabel().charAt(0));
+
+            // Finds the other pieces of the same kind that can move to the same square
+            boolean ambiguous = false;
+            boolean sameFile = false;
+            boolean sameRank = false;
+            for (ChessMove other : moves) {
+                ChessPiece otherPiece = other.getPiece();
+
+                if (otherPiece != piece && other.getRow() == row && other.getColumn() == column
+                        && otherPiece.getLabel().equals(piece.getLabel())) {
+                    ambiguous = true;
+                    sameFile |= otherPiece.getColumn() == piece.getColumn();
+                    sameRank |= otherPiece.getRow() == piece.getRow();
+                }
+            }
+
+            if (ambiguous && (!sameFile || sameRank))
+                out.append((char) ('a' + piece.getColumn()));
+            if (sameFile)
+                out.append((char) ('0' + SIZE - piece.getRow()));
+            if (capture)
+                out.append('x');
+        }
+
+        out.append((char) ('a' + column)).append((char) ('0' + SIZE - row));
+        if (move.getPromotion() != null)
+            out.append('=').append(move.getPromotion().getLabel().charAt(0));
+    }
+
+    /**
+     * <p>Returns which way a SAN castles.</p>
+     *
+     * @param san   the SAN of the move
+     * @param end   the index after the last character of the move, leaving out checks and annotations
+     * @return      2 for the king side, 3 for the queen side, or 0 if the move does not castle
+     * @since 1.0
+     */
+    private static int getCastling(CharSequence san, int end) {
+        if (end != 3 && end != 5)
+            return 0;
+
+        for (int i = 0; i < end; i++) {
+            char c = san.charAt(i);
+            if (i % 2 == 0 ? c != 'O' && c != '0' : c != '-')
+                return 0;
+        }
+        return end / 2 + 1;
+    }
+
+    /**
+     * <p>Returns the legal move of the king that castles one way.</p>
+     *
+     * @param moves     the legal moves of the side that is playing
+     * @param castling  2 for the king side, or 3 for the queen side
+     * @param san       the SAN of the move
+     * @return          the move of the king
+     * @throws IllegalArgumentException if the king cannot castle that way
+     * @since 1.0
+     */
+    private static ChessMove findCastling(ChessMove[] moves, int castling, CharSequence san) throws IllegalArgumentException {
+        for (ChessMove move : moves) {
+            ChessPiece piece = move.getPiece();
+
+            if (piece instanceof KingPiece && move.getRow() == piece.getRow()
+                    && move.getColumn() - piece.getColumn() == (castling == 2 ? 2 : -2))
+                return move;
+        }
+        throw error("The king cannot castle", san);
+    }
+
+    /**
+     * <p>Returns if a character is the letter of a file.</p>
+     *
+     * @param c the character
+     * @return  if the character is from <code>a</code> to <code>h</code>
+     * @since 1.0
+     */
+    private static boolean isFile(char c) {
+        return c >= 'a' && c < 'a' + SIZE;
+    }
+
+    /**
+     * <p>Returns if a character is the digit of a rank.</p>
+     *
+     * @param c the character
+     * @return  if the character is from <code>1</code> to <code>8</code>
+     * @since 1.0
+     */
+    private static boolean isRank(char c) {
+        return c >= '1' && c < '1' + SIZE;
+    }
+
+    /**
+     * <p>Returns the error of a SAN that cannot be read.</p>
+     *
+     * @param message   why the SAN cannot be read
+     * @param san       the SAN
+     * @return          the error
+     * @since 1.0
+     */
+    private static IllegalArgumentException error(String message, CharSequence san) {
+        return new IllegalArgumentException(message + ": " + san);
+    }
+    //endregion
+}
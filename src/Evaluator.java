@@ -0,0 +1,19 @@
+/**
+ * <p>Represents a way to score a position for a search.</p>
+ * <p>Scores are from the point of view of the side that is playing, so a search can negate the score of the position
+ * after a move to score the move.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public interface Evaluator {
+    /**
+     * <p>Returns the score of the position on the chessboard for the side that is playing.</p>
+     *
+     * @param game  the rules of the game
+     * @param board the chessboard
+     * @return      the score of the position, in hundredths of a pawn
+     * @since 1.0
+     */
+    int evaluate(ChessGame game, ChessBoard board);
+}
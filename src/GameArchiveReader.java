@@ -0,0 +1,296 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+
+/**
+ * <p>Represents the reader of a binary archive of games written by {@link GameArchiveWriter}, which finds any game
+ * through the index of the archive and replays it onto a {@link BasicChessBoard}.</p>
+ * <p>The index is memory-mapped, so opening an archive of millions of games reads only its last bytes, and a game is
+ * read with one positional read of the <code>FileChannel</code> from its offset to the offset of the next game.
+ * Positional reads do not move the position of the channel, so games can be read by many threads at once.</p>
+ * <pre>
+ * java GameArchiveReader games.cga [game]
+ * </pre>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class GameArchiveReader implements Closeable {
+
+    //region FIELDS
+    /**
+     * Stores the file of the archive.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Stores the mapped index of the archive, the offset of each game in 8 bytes.
+     */
+    private final MappedByteBuffer index;
+
+    /**
+     * Stores the offset of the index, which is where the last game ends.
+     */
+    private final long indexOffset;
+
+    /**
+     * Stores the number of games.
+     */
+    private final int size;
+    //endregion
+
+    //region CONSTRUCTORS
+    /**
+     * <p>Opens an archive and maps its index.</p>
+     *
+     * @param file  the file of the archive
+     * @throws IOException if the file cannot be read, or is not a closed archive
+     * @since 1.0
+     */
+    public GameArchiveReader(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+
+        try {
+            long fileSize = channel.size();
+            if (fileSize < Integer.BYTES + GameArchiveWriter.TRAILER_SIZE || readBytes(0, Integer.BYTES).getInt() != GameArchiveWriter.MAGIC)
+                throw new IOException(file + " is not an archive of games.");
+
+            ByteBuffer trailer = readBytes(fileSize - GameArchiveWriter.TRAILER_SIZE, GameArchiveWriter.TRAILER_SIZE);
+            indexOffset = trailer.getLong();
+            size = trailer.getInt();
+            if (trailer.getInt() != GameArchiveWriter.MAGIC || size < 0
+                    || indexOffset + (long) Long.BYTES * size != fileSize - GameArchiveWriter.TRAILER_SIZE)
+                throw new IOException(file + " was not closed after it was written.");
+
+            index = channel.map(FileChannel.MapMode.READ_ONLY, indexOffset, (long) Long.BYTES * size);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Reads an archive from the command line. Given the number of a game, from 0, it writes the game as PGN;
+     * otherwise it replays every game and writes how many games and plies are replayed each second.</p>
+     *
+     * @param args  the archive, and the number of a game
+     * @since 1.0
+     */
+    public static void main(String[] args) {
+        // Makes sure no piece icon loads its image
+        System.setProperty("java.awt.headless", "true");
+
+        if (args.length < 1) {
+            System.err.println("Usage: java GameArchiveReader games.cga [game]");
+            System.exit(2);
+        }
+
+        try (GameArchiveReader reader = new GameArchiveReader(Paths.get(args[0]))) {
+            if (args.length >= 2) {
+                Game game = reader.read(Integer.parseInt(args[1]));
+                Writer out = new OutputStreamWriter(System.out, StandardCharsets.UTF_8);
+                PgnWriter.write(game.getMoveHistory(), Collections.singletonMap("Result", game.getResult()), out);
+                out.flush();
+                return;
+            }
+
+            long plies = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < reader.size(); i++) {
+                Game game = reader.read(i);
+                game.replay();
+                plies += game.getMoveHistory().size();
+            }
+
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.println(reader.size() + " games, " + plies + " plies replayed");
+            System.out.printf("%.0f games per second, %.0f plies per second%n", reader.size() / seconds, plies / seconds);
+        } catch (IOException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+        }
+    }
+
+    /**
+     * <p>Returns the number of games of the archive.</p>
+     *
+     * @return  the number of games
+     * @since 1.0
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * <p>Returns the offset of a game in the file.</p>
+     *
+     * @param number    the number of the game, from 0
+     * @return          the offset of the game
+     * @throws IndexOutOfBoundsException if there is no game of the number
+     * @since 1.0
+     */
+    public long getOffset(int number) throws IndexOutOfBoundsException {
+        if (number < 0 || number >= size)
+            throw new IndexOutOfBoundsException("There is no game " + number + " of " + size + ".");
+        return index.getLong(number * Long.BYTES);
+    }
+
+    /**
+     * <p>Reads a game.</p>
+     *
+     * @param number    the number of the game, from 0
+     * @return          the game
+     * @throws IOException if the file cannot be read, or the game is not whole
+     * @throws IndexOutOfBoundsException if there is no game of the number
+     * @since 1.0
+     */
+    public Game read(int number) throws IOException, IndexOutOfBoundsException {
+        long offset = getOffset(number);
+        long end = number + 1 < size ? getOffset(number + 1) : indexOffset;
+        ByteBuffer bytes = readBytes(offset, (int) (end - offset));
+
+        try {
+            boolean xiangqi = bytes.get() == GameArchiveWriter.XIANGQI;
+            int result = bytes.get();
+            byte[] fen = new byte[bytes.getShort() & 0xFFFF];
+            bytes.get(fen);
+            int plies = bytes.getInt();
+            if (result < 0 || result >= GameArchiveWriter.RESULTS.length || plies != bytes.remaining() / Short.BYTES)
+                throw new IOException("Game " + number + " is not whole.");
+
+            MoveHistory history = new MoveHistory(xiangqi);
+            history.reset(fen.length > 0 ? new String(fen, StandardCharsets.US_ASCII) : xiangqi ? XiangqiFen.START : EuropeanChessFen.START);
+            for (int ply = 0; ply < plies; ply++)
+                history.add(bytes.getShort() & 0xFFFF);
+
+            return new Game(number, GameArchiveWriter.RESULTS[result], history);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Game " + number + " is not whole.");
+        }
+    }
+
+    /**
+     * <p>Closes the file.</p>
+     *
+     * @throws IOException if the file cannot be closed
+     * @since 1.0
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * <p>Reads bytes of the file from an offset, without moving the position of the channel.</p>
+     *
+     * @param offset    the offset of the first byte
+     * @param length    the number of bytes
+     * @return          the bytes, ready to be read
+     * @throws IOException if the file cannot be read, or ends before the bytes do
+     * @since 1.0
+     */
+    private ByteBuffer readBytes(long offset, int length) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(length);
+
+        while (bytes.hasRemaining()) {
+            if (channel.read(bytes, offset + bytes.position()) < 0)
+                throw new IOException("The archive ends at byte " + (offset + bytes.position()) + ".");
+        }
+        bytes.flip();
+        return bytes;
+    }
+    //endregion
+
+    //region NESTED TYPES
+    /**
+     * <p>Represents a game read from an archive.</p>
+     *
+     * @author Nobel Zhou (nxz157)
+     * @version 1.0, 10/17/2026
+     */
+    public static class Game {
+        /**
+         * Stores the number of the game in the archive, from 0.
+         */
+        private final int number;
+
+        /**
+         * Stores the result of the game.
+         */
+        private final String result;
+
+        /**
+         * Stores the moves of the game, from the position it started from.
+         */
+        private final MoveHistory history;
+
+        /**
+         * <p>Creates a game read from an archive.</p>
+         *
+         * @param number    the number of the game in the archive
+         * @param result    the result of the game
+         * @param history   the moves of the game
+         * @since 1.0
+         */
+        private Game(int number, String result, MoveHistory history) {
+            this.number = number;
+            this.result = result;
+            this.history = history;
+        }
+
+        /**
+         * <p>Returns the number of the game in the archive.</p>
+         *
+         * @return  the number of the game, from 0
+         * @since 1.0
+         */
+        public int getNumber() {
+            return number;
+        }
+
+        /**
+         * <p>Returns the result of the game.</p>
+         *
+         * @return  <code>1-0</code>, <code>0-1</code>, <code>1/2-1/2</code>, or <code>*</code>
+         * @since 1.0
+         */
+        public String getResult() {
+            return result;
+        }
+
+        /**
+         * <p>Returns the moves of the game.</p>
+         *
+         * @return  the history of the game
+         * @since 1.0
+         */
+        public MoveHistory getMoveHistory() {
+            return history;
+        }
+
+        /**
+         * <p>Returns a new chessboard with the position at the end of the game, replayed through the rules of the
+         * game.</p>
+         *
+         * @return  the chessboard
+         * @throws IllegalArgumentException if the starting FEN cannot be read, or a move is not legal
+         * @since 1.0
+         */
+        public BasicChessBoard replay() throws IllegalArgumentException {
+            return history.replay();
+        }
+    }
+    //endregion
+}
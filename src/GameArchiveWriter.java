@@ -0,0 +1,252 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * <p>Represents the writer of a binary archive of games of Indo-European chess and Xiangqi, which keeps each move in 2
+ * bytes and can be read back one game at a time by {@link GameArchiveReader}.</p>
+ * <p>The archive starts with {@link #MAGIC}. Each game follows, starting with a header of its variant and result in a
+ * byte each, the length of its starting FEN in 2 bytes and the FEN itself, which are left out for the starting
+ * position, and its number of plies in 4 bytes. The 16-bit codes of its moves follow the header, as kept by
+ * {@link MoveHistory}. The archive ends with an index of the offset of each game in 8 bytes, then the offset of the
+ * index, the number of games, and {@link #MAGIC} again. Numbers are big-endian.</p>
+ * <p>Games are written through a buffer to a <code>FileChannel</code>, and the index is kept in memory and written
+ * when the writer is closed, so an archive that was not closed cannot be read.</p>
+ * <pre>
+ * java GameArchiveWriter games.pgn games.cga [threads]
+ * </pre>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class GameArchiveWriter implements Closeable {
+
+    //region FIELDS
+    /**
+     * Stores the number at the start and the end of an archive, which spells <code>CGA1</code>.
+     */
+    public static final int MAGIC = 0x43474131;
+
+    /**
+     * Stores the number of bytes at the end of an archive after its index: the offset of the index, the number of
+     * games, and the magic number.
+     */
+    public static final int TRAILER_SIZE = 16;
+
+    /**
+     * Stores the variant of a game of Indo-European chess.
+     */
+    public static final byte EUROPEAN_CHESS = 0;
+
+    /**
+     * Stores the variant of a game of Xiangqi.
+     */
+    public static final byte XIANGQI = 1;
+
+    /**
+     * Stores the results of a game, in the order of their codes.
+     */
+    public static final String[] RESULTS = {"*", "1-0", "0-1", "1/2-1/2"};
+
+    /**
+     * Stores the size of the buffer of the writer, in bytes.
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Stores the file of the archive.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Stores the bytes that have not been written to the file yet.
+     */
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    /**
+     * Stores the offset of each game, grown as needed.
+     */
+    private long[] offsets = new long[1024];
+
+    /**
+     * Stores the number of games.
+     */
+    private int size;
+
+    /**
+     * Stores the offset of the next byte written to the buffer.
+     */
+    private long position;
+    //endregion
+
+    //region CONSTRUCTORS
+    /**
+     * <p>Creates a writer of a new archive, replacing the file if it exists.</p>
+     *
+     * @param file  the file of the archive
+     * @throws IOException if the file cannot be created
+     * @since 1.0
+     */
+    public GameArchiveWriter(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        buffer.putInt(MAGIC);
+        position = Integer.BYTES;
+    }
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Converts the games of a PGN file into an archive from the command line. Games whose moves could not all be
+     * replayed are left out.</p>
+     *
+     * @param args  the PGN file, the archive, and the number of threads that read the PGN file
+     * @since 1.0
+     */
+    public static void main(String[] args) {
+        // Makes sure no piece icon loads its image
+        System.setProperty("java.awt.headless", "true");
+
+        if (args.length < 2) {
+            System.err.println("Usage: java GameArchiveWriter games.pgn games.cga [threads]");
+            System.exit(2);
+        }
+
+        // Stores the number of games that were left out
+        int[] skipped = new int[1];
+        long start = System.nanoTime();
+
+        try (GameArchiveWriter writer = new GameArchiveWriter(Paths.get(args[1]))) {
+            int threads = args.length >= 3 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+            PgnReader.read(Paths.get(args[0]), threads, game -> {
+                try {
+                    if (game.isValid())
+                        writer.write(game.getMoveHistory(), game.getResult());
+                    else
+                        skipped[0]++;
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            System.out.println(writer.size() + " games written, " + skipped[0] + " with errors left out");
+            System.out.printf("%.1f s%n", (System.nanoTime() - start) / 1e9);
+        } catch (IOException | IllegalArgumentException | IllegalStateException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+        }
+    }
+
+    /**
+     * <p>Writes the moves made in a game since its position was set up.</p>
+     *
+     * @param game      the rules of the game
+     * @param result    the result of the game: <code>1-0</code>, <code>0-1</code>, <code>1/2-1/2</code>, or
+     *                  <code>*</code>
+     * @throws IOException if the file cannot be written
+     * @since 1.0
+     */
+    public void write(ChessGame game, String result) throws IOException {
+        write(game.getMoveHistory(), result);
+    }
+
+    /**
+     * <p>Writes the moves of a history.</p>
+     *
+     * @param history   the history of the game
+     * @param result    the result of the game: <code>1-0</code>, <code>0-1</code>, <code>1/2-1/2</code>, or
+     *                  <code>*</code>, which is also written for any other result
+     * @throws IOException if the file cannot be written
+     * @since 1.0
+     */
+    public void write(MoveHistory history, String result) throws IOException {
+        String fen = history.getStartingFen();
+        byte[] fenBytes = fen == null || fen.equals(history.isXiangqi() ? XiangqiFen.START : EuropeanChessFen.START)
+                ? new byte[0] : fen.getBytes(StandardCharsets.US_ASCII);
+
+        if (size == offsets.length)
+            offsets = Arrays.copyOf(offsets, size * 2);
+        offsets[size++] = position;
+
+        // Writes the header
+        ensure(8 + fenBytes.length);
+        buffer.put(history.isXiangqi() ? XIANGQI : EUROPEAN_CHESS);
+        buffer.put((byte) Math.max(Arrays.asList(RESULTS).indexOf(result), 0));
+        buffer.putShort((short) fenBytes.length);
+        buffer.put(fenBytes);
+        buffer.putInt(history.size());
+        position += 8 + fenBytes.length;
+
+        // Writes the moves
+        for (int ply = 0; ply < history.size(); ply++) {
+            ensure(Short.BYTES);
+            buffer.putShort((short) history.getCode(ply));
+        }
+        position += (long) Short.BYTES * history.size();
+    }
+
+    /**
+     * <p>Returns the number of games written.</p>
+     *
+     * @return  the number of games
+     * @since 1.0
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * <p>Writes the index and closes the file.</p>
+     *
+     * @throws IOException if the file cannot be written
+     * @since 1.0
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            long indexOffset = position;
+            for (int i = 0; i < size; i++) {
+                ensure(Long.BYTES);
+                buffer.putLong(offsets[i]);
+            }
+
+            ensure(TRAILER_SIZE);
+            buffer.putLong(indexOffset).putInt(size).putInt(MAGIC);
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * <p>Makes sure the buffer has room for a number of bytes, writing it to the file if it does not.</p>
+     *
+     * @param bytes the number of bytes, which is at most the size of the buffer
+     * @throws IOException if the file cannot be written
+     * @since 1.0
+     */
+    private void ensure(int bytes) throws IOException {
+        if (buffer.remaining() < bytes)
+            flush();
+    }
+
+    /**
+     * <p>Writes the buffer to the file and empties it.</p>
+     *
+     * @throws IOException if the file cannot be written
+     * @since 1.0
+     */
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+        buffer.clear();
+    }
+    //endregion
+}
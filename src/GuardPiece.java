@@ -3,7 +3,7 @@
  * <p>Dictates how a guard can move.</p>
  *
  * @author Nobel Zhou
- * @version 1.0, 12/4/20
+ * @version 3.0, 10/17/26
  */
 public class GuardPiece extends ChessPiece implements CanSingleDiagonalMove, CanPalaceMove {
 
@@ -24,6 +24,18 @@ public class GuardPiece extends ChessPiece implements CanSingleDiagonalMove, Can
     //endregion
 
     //region METHODS
+    /**
+     * <p>Creates a guard piece of the same side, icon, and location on another chessboard.</p>
+     *
+     * @param chessBoard    the chessboard of the new guard piece
+     * @return              the new guard piece
+     * @since 3.0
+     */
+    @Override
+    protected ChessPiece createPiece(ChessBoard chessBoard) {
+        return new GuardPiece(getSide(), chessBoard, (ChessIcon) getIcon(), getRow(), getColumn());
+    }
+
     /**
      * <p>Returns a boolean representing if the proposed move is legal, assuming that it is unoccupied.</p>
      *
@@ -49,5 +61,29 @@ public class GuardPiece extends ChessPiece implements CanSingleDiagonalMove, Can
     public boolean isLegalCaptureMove(int row, int column) {
         return isLegalNonCaptureMove(row, column);
     }
+
+    /**
+     * <p>Adds the squares the guard piece can capture on to a list of squares.</p>
+     * <p>Only the adjacent squares are checked.</p>
+     *
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    @Override
+    public void addCaptureSquares(SquareList squares) {
+        addCaptureSquares(SINGLE_ROW_OFFSETS, SINGLE_COLUMN_OFFSETS, squares);
+    }
+
+    /**
+     * <p>Adds the squares the guard piece can move to to a list of squares.</p>
+     * <p>Only the adjacent squares are checked.</p>
+     *
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    @Override
+    public void addMoveSquares(SquareList squares) {
+        addMoveSquares(SINGLE_ROW_OFFSETS, SINGLE_COLUMN_OFFSETS, squares);
+    }
     //endregion
 }
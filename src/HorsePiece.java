@@ -3,7 +3,7 @@
  * <p>Dictates how a horse can move.</p>
  *
  * @author Nobel Zhou
- * @version 1.0, 12/4/20
+ * @version 3.0, 10/17/26
  */
 public class HorsePiece extends ChessPiece implements CanHorseMove {
 
@@ -24,6 +24,18 @@ public class HorsePiece extends ChessPiece implements CanHorseMove {
     //endregion
 
     //region METHODS
+    /**
+     * <p>Creates a horse piece of the same side, icon, and location on another chessboard.</p>
+     *
+     * @param chessBoard    the chessboard of the new horse piece
+     * @return              the new horse piece
+     * @since 3.0
+     */
+    @Override
+    protected ChessPiece createPiece(ChessBoard chessBoard) {
+        return new HorsePiece(getSide(), chessBoard, (ChessIcon) getIcon(), getRow(), getColumn());
+    }
+
     /**
      * <p>Returns a boolean representing if the proposed move is legal, assuming that it is unoccupied.</p>
      *
@@ -49,5 +61,43 @@ public class HorsePiece extends ChessPiece implements CanHorseMove {
     public boolean isLegalCaptureMove(int row, int column) {
         return isLegalNonCaptureMove(row, column);
     }
+
+    /**
+     * <p>Adds the squares the horse piece can capture on to a list of squares.</p>
+     * <p>Only the squares an L move away are checked.</p>
+     *
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    @Override
+    public void addCaptureSquares(SquareList squares) {
+        addCaptureSquares(L_ROW_OFFSETS, L_COLUMN_OFFSETS, squares);
+    }
+
+    /**
+     * <p>Adds the squares the horse piece can move to to a list of squares.</p>
+     * <p>Only the squares an L move away are checked.</p>
+     *
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    @Override
+    public void addMoveSquares(SquareList squares) {
+        addMoveSquares(L_ROW_OFFSETS, L_COLUMN_OFFSETS, squares);
+    }
+
+    /**
+     * <p>Adds the squares that must be empty for the horse piece to capture on a square to a list of squares.</p>
+     * <p>This is the leg of the horse piece, if the square is a move away.</p>
+     *
+     * @param row       the row of the square
+     * @param column    the column of the square
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    @Override
+    public void addLegSquares(int row, int column, SquareList squares) {
+        addHorseLegSquares(row, column, this, squares);
+    }
     //endregion
 }
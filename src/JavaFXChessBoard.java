@@ -20,7 +20,7 @@ import javafx.stage.Stage;
  * game should be played.</p>
  *
  * @author Nobel Zhou (nxz157)
- * @version 1.0, 12/4/2020
+ * @version 3.0, 10/17/2026
  */
 public class JavaFXChessBoard extends Application implements ChessBoard {
 
@@ -35,6 +35,16 @@ public class JavaFXChessBoard extends Application implements ChessBoard {
      */
     private ChessPiece[][] pieces;
 
+    /**
+     * Stores the pieces of each side of the JavaFX chessboard.
+     */
+    private PieceList pieceList;
+
+    /**
+     * Stores the number of attackers of each square of the JavaFX chessboard.
+     */
+    private AttackMap attackMap;
+
     /**
      * Stores the rules for the JavaFX chessboard.
      */
@@ -97,6 +107,8 @@ public class JavaFXChessBoard extends Application implements ChessBoard {
                     // Setup squares and pieces
                     squares = new Button[gameRules.getNumRows()][gameRules.getNumColumns()];
                     pieces = new ChessPiece[gameRules.getNumRows()][gameRules.getNumColumns()];
+                    pieceList = new PieceList(gameRules.getNumRows(), gameRules.getNumColumns());
+                    attackMap = new AttackMap(gameRules.getNumRows(), gameRules.getNumColumns());
                     break;
                 case "xiangqi":
                     // Setup display and game rules
@@ -106,6 +118,8 @@ public class JavaFXChessBoard extends Application implements ChessBoard {
                     // Setup squares and pieces
                     squares = new Button[gameRules.getNumRows()][gameRules.getNumColumns()];
                     pieces = new ChessPiece[gameRules.getNumRows()][gameRules.getNumColumns()];
+                    pieceList = new PieceList(gameRules.getNumRows(), gameRules.getNumColumns());
+                    attackMap = new AttackMap(gameRules.getNumRows(), gameRules.getNumColumns());
                     break;
                 default:
                     throw new IllegalArgumentException();
@@ -315,8 +329,14 @@ public class JavaFXChessBoard extends Application implements ChessBoard {
      */
     @Override
     public void simulateAddPiece(ChessPiece piece, int row, int column) {
+        // Takes the piece being replaced, if any, out of the piece lists
+        if (pieces[row][column] != null)
+            pieceList.remove(pieces[row][column], row, column);
+
         pieces[row][column] = piece;
+        pieceList.add(piece, row, column);
         piece.setLocation(row, column);
+        attackMap.add(piece, row, column);
     }
 
     /**
@@ -353,6 +373,10 @@ public class JavaFXChessBoard extends Application implements ChessBoard {
     public ChessPiece simulateRemovePiece(int row, int column) {
         ChessPiece save = pieces[row][column];
         pieces[row][column] = null;
+        if (save != null) {
+            pieceList.remove(save, row, column);
+            attackMap.remove(row, column);
+        }
         return save;
     }
 
@@ -381,20 +405,85 @@ public class JavaFXChessBoard extends Application implements ChessBoard {
     }
 
     /**
-     * <p>Generates a <code>ChessPosition</code> object for the chessboard position.</p>
+     * <p>Returns an array of the <code>ChessPiece</code>s of the given side that are on the chessboard.</p>
+     * <p>The array is a copy, so the chessboard can be changed while iterating it.</p>
      *
-     * @return the <code>ChessPosition</code> for the chessboard
-     * @since 1.0
+     * @param side  the side of the pieces
+     * @return      the pieces of the side
+     * @since 3.0
      */
     @Override
-    public ChessPosition generateChessPosition() {
-        // Clones the pieces to put into a ChessPosition
-        ChessPiece[][] chessPieces = pieces.clone();
-        for (int i = 0; i < chessPieces.length; i++) {
-            chessPieces[i] = chessPieces[i].clone();
-        }
+    public ChessPiece[] getPieces(ChessGame.Side side) {
+        return pieceList.getPieces(side);
+    }
+
+    /**
+     * <p>Returns the number of pieces of the given side that are on the chessboard.</p>
+     *
+     * @param side  the side of the pieces
+     * @return      the number of pieces of the side
+     * @since 3.0
+     */
+    @Override
+    public int getNumPieces(ChessGame.Side side) {
+        return pieceList.size(side);
+    }
 
-        return new ChessPosition(chessPieces, getGameRules().getCurrentSide());
+    /**
+     * <p>Returns a piece of the given side by its index in the piece list of the side, without copying the list.</p>
+     *
+     * @param side  the side of the piece
+     * @param index the index of the piece
+     * @return      the piece
+     * @throws IndexOutOfBoundsException if the side has no piece at the index
+     * @since 3.0
+     */
+    @Override
+    public ChessPiece getPiece(ChessGame.Side side, int index) throws IndexOutOfBoundsException {
+        return pieceList.get(side, index);
+    }
+
+    /**
+     * <p>Returns a <code>ChessPiece</code> that represents the central piece of the game, based on the passed in
+     * piece's side.</p>
+     *
+     * @param piece a piece of the game that has the same side as the central piece
+     * @return      the central piece of the same side
+     * @since 3.0
+     */
+    @Override
+    public CenterPiece getCentralPiece(ChessPiece piece) {
+        return pieceList.getCenterPiece(piece.getSide());
+    }
+
+    /**
+     * <p>Checks if the <code>ChessPiece</code> in question is threatened by any of the chess pieces of the
+     * opposing side.</p>
+     * <p>The attack counts of the square are looked up from the attack map.</p>
+     *
+     * @param row       the row of the chessboard
+     * @param column    the column of the chessboard
+     * @param piece     the chess piece that is possibly threatened
+     * @return          <code>true</code> if the chess piece is threatened by the opposing side's pieces
+     */
+    @Override
+    public boolean squareThreatened(int row, int column, ChessPiece piece) {
+        return attackMap.isThreatened(row, column, piece.getSide());
+    }
+
+    /**
+     * <p>Returns the number of pieces of the given side that can capture on a square, whether it is occupied or
+     * not.</p>
+     *
+     * @param side      the side of the attacking pieces
+     * @param row       the row of the chessboard
+     * @param column    the column of the chessboard
+     * @return          the number of pieces of the side attacking the square
+     * @since 3.0
+     */
+    @Override
+    public int getAttackCount(ChessGame.Side side, int row, int column) {
+        return attackMap.getAttackCount(side, row, column);
     }
 
     /**
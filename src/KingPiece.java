@@ -5,7 +5,7 @@ import java.util.ArrayList;
  * <p>Dictates how a king can move.</p>
  *
  * @author Nobel Zhou
- * @version 1.0, 12/2/20
+ * @version 3.0, 10/17/26
  */
 public class KingPiece extends CenterPiece implements CanSingleMove, CanCastleMove {
 
@@ -26,6 +26,18 @@ public class KingPiece extends CenterPiece implements CanSingleMove, CanCastleMo
     //endregion
 
     //region METHODS
+    /**
+     * <p>Creates a king piece of the same side, icon, and location on another chessboard.</p>
+     *
+     * @param chessBoard    the chessboard of the new king piece
+     * @return              the new king piece
+     * @since 3.0
+     */
+    @Override
+    protected ChessPiece createPiece(ChessBoard chessBoard) {
+        return new KingPiece(getSide(), chessBoard, (ChessIcon) getIcon(), getRow(), getColumn());
+    }
+
     /**
      * <p>Returns a boolean representing if the king piece's proposed move is legal or not.</p>
      *
@@ -66,6 +78,31 @@ public class KingPiece extends CenterPiece implements CanSingleMove, CanCastleMo
         return isValidSingleMove(row, column, this);
     }
 
+    /**
+     * <p>Adds the squares the king piece can capture on to a list of squares.</p>
+     * <p>Only the adjacent squares are checked.</p>
+     *
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    @Override
+    public void addCaptureSquares(SquareList squares) {
+        addCaptureSquares(SINGLE_ROW_OFFSETS, SINGLE_COLUMN_OFFSETS, squares);
+    }
+
+    /**
+     * <p>Adds the squares the king piece can move to to a list of squares.</p>
+     * <p>Only the adjacent squares and the castling squares are checked.</p>
+     *
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    @Override
+    public void addMoveSquares(SquareList squares) {
+        addMoveSquares(SINGLE_ROW_OFFSETS, SINGLE_COLUMN_OFFSETS, squares);
+        addMoveSquares(CASTLING_ROW_OFFSETS, CASTLING_COLUMN_OFFSETS, squares);
+    }
+
     /**
      * <p>Returns an array of <code>ChessPiece.ProposedMove</code> objects that shows how to move the king pieces.</p>
      * <p>Will always return at least 1 <code>ChessPiece.ProposedMove</code>, but in the case of moves that require 2 or more pieces,
@@ -117,14 +154,13 @@ public class KingPiece extends CenterPiece implements CanSingleMove, CanCastleMo
         // Stores all the opposing kings; note that since we don't know how many opposing kings there are, we have to use an ArrayList
         ArrayList<KingPiece> opposingKings = new ArrayList<>();
 
-        // Iterates the chess board to look for the opposite side king piece
-        for (int i = 0; i < getChessBoard().getGameRules().getNumRows(); i++) {
-            for (int j = 0; j < getChessBoard().getGameRules().getNumColumns(); j++) {
-                // Looks for opposite side king piece
-                try {
-                    if (!getChessBoard().getPiece(i, j).getSide().equals(getSide()))
-                        opposingKings.add((KingPiece) getChessBoard().getPiece(i, j));
-                } catch (Exception ignored) {} // Not a KingPiece or piece does not exist at that location; continue searching
+        // Iterates the pieces of every opposing side to look for their king pieces
+        for (ChessGame.Side side : ChessGame.Side.values()) {
+            if (side != getSide()) {
+                for (ChessPiece piece : getChessBoard().getPieces(side)) {
+                    if (piece instanceof KingPiece)
+                        opposingKings.add((KingPiece) piece);
+                }
             }
         }
 
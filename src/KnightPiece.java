@@ -3,7 +3,7 @@
  * <p>Dictates how a knight can move.</p>
  *
  * @author Nobel Zhou
- * @version 1.0, 10/30/20
+ * @version 3.0, 10/17/26
  */
 public class KnightPiece extends ChessPiece implements CanLMove, Promotable {
 
@@ -24,6 +24,18 @@ public class KnightPiece extends ChessPiece implements CanLMove, Promotable {
     //endregion
 
     //region METHODS
+    /**
+     * <p>Creates a knight piece of the same side, icon, and location on another chessboard.</p>
+     *
+     * @param chessBoard    the chessboard of the new knight piece
+     * @return              the new knight piece
+     * @since 3.0
+     */
+    @Override
+    protected ChessPiece createPiece(ChessBoard chessBoard) {
+        return new KnightPiece(getSide(), chessBoard, (ChessIcon) getIcon(), getRow(), getColumn());
+    }
+
     /**
      * <p>Returns a boolean representing if the proposed move is legal, assuming that it is unoccupied.</p>
      *
@@ -49,5 +61,29 @@ public class KnightPiece extends ChessPiece implements CanLMove, Promotable {
     public boolean isLegalCaptureMove(int row, int column) {
         return isValidLMove(row, column, this);
     }
+
+    /**
+     * <p>Adds the squares the knight piece can capture on to a list of squares.</p>
+     * <p>Only the squares an L move away are checked.</p>
+     *
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    @Override
+    public void addCaptureSquares(SquareList squares) {
+        addCaptureSquares(L_ROW_OFFSETS, L_COLUMN_OFFSETS, squares);
+    }
+
+    /**
+     * <p>Adds the squares the knight piece can move to to a list of squares.</p>
+     * <p>Only the squares an L move away are checked.</p>
+     *
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    @Override
+    public void addMoveSquares(SquareList squares) {
+        addMoveSquares(L_ROW_OFFSETS, L_COLUMN_OFFSETS, squares);
+    }
     //endregion
 }
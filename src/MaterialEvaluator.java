@@ -0,0 +1,76 @@
+/**
+ * <p>Represents an evaluator that scores a position by the material of each side.</p>
+ * <p>Each piece is worth a fixed value, looked up by the letter of its label. Xiangqi uses its own values, since the
+ * chariot shares the rook's label but is worth far more next to the other xiangqi pieces.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class MaterialEvaluator implements Evaluator {
+
+    //region FIELDS
+    /**
+     * Stores the values of the Indo-European chess pieces, indexed by the letter of the label.
+     */
+    private static final int[] EUROPEAN_VALUES = new int[32];
+
+    /**
+     * Stores the values of the xiangqi pieces, indexed by the letter of the label.
+     */
+    private static final int[] XIANGQI_VALUES = new int[32];
+
+    static {
+        EUROPEAN_VALUES['P' & 31] = 100;
+        EUROPEAN_VALUES['N' & 31] = 320;
+        EUROPEAN_VALUES['B' & 31] = 330;
+        EUROPEAN_VALUES['R' & 31] = 500;
+        EUROPEAN_VALUES['Q' & 31] = 900;
+
+        XIANGQI_VALUES['S' & 31] = 100;
+        XIANGQI_VALUES['G' & 31] = 200;
+        XIANGQI_VALUES['E' & 31] = 200;
+        XIANGQI_VALUES['H' & 31] = 400;
+        XIANGQI_VALUES['C' & 31] = 450;
+        XIANGQI_VALUES['R' & 31] = 900;
+    }
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Returns the value of a piece of the given label in a game.</p>
+     *
+     * @param game  the rules of the game
+     * @param label the label of the piece
+     * @return      the value of the piece, 0 for center pieces and unknown labels
+     * @since 1.0
+     */
+    public static int getValue(ChessGame game, String label) {
+        return (game instanceof Xiangqi ? XIANGQI_VALUES : EUROPEAN_VALUES)[label.charAt(0) & 31];
+    }
+
+    /**
+     * <p>Returns the material of the side that is playing minus the material of the other sides.</p>
+     *
+     * @param game  the rules of the game
+     * @param board the chessboard
+     * @return      the material balance, in hundredths of a pawn
+     * @since 1.0
+     */
+    @Override
+    public int evaluate(ChessGame game, ChessBoard board) {
+        // Stores the values of the game's pieces
+        int[] values = game instanceof Xiangqi ? XIANGQI_VALUES : EUROPEAN_VALUES;
+        int score = 0;
+
+        for (ChessGame.Side side : ChessGame.Side.values()) {
+            for (ChessPiece piece : board.getPieces(side)) {
+                if (side == game.getCurrentSide())
+                    score += values[piece.getLabel().charAt(0) & 31];
+                else
+                    score -= values[piece.getLabel().charAt(0) & 31];
+            }
+        }
+        return score;
+    }
+    //endregion
+}
@@ -0,0 +1,421 @@
+import java.util.Arrays;
+
+/**
+ * <p>Represents the moves of a game since its position was set up, each kept as a 16-bit code, along with the FEN of
+ * the position the game started from.</p>
+ * <p>A code is the square the piece moves from, the square it moves to, and the piece a pawn is promoted to, as bit
+ * fields: 6 bits for each square of the 64 squares of Indo-European chess, with 3 bits for the promotion above them,
+ * and 7 bits for each square of the 90 squares of Xiangqi. Squares are numbered in the order of a FEN, from the first
+ * file of the rank furthest from white or red, so the codes of a game of Xiangqi are the same in every orientation.</p>
+ * <p>Codes are added by {@link ChessGame#makeMove(ChessMove)} and removed by {@link ChessGame#unmakeMove(MoveRecord)},
+ * so the history costs a few bytes for each ply and does not keep the pieces or the positions of the game. The
+ * history starts again whenever the game starts or a FEN is read, from a {@link ChessPosition} of the chessboard; the
+ * FEN of the position is only written when it is asked for.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class MoveHistory {
+
+    //region FIELDS
+    /**
+     * Stores the promotion of a code of a move that does not promote a pawn.
+     */
+    public static final int NO_PROMOTION = 0;
+
+    /**
+     * Stores the labels of the pieces a pawn can be promoted to, in the order of their promotions from 1.
+     */
+    private static final String PROMOTIONS = "QRBN";
+
+    /**
+     * Stores if the history is of a game of Xiangqi instead of Indo-European chess.
+     */
+    private final boolean xiangqi;
+
+    /**
+     * Stores the number of bits of a square of a code.
+     */
+    private final int squareBits;
+
+    /**
+     * Stores the FEN of the position the game started from, <code>null</code> if it has not been set up or written
+     * yet.
+     */
+    private String startingFen;
+
+    /**
+     * Stores the position the game started from, <code>null</code> if it has not been set up or was given as a FEN.
+     */
+    private ChessPosition startingPosition;
+
+    /**
+     * Stores the side that started the game, which is the side of red in Xiangqi.
+     */
+    private ChessGame.Side startingSide;
+
+    /**
+     * Stores the full-move number of the position the game started from.
+     */
+    private int startingMoveNumber = 1;
+
+    /**
+     * Stores the codes of the moves, grown as needed.
+     */
+    private short[] codes = new short[64];
+
+    /**
+     * Stores the number of moves.
+     */
+    private int size;
+    //endregion
+
+    //region CONSTRUCTORS
+    /**
+     * <p>Creates an empty history of a game.</p>
+     *
+     * @param xiangqi   if the game is a game of Xiangqi instead of Indo-European chess
+     * @since 1.0
+     */
+    public MoveHistory(boolean xiangqi) {
+        this.xiangqi = xiangqi;
+        squareBits = xiangqi ? 7 : 6;
+    }
+
+    /**
+     * <p>Creates a copy of the history of a game.</p>
+     *
+     * @param history   the history to copy
+     * @since 1.0
+     */
+    public MoveHistory(MoveHistory history) {
+        xiangqi = history.xiangqi;
+        squareBits = history.squareBits;
+        startingFen = history.startingFen;
+        startingPosition = history.startingPosition;
+        startingSide = history.startingSide;
+        startingMoveNumber = history.startingMoveNumber;
+        codes = Arrays.copyOf(history.codes, Math.max(history.size, 16));
+        size = history.size;
+    }
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Returns if the history is of a game of Xiangqi.</p>
+     *
+     * @return  <code>true</code> for Xiangqi, or <code>false</code> for Indo-European chess
+     * @since 1.0
+     */
+    public boolean isXiangqi() {
+        return xiangqi;
+    }
+
+    /**
+     * <p>Returns the FEN of the position the game started from.</p>
+     * <p>The FEN is written from the position the first time it is asked for.</p>
+     *
+     * @return  the FEN, with its full-move number, or <code>null</code> if the position has not been set up
+     * @since 1.0
+     */
+    public String getStartingFen() {
+        if (startingFen == null && startingPosition != null) {
+            startingFen = xiangqi ? XiangqiFen.write(startingPosition, startingSide, startingMoveNumber)
+                    : EuropeanChessFen.write(startingPosition, startingMoveNumber);
+        }
+        return startingFen;
+    }
+
+    /**
+     * <p>Returns the full-move number of the position the game started from, which the first move is numbered
+     * with.</p>
+     *
+     * @return  the full-move number, 1 if the position has not been set up
+     * @since 1.0
+     */
+    public int getStartingMoveNumber() {
+        return startingMoveNumber;
+    }
+
+    /**
+     * <p>Removes every move and starts the history from a position.</p>
+     * <p>The full-move number is the last of the six fields of the FEN, or 1 if the FEN has fewer fields.</p>
+     *
+     * @param startingFen   the FEN of the position
+     * @since 1.0
+     */
+    public void reset(String startingFen) {
+        this.startingFen = startingFen;
+        startingPosition = null;
+        startingMoveNumber = 1;
+        size = 0;
+
+        // Finds the start of the sixth field
+        int i = 0;
+        for (int field = 0; field < 6; field++) {
+            while (i < startingFen.length() && Character.isWhitespace(startingFen.charAt(i)))
+                i++;
+            if (field == 5 || i == startingFen.length())
+                break;
+            while (i < startingFen.length() && !Character.isWhitespace(startingFen.charAt(i)))
+                i++;
+        }
+
+        // Reads the full-move number, keeping 1 if it is left out or is not a number
+        int fullMoves = 0;
+        int start = i;
+        for (; i < startingFen.length() && !Character.isWhitespace(startingFen.charAt(i)); i++) {
+            if (startingFen.charAt(i) < '0' || startingFen.charAt(i) > '9')
+                return;
+            fullMoves = fullMoves * 10 + startingFen.charAt(i) - '0';
+        }
+        if (i > start)
+            startingMoveNumber = fullMoves;
+    }
+
+    /**
+     * <p>Removes every move and starts the history from the position on a chessboard, with a full-move number of
+     * 1.</p>
+     *
+     * @param board the chessboard
+     * @since 1.0
+     */
+    public void reset(ChessBoard board) {
+        reset(board, 1);
+    }
+
+    /**
+     * <p>Removes every move and starts the history from the position on a chessboard.</p>
+     *
+     * @param board     the chessboard
+     * @param fullMoves the full-move number of the position, which the game does not keep
+     * @since 1.0
+     */
+    public void reset(ChessBoard board, int fullMoves) {
+        startingFen = null;
+        startingPosition = board.generateChessPosition();
+        startingSide = board.getGameRules().getStartingSide();
+        startingMoveNumber = fullMoves;
+        size = 0;
+    }
+
+    /**
+     * <p>Returns the number of moves.</p>
+     *
+     * @return  the number of moves
+     * @since 1.0
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * <p>Returns the code of a move.</p>
+     *
+     * @param ply   the ply of the move, from 0
+     * @return      the code of the move, from 0 to 65535
+     * @throws IndexOutOfBoundsException if there is no move at the ply
+     * @since 1.0
+     */
+    public int getCode(int ply) throws IndexOutOfBoundsException {
+        if (ply < 0 || ply >= size)
+            throw new IndexOutOfBoundsException("There is no move at ply " + ply + ".");
+        return codes[ply] & 0xFFFF;
+    }
+
+    /**
+     * <p>Adds the code of a move.</p>
+     *
+     * @param code  the code of the move
+     * @since 1.0
+     */
+    public void add(int code) {
+        if (size == codes.length)
+            codes = Arrays.copyOf(codes, size * 2);
+        codes[size++] = (short) code;
+    }
+
+    /**
+     * <p>Adds a move that is about to be made.</p>
+     *
+     * @param game  the rules of the game
+     * @param move  the move, with its piece still on the square it moves from
+     * @since 1.0
+     */
+    public void add(ChessGame game, ChessMove move) {
+        add(encode(game, move));
+    }
+
+    /**
+     * <p>Removes the last move.</p>
+     *
+     * @since 1.0
+     */
+    public void removeLast() {
+        if (size > 0)
+            size--;
+    }
+
+    /**
+     * <p>Sets the piece the pawn of the last move is promoted to, for a promotion chosen after the move was made.</p>
+     *
+     * @param promotion the piece the pawn is promoted to
+     * @since 1.0
+     */
+    public void setPromotion(ChessPiece promotion) {
+        if (size > 0) {
+            int code = (codes[size - 1] & 0xFFFF) & ((1 << 2 * squareBits) - 1);
+            codes[size - 1] = (short) (code | getPromotionCode(promotion) << 2 * squareBits);
+        }
+    }
+
+    /**
+     * <p>Returns the code of a move.</p>
+     *
+     * @param game  the rules of the game
+     * @param move  the move, with its piece still on the square it moves from
+     * @return      the code of the move
+     * @since 1.0
+     */
+    public int encode(ChessGame game, ChessMove move) {
+        ChessPiece piece = move.getPiece();
+
+        return getSquare(game, piece.getRow(), piece.getColumn()) | getSquare(game, move.getRow(), move.getColumn()) << squareBits
+                | getPromotionCode(move.getPromotion()) << 2 * squareBits;
+    }
+
+    /**
+     * <p>Returns the square a move of a code moves from.</p>
+     *
+     * @param code  the code of the move
+     * @return      the index of the square, in the order of a FEN
+     * @since 1.0
+     */
+    public int getFrom(int code) {
+        return code & ((1 << squareBits) - 1);
+    }
+
+    /**
+     * <p>Returns the square a move of a code moves to.</p>
+     *
+     * @param code  the code of the move
+     * @return      the index of the square, in the order of a FEN
+     * @since 1.0
+     */
+    public int getTo(int code) {
+        return code >>> squareBits & ((1 << squareBits) - 1);
+    }
+
+    /**
+     * <p>Returns the label of the piece a move of a code promotes a pawn to.</p>
+     *
+     * @param code  the code of the move
+     * @return      the label, or <code>null</code> if the move does not promote a pawn
+     * @throws IllegalArgumentException if the promotion of the code is not a piece
+     * @since 1.0
+     */
+    public String getPromotion(int code) throws IllegalArgumentException {
+        int promotion = code >>> 2 * squareBits;
+        if (promotion > PROMOTIONS.length())
+            throw new IllegalArgumentException("The code " + code + " has no piece to promote to.");
+
+        return promotion == NO_PROMOTION ? null : PROMOTIONS.substring(promotion - 1, promotion);
+    }
+
+    /**
+     * <p>Returns the legal move of a code.</p>
+     *
+     * @param code  the code of the move
+     * @param game  the rules of the game
+     * @param moves the legal moves of the side that is playing
+     * @return      the move
+     * @throws IllegalArgumentException if the code is not one of the legal moves
+     * @since 1.0
+     */
+    public ChessMove decode(int code, ChessGame game, ChessMove[] moves) throws IllegalArgumentException {
+        for (ChessMove move : moves) {
+            if (encode(game, move) == code)
+                return move;
+        }
+        throw new IllegalArgumentException("The move " + getSquareName(getFrom(code)) + getSquareName(getTo(code)) + " is not legal.");
+    }
+
+    /**
+     * <p>Returns a new chessboard with the position the game started from, with South as white or red.</p>
+     *
+     * @return  the chessboard, with no moves made
+     * @throws IllegalArgumentException if the starting FEN cannot be read
+     * @since 1.0
+     */
+    public BasicChessBoard createBoard() throws IllegalArgumentException {
+        BasicChessBoard board = new BasicChessBoard(xiangqi ? new Xiangqi(ChessGame.Side.SOUTH) : new EuropeanChess(ChessGame.Side.SOUTH));
+
+        String fen = getStartingFen();
+
+        if (fen == null)
+            board.getGameRules().startGame(board);
+        else if (xiangqi)
+            XiangqiFen.read(fen, board);
+        else
+            EuropeanChessFen.read(fen, board);
+        return board;
+    }
+
+    /**
+     * <p>Returns a new chessboard with the position after the moves of the history, replayed through the rules of the
+     * game.</p>
+     * <p>The history of the game of the chessboard is the same as this history afterwards.</p>
+     *
+     * @return  the chessboard
+     * @throws IllegalArgumentException if the starting FEN cannot be read, or a move is not legal
+     * @since 1.0
+     */
+    public BasicChessBoard replay() throws IllegalArgumentException {
+        BasicChessBoard board = createBoard();
+        ChessGame game = board.getGameRules();
+
+        for (int ply = 0; ply < size; ply++)
+            game.makeMove(decode(getCode(ply), game, board.generateAllMoves()));
+        return board;
+    }
+
+    /**
+     * <p>Returns the name of a square, which is its file and its rank from the side of white or red, counted from 1 in
+     * Indo-European chess and from 0 in Xiangqi.</p>
+     *
+     * @param square    the index of the square, in the order of a FEN
+     * @return          the name of the square
+     * @since 1.0
+     */
+    public String getSquareName(int square) {
+        int files = xiangqi ? 9 : 8;
+        int rank = xiangqi ? 9 - square / files : 8 - square / files;
+
+        return (char) ('a' + square % files) + Integer.toString(rank);
+    }
+
+    /**
+     * <p>Returns the index of a square of the chessboard in the order of a FEN.</p>
+     *
+     * @param game      the rules of the game
+     * @param row       the row of the square
+     * @param column    the column of the square
+     * @return          the index of the square
+     * @since 1.0
+     */
+    private int getSquare(ChessGame game, int row, int column) {
+        return xiangqi ? XiangqiFen.getSquare(game.getStartingSide(), row, column) : row * game.getNumColumns() + column;
+    }
+
+    /**
+     * <p>Returns the promotion of a code for the piece a pawn is promoted to.</p>
+     *
+     * @param promotion the piece, <code>null</code> if no pawn is promoted
+     * @return          the promotion, or {@link #NO_PROMOTION}
+     * @since 1.0
+     */
+    private static int getPromotionCode(ChessPiece promotion) {
+        return promotion == null ? NO_PROMOTION : PROMOTIONS.indexOf(promotion.getLabel().charAt(0)) + 1;
+    }
+    //endregion
+}
@@ -0,0 +1,219 @@
+/**
+ * <p>Represents the order a search tries moves in, so the best move is likely to be tried first.</p>
+ * <p>Moves are sorted into this order:</p>
+ * <ol>
+ *     <li>the best move stored for the position, such as in a {@link TranspositionTable};</li>
+ *     <li>captures and promotions, the most valuable victim first and then the least valuable attacker first;</li>
+ *     <li>the two killer moves of the ply, which are quiet moves that caused a cutoff in another position at the same
+ *     distance from the root;</li>
+ *     <li>the other quiet moves, by their history, which counts how often and how deep each move from one square to
+ *     another caused a cutoff.</li>
+ * </ol>
+ * <p>Pieces are valued with {@link MaterialEvaluator#getValue(ChessGame, String)}, so captures are ordered for both
+ * Indo-European chess and Xiangqi pieces.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class MoveOrdering {
+
+    //region FIELDS
+    /**
+     * Stores the deepest ply with killer moves.
+     */
+    public static final int MAX_PLY = 128;
+
+    /**
+     * Stores the score of the best move stored for the position.
+     */
+    private static final int HASH_MOVE_SCORE = Integer.MAX_VALUE;
+
+    /**
+     * Stores the score added to every capture and promotion, so they come before quiet moves.
+     */
+    private static final int CAPTURE_SCORE = 1 << 29;
+
+    /**
+     * Stores the score of the first killer move; the second scores one less.
+     */
+    private static final int KILLER_SCORE = 1 << 28;
+
+    /**
+     * Stores the largest history of a move, after which every history is halved.
+     */
+    private static final int MAX_HISTORY = 1 << 20;
+
+    /**
+     * Stores the rules of the game whose moves are ordered.
+     */
+    private final ChessGame game;
+
+    /**
+     * Stores the codes of the two killer moves of each ply, 0 if there is none.
+     */
+    private final int[][] killers;
+
+    /**
+     * Stores the history of each move, indexed by side and by move code.
+     */
+    private final int[][] history;
+    //endregion
+
+    //region CONSTRUCTORS
+    /**
+     * <p>Creates an ordering of the moves of a game, with no killer moves or history.</p>
+     *
+     * @param game  the rules of the game
+     * @since 1.0
+     */
+    public MoveOrdering(ChessGame game) {
+        this.game = game;
+        killers = new int[MAX_PLY][2];
+        history = new int[ChessGame.Side.values().length][Zobrist.MAX_SQUARES * Zobrist.MAX_SQUARES];
+    }
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Returns the code of a move, which holds the square index of the piece and of its destination.</p>
+     * <p>Promotions to different pieces share a code. A piece always moves to another square, so the code is never
+     * 0.</p>
+     *
+     * @param move          the move
+     * @param numColumns    the number of columns of the chessboard
+     * @return              the code of the move, less than 2<sup>14</sup>
+     * @since 1.0
+     */
+    public static int getCode(ChessMove move, int numColumns) {
+        int from = move.getPiece().getRow() * numColumns + move.getPiece().getColumn();
+        int to = move.getRow() * numColumns + move.getColumn();
+
+        return from << 7 | to;
+    }
+
+    /**
+     * <p>Returns a boolean representing if a move captures a piece, including en passant captures.</p>
+     *
+     * @param move  the move
+     * @return      <code>true</code> if the move captures a piece
+     * @since 1.0
+     */
+    public static boolean isCapture(ChessMove move) {
+        ChessPiece piece = move.getPiece();
+
+        return piece.getChessBoard().hasPiece(move.getRow(), move.getColumn())
+                || (piece instanceof CanEnPassantMove && move.getColumn() != piece.getColumn() && move.getRow() != piece.getRow());
+    }
+
+    /**
+     * <p>Sorts moves from the most to the least promising.</p>
+     * <p>Moves with the same score keep their order.</p>
+     *
+     * @param moves     the moves, generated for the position that is searched
+     * @param ply       the number of moves made since the root
+     * @param hashMove  the code of the best move stored for the position, 0 if there is none
+     * @since 1.0
+     */
+    public void sort(ChessMove[] moves, int ply, int hashMove) {
+        int[] scores = new int[moves.length];
+        for (int i = 0; i < moves.length; i++)
+            scores[i] = score(moves[i], ply, hashMove);
+
+        // Sorts by insertion, which is fast for the few moves of a position
+        for (int i = 1; i < moves.length; i++) {
+            ChessMove move = moves[i];
+            int score = scores[i];
+            int j = i - 1;
+
+            while (j >= 0 && scores[j] < score) {
+                moves[j + 1] = moves[j];
+                scores[j + 1] = scores[j];
+                j--;
+            }
+            moves[j + 1] = move;
+            scores[j + 1] = score;
+        }
+    }
+
+    /**
+     * <p>Records a quiet move that caused a cutoff, as a killer move of the ply and in the history.</p>
+     *
+     * @param move  the quiet move
+     * @param ply   the number of moves made since the root
+     * @param depth the depth left to search when the move was made
+     * @since 1.0
+     */
+    public void addCutoff(ChessMove move, int ply, int depth) {
+        int code = getCode(move, game.getNumColumns());
+
+        if (ply < MAX_PLY && killers[ply][0] != code) {
+            killers[ply][1] = killers[ply][0];
+            killers[ply][0] = code;
+        }
+
+        int[] sideHistory = history[move.getPiece().getSide().ordinal()];
+        sideHistory[code] += Math.max(1, depth * depth);
+        if (sideHistory[code] > MAX_HISTORY)
+            ageHistory();
+    }
+
+    /**
+     * <p>Forgets the killer moves and halves the history, for a new search.</p>
+     *
+     * @since 1.0
+     */
+    public void newSearch() {
+        for (int[] plyKillers : killers) {
+            plyKillers[0] = 0;
+            plyKillers[1] = 0;
+        }
+        ageHistory();
+    }
+
+    /**
+     * <p>Returns the score of a move; moves with higher scores are tried first.</p>
+     *
+     * @param move      the move
+     * @param ply       the number of moves made since the root
+     * @param hashMove  the code of the best move stored for the position, 0 if there is none
+     * @return          the score of the move
+     * @since 1.0
+     */
+    private int score(ChessMove move, int ply, int hashMove) {
+        int code = getCode(move, game.getNumColumns());
+        if (code == hashMove)
+            return HASH_MOVE_SCORE;
+
+        boolean capture = isCapture(move);
+        if (capture || move.getPromotion() != null) {
+            // Stores the value of the captured piece; en passant captures a pawn of the same value as the capturing one
+            int victimValue = 0;
+            if (capture) {
+                ChessPiece victim = move.getPiece().getChessBoard().getPiece(move.getRow(), move.getColumn());
+                victimValue = MaterialEvaluator.getValue(game, (victim != null ? victim : move.getPiece()).getLabel());
+            }
+
+            int promotionValue = move.getPromotion() != null ? MaterialEvaluator.getValue(game, move.getPromotion().getLabel()) : 0;
+            return CAPTURE_SCORE + (victimValue + promotionValue) * 64 - MaterialEvaluator.getValue(game, move.getPiece().getLabel()) / 16;
+        }
+
+        if (ply < MAX_PLY && code == killers[ply][0])
+            return KILLER_SCORE;
+        if (ply < MAX_PLY && code == killers[ply][1])
+            return KILLER_SCORE - 1;
+        return history[move.getPiece().getSide().ordinal()][code];
+    }
+
+    /**
+     * <p>Halves the history of every move, so recent cutoffs count more than old ones.</p>
+     *
+     * @since 1.0
+     */
+    private void ageHistory() {
+        for (int[] sideHistory : history) {
+            for (int i = 0; i < sideHistory.length; i++)
+                sideHistory[i] >>= 1;
+        }
+    }
+    //endregion
+}
@@ -0,0 +1,206 @@
+import java.util.Arrays;
+
+/**
+ * <p>Represents the information needed to take back a move that was made with
+ * {@link ChessGame#makeMove(ChessMove)}.</p>
+ * <p>The record keeps the move instructions, which know where each piece came from and what was captured, the pieces
+ * that had just moved before the move, and the fifty move rule count. Castling and en passant rights depend on the
+ * number of moves and the <code>justMoved</code> of the pieces, so restoring those restores the rights as well.</p>
+ * <p>The key of the position before the move is kept too, so taking the move back does not need to hash again.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class MoveRecord {
+
+    //region FIELDS
+    /**
+     * Stores the move that was made.
+     */
+    private final ChessMove move;
+
+    /**
+     * Stores the instructions the move was made with.
+     */
+    private final ChessPiece.ProposedMove[] instructions;
+
+    /**
+     * Stores the pieces that had just moved before the move.
+     */
+    private final ChessPiece[] justMovedPieces;
+
+    /**
+     * Stores the fifty move rule count before the move.
+     */
+    private final int fiftyMoveRule;
+
+    /**
+     * Stores the Zobrist key of the position before the move.
+     */
+    private final long hash;
+
+    /**
+     * Stores the pieces whose square or state the move changes.
+     */
+    private final ChessPiece[] changedPieces;
+    //endregion
+
+    //region CONSTRUCTORS
+    /**
+     * <p>Creates a record of a move that is about to be made.</p>
+     * <p>This must be created before the move is made, since it reads the instructions and pieces from the
+     * chessboard.</p>
+     *
+     * @param move          the move about to be made
+     * @param fiftyMoveRule the fifty move rule count before the move
+     * @param hash          the Zobrist key of the position before the move
+     * @since 1.0
+     */
+    public MoveRecord(ChessMove move, int fiftyMoveRule, long hash) {
+        this.move = move;
+        this.fiftyMoveRule = fiftyMoveRule;
+        this.hash = hash;
+        instructions = move.getPiece().getMoveInstructions(move.getRow(), move.getColumn());
+
+        // Stores the chess board
+        ChessBoard board = move.getPiece().getChessBoard();
+        // Stores the number of pieces that just moved
+        int count = 0;
+
+        for (ChessGame.Side side : ChessGame.Side.values()) {
+            for (int i = 0; i < board.getNumPieces(side); i++) {
+                if (board.getPiece(side, i).isJustMoved())
+                    count++;
+            }
+        }
+
+        justMovedPieces = new ChessPiece[count];
+        for (ChessGame.Side side : ChessGame.Side.values()) {
+            for (int i = 0; i < board.getNumPieces(side); i++) {
+                if (board.getPiece(side, i).isJustMoved())
+                    justMovedPieces[--count] = board.getPiece(side, i);
+            }
+        }
+
+        // Collects the moved, captured, and promoted pieces and the pieces that stop being just moved, each once
+        ChessPiece[] changed = new ChessPiece[2 * instructions.length + justMovedPieces.length + 1];
+        count = 0;
+        for (ChessPiece.ProposedMove instruction : instructions) {
+            count = addChangedPiece(changed, count, instruction.getMovedPiece());
+            count = addChangedPiece(changed, count, instruction.getRemovedPiece());
+        }
+        for (ChessPiece piece : justMovedPieces)
+            count = addChangedPiece(changed, count, piece);
+        count = addChangedPiece(changed, count, move.getPromotion());
+        changedPieces = Arrays.copyOf(changed, count);
+    }
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Returns the move that was made.</p>
+     *
+     * @return  the move
+     * @since 1.0
+     */
+    public ChessMove getMove() {
+        return move;
+    }
+
+    /**
+     * <p>Returns the instructions the move is made with.</p>
+     *
+     * @return  the move instructions
+     * @since 1.0
+     */
+    public ChessPiece.ProposedMove[] getInstructions() {
+        return instructions;
+    }
+
+    /**
+     * <p>Returns the fifty move rule count before the move.</p>
+     *
+     * @return  the fifty move rule count
+     * @since 1.0
+     */
+    public int getFiftyMoveRule() {
+        return fiftyMoveRule;
+    }
+
+    /**
+     * <p>Returns the Zobrist key of the position before the move.</p>
+     *
+     * @return  the key of the position
+     * @since 1.0
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * <p>Returns the pieces whose square or state the move changes.</p>
+     * <p>These are the only pieces whose Zobrist keys differ before and after the move.</p>
+     *
+     * @return  the changed pieces
+     * @since 1.0
+     */
+    public ChessPiece[] getChangedPieces() {
+        return changedPieces;
+    }
+
+    /**
+     * <p>Adds a piece to the changed pieces unless it is <code>null</code> or already added.</p>
+     *
+     * @param changed   the changed pieces
+     * @param count     the number of changed pieces
+     * @param piece     the piece to add
+     * @return          the new number of changed pieces
+     * @since 1.0
+     */
+    private static int addChangedPiece(ChessPiece[] changed, int count, ChessPiece piece) {
+        if (piece == null)
+            return count;
+
+        for (int i = 0; i < count; i++) {
+            if (changed[i] == piece)
+                return count;
+        }
+        changed[count] = piece;
+        return count + 1;
+    }
+
+    /**
+     * <p>Takes the move back on the chessboard.</p>
+     * <p>Any promotion is undone, the pieces are moved back in the reverse order of the instructions, captured pieces
+     * are put back, and the number of moves and <code>justMoved</code> of the pieces are restored. The side and the
+     * fifty move rule count are left to the game.</p>
+     *
+     * @since 1.0
+     */
+    public void undo() {
+        // Stores the chess board
+        ChessBoard board = move.getPiece().getChessBoard();
+
+        // Puts the pawn back in place of the piece it was promoted to
+        if (move.getPromotion() != null)
+            board.addPiece(move.getPiece(), move.getRow(), move.getColumn());
+
+        for (int i = instructions.length - 1; i >= 0; i--) {
+            ChessPiece.ProposedMove instruction = instructions[i];
+            ChessPiece piece = instruction.getMovedPiece();
+
+            // Moves the piece back and puts back the piece it captured
+            board.removePiece(instruction.getRow(), instruction.getColumn());
+            board.addPiece(piece, instruction.getFromRow(), instruction.getFromColumn());
+            if (instruction.getRemovedPiece() != null)
+                board.addPiece(instruction.getRemovedPiece(), instruction.getRemovedPiece().getRow(), instruction.getRemovedPiece().getColumn());
+
+            piece.setNumMoves(piece.getNumMoves() - 1);
+            piece.setJustMoved(false);
+        }
+
+        for (ChessPiece piece : justMovedPieces)
+            piece.setJustMoved(true);
+    }
+    //endregion
+}
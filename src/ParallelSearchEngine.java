@@ -0,0 +1,218 @@
+/**
+ * <p>Represents a search for the best move of the side that is playing, run by several threads at once.</p>
+ * <p>Each thread runs a {@link SearchEngine} on its own copy of the chessboard, and every thread shares one
+ * {@link TranspositionTable}. The threads search the same position, but half of them start one ply deeper, so they
+ * reach different positions first and fill the table for each other. The search of the first thread decides when the
+ * search ends, and the best move of the thread that finished the deepest iteration is returned.</p>
+ * <p>The chessboard and the game are only read, so the search works for any chessboard, including the ones that show
+ * the game, and for any game, including Indo-European chess and Xiangqi.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class ParallelSearchEngine {
+
+    //region FIELDS
+    /**
+     * Stores the size of the transposition table of a search that is not given one, in megabytes.
+     */
+    private static final int DEFAULT_TABLE_SIZE = 64;
+
+    /**
+     * Stores the chessboard being searched.
+     */
+    private final ChessBoard board;
+
+    /**
+     * Stores the evaluator that scores positions, shared by the threads.
+     */
+    private final Evaluator evaluator;
+
+    /**
+     * Stores the transposition table shared by the threads.
+     */
+    private final TranspositionTable table;
+
+    /**
+     * Stores the number of threads that search.
+     */
+    private final int numThreads;
+
+    /**
+     * Stores the searches of the threads of the current or last search.
+     */
+    private volatile SearchEngine[] engines;
+
+    /**
+     * Stores the search that found the best move of the last search.
+     */
+    private SearchEngine bestEngine;
+    //endregion
+
+    //region CONSTRUCTORS
+    /**
+     * <p>Creates a search of the game on a chessboard with a thread for each processor, scoring positions by
+     * material and piece-square tables.</p>
+     *
+     * @param board the chessboard, which is set up with the position to search
+     * @since 1.0
+     */
+    public ParallelSearchEngine(ChessBoard board) {
+        this(board, new PieceSquareEvaluator(), new TranspositionTable(DEFAULT_TABLE_SIZE), Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * <p>Creates a search of the game on a chessboard with the given number of threads.</p>
+     *
+     * @param board         the chessboard, which is set up with the position to search
+     * @param evaluator     the evaluator that scores positions, which must be safe to use from several threads
+     * @param table         the transposition table shared by the threads
+     * @param numThreads    the number of threads that search
+     * @throws IllegalArgumentException if the number of threads is less than 1
+     * @since 1.0
+     */
+    public ParallelSearchEngine(ChessBoard board, Evaluator evaluator, TranspositionTable table, int numThreads) throws IllegalArgumentException {
+        if (numThreads < 1)
+            throw new IllegalArgumentException("A search needs at least 1 thread.");
+
+        this.board = board;
+        this.evaluator = evaluator;
+        this.table = table;
+        this.numThreads = numThreads;
+    }
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Searches for the best move of the side that is playing within a time and node budget.</p>
+     * <p>The node budget is split evenly between the threads.</p>
+     *
+     * @param timeMillis    the most time to search, in milliseconds
+     * @param maxNodes      the most nodes to search
+     * @param maxDepth      the deepest iteration to search
+     * @return              the best move found on the chessboard, <code>null</code> if the side that is playing has no
+     *                      legal moves
+     * @since 1.0
+     */
+    public ChessMove search(long timeMillis, long maxNodes, int maxDepth) {
+        ChessMove[] moves = board.generateAllMoves();
+
+        bestEngine = null;
+        if (moves.length <= 1)
+            return moves.length > 0 ? moves[0] : null;
+
+        table.newSearch();
+
+        SearchEngine[] searches = new SearchEngine[numThreads];
+        for (int i = 0; i < numThreads; i++) {
+            BasicChessBoard copy = new BasicChessBoard(board);
+            searches[i] = new SearchEngine(copy.getGameRules(), copy, evaluator, table);
+        }
+        engines = searches;
+
+        // Starts the helper threads, half of them one ply deeper
+        Thread[] threads = new Thread[numThreads - 1];
+        for (int i = 0; i < threads.length; i++) {
+            SearchEngine search = searches[i + 1];
+            int firstDepth = 1 + (i + 1) % 2;
+
+            threads[i] = new Thread(() -> search.search(timeMillis, Math.max(1, maxNodes / numThreads), maxDepth, firstDepth), "search-" + (i + 1));
+            threads[i].setDaemon(true);
+            threads[i].start();
+        }
+
+        searches[0].search(timeMillis, Math.max(1, maxNodes / numThreads), maxDepth, 1);
+
+        // Stops the helper threads once the first thread is done
+        try {
+            for (int i = 0; i < threads.length; i++) {
+                do {
+                    searches[i + 1].stop();
+                    threads[i].join(1);
+                } while (threads[i].isAlive());
+            }
+        } catch (InterruptedException e) {
+            stop();
+            Thread.currentThread().interrupt();
+        }
+
+        bestEngine = searches[0];
+        for (SearchEngine search : searches) {
+            if (search.getDepth() > bestEngine.getDepth())
+                bestEngine = search;
+        }
+
+        return findMove(moves, bestEngine.getBestMove());
+    }
+
+    /**
+     * <p>Stops the search as soon as possible, from another thread.</p>
+     *
+     * @since 1.0
+     */
+    public void stop() {
+        SearchEngine[] searches = engines;
+
+        if (searches != null) {
+            for (SearchEngine search : searches)
+                search.stop();
+        }
+    }
+
+    /**
+     * <p>Returns the score of the best move found by the last search, for the side that was playing.</p>
+     *
+     * @return  the score, in hundredths of a pawn
+     * @since 1.0
+     */
+    public int getBestScore() {
+        return bestEngine != null ? bestEngine.getBestScore() : 0;
+    }
+
+    /**
+     * <p>Returns the depth of the deepest iteration finished by the last search.</p>
+     *
+     * @return  the depth
+     * @since 1.0
+     */
+    public int getDepth() {
+        return bestEngine != null ? bestEngine.getDepth() : 0;
+    }
+
+    /**
+     * <p>Returns the number of nodes searched by every thread of the last search.</p>
+     *
+     * @return  the number of nodes
+     * @since 1.0
+     */
+    public long getNodes() {
+        SearchEngine[] searches = engines;
+        long nodes = 0;
+
+        if (searches != null) {
+            for (SearchEngine search : searches)
+                nodes += search.getNodes();
+        }
+        return nodes;
+    }
+
+    /**
+     * <p>Returns the move of the chessboard that matches a move found on a copy of the chessboard.</p>
+     *
+     * @param moves the legal moves of the chessboard
+     * @param found the move found on the copy
+     * @return      the matching move of the chessboard
+     * @since 1.0
+     */
+    private static ChessMove findMove(ChessMove[] moves, ChessMove found) {
+        for (ChessMove move : moves) {
+            if (move.getPiece().getRow() == found.getPiece().getRow() && move.getPiece().getColumn() == found.getPiece().getColumn()
+                    && move.getRow() == found.getRow() && move.getColumn() == found.getColumn()
+                    && (move.getPromotion() == null ? found.getPromotion() == null
+                        : found.getPromotion() != null && move.getPromotion().getLabel().equals(found.getPromotion().getLabel())))
+                return move;
+        }
+        return moves[0];
+    }
+    //endregion
+}
@@ -3,7 +3,7 @@
  * <p>Dictates how a pawn can move.</p>
  *
  * @author Nobel Zhou
- * @version 1.0, 12/2/20
+ * @version 3.0, 10/17/26
  */
 public class PawnPiece extends ChessPiece implements CanPawnMove, CanEnPassantMove {
 
@@ -24,6 +24,18 @@ public class PawnPiece extends ChessPiece implements CanPawnMove, CanEnPassantMo
     //endregion
 
     //region METHODS
+    /**
+     * <p>Creates a pawn piece of the same side, icon, and location on another chessboard.</p>
+     *
+     * @param chessBoard    the chessboard of the new pawn piece
+     * @return              the new pawn piece
+     * @since 3.0
+     */
+    @Override
+    protected ChessPiece createPiece(ChessBoard chessBoard) {
+        return new PawnPiece(getSide(), chessBoard, (ChessIcon) getIcon(), getRow(), getColumn());
+    }
+
     /**
      * <p>Returns a boolean representing if the pawn piece's proposed move is legal or not.</p>
      *
@@ -64,6 +76,30 @@ public class PawnPiece extends ChessPiece implements CanPawnMove, CanEnPassantMo
         return isValidPawnCaptureMove(row, column, this);
     }
 
+    /**
+     * <p>Adds the squares the pawn piece can capture on to a list of squares.</p>
+     * <p>Only the diagonally adjacent squares are checked.</p>
+     *
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    @Override
+    public void addCaptureSquares(SquareList squares) {
+        addCaptureSquares(PAWN_CAPTURE_ROW_OFFSETS, PAWN_CAPTURE_COLUMN_OFFSETS, squares);
+    }
+
+    /**
+     * <p>Adds the squares the pawn piece can move to to a list of squares.</p>
+     * <p>Only the squares 1 or 2 steps straight away and the diagonally adjacent squares are checked.</p>
+     *
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    @Override
+    public void addMoveSquares(SquareList squares) {
+        addMoveSquares(PAWN_ROW_OFFSETS, PAWN_COLUMN_OFFSETS, squares);
+    }
+
     /**
      * <p>Handles any post-move processes, if any, once the pawn's move is completed.</p>
      * <p>Handles and checks for promotions.</p>
@@ -84,16 +120,66 @@ public class PawnPiece extends ChessPiece implements CanPawnMove, CanEnPassantMo
      * @since 1.0
      */
     private boolean checkPawnPromotion() {
+        return isPromotionSquare(getRow(), getColumn());
+    }
+
+    /**
+     * <p>Checks to see if the pawn would be eligible to be promoted on a square, which is the last rank from the
+     * pawn's side.</p>
+     *
+     * @param row       the row of the square
+     * @param column    the column of the square
+     * @return          <code>true</code> if the pawn is promoted on the square
+     * @since 3.0
+     */
+    public boolean isPromotionSquare(int row, int column) {
         switch (getSide()) {
             case SOUTH:
-                return getRow() == 0;
+                return row == 0;
             case NORTH:
-                return getRow() == getChessBoard().getGameRules().getNumRows() - 1;
+                return row == getChessBoard().getGameRules().getNumRows() - 1;
             case WEST:
-                return getColumn() == getChessBoard().getGameRules().getNumColumns() - 1;
+                return column == getChessBoard().getGameRules().getNumColumns() - 1;
             default: // East
-                return getColumn() == 0;
+                return column == 0;
+        }
+    }
+
+    /**
+     * <p>Returns a boolean representing if the pawn can be captured en passant.</p>
+     * <p>The pawn must have just moved 2 spaces, and a pawn of another side must be right next to it, ready to capture
+     * it on the square it passed.</p>
+     *
+     * @return  <code>true</code> if the pawn can be captured en passant
+     * @since 3.0
+     */
+    public boolean isEnPassantTarget() {
+        if (!isJustMoved() || getNumMoves() != 1)
+            return false;
+
+        // Stores the chess board
+        ChessBoard board = getChessBoard();
+        // Stores if the pawn moves along the columns
+        boolean vertical = getSide() == ChessGame.Side.NORTH || getSide() == ChessGame.Side.SOUTH;
+        // Stores the square the pawn passed
+        int passedRow = getSide() == ChessGame.Side.NORTH ? getRow() - 1 : getSide() == ChessGame.Side.SOUTH ? getRow() + 1 : getRow();
+        int passedColumn = getSide() == ChessGame.Side.WEST ? getColumn() - 1 : getSide() == ChessGame.Side.EAST ? getColumn() + 1 : getColumn();
+
+        // Checks the squares on either side of the pawn for a pawn that can capture it
+        for (int offset = -1; offset <= 1; offset += 2) {
+            int row = vertical ? getRow() : getRow() + offset;
+            int column = vertical ? getColumn() + offset : getColumn();
+
+            if (row < 0 || column < 0 || row >= board.getGameRules().getNumRows() || column >= board.getGameRules().getNumColumns()
+                    || !board.hasPiece(row, column))
+                continue;
+
+            ChessPiece piece = board.getPiece(row, column);
+            if (piece.getSide() != getSide() && piece instanceof CanEnPassantMove
+                    && ((CanEnPassantMove) piece).isValidEnPassantMove(passedRow, passedColumn, piece))
+                return true;
         }
+        return false;
     }
 
     /**
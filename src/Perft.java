@@ -0,0 +1,515 @@
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * <p>Represents a command-line tool that counts the positions reached after a number of moves from a position.</p>
+ * <p>Counting every position a given number of moves deep, called perft, tests move generation: a single missing or
+ * extra move, such as a wrong castling, en passant, or flying general rule, changes the count. The counts of well-known
+ * positions are kept in a suite, so the rules of both games can be checked, and the time taken measures how fast moves
+ * are generated and made.</p>
+ * <p>The tool needs no screen; the pieces are placed on a {@link BasicChessBoard}.</p>
+ * <p>Deep counts can be split between threads of a {@link ForkJoinPool}: the first plies are split into tasks, each
+ * on its own copy of the chessboard, and the counts of positions reached through different moves are shared through a
+ * {@link PerftTable}, so they are counted once.</p>
+ * <pre>
+ * java Perft chess|xiangqi depth [divide | parallel] [FEN]
+ * java Perft suite [most nodes] [parallel]
+ * </pre>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class Perft {
+
+    //region FIELDS
+    /**
+     * Stores the Kiwipete position, which has castling, en passant, and promotions within a few moves.
+     */
+    public static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+
+    /**
+     * Stores an endgame position with en passant captures that leave the king in check.
+     */
+    public static final String EN_PASSANT_ENDGAME = "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1";
+
+    /**
+     * Stores a position with promotions and castling while pieces attack the squares the king passes.
+     */
+    public static final String PROMOTIONS = "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1";
+
+    /**
+     * Stores the suite of positions with known counts.
+     */
+    public static final Case[] SUITE = {
+            new Case("start", false, EuropeanChessFen.START, 20, 400, 8902, 197281, 4865609),
+            new Case("kiwipete", false, KIWIPETE, 48, 2039, 97862, 4085603),
+            new Case("en passant endgame", false, EN_PASSANT_ENDGAME, 14, 191, 2812, 43238, 674624),
+            new Case("promotions", false, PROMOTIONS, 6, 264, 9467, 422333),
+            new Case("xiangqi start", true, XiangqiFen.START, 44, 1920, 79666, 3290240)
+    };
+
+    /**
+     * Stores the number of plies from the root that are split into tasks of a parallel count.
+     */
+    private static final int SPLIT_PLIES = 2;
+
+    /**
+     * Stores the smallest depth that is split into tasks of a parallel count, since shallower counts take less time
+     * than making a task.
+     */
+    private static final int MIN_SPLIT_DEPTH = 4;
+
+    /**
+     * Stores the largest size of the perft table of a parallel count, in megabytes; the table also uses at most a
+     * quarter of the memory of the Java heap.
+     */
+    private static final int TABLE_SIZE = 512;
+
+    /**
+     * Stores the number of nanoseconds in a second.
+     */
+    private static final double NANOSECONDS = 1e9;
+    //endregion
+
+    //region NESTED TYPES
+    /**
+     * <p>Represents a position of the suite with its known counts.</p>
+     *
+     * @author Nobel Zhou (nxz157)
+     * @version 1.0, 10/17/2026
+     */
+    public static class Case {
+        /**
+         * Stores the name of the position.
+         */
+        private final String name;
+
+        /**
+         * Stores if the position is a position of Xiangqi.
+         */
+        private final boolean xiangqi;
+
+        /**
+         * Stores the FEN of the position.
+         */
+        private final String fen;
+
+        /**
+         * Stores the counts of the position, indexed by depth minus one.
+         */
+        private final long[] counts;
+
+        /**
+         * <p>Creates a position of the suite.</p>
+         *
+         * @param name      the name of the position
+         * @param xiangqi   if the position is a position of Xiangqi
+         * @param fen       the FEN of the position
+         * @param counts    the counts of the position, from depth 1
+         * @since 1.0
+         */
+        public Case(String name, boolean xiangqi, String fen, long... counts) {
+            this.name = name;
+            this.xiangqi = xiangqi;
+            this.fen = fen;
+            this.counts = counts;
+        }
+
+        /**
+         * <p>Returns the name of the position.</p>
+         *
+         * @return  the name
+         * @since 1.0
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * <p>Returns if the position is a position of Xiangqi.</p>
+         *
+         * @return  <code>true</code> for Xiangqi, or <code>false</code> for Indo-European chess
+         * @since 1.0
+         */
+        public boolean isXiangqi() {
+            return xiangqi;
+        }
+
+        /**
+         * <p>Returns the FEN of the position.</p>
+         *
+         * @return  the FEN
+         * @since 1.0
+         */
+        public String getFen() {
+            return fen;
+        }
+
+        /**
+         * <p>Returns a new chessboard set up with the position.</p>
+         *
+         * @return  the chessboard
+         * @since 1.0
+         */
+        public BasicChessBoard setUp() {
+            return Perft.setUp(xiangqi, fen);
+        }
+
+        /**
+         * <p>Returns the deepest depth with a known count.</p>
+         *
+         * @return  the deepest depth
+         * @since 1.0
+         */
+        public int getMaxDepth() {
+            return counts.length;
+        }
+
+        /**
+         * <p>Returns the known count of the position at a depth.</p>
+         *
+         * @param depth the depth, from 1
+         * @return      the count
+         * @since 1.0
+         */
+        public long getCount(int depth) {
+            return counts[depth - 1];
+        }
+    }
+
+    /**
+     * <p>Represents a part of a parallel count: the count of a position on its own copy of the chessboard.</p>
+     *
+     * @author Nobel Zhou (nxz157)
+     * @version 1.0, 10/17/2026
+     */
+    private static class CountTask extends RecursiveTask<Long> {
+        /**
+         * Stores the version of the serialized form of the task.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Stores the chessboard of the task, which no other task uses.
+         */
+        private final ChessBoard board;
+
+        /**
+         * Stores the depth to count.
+         */
+        private final int depth;
+
+        /**
+         * Stores the number of moves made since the root.
+         */
+        private final int ply;
+
+        /**
+         * Stores the smallest depth that is split into tasks.
+         */
+        private final int minSplitDepth;
+
+        /**
+         * Stores the table of counts shared by every task.
+         */
+        private final PerftTable table;
+
+        /**
+         * <p>Creates a task that counts a position.</p>
+         *
+         * @param board           the chessboard of the task, which no other task uses
+         * @param depth           the depth to count
+         * @param ply             the number of moves made since the root
+         * @param minSplitDepth   the smallest depth that is split into tasks
+         * @param table           the table of counts shared by every task
+         * @since 1.0
+         */
+        public CountTask(ChessBoard board, int depth, int ply, int minSplitDepth, PerftTable table) {
+            this.board = board;
+            this.depth = depth;
+            this.ply = ply;
+            this.minSplitDepth = minSplitDepth;
+            this.table = table;
+        }
+
+        /**
+         * <p>Counts the position, splitting the count of each move into its own task near the root.</p>
+         *
+         * @return  the count
+         * @since 1.0
+         */
+        @Override
+        protected Long compute() {
+            if (ply >= SPLIT_PLIES || depth < minSplitDepth)
+                return count(board, depth, table);
+
+            ChessGame game = board.getGameRules();
+            long key = game.getHash();
+            long nodes = table.probe(key, depth);
+            if (nodes >= 0)
+                return nodes;
+
+            // Stores a task for each move, on a copy of the chessboard after the move
+            List<CountTask> tasks = new ArrayList<>();
+            for (ChessMove move : board.generateAllMoves()) {
+                MoveRecord record = game.makeMove(move);
+                tasks.add(new CountTask(new BasicChessBoard(board), depth - 1, ply + 1, minSplitDepth, table));
+                game.unmakeMove(record);
+            }
+
+            nodes = 0;
+            for (CountTask task : invokeAll(tasks))
+                nodes += task.join();
+
+            table.store(key, depth, nodes);
+            return nodes;
+        }
+    }
+    //endregion
+
+    //region CONSTRUCTORS
+    /**
+     * <p>Prevents the class from being instantiated, since it only has static methods.</p>
+     *
+     * @since 1.0
+     */
+    private Perft() {}
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Runs the tool from the command line.</p>
+     *
+     * @param args  the variant, the depth, <code>divide</code> for the count after each move, and the FEN of the
+     *              position; or <code>suite</code> and the most nodes to count for each position
+     * @since 1.0
+     */
+    public static void main(String[] args) {
+        try {
+            if (args.length >= 1 && args[0].equals("suite")) {
+                boolean parallel = args[args.length - 1].equals("parallel");
+                long maxNodes = args.length >= (parallel ? 3 : 2) ? Long.parseLong(args[1]) : Long.MAX_VALUE;
+
+                System.exit(runSuite(maxNodes, parallel) ? 0 : 1);
+            }
+
+            if (args.length < 2 || !(args[0].equals("chess") || args[0].equals("xiangqi")))
+                throw new IllegalArgumentException("Usage: java Perft chess|xiangqi depth [divide | parallel] [FEN] | java Perft suite [most nodes] [parallel]");
+
+            boolean xiangqi = args[0].equals("xiangqi");
+            int depth = Integer.parseInt(args[1]);
+            boolean divide = args.length >= 3 && args[2].equals("divide");
+            boolean parallel = args.length >= 3 && args[2].equals("parallel");
+
+            // Stores the FEN, which is the rest of the arguments
+            StringBuilder fen = new StringBuilder();
+            for (int i = divide || parallel ? 3 : 2; i < args.length; i++)
+                fen.append(fen.length() > 0 ? " " : "").append(args[i]);
+
+            BasicChessBoard board = setUp(xiangqi, fen.length() > 0 ? fen.toString() : xiangqi ? XiangqiFen.START : EuropeanChessFen.START);
+            long start = System.nanoTime();
+            long nodes;
+
+            if (divide) {
+                nodes = 0;
+                for (Map.Entry<String, Long> entry : divide(board, depth).entrySet()) {
+                    System.out.println(entry.getKey() + ": " + entry.getValue());
+                    nodes += entry.getValue();
+                }
+                System.out.println();
+            } else if (parallel)
+                nodes = parallelCount(board, depth, Runtime.getRuntime().availableProcessors());
+            else
+                nodes = count(board, depth);
+
+            printCount(depth, nodes, System.nanoTime() - start);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+        }
+    }
+
+    /**
+     * <p>Counts the positions of every position of the suite, up to the deepest depth with at most the given count,
+     * and prints the results.</p>
+     *
+     * @param maxNodes  the largest count to check
+     * @param parallel  if the counts are split between a thread for each processor
+     * @return          <code>true</code> if every count is correct
+     * @since 1.0
+     */
+    public static boolean runSuite(long maxNodes, boolean parallel) {
+        boolean passed = true;
+
+        for (Case c : SUITE) {
+            System.out.println(c.getName());
+            BasicChessBoard board = c.setUp();
+
+            for (int depth = 1; depth <= c.getMaxDepth() && c.getCount(depth) <= maxNodes; depth++) {
+                long start = System.nanoTime();
+                long nodes = parallel ? parallelCount(board, depth, Runtime.getRuntime().availableProcessors()) : count(board, depth);
+
+                printCount(depth, nodes, System.nanoTime() - start);
+                if (nodes != c.getCount(depth)) {
+                    System.out.println("  FAILED: expected " + c.getCount(depth));
+                    passed = false;
+                }
+            }
+        }
+        return passed;
+    }
+
+    /**
+     * <p>Returns the number of positions reached after the given number of moves from the position on a
+     * chessboard.</p>
+     *
+     * @param board the chessboard, which is left as it was
+     * @param depth the number of moves
+     * @return      the number of positions
+     * @since 1.0
+     */
+    public static long count(ChessBoard board, int depth) {
+        if (depth <= 0)
+            return 1;
+
+        ChessGame game = board.getGameRules();
+        ChessMove[] moves = board.generateAllMoves();
+        if (depth == 1)
+            return moves.length;
+
+        long nodes = 0;
+        for (ChessMove move : moves) {
+            MoveRecord record = game.makeMove(move);
+            nodes += count(board, depth - 1);
+            game.unmakeMove(record);
+        }
+        return nodes;
+    }
+
+    /**
+     * <p>Returns the number of positions reached after the given number of moves from the position on a chessboard,
+     * counted by several threads.</p>
+     * <p>Each thread counts on its own copy of the chessboard, so the chessboard is not changed.</p>
+     *
+     * @param board         the chessboard
+     * @param depth         the number of moves, at most 255
+     * @param parallelism   the number of threads
+     * @return              the number of positions
+     * @since 1.0
+     */
+    public static long parallelCount(ChessBoard board, int depth, int parallelism) {
+        return parallelCount(board, depth, parallelism, MIN_SPLIT_DEPTH);
+    }
+
+    /**
+     * <p>Returns the number of positions reached after the given number of moves from the position on a chessboard,
+     * counted by several threads, splitting the counts of the positions near the root from the given depth.</p>
+     * <p>Each thread counts on its own copy of the chessboard, so the chessboard is not changed.</p>
+     *
+     * @param board         the chessboard
+     * @param depth         the number of moves, at most 255
+     * @param parallelism   the number of threads
+     * @param minSplitDepth the smallest depth that is split into tasks
+     * @return              the number of positions
+     * @since 1.0
+     */
+    public static long parallelCount(ChessBoard board, int depth, int parallelism, int minSplitDepth) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        int megabytes = (int) Math.max(1, Math.min(TABLE_SIZE, Runtime.getRuntime().maxMemory() / 4 / (1024 * 1024)));
+
+        try {
+            return pool.invoke(new CountTask(new BasicChessBoard(board), depth, 0, minSplitDepth, new PerftTable(megabytes)));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * <p>Returns the number of positions reached after the given number of moves from the position on a chessboard,
+     * looking up and storing the counts of the positions in between in a table.</p>
+     *
+     * @param board the chessboard, which is left as it was
+     * @param depth the number of moves, at most 255
+     * @param table the table of counts
+     * @return      the number of positions
+     * @since 1.0
+     */
+    public static long count(ChessBoard board, int depth, PerftTable table) {
+        if (depth <= 0)
+            return 1;
+
+        ChessGame game = board.getGameRules();
+        long key = game.getHash();
+        long nodes = table.probe(key, depth);
+        if (nodes >= 0)
+            return nodes;
+
+        ChessMove[] moves = board.generateAllMoves();
+        if (depth == 1)
+            nodes = moves.length;
+        else {
+            nodes = 0;
+            for (ChessMove move : moves) {
+                MoveRecord record = game.makeMove(move);
+                nodes += count(board, depth - 1, table);
+                game.unmakeMove(record);
+            }
+        }
+
+        table.store(key, depth, nodes);
+        return nodes;
+    }
+
+    /**
+     * <p>Returns the number of positions reached after each move from the position on a chessboard.</p>
+     *
+     * @param board the chessboard, which is left as it was
+     * @param depth the number of moves, including the first move
+     * @return      the number of positions after each move, keyed by the name of the move, in the order the moves are
+     *              generated
+     * @since 1.0
+     */
+    public static Map<String, Long> divide(ChessBoard board, int depth) {
+        ChessGame game = board.getGameRules();
+        Map<String, Long> counts = new LinkedHashMap<>();
+
+        for (ChessMove move : board.generateAllMoves()) {
+            String name = CoordinateNotation.write(move);
+            MoveRecord record = game.makeMove(move);
+            counts.merge(name, count(board, depth - 1), Long::sum);
+            game.unmakeMove(record);
+        }
+        return counts;
+    }
+
+    /**
+     * <p>Returns a new chessboard set up with the position of a FEN, read by {@link EuropeanChessFen} or
+     * {@link XiangqiFen}.</p>
+     *
+     * @param xiangqi   if the position is a position of Xiangqi
+     * @param fen       the FEN of the position
+     * @return          the chessboard
+     * @throws IllegalArgumentException if the FEN cannot be read
+     * @since 1.0
+     */
+    public static BasicChessBoard setUp(boolean xiangqi, String fen) throws IllegalArgumentException {
+        return xiangqi ? XiangqiFen.createBoard(fen) : EuropeanChessFen.createBoard(fen);
+    }
+
+    /**
+     * <p>Prints a count with the time taken and the number of positions counted per second.</p>
+     *
+     * @param depth     the depth of the count
+     * @param nodes     the count
+     * @param nanos     the time taken, in nanoseconds
+     * @since 1.0
+     */
+    private static void printCount(int depth, long nodes, long nanos) {
+        System.out.printf("  depth %d: %d nodes in %.3f s (%.0f nodes/s)%n", depth, nodes, nanos / NANOSECONDS, nodes / Math.max(nanos / NANOSECONDS, 1e-9));
+    }
+    //endregion
+}
@@ -0,0 +1,123 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * <p>Represents a fixed-size table of perft counts, keyed by the Zobrist key of a position and a depth, shared by any
+ * number of threads.</p>
+ * <p>A position reached through different moves has the same count, so a count found once is looked up instead of
+ * counted again. Like {@link TranspositionTable}, entries are read and written without locks: each entry is stored as
+ * the data and the key exclusive or the data, so an entry written by two threads at once does not match its key and
+ * is treated as missing.</p>
+ * <p>Each bucket has two entries. The first keeps the deepest count, which saves the most work, and the second keeps
+ * the latest count.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class PerftTable {
+
+    //region FIELDS
+    /**
+     * Stores the largest size of a table, in megabytes.
+     */
+    public static final int MAX_MEGABYTES = 8192;
+
+    /**
+     * Stores the number of bytes of a bucket: two entries of a key word and a data word.
+     */
+    private static final int BUCKET_BYTES = 32;
+
+    /**
+     * Stores the key mixed into the key of a position for each ply of depth, so the counts of a position at different
+     * depths fall into different buckets.
+     */
+    private static final long DEPTH_KEY = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Stores the handle that reads and writes the words of the table atomically.
+     */
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    /**
+     * Stores the words of the table; each bucket is four words.
+     */
+    private final long[] words;
+
+    /**
+     * Stores the number of buckets minus one, used to find the bucket of a key.
+     */
+    private final int bucketMask;
+    //endregion
+
+    //region CONSTRUCTORS
+    /**
+     * <p>Creates an empty table of at most the given size.</p>
+     * <p>The number of buckets is rounded down to a power of two.</p>
+     *
+     * @param megabytes the size of the table, in megabytes
+     * @throws IllegalArgumentException if the size is not between 1 and {@link #MAX_MEGABYTES}
+     * @since 1.0
+     */
+    public PerftTable(int megabytes) throws IllegalArgumentException {
+        if (megabytes < 1 || megabytes > MAX_MEGABYTES)
+            throw new IllegalArgumentException("The size of a perft table must be between 1 and " + MAX_MEGABYTES + " megabytes.");
+
+        int numBuckets = Integer.highestOneBit((int) ((long) megabytes * 1024 * 1024 / BUCKET_BYTES));
+        words = new long[numBuckets * 4];
+        bucketMask = numBuckets - 1;
+    }
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Returns the count stored for a position at a depth.</p>
+     *
+     * @param key   the Zobrist key of the position
+     * @param depth the depth of the count, between 1 and 255
+     * @return      the count, -1 if the table has none
+     * @since 1.0
+     */
+    public long probe(long key, int depth) {
+        int bucket = getBucket(key, depth);
+
+        for (int i = bucket; i < bucket + 4; i += 2) {
+            long data = (long) WORDS.getOpaque(words, i + 1);
+
+            if (data != 0 && ((long) WORDS.getOpaque(words, i) ^ data) == key && (int) (data & 0xFF) == depth)
+                return data >>> 8;
+        }
+        return -1;
+    }
+
+    /**
+     * <p>Stores the count of a position at a depth.</p>
+     *
+     * @param key   the Zobrist key of the position
+     * @param depth the depth of the count, between 1 and 255
+     * @param count the count, less than 2<sup>56</sup>
+     * @since 1.0
+     */
+    public void store(long key, int depth, long count) {
+        int bucket = getBucket(key, depth);
+        long data = count << 8 | depth;
+        long deepest = (long) WORDS.getOpaque(words, bucket + 1);
+
+        // Keeps the deeper count in the first entry and puts the other count in the second
+        int entry = deepest == 0 || depth >= (int) (deepest & 0xFF) ? bucket : bucket + 2;
+        WORDS.setOpaque(words, entry, key ^ data);
+        WORDS.setOpaque(words, entry + 1, data);
+    }
+
+    /**
+     * <p>Returns the index of the first word of the bucket of a key and depth.</p>
+     *
+     * @param key   the Zobrist key of a position
+     * @param depth the depth of a count
+     * @return      the index of the first word of the bucket
+     * @since 1.0
+     */
+    private int getBucket(long key, int depth) {
+        return (int) ((key ^ depth * DEPTH_KEY) & bucketMask) * 4;
+    }
+    //endregion
+}
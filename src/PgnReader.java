@@ -0,0 +1,664 @@
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * <p>Represents a command-line tool that reads the games of Indo-European chess in a Portable Game Notation (PGN) file
+ * and replays every move through the rules of the game, so games with illegal or unreadable moves are found.</p>
+ * <p>The file is memory-mapped rather than read through a stream, so files of many gigabytes are read without
+ * copying them into the heap. It is cut into ranges of about {@link #RANGE_SIZE} bytes, each starting at the tags of a
+ * game after a blank line, and the ranges are parsed and replayed on a pool of threads. Games are still given to the
+ * caller in the order of the file, and only a few ranges are read ahead, so the memory used does not grow with the
+ * size of the file.</p>
+ * <p>Each game is replayed on its own {@link BasicChessBoard}, from the starting position or from its
+ * <code>FEN</code> tag, and each move is read by {@link EuropeanChessSan} and made by
+ * {@link ChessGame#makeMove(ChessMove)}. Comments, variations, numeric annotation glyphs, and move numbers are
+ * skipped. A game ends at its result, at the tags of the next game, or at the end of the file.</p>
+ * <pre>
+ * java PgnReader file [threads]
+ * </pre>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class PgnReader {
+
+    //region FIELDS
+    /**
+     * Stores the number of bytes of the file mapped and parsed by each task, before it is moved to the next game.
+     */
+    public static final int RANGE_SIZE = 1 << 24;
+
+    /**
+     * Stores the number of bytes mapped at once while looking for the start of a game.
+     */
+    private static final int WINDOW_SIZE = 1 << 16;
+
+    /**
+     * Stores the number of ranges that can be read ahead of the caller for each thread.
+     */
+    private static final int RANGES_AHEAD = 2;
+    //endregion
+
+    //region CONSTRUCTORS
+    /**
+     * <p>Prevents the class of static methods from being created.</p>
+     *
+     * @since 1.0
+     */
+    private PgnReader() {}
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Runs the tool from the command line, writing one line for each game: its number, its result, its number of
+     * plies, its players, and <code>ok</code> or why it could not be replayed. A summary is written at the end.</p>
+     *
+     * @param args  the PGN file, and the number of threads
+     * @since 1.0
+     */
+    public static void main(String[] args) {
+        // Makes sure no piece icon loads its image
+        System.setProperty("java.awt.headless", "true");
+
+        if (args.length < 1) {
+            System.err.println("Usage: java PgnReader file [threads]");
+            System.exit(2);
+        }
+
+        // Stores the number of games that could not be replayed, and the number of plies that were
+        long[] totals = new long[2];
+        long start = System.nanoTime();
+
+        try {
+            int threads = args.length >= 2 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+            int games = read(Paths.get(args[0]), threads, game -> {
+                if (!game.isValid())
+                    totals[0]++;
+                totals[1] += game.getPlies();
+
+                System.out.println(game.getNumber() + "\t" + game.getResult() + "\t" + game.getPlies() + "\t"
+                        + game.getTag("White") + " - " + game.getTag("Black") + "\t" + (game.isValid() ? "ok" : game.getError()));
+            });
+
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.println(games + " games, " + totals[0] + " with errors, " + totals[1] + " plies");
+            System.out.printf("%.0f games per second, %.0f plies per second%n", games / seconds, totals[1] / seconds);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+        }
+    }
+
+    /**
+     * <p>Reads and replays the games of a PGN file on a pool of threads.</p>
+     *
+     * @param file      the PGN file
+     * @param threads   the number of threads
+     * @param consumer  what is given each game, in the order of the file, on the calling thread
+     * @return          the number of games
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the number of threads is less than 1
+     * @since 1.0
+     */
+    public static int read(Path file, int threads, Consumer<Game> consumer) throws IOException, IllegalArgumentException {
+        if (threads < 1)
+            throw new IllegalArgumentException("There must be at least 1 thread.");
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        int number = 0;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long start = 0;
+            ArrayDeque<Future<List<Game>>> ranges = new ArrayDeque<>();
+
+            while (start < size || !ranges.isEmpty()) {
+                // Maps the next ranges while there is room ahead of the caller
+                while (start < size && ranges.size() < threads * RANGES_AHEAD) {
+                    long end = start + RANGE_SIZE < size ? findGameStart(channel, start + RANGE_SIZE, size) : size;
+                    if (end - start > Integer.MAX_VALUE)
+                        throw new IOException("A game at byte " + start + " is too long to be mapped.");
+
+                    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+                    long offset = start;
+                    ranges.add(pool.submit(() -> new Parser(buffer, offset).readGames()));
+                    start = end;
+                }
+
+                for (Game game : ranges.remove().get()) {
+                    game.number = ++number;
+                    consumer.accept(game);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A range of the file could not be read.", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+
+        return number;
+    }
+
+    /**
+     * <p>Reads and replays the games of a PGN file on a pool of threads.</p>
+     *
+     * @param file      the PGN file
+     * @param threads   the number of threads
+     * @return          the games, in the order of the file
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the number of threads is less than 1
+     * @since 1.0
+     */
+    public static List<Game> read(Path file, int threads) throws IOException, IllegalArgumentException {
+        List<Game> games = new ArrayList<>();
+        read(file, threads, games::add);
+        return games;
+    }
+
+    /**
+     * <p>Returns the offset of the first game that starts at or after an offset of a file.</p>
+     * <p>A game starts at a <code>[</code> after a blank line, which is where the tags of one game follow the moves of
+     * another. The file is mapped a window at a time while it is searched.</p>
+     *
+     * @param channel   the file
+     * @param from      the offset the search starts at
+     * @param size      the size of the file
+     * @return          the offset of the <code>[</code> that starts the game, or the size of the file if there is none
+     * @throws IOException if the file cannot be read
+     * @since 1.0
+     */
+    private static long findGameStart(FileChannel channel, long from, long size) throws IOException {
+        int newLines = 0;
+
+        for (long position = from; position < size; position += WINDOW_SIZE) {
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(WINDOW_SIZE, size - position));
+
+            for (int i = 0; i < window.limit(); i++) {
+                byte b = window.get(i);
+
+                if (b == '\n')
+                    newLines++;
+                else if (b == '[' && newLines >= 2)
+                    return position + i;
+                else if (b != '\r' && b != ' ' && b != '\t')
+                    newLines = 0;
+            }
+        }
+        return size;
+    }
+    //endregion
+
+    //region NESTED TYPES
+    /**
+     * <p>Represents a game of a PGN file: its tags, and how far it could be replayed.</p>
+     *
+     * @author Nobel Zhou (nxz157)
+     * @version 1.0, 10/17/2026
+     */
+    public static class Game {
+        /**
+         * Stores the number of the game in the file, from 1.
+         */
+        private int number;
+
+        /**
+         * Stores the offset in the file of the first byte of the game.
+         */
+        private final long offset;
+
+        /**
+         * Stores the tags of the game, in the order they were read.
+         */
+        private final Map<String, String> tags;
+
+        /**
+         * Stores the result that ended the moves of the game, or the result tag if there was none.
+         */
+        private String result;
+
+        /**
+         * Stores the number of plies that were replayed.
+         */
+        private int plies;
+
+        /**
+         * Stores why the game could not be replayed, <code>null</code> if every move was legal.
+         */
+        private String error;
+
+        /**
+         * Stores the moves that were replayed, from the position the game started from.
+         */
+        private MoveHistory history;
+
+        /**
+         * <p>Creates a game that has not been replayed.</p>
+         *
+         * @param offset    the offset in the file of the first byte of the game
+         * @param tags      the tags of the game
+         * @since 1.0
+         */
+        private Game(long offset, Map<String, String> tags) {
+            this.offset = offset;
+            this.tags = tags;
+        }
+
+        /**
+         * <p>Returns the number of the game in the file.</p>
+         *
+         * @return  the number of the game, from 1
+         * @since 1.0
+         */
+        public int getNumber() {
+            return number;
+        }
+
+        /**
+         * <p>Returns the offset in the file of the first byte of the game.</p>
+         *
+         * @return  the offset of the game
+         * @since 1.0
+         */
+        public long getOffset() {
+            return offset;
+        }
+
+        /**
+         * <p>Returns the value of a tag of the game.</p>
+         *
+         * @param name  the name of the tag, such as <code>White</code>
+         * @return      the value of the tag, or <code>?</code> if the game does not have it
+         * @since 1.0
+         */
+        public String getTag(String name) {
+            return tags.getOrDefault(name, "?");
+        }
+
+        /**
+         * <p>Returns the tags of the game.</p>
+         *
+         * @return  the tags, in the order they were read, which cannot be changed
+         * @since 1.0
+         */
+        public Map<String, String> getTags() {
+            return Collections.unmodifiableMap(tags);
+        }
+
+        /**
+         * <p>Returns the result of the game: <code>1-0</code>, <code>0-1</code>, <code>1/2-1/2</code>, or
+         * <code>*</code>.</p>
+         *
+         * @return  the result that ended the moves of the game, or the result tag if there was none
+         * @since 1.0
+         */
+        public String getResult() {
+            return result != null ? result : getTag("Result");
+        }
+
+        /**
+         * <p>Returns the number of plies that were replayed, which are all the plies of the game if it is valid.</p>
+         *
+         * @return  the number of plies
+         * @since 1.0
+         */
+        public int getPlies() {
+            return plies;
+        }
+
+        /**
+         * <p>Returns why the game could not be replayed.</p>
+         *
+         * @return  the error, with the ply it was found at, or <code>null</code> if every move was legal
+         * @since 1.0
+         */
+        public String getError() {
+            return error;
+        }
+
+        /**
+         * <p>Returns the moves that were replayed, which can be written again by {@link PgnWriter} or replayed by
+         * {@link MoveHistory#replay()}.</p>
+         *
+         * @return  the history of the game, which has no moves if its FEN could not be read
+         * @since 1.0
+         */
+        public MoveHistory getMoveHistory() {
+            return history;
+        }
+
+        /**
+         * <p>Returns if every move of the game could be read and was legal.</p>
+         *
+         * @return  if the game is valid
+         * @since 1.0
+         */
+        public boolean isValid() {
+            return error == null;
+        }
+    }
+
+    /**
+     * <p>Represents the parser of a mapped range of a PGN file, which replays the games of the range.</p>
+     *
+     * @author Nobel Zhou (nxz157)
+     * @version 1.0, 10/17/2026
+     */
+    private static class Parser {
+        /**
+         * Stores the mapped range of the file.
+         */
+        private final MappedByteBuffer buffer;
+
+        /**
+         * Stores the offset in the file of the first byte of the range.
+         */
+        private final long offset;
+
+        /**
+         * Stores the index of the next byte to read.
+         */
+        private int position;
+
+        /**
+         * Stores the characters of the token being read, reused for every token.
+         */
+        private final StringBuilder token = new StringBuilder();
+
+        /**
+         * Stores the bytes of the tag value being read, reused for every tag and grown as needed.
+         */
+        private byte[] value = new byte[64];
+
+        /**
+         * <p>Creates a parser of a mapped range of a file.</p>
+         *
+         * @param buffer    the mapped range
+         * @param offset    the offset in the file of the first byte of the range
+         * @since 1.0
+         */
+        private Parser(MappedByteBuffer buffer, long offset) {
+            this.buffer = buffer;
+            this.offset = offset;
+        }
+
+        /**
+         * <p>Reads and replays every game of the range.</p>
+         *
+         * @return  the games, in the order of the range
+         * @since 1.0
+         */
+        private List<Game> readGames() {
+            List<Game> games = new ArrayList<>();
+
+            while (skipSpaces()) {
+                Game game = new Game(offset + position, new LinkedHashMap<>());
+
+                while (position < buffer.limit() && buffer.get(position) == '[') {
+                    readTag(game.tags);
+                    skipSpaces();
+                }
+
+                readMoves(game);
+                games.add(game);
+            }
+            return games;
+        }
+
+        /**
+         * <p>Reads a tag, from its <code>[</code> to the end of its line.</p>
+         * <p>The value of the tag is read as UTF-8, with <code>\"</code> and <code>\\</code> escaped. A tag without a
+         * quoted value is skipped.</p>
+         *
+         * @param tags  the tags of the game, which the tag is added to
+         * @since 1.0
+         */
+        private void readTag(Map<String, String> tags) {
+            int limit = buffer.limit();
+            token.setLength(0);
+
+            for (position++; position < limit; position++) {
+                byte b = buffer.get(position);
+                if (b == '"' || b == ']' || isSpace(b))
+                    break;
+                token.append((char) b);
+            }
+            while (position < limit && isSpace(buffer.get(position)))
+                position++;
+
+            if (position < limit && buffer.get(position) == '"') {
+                int length = 0;
+
+                for (position++; position < limit && buffer.get(position) != '"' && buffer.get(position) != '\n'; position++) {
+                    byte b = buffer.get(position);
+                    if (b == '\\' && position + 1 < limit && buffer.get(position + 1) != '\n')
+                        b = buffer.get(++position);
+
+                    if (length == value.length)
+                        value = Arrays.copyOf(value, length * 2);
+                    value[length++] = b;
+                }
+                tags.put(token.toString(), new String(value, 0, length, StandardCharsets.UTF_8));
+            }
+
+            skipLine();
+        }
+
+        /**
+         * <p>Reads the moves of a game and replays them, until its result, the tags of the next game, or the end of
+         * the range.</p>
+         * <p>Once a move cannot be replayed, the rest of the moves are skipped.</p>
+         *
+         * @param game  the game
+         * @since 1.0
+         */
+        private void readMoves(Game game) {
+            BasicChessBoard board = new BasicChessBoard(new EuropeanChess(ChessGame.Side.SOUTH));
+            ChessGame rules = board.getGameRules();
+            game.history = rules.getMoveHistory();
+
+            try {
+                String fen = game.tags.get("FEN");
+                if (fen != null)
+                    EuropeanChessFen.read(fen, board);
+                else
+                    rules.startGame(board);
+            } catch (IllegalArgumentException e) {
+                game.error = "FEN: " + e.getMessage();
+            }
+
+            while (skipSpaces()) {
+                byte b = buffer.get(position);
+
+                if (b == '[')
+                    return; // The tags of the next game, after a game without a result
+                else if (b == '{')
+                    skipPast('}');
+                else if (b == ';' || (b == '%' && (position == 0 || buffer.get(position - 1) == '\n')))
+                    skipLine();
+                else if (b == '(')
+                    skipVariation();
+                else {
+                    readToken();
+                    if (isResult()) {
+                        game.result = token.toString();
+                        return;
+                    }
+
+                    if (b != '$' && game.error == null && removeMoveNumber())
+                        playMove(game, board);
+                }
+            }
+        }
+
+        /**
+         * <p>Replays the move of the token.</p>
+         *
+         * @param game  the game
+         * @param board the chessboard of the game
+         * @since 1.0
+         */
+        private void playMove(Game game, ChessBoard board) {
+            // Leaves out the en passant mark some files write after a capture
+            if (token.length() == 4 && token.toString().equals("e.p."))
+                return;
+
+            try {
+                board.getGameRules().makeMove(EuropeanChessSan.read(token, board));
+                game.plies++;
+            } catch (IllegalArgumentException e) {
+                game.error = "Ply " + (game.plies + 1) + ": " + e.getMessage();
+            }
+        }
+
+        /**
+         * <p>Reads the bytes of a token into {@link #token}, up to a space or a character that starts or ends a
+         * comment, a variation, or a tag.</p>
+         *
+         * @since 1.0
+         */
+        private void readToken() {
+            int limit = buffer.limit();
+            token.setLength(0);
+
+            do {
+                token.append((char) buffer.get(position++));
+            } while (position < limit && !isSpace(buffer.get(position)) && "{};()[]".indexOf(buffer.get(position)) < 0);
+        }
+
+        /**
+         * <p>Removes the move number, such as <code>12.</code> or <code>12...</code>, from the start of the token.</p>
+         * <p>Castling written with zeros, such as <code>0-0</code>, also starts with a digit, so it is kept as a
+         * move.</p>
+         *
+         * @return  if a move is left in the token
+         * @since 1.0
+         */
+        private boolean removeMoveNumber() {
+            if (isCastling())
+                return true;
+
+            int i = 0;
+            while (i < token.length() && Character.isDigit(token.charAt(i)))
+                i++;
+
+            if (i > 0 && i < token.length() && token.charAt(i) == '.') {
+                while (i < token.length() && token.charAt(i) == '.')
+                    i++;
+                token.delete(0, i);
+            }
+            return token.length() > 0 && (!Character.isDigit(token.charAt(0)) || isCastling());
+        }
+
+        /**
+         * <p>Returns if the token is castling written with zeros.</p>
+         *
+         * @return  if the token starts with <code>0-0</code>
+         * @since 1.0
+         */
+        private boolean isCastling() {
+            return token.length() >= 3 && token.charAt(0) == '0' && token.charAt(1) == '-' && token.charAt(2) == '0';
+        }
+
+        /**
+         * <p>Returns if the token is the result of a game.</p>
+         *
+         * @return  if the token is <code>1-0</code>, <code>0-1</code>, <code>1/2-1/2</code>, or <code>*</code>
+         * @since 1.0
+         */
+        private boolean isResult() {
+            switch (token.toString()) {
+                case "1-0":
+                case "0-1":
+                case "1/2-1/2":
+                case "*":
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        /**
+         * <p>Skips a variation, with the variations and comments inside it.</p>
+         *
+         * @since 1.0
+         */
+        private void skipVariation() {
+            int depth = 0;
+
+            while (position < buffer.limit()) {
+                byte b = buffer.get(position++);
+
+                if (b == '{')
+                    skipPast('}');
+                else if (b == ';')
+                    skipLine();
+                else if (b == '(')
+                    depth++;
+                else if (b == ')' && --depth == 0)
+                    return;
+            }
+        }
+
+        /**
+         * <p>Skips past the next byte that is a character.</p>
+         *
+         * @param c the character
+         * @since 1.0
+         */
+        private void skipPast(char c) {
+            while (position < buffer.limit() && buffer.get(position++) != c);
+        }
+
+        /**
+         * <p>Skips past the end of the line.</p>
+         *
+         * @since 1.0
+         */
+        private void skipLine() {
+            skipPast('\n');
+        }
+
+        /**
+         * <p>Skips spaces and line breaks.</p>
+         *
+         * @return  if there is a byte left in the range
+         * @since 1.0
+         */
+        private boolean skipSpaces() {
+            while (position < buffer.limit() && isSpace(buffer.get(position)))
+                position++;
+            return position < buffer.limit();
+        }
+
+        /**
+         * <p>Returns if a byte is a space, a tab, a carriage return, or a line break.</p>
+         *
+         * @param b the byte
+         * @return  if the byte is white space
+         * @since 1.0
+         */
+        private static boolean isSpace(byte b) {
+            return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+        }
+    }
+    //endregion
+}
@@ -0,0 +1,194 @@
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+
+/**
+ * <p>Represents the writing of a game as Portable Game Notation (PGN) from the {@link MoveHistory} of its rules, so a
+ * game can be archived without keeping its positions.</p>
+ * <p>The tags start with the Seven Tag Roster, with <code>?</code> for the tags that are not given, and are followed by
+ * <code>SetUp</code> and <code>FEN</code> if the game did not start from the starting position, then by the other
+ * tags given. The moves are replayed from the starting position through the rules of the game, and the legal moves of
+ * each ply are generated once: they are used to write the move, and then to tell if the move before them checked or
+ * mated. Moves of Indo-European chess are written in SAN by {@link EuropeanChessSan}. Xiangqi has no SAN, so moves
+ * of Xiangqi are written in ICCS coordinates, such as <code>h2e2</code>, under a <code>Variant</code> tag.</p>
+ * <p>The PGN is streamed to a <code>Writer</code> a line at a time, with lines of at most {@link #LINE_LENGTH}
+ * characters, and ends with a blank line so games can be written one after another.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class PgnWriter {
+
+    //region FIELDS
+    /**
+     * Stores the names of the tags of the Seven Tag Roster, in the order they are written.
+     */
+    public static final String[] ROSTER = {"Event", "Site", "Date", "Round", "White", "Black", "Result"};
+
+    /**
+     * Stores the longest line of moves.
+     */
+    public static final int LINE_LENGTH = 80;
+    //endregion
+
+    //region CONSTRUCTORS
+    /**
+     * <p>Prevents the class of static methods from being created.</p>
+     *
+     * @since 1.0
+     */
+    private PgnWriter() {}
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Writes the PGN of the moves made in a game since its position was set up.</p>
+     *
+     * @param game  the rules of the game
+     * @param tags  the tags of the game, such as <code>White</code> and <code>Result</code>
+     * @param out   the output the PGN is written to
+     * @throws IOException if the output cannot be written
+     * @throws IllegalArgumentException if the history of the game cannot be replayed
+     * @since 1.0
+     */
+    public static void write(ChessGame game, Map<String, String> tags, Writer out) throws IOException, IllegalArgumentException {
+        write(game.getMoveHistory(), tags, out);
+    }
+
+    /**
+     * <p>Writes the PGN of the moves of a history.</p>
+     *
+     * @param history   the history of the game
+     * @param tags      the tags of the game, such as <code>White</code> and <code>Result</code>
+     * @param out       the output the PGN is written to
+     * @throws IOException if the output cannot be written
+     * @throws IllegalArgumentException if the history cannot be replayed
+     * @since 1.0
+     */
+    public static void write(MoveHistory history, Map<String, String> tags, Writer out) throws IOException, IllegalArgumentException {
+        boolean xiangqi = history.isXiangqi();
+        String fen = history.getStartingFen();
+
+        // Writes the tags
+        for (String name : ROSTER)
+            writeTag(name, tags.getOrDefault(name, name.equals("Date") ? "????.??.??" : name.equals("Result") ? "*" : "?"), out);
+        if (xiangqi && !tags.containsKey("Variant"))
+            writeTag("Variant", "Xiangqi", out);
+        if (fen != null && !fen.equals(xiangqi ? XiangqiFen.START : EuropeanChessFen.START)) {
+            writeTag("SetUp", "1", out);
+            writeTag("FEN", fen, out);
+        }
+        for (Map.Entry<String, String> tag : tags.entrySet()) {
+            if (!isRosterTag(tag.getKey()) && !tag.getKey().equals("SetUp") && !tag.getKey().equals("FEN"))
+                writeTag(tag.getKey(), tag.getValue(), out);
+        }
+        out.write('\n');
+
+        // Writes the moves, replaying them to find the legal moves of each ply
+        BasicChessBoard board = history.createBoard();
+        ChessGame game = board.getGameRules();
+        ChessMove[] moves = board.generateAllMoves();
+        StringBuilder line = new StringBuilder(LINE_LENGTH);
+        StringBuilder token = new StringBuilder(16);
+        int moveNumber = history.getStartingMoveNumber();
+
+        for (int ply = 0; ply < history.size(); ply++) {
+            int code = history.getCode(ply);
+            boolean first = game.getCurrentSide() == game.getStartingSide();
+
+            if (first || ply == 0) {
+                token.setLength(0);
+                token.append(moveNumber).append(first ? "." : "...");
+                append(token, line, out);
+            }
+
+            ChessMove move = history.decode(code, game, moves);
+            token.setLength(0);
+            if (xiangqi)
+                token.append(history.getSquareName(history.getFrom(code))).append(history.getSquareName(history.getTo(code)));
+            else
+                EuropeanChessSan.write(move, moves, token);
+
+            game.makeMove(move);
+            moves = board.generateAllMoves();
+            if (!xiangqi && isInCheck(board))
+                token.append(moves.length == 0 ? '#' : '+');
+            append(token, line, out);
+
+            if (!first)
+                moveNumber++;
+        }
+
+        append(tags.getOrDefault("Result", "*"), line, out);
+        out.append(line).append("\n\n");
+    }
+
+    /**
+     * <p>Writes a tag on its own line, escaping the quotes and backslashes of its value.</p>
+     *
+     * @param name  the name of the tag
+     * @param value the value of the tag
+     * @param out   the output the tag is written to
+     * @throws IOException if the output cannot be written
+     * @since 1.0
+     */
+    private static void writeTag(String name, String value, Writer out) throws IOException {
+        out.append('[').append(name).append(" \"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\')
+                out.append('\\');
+            out.append(c);
+        }
+        out.append("\"]\n");
+    }
+
+    /**
+     * <p>Appends a token to the line of moves being written, after a space, writing the line out first if the token
+     * does not fit on it.</p>
+     *
+     * @param token the token
+     * @param line  the line of moves being written
+     * @param out   the output the lines are written to
+     * @throws IOException if the output cannot be written
+     * @since 1.0
+     */
+    private static void append(CharSequence token, StringBuilder line, Writer out) throws IOException {
+        if (line.length() > 0 && line.length() + 1 + token.length() > LINE_LENGTH) {
+            out.append(line).append('\n');
+            line.setLength(0);
+        } else if (line.length() > 0)
+            line.append(' ');
+        line.append(token);
+    }
+
+    /**
+     * <p>Returns if a tag is one of the Seven Tag Roster.</p>
+     *
+     * @param name  the name of the tag
+     * @return      if the tag is in {@link #ROSTER}
+     * @since 1.0
+     */
+    private static boolean isRosterTag(String name) {
+        for (String tag : ROSTER) {
+            if (tag.equals(name))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * <p>Returns if the side that is playing on a chessboard is in check.</p>
+     *
+     * @param board the chessboard
+     * @return      <code>true</code> if the center piece of the side that is playing is in check
+     * @since 1.0
+     */
+    private static boolean isInCheck(ChessBoard board) {
+        ChessPiece[] pieces = board.getPieces(board.getGameRules().getCurrentSide());
+        CenterPiece king = pieces.length > 0 ? board.getCentralPiece(pieces[0]) : null;
+
+        return king != null && king.isInCheck();
+    }
+    //endregion
+}
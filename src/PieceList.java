@@ -0,0 +1,172 @@
+import java.util.Arrays;
+
+/**
+ * <p>Represents the lists of pieces of each side that are on a chessboard.</p>
+ * <p>Chessboards update the lists whenever a piece is added or removed, so that the pieces of a side can be iterated
+ * without checking every square of the chessboard. The center piece of each side is also kept.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class PieceList {
+
+    //region FIELDS
+    /**
+     * Stores the pieces of each side, indexed by side and then by list index.
+     */
+    private final ChessPiece[][] pieces;
+
+    /**
+     * Stores the square index of each listed piece, indexed by side and then by list index.
+     */
+    private final int[][] squares;
+
+    /**
+     * Stores the number of pieces of each side.
+     */
+    private final int[] sizes;
+
+    /**
+     * Stores the list index of the piece on each square.
+     */
+    private final int[] indexes;
+
+    /**
+     * Stores the center piece of each side, if any.
+     */
+    private final CenterPiece[] centerPieces;
+
+    /**
+     * Stores the number of columns of the chessboard, used to convert a row and column into a square index.
+     */
+    private final int numColumns;
+    //endregion
+
+    //region CONSTRUCTORS
+    /**
+     * <p>Creates empty piece lists for a chessboard of the given size.</p>
+     *
+     * @param numRows       the number of rows of the chessboard
+     * @param numColumns    the number of columns of the chessboard
+     * @since 1.0
+     */
+    public PieceList(int numRows, int numColumns) {
+        this.numColumns = numColumns;
+        pieces = new ChessPiece[ChessGame.Side.values().length][16];
+        squares = new int[ChessGame.Side.values().length][16];
+        sizes = new int[ChessGame.Side.values().length];
+        indexes = new int[numRows * numColumns];
+        centerPieces = new CenterPiece[ChessGame.Side.values().length];
+    }
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Adds a piece that was placed on the given row and column to the list of its side.</p>
+     * <p>The square must be empty; a piece being replaced must be removed first.</p>
+     *
+     * @param piece     the chess piece that was added
+     * @param row       the row of the chessboard
+     * @param column    the column of the chessboard
+     * @since 1.0
+     */
+    public void add(ChessPiece piece, int row, int column) {
+        int side = piece.getSide().ordinal();
+
+        // Grows the list of the side if it is full
+        if (sizes[side] == pieces[side].length) {
+            pieces[side] = Arrays.copyOf(pieces[side], 2 * sizes[side]);
+            squares[side] = Arrays.copyOf(squares[side], 2 * sizes[side]);
+        }
+
+        pieces[side][sizes[side]] = piece;
+        squares[side][sizes[side]] = row * numColumns + column;
+        indexes[row * numColumns + column] = sizes[side]++;
+
+        if (piece instanceof CenterPiece && centerPieces[side] == null)
+            centerPieces[side] = (CenterPiece) piece;
+    }
+
+    /**
+     * <p>Removes a piece that was taken off the given row and column from the list of its side.</p>
+     *
+     * @param piece     the chess piece that was removed
+     * @param row       the row of the chessboard
+     * @param column    the column of the chessboard
+     * @since 1.0
+     */
+    public void remove(ChessPiece piece, int row, int column) {
+        int side = piece.getSide().ordinal();
+        int index = indexes[row * numColumns + column];
+
+        // Moves the last piece of the list into the removed piece's place
+        int last = --sizes[side];
+        pieces[side][index] = pieces[side][last];
+        squares[side][index] = squares[side][last];
+        indexes[squares[side][index]] = index;
+        pieces[side][last] = null;
+
+        // Looks for another center piece of the same side if the center piece was removed
+        if (centerPieces[side] == piece) {
+            centerPieces[side] = null;
+            for (int i = 0; i < sizes[side] && centerPieces[side] == null; i++) {
+                if (pieces[side][i] instanceof CenterPiece)
+                    centerPieces[side] = (CenterPiece) pieces[side][i];
+            }
+        }
+    }
+
+    /**
+     * <p>Returns an array of the pieces of the given side.</p>
+     * <p>The array is a copy, so the chessboard can be changed while iterating it; pieces that are only read can be
+     * iterated with {@link #size(ChessGame.Side)} and {@link #get(ChessGame.Side, int)} instead.</p>
+     *
+     * @param side  the side of the pieces
+     * @return      the pieces of the side
+     * @since 1.0
+     */
+    public ChessPiece[] getPieces(ChessGame.Side side) {
+        return Arrays.copyOf(pieces[side.ordinal()], sizes[side.ordinal()]);
+    }
+
+    /**
+     * <p>Returns the number of pieces of the given side.</p>
+     *
+     * @param side  the side of the pieces
+     * @return      the number of pieces of the side
+     * @since 1.0
+     */
+    public int size(ChessGame.Side side) {
+        return sizes[side.ordinal()];
+    }
+
+    /**
+     * <p>Returns a piece of the given side by its index in the list of the side.</p>
+     * <p>Nothing is copied, so the pieces of a side can be iterated with {@link #size(ChessGame.Side)} without
+     * allocating, as long as no piece is added or removed while iterating; removing a piece moves the last piece of
+     * the list into its place.</p>
+     *
+     * @param side  the side of the piece
+     * @param index the index of the piece, from 0 to the number of pieces of the side
+     * @return      the piece
+     * @throws IndexOutOfBoundsException if the side has no piece at the index
+     * @since 1.0
+     */
+    public ChessPiece get(ChessGame.Side side, int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= sizes[side.ordinal()])
+            throw new IndexOutOfBoundsException("There is no piece " + index + " of " + sizes[side.ordinal()] + ".");
+        return pieces[side.ordinal()][index];
+    }
+
+    /**
+     * <p>Returns the center piece of the given side.</p>
+     *
+     * @param side  the side of the center piece
+     * @return      the center piece, <code>null</code> if the side has none
+     * @since 1.0
+     */
+    public CenterPiece getCenterPiece(ChessGame.Side side) {
+        return centerPieces[side.ordinal()];
+    }
+    //endregion
+}
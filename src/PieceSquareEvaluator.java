@@ -0,0 +1,274 @@
+/**
+ * <p>Represents an evaluator that scores a position by the material of each side and by where each piece stands.</p>
+ * <p>Every piece is worth its value from {@link MaterialEvaluator#getValue(ChessGame, String)} plus a bonus from the
+ * piece-square table of its label, which rewards squares such as the center for knights and horses, or the squares
+ * across the river for soldiers. The tables are written from the point of view of the South side, with row 0 the far
+ * side of the chessboard; the squares of the other sides are mapped onto them, so the tables work in every
+ * orientation.</p>
+ * <p>The score of each side is not found by going over the chessboard. Each game keeps it in
+ * {@link ChessGame#getScore(ChessGame.Side)}, and each move only takes out the values of the pieces it changes and
+ * adds them back once they are moved, so evaluating a position costs the same whatever the number of pieces.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class PieceSquareEvaluator implements Evaluator {
+
+    //region FIELDS
+    /**
+     * Stores the piece-square tables of the Indo-European chess pieces, indexed by the letter of the label.
+     */
+    private static final int[][] EUROPEAN_TABLES = new int[32][];
+
+    /**
+     * Stores the piece-square tables of the xiangqi pieces, indexed by the letter of the label.
+     */
+    private static final int[][] XIANGQI_TABLES = new int[32][];
+
+    static {
+        EUROPEAN_TABLES['P' & 31] = new int[] {
+                  0,   0,   0,   0,   0,   0,   0,   0,
+                 50,  50,  50,  50,  50,  50,  50,  50,
+                 10,  10,  20,  30,  30,  20,  10,  10,
+                  5,   5,  10,  25,  25,  10,   5,   5,
+                  0,   0,   0,  20,  20,   0,   0,   0,
+                  5,  -5, -10,   0,   0, -10,  -5,   5,
+                  5,  10,  10, -20, -20,  10,  10,   5,
+                  0,   0,   0,   0,   0,   0,   0,   0
+        };
+        EUROPEAN_TABLES['N' & 31] = new int[] {
+                -50, -40, -30, -30, -30, -30, -40, -50,
+                -40, -20,   0,   0,   0,   0, -20, -40,
+                -30,   0,  10,  15,  15,  10,   0, -30,
+                -30,   5,  15,  20,  20,  15,   5, -30,
+                -30,   0,  15,  20,  20,  15,   0, -30,
+                -30,   5,  10,  15,  15,  10,   5, -30,
+                -40, -20,   0,   5,   5,   0, -20, -40,
+                -50, -40, -30, -30, -30, -30, -40, -50
+        };
+        EUROPEAN_TABLES['B' & 31] = new int[] {
+                -20, -10, -10, -10, -10, -10, -10, -20,
+                -10,   0,   0,   0,   0,   0,   0, -10,
+                -10,   0,   5,  10,  10,   5,   0, -10,
+                -10,   5,   5,  10,  10,   5,   5, -10,
+                -10,   0,  10,  10,  10,  10,   0, -10,
+                -10,  10,  10,  10,  10,  10,  10, -10,
+                -10,   5,   0,   0,   0,   0,   5, -10,
+                -20, -10, -10, -10, -10, -10, -10, -20
+        };
+        EUROPEAN_TABLES['R' & 31] = new int[] {
+                  0,   0,   0,   0,   0,   0,   0,   0,
+                  5,  10,  10,  10,  10,  10,  10,   5,
+                 -5,   0,   0,   0,   0,   0,   0,  -5,
+                 -5,   0,   0,   0,   0,   0,   0,  -5,
+                 -5,   0,   0,   0,   0,   0,   0,  -5,
+                 -5,   0,   0,   0,   0,   0,   0,  -5,
+                 -5,   0,   0,   0,   0,   0,   0,  -5,
+                  0,   0,   0,   5,   5,   0,   0,   0
+        };
+        EUROPEAN_TABLES['Q' & 31] = new int[] {
+                -20, -10, -10,  -5,  -5, -10, -10, -20,
+                -10,   0,   0,   0,   0,   0,   0, -10,
+                -10,   0,   5,   5,   5,   5,   0, -10,
+                 -5,   0,   5,   5,   5,   5,   0,  -5,
+                  0,   0,   5,   5,   5,   5,   0,  -5,
+                -10,   5,   5,   5,   5,   5,   0, -10,
+                -10,   0,   5,   0,   0,   0,   0, -10,
+                -20, -10, -10,  -5,  -5, -10, -10, -20
+        };
+        EUROPEAN_TABLES['K' & 31] = new int[] {
+                -30, -40, -40, -50, -50, -40, -40, -30,
+                -30, -40, -40, -50, -50, -40, -40, -30,
+                -30, -40, -40, -50, -50, -40, -40, -30,
+                -30, -40, -40, -50, -50, -40, -40, -30,
+                -20, -30, -30, -40, -40, -30, -30, -20,
+                -10, -20, -20, -20, -20, -20, -20, -10,
+                 20,  20,   0,   0,   0,   0,  20,  20,
+                 20,  30,  10,   0,   0,  10,  30,  20
+        };
+
+        XIANGQI_TABLES['S' & 31] = new int[] {
+                  0,   2,   4,   6,   8,   6,   4,   2,   0,
+                 10,  20,  30,  40,  50,  40,  30,  20,  10,
+                 10,  20,  25,  35,  40,  35,  25,  20,  10,
+                  8,  15,  20,  25,  30,  25,  20,  15,   8,
+                  5,  10,  15,  20,  20,  20,  15,  10,   5,
+                  0,   0,   5,   0,   8,   0,   5,   0,   0,
+                  0,   0,  -2,   0,   5,   0,  -2,   0,   0,
+                  0,   0,   0,   0,   0,   0,   0,   0,   0,
+                  0,   0,   0,   0,   0,   0,   0,   0,   0,
+                  0,   0,   0,   0,   0,   0,   0,   0,   0
+        };
+        XIANGQI_TABLES['H' & 31] = new int[] {
+                  4,   8,  16,  12,   4,  12,  16,   8,   4,
+                  4,  10,  28,  16,   8,  16,  28,  10,   4,
+                 12,  14,  16,  20,  18,  20,  16,  14,  12,
+                  8,  24,  18,  24,  20,  24,  18,  24,   8,
+                  6,  16,  14,  18,  16,  18,  14,  16,   6,
+                  4,  12,  16,  14,  12,  14,  16,  12,   4,
+                  2,   6,   8,   6,  10,   6,   8,   6,   2,
+                  4,   2,   8,   8,   4,   8,   8,   2,   4,
+                  0,   2,   4,   4,  -2,   4,   4,   2,   0,
+                  0,  -4,   0,   0,   0,   0,   0,  -4,   0
+        };
+        XIANGQI_TABLES['R' & 31] = new int[] {
+                 14,  14,  12,  18,  16,  18,  12,  14,  14,
+                 16,  20,  18,  24,  26,  24,  18,  20,  16,
+                 12,  12,  12,  18,  18,  18,  12,  12,  12,
+                 12,  18,  16,  22,  22,  22,  16,  18,  12,
+                 12,  14,  12,  18,  18,  18,  12,  14,  12,
+                 12,  16,  14,  20,  20,  20,  14,  16,  12,
+                  6,  10,   8,  14,  14,  14,   8,  10,   6,
+                  4,   8,   6,  14,  12,  14,   6,   8,   4,
+                  8,   4,   8,  16,   8,  16,   8,   4,   8,
+                 -2,  10,   6,  14,  12,  14,   6,  10,  -2
+        };
+        XIANGQI_TABLES['C' & 31] = new int[] {
+                  6,   4,   0, -10, -12, -10,   0,   4,   6,
+                  2,   2,   0,  -4, -14,  -4,   0,   2,   2,
+                  2,   2,   0, -10,  -8, -10,   0,   2,   2,
+                  0,   0,  -2,   4,  10,   4,  -2,   0,   0,
+                  0,   0,   0,   2,   8,   2,   0,   0,   0,
+                 -2,   0,   4,   2,   6,   2,   4,   0,  -2,
+                  0,   0,   0,   2,   4,   2,   0,   0,   0,
+                  4,   0,   8,   6,  10,   6,   8,   0,   4,
+                  0,   2,   4,   6,   6,   6,   4,   2,   0,
+                  0,   0,   2,   6,   6,   6,   2,   0,   0
+        };
+        XIANGQI_TABLES['E' & 31] = new int[] {
+                  0,   0,   0,   0,   0,   0,   0,   0,   0,
+                  0,   0,   0,   0,   0,   0,   0,   0,   0,
+                  0,   0,   0,   0,   0,   0,   0,   0,   0,
+                  0,   0,   0,   0,   0,   0,   0,   0,   0,
+                  0,   0,   0,   0,   0,   0,   0,   0,   0,
+                  0,   0,  -2,   0,   0,   0,  -2,   0,   0,
+                  0,   0,   0,   0,   0,   0,   0,   0,   0,
+                 -3,   0,   0,   0,   6,   0,   0,   0,  -3,
+                  0,   0,   0,   0,   0,   0,   0,   0,   0,
+                  0,   0,   0,   0,   0,   0,   0,   0,   0
+        };
+        XIANGQI_TABLES['G' & 31] = new int[] {
+                  0,   0,   0,   0,   0,   0,   0,   0,   0,
+                  0,   0,   0,   0,   0,   0,   0,   0,   0,
+                  0,   0,   0,   0,   0,   0,   0,   0,   0,
+                  0,   0,   0,   0,   0,   0,   0,   0,   0,
+                  0,   0,   0,   0,   0,   0,   0,   0,   0,
+                  0,   0,   0,   0,   0,   0,   0,   0,   0,
+                  0,   0,   0,   0,   0,   0,   0,   0,   0,
+                  0,   0,   0,  -2,   0,  -2,   0,   0,   0,
+                  0,   0,   0,   0,   4,   0,   0,   0,   0,
+                  0,   0,   0,   0,   0,   0,   0,   0,   0
+        };
+        XIANGQI_TABLES['X' & 31] = new int[] {
+                  0,   0,   0,   0,   0,   0,   0,   0,   0,
+                  0,   0,   0,   0,   0,   0,   0,   0,   0,
+                  0,   0,   0,   0,   0,   0,   0,   0,   0,
+                  0,   0,   0,   0,   0,   0,   0,   0,   0,
+                  0,   0,   0,   0,   0,   0,   0,   0,   0,
+                  0,   0,   0,   0,   0,   0,   0,   0,   0,
+                  0,   0,   0,   0,   0,   0,   0,   0,   0,
+                  0,   0,   0, -12,  -8, -12,   0,   0,   0,
+                  0,   0,   0,  -6,  -2,  -6,   0,   0,   0,
+                  0,   0,   0,  -2,   4,  -2,   0,   0,   0
+        };
+    }
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Returns the value of a piece on its square: its material plus the bonus of its square.</p>
+     *
+     * @param piece the piece, which must be on the chessboard
+     * @return      the value of the piece on its square
+     * @since 1.0
+     */
+    public static int getValue(ChessPiece piece) {
+        ChessGame game = piece.getChessBoard().getGameRules();
+        int[] table = (game instanceof Xiangqi ? XIANGQI_TABLES : EUROPEAN_TABLES)[piece.getLabel().charAt(0) & 31];
+        int value = MaterialEvaluator.getValue(game, piece.getLabel());
+
+        return table != null ? value + table[getTableSquare(game, piece)] : value;
+    }
+
+    /**
+     * <p>Adds the values of the pieces that are on the chessboard to the scores of their sides.</p>
+     * <p>Pieces that are off the chessboard, or that were replaced on their square, are skipped, like in
+     * {@link Zobrist#getKey(ChessPiece[])}. A move can therefore be scored by taking out the values of the pieces it
+     * changes before it is made and adding them back after.</p>
+     *
+     * @param scores    the scores of each side, indexed by the ordinal of the side
+     * @param pieces    the pieces
+     * @param sign      1 to add the values, -1 to take them out
+     * @since 1.0
+     */
+    public static void addValues(int[] scores, ChessPiece[] pieces, int sign) {
+        for (ChessPiece piece : pieces) {
+            if (piece.getRow() >= 0 && piece.getColumn() >= 0 && piece.getChessBoard().getPiece(piece.getRow(), piece.getColumn()) == piece)
+                scores[piece.getSide().ordinal()] += sign * getValue(piece);
+        }
+    }
+
+    /**
+     * <p>Returns the scores of each side, found by going over the whole chessboard.</p>
+     *
+     * @param board the chessboard
+     * @return      the scores of each side, indexed by the ordinal of the side
+     * @since 1.0
+     */
+    public static int[] getScores(ChessBoard board) {
+        int[] scores = new int[ChessGame.Side.values().length];
+
+        for (ChessGame.Side side : ChessGame.Side.values())
+            addValues(scores, board.getPieces(side), 1);
+        return scores;
+    }
+
+    /**
+     * <p>Returns the index in a piece-square table of the square of a piece, seen from the side of the piece.</p>
+     * <p>The North side sees the rows flipped. The West and East sides see the chessboard turned a quarter, so their
+     * columns become the rows of the table.</p>
+     *
+     * @param game  the rules of the game
+     * @param piece the piece
+     * @return      the index of the square in a piece-square table
+     * @since 1.0
+     */
+    private static int getTableSquare(ChessGame game, ChessPiece piece) {
+        int numRows = game.getNumRows();
+        int numColumns = game.getNumColumns();
+
+        switch (piece.getSide()) {
+            case SOUTH:
+                return piece.getRow() * numColumns + piece.getColumn();
+            case NORTH:
+                return (numRows - 1 - piece.getRow()) * numColumns + piece.getColumn();
+            case WEST:
+                return (numColumns - 1 - piece.getColumn()) * numRows + piece.getRow();
+            default: // East
+                return piece.getColumn() * numRows + piece.getRow();
+        }
+    }
+
+    /**
+     * <p>Returns the score of the side that is playing minus the scores of the other sides.</p>
+     * <p>The scores are read from the game, which keeps them up to date as moves are made.</p>
+     *
+     * @param game  the rules of the game
+     * @param board the chessboard
+     * @return      the score of the position, in hundredths of a pawn
+     * @since 1.0
+     */
+    @Override
+    public int evaluate(ChessGame game, ChessBoard board) {
+        int score = 0;
+
+        for (ChessGame.Side side : ChessGame.Side.values()) {
+            if (side == game.getCurrentSide())
+                score += game.getScore(side);
+            else
+                score -= game.getScore(side);
+        }
+        return score;
+    }
+    //endregion
+}
@@ -0,0 +1,431 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * <p>Represents a command-line engine that is driven by a text protocol, such as UCI for Indo-European chess or UCCI
+ * for Xiangqi, so the rules and the search can be used by GUIs and tournament managers.</p>
+ * <p>Commands are read one per line and answers are written to standard output. The position is kept on a
+ * {@link BasicChessBoard}, so no screen is needed. Moves are named by their squares in {@link CoordinateNotation}:
+ * <code>e2e4</code> in chess, and ICCS coordinates such as <code>h2e2</code> in Xiangqi.</p>
+ * <p>Searches run on their own thread on a copy of the position, so commands such as <code>stop</code> and
+ * <code>isready</code> are answered while a search runs, and a search told to stop writes its move within a few
+ * nodes. A pondering search runs until the move it ponders on is played, and is then given the time it would have had.
+ * The transposition table is kept between the searches of a game.</p>
+ * <p>Subclasses handle the commands of their protocol and write the results of searches.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public abstract class ProtocolEngine {
+
+    //region FIELDS
+    /**
+     * Stores the default size of the transposition table, in megabytes.
+     */
+    public static final int DEFAULT_TABLE_SIZE = 64;
+
+    /**
+     * Stores the most threads of a search.
+     */
+    public static final int MAX_THREADS = 256;
+
+    /**
+     * Stores the number of moves the remaining time is split between when the GUI does not say.
+     */
+    private static final int DEFAULT_MOVES_TO_GO = 30;
+
+    /**
+     * Stores the time kept back from the remaining time for writing the move, in milliseconds.
+     */
+    private static final long MOVE_OVERHEAD = 50;
+
+    /**
+     * Stores the longest time a search can be given, in milliseconds, used for searches that only stop when told.
+     */
+    private static final long INFINITE_TIME = Integer.MAX_VALUE;
+
+    /**
+     * Stores if the engine plays Xiangqi instead of Indo-European chess.
+     */
+    private final boolean xiangqi;
+
+    /**
+     * Stores the chessboard of the current position.
+     */
+    private BasicChessBoard board;
+
+    /**
+     * Stores the transposition table shared by the searches of a game.
+     */
+    private TranspositionTable table;
+
+    /**
+     * Stores the number of threads of a search.
+     */
+    private int numThreads;
+
+    /**
+     * Stores the search that is running, <code>null</code> if there is none.
+     */
+    private ParallelSearchEngine search;
+
+    /**
+     * Stores the thread of the search that is running, <code>null</code> if there is none.
+     */
+    private Thread searchThread;
+
+    /**
+     * Stores the signal that lets a search that only stops when told write its move.
+     */
+    private CountDownLatch stopSignal;
+
+    /**
+     * Stores the time the search that is pondering is given once the move it ponders on is played, in milliseconds.
+     */
+    private long ponderTime;
+    //endregion
+
+    //region CONSTRUCTORS
+    /**
+     * <p>Creates an engine set up with the starting position of a game.</p>
+     *
+     * @param xiangqi   if the engine plays Xiangqi instead of Indo-European chess
+     * @since 1.0
+     */
+    protected ProtocolEngine(boolean xiangqi) {
+        this.xiangqi = xiangqi;
+        board = createBoard(getStartingFen());
+        table = new TranspositionTable(DEFAULT_TABLE_SIZE);
+        numThreads = 1;
+    }
+    //endregion
+
+    //region ABSTRACT METHODS
+    /**
+     * <p>Handles a command of the protocol.</p>
+     *
+     * @param tokens    the words of the command, of which there is at least one
+     * @return          <code>false</code> if the engine should quit
+     * @throws IllegalArgumentException if the command cannot be read
+     * @since 1.0
+     */
+    protected abstract boolean handle(String[] tokens) throws IllegalArgumentException;
+
+    /**
+     * <p>Writes the result of a search.</p>
+     *
+     * @param engine    the search
+     * @param game      the rules of the game of the position that was searched
+     * @param move      the best move, <code>null</code> if the side that is playing has no legal moves
+     * @param elapsed   the time the search took, in milliseconds
+     * @since 1.0
+     */
+    protected abstract void sendResult(ParallelSearchEngine engine, ChessGame game, ChessMove move, long elapsed);
+
+    /**
+     * <p>Writes a message for the user of the GUI, such as why a command could not be read.</p>
+     *
+     * @param message   the message
+     * @since 1.0
+     */
+    protected abstract void sendMessage(String message);
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Reads and handles commands until the input ends or the engine is told to quit.</p>
+     *
+     * @param in    the input the commands are read from
+     * @throws IOException if the input cannot be read
+     * @since 1.0
+     */
+    public void run(BufferedReader in) throws IOException {
+        String line;
+
+        while ((line = in.readLine()) != null) {
+            String[] tokens = line.trim().split("\\s+");
+            if (tokens[0].isEmpty())
+                continue;
+
+            try {
+                if (!handle(tokens))
+                    break;
+            } catch (IllegalArgumentException e) {
+                sendMessage(e.getMessage());
+            }
+        }
+        stopSearch();
+    }
+
+    /**
+     * <p>Returns the FEN of the starting position of the game.</p>
+     *
+     * @return  the FEN of the starting position
+     * @since 1.0
+     */
+    private String getStartingFen() {
+        return xiangqi ? XiangqiFen.START : EuropeanChessFen.START;
+    }
+
+    /**
+     * <p>Returns a new chessboard set up with the position of a FEN of the game.</p>
+     *
+     * @param fen   the FEN
+     * @return      the chessboard
+     * @throws IllegalArgumentException if the FEN cannot be read
+     * @since 1.0
+     */
+    private BasicChessBoard createBoard(String fen) throws IllegalArgumentException {
+        return xiangqi ? XiangqiFen.createBoard(fen) : EuropeanChessFen.createBoard(fen);
+    }
+
+    /**
+     * <p>Handles a <code>position</code> command, which sets up the starting position or a FEN and makes the moves
+     * after it.</p>
+     *
+     * @param tokens    the words of the command: <code>position startpos</code> or <code>position fen</code> and a
+     *                  FEN, then <code>moves</code> and the moves
+     * @throws IllegalArgumentException if the FEN or a move cannot be read; the moves before it are still made
+     * @since 1.0
+     */
+    protected void setPosition(String[] tokens) throws IllegalArgumentException {
+        int i;
+        String fen;
+
+        if (tokens.length > 1 && tokens[1].equals("startpos")) {
+            fen = getStartingFen();
+            i = 2;
+        } else if (tokens.length > 1 && tokens[1].equals("fen")) {
+            // Stores the FEN, which is every word up to the moves
+            StringBuilder builder = new StringBuilder();
+            for (i = 2; i < tokens.length && !tokens[i].equals("moves"); i++)
+                builder.append(builder.length() > 0 ? " " : "").append(tokens[i]);
+            fen = builder.toString();
+        } else
+            throw new IllegalArgumentException("A position needs startpos or fen.");
+
+        stopSearch();
+        board = createBoard(fen);
+
+        if (i < tokens.length && tokens[i].equals("moves")) {
+            for (i++; i < tokens.length; i++)
+                board.getGameRules().makeMove(CoordinateNotation.read(tokens[i], board));
+        }
+    }
+
+    /**
+     * <p>Starts a search of the current position on its own thread, after stopping the search that is running.</p>
+     * <p>A search that ponders or is infinite only writes its move once told to stop, or, for a search that ponders,
+     * once it has had its time after {@link #ponderHit()}.</p>
+     *
+     * @param timeMillis    the most time to search, in milliseconds
+     * @param maxNodes      the most nodes to search
+     * @param maxDepth      the deepest iteration to search
+     * @param ponder        if the search ponders on the move the other side is expected to play
+     * @param infinite      if the search only stops when told
+     * @since 1.0
+     */
+    protected void startSearch(long timeMillis, long maxNodes, int maxDepth, boolean ponder, boolean infinite) {
+        stopSearch();
+
+        BasicChessBoard copy = new BasicChessBoard(board);
+        ParallelSearchEngine engine = new ParallelSearchEngine(copy, new PieceSquareEvaluator(), table, numThreads);
+        CountDownLatch signal = new CountDownLatch(ponder || infinite ? 1 : 0);
+        long time = ponder || infinite ? INFINITE_TIME : Math.min(timeMillis, INFINITE_TIME);
+
+        search = engine;
+        stopSignal = signal;
+        ponderTime = ponder && !infinite ? timeMillis : -1;
+        searchThread = new Thread(() -> {
+            long start = System.currentTimeMillis();
+            ChessMove move = engine.search(time, maxNodes, maxDepth);
+
+            // A search that only stops when told waits to be told before writing its move
+            try {
+                signal.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            sendResult(engine, copy.getGameRules(), move, Math.max(1, System.currentTimeMillis() - start));
+        }, "search");
+        searchThread.start();
+    }
+
+    /**
+     * <p>Lets the search that ponders go on as a normal search, once the move it pondered on is played: it is
+     * stopped once it has had the time it was given, and then writes its move.</p>
+     * <p>Nothing is done if no search is pondering.</p>
+     *
+     * @since 1.0
+     */
+    protected void ponderHit() {
+        if (searchThread == null || ponderTime < 0)
+            return;
+
+        ParallelSearchEngine engine = search;
+        long time = ponderTime;
+        ponderTime = -1;
+        stopSignal.countDown();
+
+        Thread timer = new Thread(() -> {
+            try {
+                Thread.sleep(time);
+                engine.stop();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "ponder-timer");
+        timer.setDaemon(true);
+        timer.start();
+    }
+
+    /**
+     * <p>Stops the search that is running, if any, and waits for it to write its move.</p>
+     *
+     * @since 1.0
+     */
+    protected void stopSearch() {
+        if (searchThread == null)
+            return;
+
+        stopSignal.countDown();
+        try {
+            // Keeps stopping the search, since it may not have started when it is first told
+            do {
+                search.stop();
+                searchThread.join(1);
+            } while (searchThread.isAlive());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        searchThread = null;
+        search = null;
+        stopSignal = null;
+    }
+
+    /**
+     * <p>Returns the time to search a move, which is a share of the remaining time of the side that is playing.</p>
+     *
+     * @param remaining the remaining time, in milliseconds
+     * @param increment the time added after each move, in milliseconds
+     * @param movesToGo the number of moves until more time is added, 0 if the GUI does not say
+     * @return          the time to search, in milliseconds
+     * @since 1.0
+     */
+    protected static long getTimeShare(long remaining, long increment, long movesToGo) {
+        long limit = Math.max(1, remaining - MOVE_OVERHEAD);
+
+        return Math.min(limit, remaining / (movesToGo > 0 ? movesToGo : DEFAULT_MOVES_TO_GO) + increment * 3 / 4);
+    }
+
+    /**
+     * <p>Returns the chessboard of the current position.</p>
+     *
+     * @return  the chessboard
+     * @since 1.0
+     */
+    protected BasicChessBoard getBoard() {
+        return board;
+    }
+
+    /**
+     * <p>Sets the size of the transposition table, which empties it.</p>
+     *
+     * @param megabytes the size of the table, in megabytes
+     * @throws IllegalArgumentException if the size is not between 1 and {@link TranspositionTable#MAX_MEGABYTES}
+     * @since 1.0
+     */
+    protected void setTableSize(int megabytes) throws IllegalArgumentException {
+        TranspositionTable newTable = new TranspositionTable(megabytes);
+
+        stopSearch();
+        table = newTable;
+    }
+
+    /**
+     * <p>Empties the transposition table, for a new game.</p>
+     *
+     * @since 1.0
+     */
+    protected void clearTable() {
+        stopSearch();
+        table.clear();
+    }
+
+    /**
+     * <p>Sets the number of threads of a search.</p>
+     *
+     * @param numThreads    the number of threads
+     * @throws IllegalArgumentException if the number of threads is not between 1 and {@link #MAX_THREADS}
+     * @since 1.0
+     */
+    protected void setNumThreads(int numThreads) throws IllegalArgumentException {
+        if (numThreads < 1 || numThreads > MAX_THREADS)
+            throw new IllegalArgumentException("The number of threads must be between 1 and " + MAX_THREADS + ".");
+
+        stopSearch();
+        this.numThreads = numThreads;
+    }
+
+    /**
+     * <p>Returns the word after a keyword of a command.</p>
+     *
+     * @param tokens    the words of the command
+     * @param keyword   the keyword
+     * @return          the word after the keyword, <code>null</code> if there is none
+     * @since 1.0
+     */
+    protected static String getArgument(String[] tokens, String keyword) {
+        for (int i = 1; i < tokens.length - 1; i++) {
+            if (tokens[i].equals(keyword))
+                return tokens[i + 1];
+        }
+        return null;
+    }
+
+    /**
+     * <p>Returns the number after a keyword of a command.</p>
+     *
+     * @param tokens        the words of the command
+     * @param keyword       the keyword
+     * @param defaultValue  the number if there is no keyword
+     * @return              the number after the keyword
+     * @throws IllegalArgumentException if the word after the keyword is not a number
+     * @since 1.0
+     */
+    protected static long getNumber(String[] tokens, String keyword, long defaultValue) throws IllegalArgumentException {
+        String argument = getArgument(tokens, keyword);
+
+        return argument != null ? Long.parseLong(argument) : defaultValue;
+    }
+
+    /**
+     * <p>Returns a boolean representing if a command has a word.</p>
+     *
+     * @param tokens    the words of the command
+     * @param word      the word
+     * @return          <code>true</code> if the command has the word
+     * @since 1.0
+     */
+    protected static boolean hasWord(String[] tokens, String word) {
+        for (String token : tokens) {
+            if (token.equals(word))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * <p>Writes a line of output.</p>
+     *
+     * @param line  the line
+     * @since 1.0
+     */
+    protected static void send(String line) {
+        System.out.println(line);
+    }
+    //endregion
+}
@@ -3,7 +3,7 @@
  * <p>Dictates how a queen can move.</p>
  *
  * @author Nobel Zhou (nxz157)
- * @version 1.0, 12/2/20
+ * @version 3.0, 10/17/26
  */
 public class QueenPiece extends ChessPiece implements CanStraightMove, CanDiagonalMove, Promotable {
 
@@ -24,6 +24,18 @@ public class QueenPiece extends ChessPiece implements CanStraightMove, CanDiagon
     //endregion
 
     //region METHODS
+    /**
+     * <p>Creates a queen piece of the same side, icon, and location on another chessboard.</p>
+     *
+     * @param chessBoard    the chessboard of the new queen piece
+     * @return              the new queen piece
+     * @since 3.0
+     */
+    @Override
+    protected ChessPiece createPiece(ChessBoard chessBoard) {
+        return new QueenPiece(getSide(), chessBoard, (ChessIcon) getIcon(), getRow(), getColumn());
+    }
+
     /**
      * <p>Returns a boolean representing if the proposed move is legal, assuming that it is unoccupied.</p>
      *
@@ -49,5 +61,47 @@ public class QueenPiece extends ChessPiece implements CanStraightMove, CanDiagon
     public boolean isLegalCaptureMove(int row, int column) {
         return isValidStraightMove(row, column, this) || isValidDiagonalMove(row, column, this);
     }
+
+    /**
+     * <p>Adds the squares the queen piece can capture on to a list of squares.</p>
+     * <p>The rows, columns and diagonals are walked up to and including the first piece.</p>
+     *
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    @Override
+    public void addCaptureSquares(SquareList squares) {
+        addStraightCaptureSquares(this, squares);
+        addDiagonalCaptureSquares(this, squares);
+    }
+
+    /**
+     * <p>Adds the squares the queen piece can move to to a list of squares.</p>
+     * <p>The rows, columns and diagonals are walked up to the first piece.</p>
+     *
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    @Override
+    public void addMoveSquares(SquareList squares) {
+        addStraightMoveSquares(this, squares);
+        addDiagonalMoveSquares(this, squares);
+    }
+
+    /**
+     * <p>Returns the number of pieces that must be in between for the queen piece to capture along a line in the given
+     * direction.</p>
+     * <p>The queen piece captures along rows, columns, and diagonals with nothing in between.</p>
+     *
+     * @param rowStep       the row step of the direction, from -1 to 1
+     * @param columnStep    the column step of the direction, from -1 to 1
+     * @return              the number of pieces that must be in between, -1 if the queen piece does not
+     *                      capture this way
+     * @since 3.0
+     */
+    @Override
+    public int getLineScreens(int rowStep, int columnStep) {
+        return (rowStep != 0 || columnStep != 0) ? 0 : -1;
+    }
     //endregion
 }
\ No newline at end of file
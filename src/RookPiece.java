@@ -3,7 +3,7 @@
  * <p>Dictates how a rook can move.
  *
  * @author Nobel Zhou (nxz157)
- * @version 1.0, 12/2/20
+ * @version 3.0, 10/17/26
  */
 public class RookPiece extends ChessPiece implements CanStraightMove, Promotable {
 
@@ -24,6 +24,18 @@ public class RookPiece extends ChessPiece implements CanStraightMove, Promotable
     //endregion
 
     //region METHODS
+    /**
+     * <p>Creates a rook piece of the same side, icon, and location on another chessboard.</p>
+     *
+     * @param chessBoard    the chessboard of the new rook piece
+     * @return              the new rook piece
+     * @since 3.0
+     */
+    @Override
+    protected ChessPiece createPiece(ChessBoard chessBoard) {
+        return new RookPiece(getSide(), chessBoard, (ChessIcon) getIcon(), getRow(), getColumn());
+    }
+
     /**
      * <p>Returns a boolean representing if the proposed move is legal, assuming that it is unoccupied.</p>
      *
@@ -49,5 +61,45 @@ public class RookPiece extends ChessPiece implements CanStraightMove, Promotable
     public boolean isLegalCaptureMove(int row, int column) {
         return isValidStraightMove(row, column, this);
     }
+
+    /**
+     * <p>Adds the squares the rook piece can capture on to a list of squares.</p>
+     * <p>The rows and columns are walked up to and including the first piece.</p>
+     *
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    @Override
+    public void addCaptureSquares(SquareList squares) {
+        addStraightCaptureSquares(this, squares);
+    }
+
+    /**
+     * <p>Adds the squares the rook piece can move to to a list of squares.</p>
+     * <p>The rows and columns are walked up to the first piece.</p>
+     *
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    @Override
+    public void addMoveSquares(SquareList squares) {
+        addStraightMoveSquares(this, squares);
+    }
+
+    /**
+     * <p>Returns the number of pieces that must be in between for the rook piece to capture along a line in the given
+     * direction.</p>
+     * <p>The rook piece captures along rows and columns with nothing in between.</p>
+     *
+     * @param rowStep       the row step of the direction, from -1 to 1
+     * @param columnStep    the column step of the direction, from -1 to 1
+     * @return              the number of pieces that must be in between, -1 if the rook piece does not
+     *                      capture this way
+     * @since 3.0
+     */
+    @Override
+    public int getLineScreens(int rowStep, int columnStep) {
+        return (rowStep == 0) != (columnStep == 0) ? 0 : -1;
+    }
     //endregion
 }
\ No newline at end of file
@@ -0,0 +1,505 @@
+/**
+ * <p>Represents a search for the best move of the side that is playing.</p>
+ * <p>The search is a negamax alpha-beta search, deepened one ply at a time until the time or node budget runs out.
+ * Each iteration searches the best move of the previous one first, and the best move of the last finished iteration
+ * is returned. Positions at the horizon are searched further through their captures, so the search does not stop in
+ * the middle of an exchange; captures that lose material in the exchange are skipped.</p>
+ * <p>Results are stored in a {@link TranspositionTable}, so a position reached again through other moves is not
+ * searched again, and the best move stored for a position is searched first. The table can be shared by several
+ * searches. The other moves are ordered by {@link MoveOrdering}.</p>
+ * <p>Moves are made and taken back on the game's own chessboard with {@link ChessGame#makeMove(ChessMove)} and
+ * {@link ChessGame#unmakeMove(MoveRecord)}, so the chessboard is left as it was once the search returns. It works for
+ * any game through the <code>ChessGame</code> interface, including Indo-European chess and Xiangqi.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class SearchEngine {
+
+    //region FIELDS
+    /**
+     * Stores the score of a checkmate; mates found sooner score higher.
+     */
+    public static final int MATE = 1000000;
+
+    /**
+     * Stores a score higher than any score of a position.
+     */
+    public static final int INFINITY = 2 * MATE;
+
+    /**
+     * Stores the deepest ply the search goes to.
+     */
+    public static final int MAX_PLY = 128;
+
+    /**
+     * Stores the number of nodes searched between checks of the budget.
+     */
+    private static final int CHECK_INTERVAL = 256;
+
+    /**
+     * Stores the size of the transposition table of a search that is not given one, in megabytes.
+     */
+    private static final int DEFAULT_TABLE_SIZE = 16;
+
+    /**
+     * Stores the rules of the game being searched.
+     */
+    private final ChessGame game;
+
+    /**
+     * Stores the chessboard being searched.
+     */
+    private final ChessBoard board;
+
+    /**
+     * Stores the evaluator that scores positions.
+     */
+    private final Evaluator evaluator;
+
+    /**
+     * Stores the transposition table of the search.
+     */
+    private final TranspositionTable table;
+
+    /**
+     * Stores the order the moves are searched in.
+     */
+    private final MoveOrdering ordering;
+
+    /**
+     * Stores the Zobrist keys of the positions along the current line, indexed by ply.
+     */
+    private final long[] keys;
+
+    /**
+     * Stores the number of nodes searched.
+     */
+    private long nodes;
+
+    /**
+     * Stores the largest number of nodes to search.
+     */
+    private long maxNodes;
+
+    /**
+     * Stores the time the search must stop by, from <code>System.nanoTime()</code>.
+     */
+    private long deadline;
+
+    /**
+     * Stores if the search has been stopped.
+     */
+    private volatile boolean stopped;
+
+    /**
+     * Stores the best move found.
+     */
+    private ChessMove bestMove;
+
+    /**
+     * Stores the score of the best move found.
+     */
+    private int bestScore;
+
+    /**
+     * Stores the depth of the last finished iteration.
+     */
+    private int depth;
+    //endregion
+
+    //region CONSTRUCTORS
+    /**
+     * <p>Creates a search of a game on a chessboard that scores positions by material and piece-square tables.</p>
+     *
+     * @param game  the rules of the game
+     * @param board the chessboard, which is set up with the position to search
+     * @since 1.0
+     */
+    public SearchEngine(ChessGame game, ChessBoard board) {
+        this(game, board, new PieceSquareEvaluator());
+    }
+
+    /**
+     * <p>Creates a search of a game on a chessboard that scores positions with the given evaluator.</p>
+     *
+     * @param game      the rules of the game
+     * @param board     the chessboard, which is set up with the position to search
+     * @param evaluator the evaluator that scores positions
+     * @since 1.0
+     */
+    public SearchEngine(ChessGame game, ChessBoard board, Evaluator evaluator) {
+        this(game, board, evaluator, new TranspositionTable(DEFAULT_TABLE_SIZE));
+    }
+
+    /**
+     * <p>Creates a search of a game on a chessboard that scores positions with the given evaluator and stores results
+     * in the given transposition table.</p>
+     *
+     * @param game      the rules of the game
+     * @param board     the chessboard, which is set up with the position to search
+     * @param evaluator the evaluator that scores positions
+     * @param table     the transposition table, which can be shared with other searches
+     * @since 1.0
+     */
+    public SearchEngine(ChessGame game, ChessBoard board, Evaluator evaluator, TranspositionTable table) {
+        this.game = game;
+        this.board = board;
+        this.evaluator = evaluator;
+        this.table = table;
+        ordering = new MoveOrdering(game);
+        keys = new long[MAX_PLY + 1];
+    }
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Searches for the best move of the side that is playing within a time and node budget.</p>
+     * <p>The search deepens until the budget runs out, the maximum depth is finished, or a forced mate is found.</p>
+     *
+     * @param timeMillis    the most time to search, in milliseconds
+     * @param maxNodes      the most nodes to search
+     * @param maxDepth      the deepest iteration to search
+     * @return              the best move found, <code>null</code> if the side that is playing has no legal moves
+     * @since 1.0
+     */
+    public ChessMove search(long timeMillis, long maxNodes, int maxDepth) {
+        table.newSearch();
+        return search(timeMillis, maxNodes, maxDepth, 1);
+    }
+
+    /**
+     * <p>Searches for the best move of the side that is playing, starting at the given depth, as one of several
+     * searches sharing a transposition table.</p>
+     * <p>The transposition table is not told a new search has started, since the searches sharing it are one search.
+     * Searches that start at different depths reach different positions first, and share what they find through the
+     * table.</p>
+     *
+     * @param timeMillis    the most time to search, in milliseconds
+     * @param maxNodes      the most nodes to search
+     * @param maxDepth      the deepest iteration to search
+     * @param firstDepth    the first iteration to search
+     * @return              the best move found, <code>null</code> if the side that is playing has no legal moves
+     * @since 1.0
+     */
+    public ChessMove search(long timeMillis, long maxNodes, int maxDepth, int firstDepth) {
+        this.maxNodes = maxNodes;
+        deadline = System.nanoTime() + timeMillis * 1000000L;
+        stopped = false;
+        nodes = 0;
+        depth = 0;
+        bestScore = 0;
+
+        // Stores the moves at the root, best first
+        ChessMove[] moves = board.generateAllMoves();
+        bestMove = moves.length > 0 ? moves[0] : null;
+        if (moves.length <= 1)
+            return bestMove;
+
+        keys[0] = game.getHash();
+        ordering.newSearch();
+        ordering.sort(moves, 0, 0);
+
+        for (int iteration = Math.max(1, firstDepth); iteration <= Math.min(maxDepth, MAX_PLY); iteration++) {
+            // Stores the best move and score of the iteration
+            ChessMove iterationMove = null;
+            int alpha = -INFINITY;
+
+            for (ChessMove move : moves) {
+                MoveRecord record = game.makeMove(move);
+                int score = -negamax(iteration - 1, -INFINITY, -alpha, 1);
+                game.unmakeMove(record);
+
+                if (stopped)
+                    break;
+                if (score > alpha) {
+                    alpha = score;
+                    iterationMove = move;
+                }
+            }
+
+            if (stopped)
+                break;
+
+            bestMove = iterationMove;
+            bestScore = alpha;
+            depth = iteration;
+
+            moveToFront(moves, bestMove);
+
+            // Stops deepening once a forced mate is found
+            if (Math.abs(bestScore) >= MATE - MAX_PLY)
+                break;
+        }
+
+        return bestMove;
+    }
+
+    /**
+     * <p>Stops the search as soon as possible, from another thread.</p>
+     *
+     * @since 1.0
+     */
+    public void stop() {
+        stopped = true;
+    }
+
+    /**
+     * <p>Returns the best move found by the last search.</p>
+     *
+     * @return  the best move
+     * @since 1.0
+     */
+    public ChessMove getBestMove() {
+        return bestMove;
+    }
+
+    /**
+     * <p>Returns the score of the best move found by the last search, for the side that was playing.</p>
+     *
+     * @return  the score, in hundredths of a pawn
+     * @since 1.0
+     */
+    public int getBestScore() {
+        return bestScore;
+    }
+
+    /**
+     * <p>Returns the depth of the last iteration the last search finished.</p>
+     *
+     * @return  the depth
+     * @since 1.0
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * <p>Returns the number of nodes the last search searched.</p>
+     *
+     * @return  the number of nodes
+     * @since 1.0
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * <p>Returns the score of the position for the side that is playing, searching the given depth further.</p>
+     *
+     * @param depth the depth left to search
+     * @param alpha the score the side that is playing is already sure of
+     * @param beta  the score the other side is already sure of
+     * @param ply   the number of moves made since the root
+     * @return      the score of the position
+     * @since 1.0
+     */
+    private int negamax(int depth, int alpha, int beta, int ply) {
+        keys[ply] = game.getHash();
+        if (countNode() || isDraw(ply))
+            return 0;
+        if (ply >= MAX_PLY)
+            return evaluator.evaluate(game, board);
+
+        // Stores if the side that is playing is in check, in which case the search does not stop yet
+        boolean inCheck = isInCheck();
+        if (depth <= 0 && !inCheck)
+            return quiesce(alpha, beta, ply);
+
+        // Stores the result stored for the position, which ends the search if it was searched deep enough
+        long entry = table.probe(keys[ply]);
+        if (entry != 0 && TranspositionTable.getDepth(entry) >= depth) {
+            int score = fromTable(TranspositionTable.getScore(entry), ply);
+
+            switch (TranspositionTable.getBound(entry)) {
+                case TranspositionTable.EXACT:
+                    return score;
+                case TranspositionTable.LOWER_BOUND:
+                    if (score >= beta)
+                        return score;
+                    break;
+                default: // UPPER_BOUND
+                    if (score <= alpha)
+                        return score;
+            }
+        }
+
+        ChessMove[] moves = board.generateAllMoves();
+        if (moves.length == 0)
+            return inCheck || game.isStalemateLoss() ? -MATE + ply : 0;
+
+        ordering.sort(moves, ply, entry != 0 ? TranspositionTable.getMove(entry) : 0);
+
+        // Stores the score the side that is playing was sure of before searching the moves
+        int originalAlpha = alpha;
+        int best = -INFINITY;
+        ChessMove bestMove = null;
+
+        for (ChessMove move : moves) {
+            MoveRecord record = game.makeMove(move);
+            int score = -negamax(depth - 1, -beta, -alpha, ply + 1);
+            game.unmakeMove(record);
+
+            if (stopped)
+                return 0;
+            if (score > best) {
+                best = score;
+                bestMove = move;
+                if (score > alpha) {
+                    alpha = score;
+                    if (alpha >= beta) {
+                        if (!MoveOrdering.isCapture(move) && move.getPromotion() == null)
+                            ordering.addCutoff(move, ply, depth);
+                        break;
+                    }
+                }
+            }
+        }
+
+        int bound = best >= beta ? TranspositionTable.LOWER_BOUND : best > originalAlpha ? TranspositionTable.EXACT : TranspositionTable.UPPER_BOUND;
+        table.store(keys[ply], depth, bound, toTable(best, ply), MoveOrdering.getCode(bestMove, game.getNumColumns()));
+        return best;
+    }
+
+    /**
+     * <p>Returns the score of the position for the side that is playing, searching only captures and promotions.</p>
+     * <p>The side that is playing can also stop capturing, so the score is at least the score of the position.</p>
+     *
+     * @param alpha the score the side that is playing is already sure of
+     * @param beta  the score the other side is already sure of
+     * @param ply   the number of moves made since the root
+     * @return      the score of the position
+     * @since 1.0
+     */
+    private int quiesce(int alpha, int beta, int ply) {
+        int best = evaluator.evaluate(game, board);
+        if (best >= beta || ply >= MAX_PLY)
+            return best;
+        if (best > alpha)
+            alpha = best;
+
+        ChessMove[] moves = board.generateAllMoves();
+        ordering.sort(moves, ply, 0);
+
+        for (ChessMove move : moves) {
+            // Stops at the first quiet move, since captures and promotions are sorted first
+            if (!MoveOrdering.isCapture(move) && move.getPromotion() == null)
+                break;
+            // Skips captures that lose material once the square is recaptured
+            if (board.staticExchange(move) < 0)
+                continue;
+
+            MoveRecord record = game.makeMove(move);
+            keys[ply + 1] = game.getHash();
+            int score = countNode() ? 0 : -quiesce(-beta, -alpha, ply + 1);
+            game.unmakeMove(record);
+
+            if (stopped)
+                return 0;
+            if (score > best) {
+                best = score;
+                if (score > alpha) {
+                    alpha = score;
+                    if (alpha >= beta)
+                        break;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * <p>Counts a node and checks the budget every so often.</p>
+     *
+     * @return  <code>true</code> if the search is stopped
+     * @since 1.0
+     */
+    private boolean countNode() {
+        if (++nodes % CHECK_INTERVAL == 0 && (nodes >= maxNodes || System.nanoTime() - deadline >= 0))
+            stopped = true;
+        return stopped;
+    }
+
+    /**
+     * <p>Returns a boolean representing if the position is drawn by the fifty move rule or by repeating a position of
+     * the current line.</p>
+     *
+     * @param ply   the number of moves made since the root
+     * @return      <code>true</code> if the position is a draw
+     * @since 1.0
+     */
+    private boolean isDraw(int ply) {
+        if (game.getFiftyMoveRule() >= game.getFiftyMovePlies())
+            return true;
+
+        for (int i = ply - 2; i >= 0; i -= 2) {
+            if (keys[i] == keys[ply])
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * <p>Returns a boolean representing if the side that is playing is in check.</p>
+     *
+     * @return  <code>true</code> if the center piece of the side that is playing is in check
+     * @since 1.0
+     */
+    private boolean isInCheck() {
+        ChessPiece[] pieces = board.getPieces(game.getCurrentSide());
+        CenterPiece king = pieces.length > 0 ? board.getCentralPiece(pieces[0]) : null;
+
+        return king != null && king.isInCheck();
+    }
+
+    /**
+     * <p>Returns a score to store in the transposition table, with mate scores counted from the position instead of
+     * from the root.</p>
+     *
+     * @param score the score of the position
+     * @param ply   the number of moves made since the root
+     * @return      the score to store
+     * @since 1.0
+     */
+    private static int toTable(int score, int ply) {
+        if (score >= MATE - MAX_PLY)
+            return score + ply;
+        if (score <= -MATE + MAX_PLY)
+            return score - ply;
+        return score;
+    }
+
+    /**
+     * <p>Returns the score of a position from a score stored in the transposition table.</p>
+     *
+     * @param score the stored score
+     * @param ply   the number of moves made since the root
+     * @return      the score of the position
+     * @since 1.0
+     */
+    private static int fromTable(int score, int ply) {
+        if (score >= MATE - MAX_PLY)
+            return score - ply;
+        if (score <= -MATE + MAX_PLY)
+            return score + ply;
+        return score;
+    }
+
+    /**
+     * <p>Moves a move to the front of an array of moves, keeping the order of the others.</p>
+     *
+     * @param moves the moves
+     * @param move  the move to put first
+     * @since 1.0
+     */
+    private static void moveToFront(ChessMove[] moves, ChessMove move) {
+        for (int i = 0; i < moves.length; i++) {
+            if (moves[i] == move) {
+                System.arraycopy(moves, 0, moves, 1, i);
+                moves[0] = move;
+                return;
+            }
+        }
+    }
+    //endregion
+}
@@ -0,0 +1,663 @@
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * <p>Represents a command-line tool that plays many games between two players and measures how much stronger one is
+ * than the other.</p>
+ * <p>Each game is a task of a thread pool and is played on its own {@link BasicChessBoard}, so no screen is needed and
+ * no Swing or JavaFX chessboard is created. The pieces still carry their {@link ChessIcon}, so the Swing and JavaFX
+ * classes must be on the class path, but the tool runs headless and no image is loaded. The result of a game is the
+ * {@link ChessResult} passed to {@link ChessBoard#terminate(ChessResult, ChessGame.Side)} by the rules of the game; a
+ * game that reaches {@link #MAX_PLIES} is counted as a draw by agreement.</p>
+ * <p>Games are played in pairs: both games of a pair start with the same random opening moves, and the players swap
+ * sides for the second game, so neither player gains from a lucky opening or from moving first. The results give the
+ * score of the first player, the Elo difference between the players with its 95% error bars, and how many games and
+ * nodes are played and searched each second.</p>
+ * <p>A player is written as <code>random</code> for random moves, or as <code>material:nodes</code> or
+ * <code>pst:nodes</code> for a {@link SearchEngine} with a {@link MaterialEvaluator} or a
+ * {@link PieceSquareEvaluator} that searches the given number of nodes for each move.</p>
+ * <pre>
+ * java SelfPlay chess|xiangqi games player player [threads]
+ * </pre>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class SelfPlay {
+
+    //region FIELDS
+    /**
+     * Stores the most plies of a game, after which the game is a draw.
+     */
+    public static final int MAX_PLIES = 400;
+
+    /**
+     * Stores the number of random plies that start each pair of games.
+     */
+    private static final int OPENING_PLIES = 4;
+
+    /**
+     * Stores the size of the transposition table of each player, in megabytes.
+     */
+    private static final int TABLE_SIZE = 4;
+
+    /**
+     * Stores the longest time a search can be given, in milliseconds; searches are limited by nodes instead.
+     */
+    private static final long SEARCH_TIME = Integer.MAX_VALUE;
+
+    /**
+     * Stores the transposition tables of the two players of the games of each thread, so they are not made again for
+     * every game.
+     */
+    private static final ThreadLocal<TranspositionTable[]> TABLES = ThreadLocal.withInitial(() ->
+            new TranspositionTable[] {new TranspositionTable(TABLE_SIZE), new TranspositionTable(TABLE_SIZE)});
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Runs the tool from the command line.</p>
+     *
+     * @param args  the variant, the number of games, the two players, and the number of threads
+     * @since 1.0
+     */
+    public static void main(String[] args) {
+        // Makes sure no piece icon loads its image
+        System.setProperty("java.awt.headless", "true");
+
+        try {
+            if (args.length < 4 || !(args[0].equals("chess") || args[0].equals("xiangqi")))
+                throw new IllegalArgumentException("Usage: java SelfPlay chess|xiangqi games player player [threads], where a player is random, material:nodes, or pst:nodes");
+
+            int threads = args.length >= 5 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+            Summary summary = play(args[0].equals("xiangqi"), args[2], args[3], Integer.parseInt(args[1]), threads);
+
+            System.out.println(args[2] + " vs " + args[3]);
+            summary.print();
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+        }
+    }
+
+    /**
+     * <p>Plays games between two players, spread over a pool of threads, and returns their results.</p>
+     *
+     * @param xiangqi   if the games are games of Xiangqi instead of Indo-European chess
+     * @param first     the first player
+     * @param second    the second player
+     * @param numGames  the number of games
+     * @param threads   the number of threads
+     * @return          the results of the games
+     * @throws IllegalArgumentException if a player cannot be read, or the number of games or threads is less than 1
+     * @since 1.0
+     */
+    public static Summary play(boolean xiangqi, String first, String second, int numGames, int threads) throws IllegalArgumentException {
+        if (numGames < 1 || threads < 1)
+            throw new IllegalArgumentException("There must be at least 1 game and 1 thread.");
+
+        // Checks the players before any game starts
+        getMaxNodes(first);
+        getMaxNodes(second);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        Summary summary = new Summary();
+        long start = System.nanoTime();
+
+        try {
+            List<Future<GameResult>> results = new ArrayList<>();
+            for (int i = 0; i < numGames; i++) {
+                int game = i;
+                results.add(pool.submit(() -> playGame(xiangqi, first, second, game)));
+            }
+
+            for (Future<GameResult> result : results)
+                summary.add(result.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A game could not be played.", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+
+        summary.setTime(System.nanoTime() - start);
+        return summary;
+    }
+
+    /**
+     * <p>Plays one game.</p>
+     * <p>Odd games repeat the opening of the game before them with the players on the other sides.</p>
+     *
+     * @param xiangqi   if the game is a game of Xiangqi instead of Indo-European chess
+     * @param first     the first player
+     * @param second    the second player
+     * @param number    the number of the game, from 0
+     * @return          the result of the game
+     * @since 1.0
+     */
+    private static GameResult playGame(boolean xiangqi, String first, String second, int number) {
+        ChessGame game = createGame(xiangqi);
+        RecordingChessBoard board = new RecordingChessBoard(game);
+        game.startGame(board);
+
+        // Plays the random opening of the pair of games
+        Random random = new Random(number / 2);
+        int plies = 0;
+        while (plies < OPENING_PLIES && board.getResult() == null) {
+            ChessMove[] moves = board.generateAllMoves();
+            makeMove(board, moves[random.nextInt(moves.length)]);
+            plies++;
+        }
+
+        // Stores the first and the second player; the first player moves first unless the sides are swapped
+        TranspositionTable[] tables = TABLES.get();
+        Player[] players = {createPlayer(first, board, tables[0], number), createPlayer(second, board, tables[1], number)};
+        boolean swapped = number % 2 == 1;
+        ChessGame.Side firstSide = game.getCurrentSide();
+
+        while (board.getResult() == null && plies < MAX_PLIES) {
+            boolean firstPlayer = (game.getCurrentSide() == firstSide) != swapped;
+            ChessMove move = players[firstPlayer ? 0 : 1].selectMove();
+            if (move == null)
+                break;
+
+            makeMove(board, move);
+            plies++;
+        }
+
+        // Stores the score of the first player, 1 for a win, 0.5 for a draw, and 0 for a loss
+        double score = 0.5;
+        if (board.getWinner() != null)
+            score = (board.getWinner() == firstSide) != swapped ? 1 : 0;
+
+        return new GameResult(board.getResult() != null ? board.getResult() : ChessResult.DRAW_BY_AGREEMENT, score, plies,
+                players[0].getNodes() + players[1].getNodes());
+    }
+
+    /**
+     * <p>Makes a move and checks if it ends the game.</p>
+     *
+     * @param board the chessboard
+     * @param move  the move, which must be legal
+     * @since 1.0
+     */
+    private static void makeMove(ChessBoard board, ChessMove move) {
+        ChessGame game = board.getGameRules();
+        ChessGame.Side side = game.getCurrentSide();
+        game.makeMove(move);
+
+        for (ChessPiece piece : board.getPieces(side)) {
+            if (piece instanceof CenterPiece) {
+                game.handleEndConditions(board, piece);
+                break;
+            }
+        }
+    }
+
+    /**
+     * <p>Returns new rules of a game, with the South side moving first.</p>
+     *
+     * @param xiangqi   if the game is a game of Xiangqi instead of Indo-European chess
+     * @return          the rules of the game
+     * @since 1.0
+     */
+    private static ChessGame createGame(boolean xiangqi) {
+        return xiangqi ? new Xiangqi(ChessGame.Side.SOUTH) : new EuropeanChess(ChessGame.Side.SOUTH);
+    }
+
+    /**
+     * <p>Returns a new player of the games on a chessboard.</p>
+     *
+     * @param name  the name of the player, which must be one {@link #getMaxNodes(String)} can read
+     * @param board the chessboard of the games
+     * @param table the transposition table of the player, which is emptied
+     * @param seed  the seed of the random moves of the player
+     * @return      the player
+     * @since 1.0
+     */
+    private static Player createPlayer(String name, ChessBoard board, TranspositionTable table, long seed) {
+        if (name.equals("random"))
+            return new RandomPlayer(board, seed);
+
+        table.clear();
+        return new SearchPlayer(board, name.startsWith("pst:") ? new PieceSquareEvaluator() : new MaterialEvaluator(), table, getMaxNodes(name));
+    }
+
+    /**
+     * <p>Returns the number of nodes a player searches for each move.</p>
+     *
+     * @param name  the name of the player: <code>random</code>, <code>material:nodes</code>, or
+     *              <code>pst:nodes</code>
+     * @return      the number of nodes, 0 for a player that does not search
+     * @throws IllegalArgumentException if the name is not the name of a player
+     * @since 1.0
+     */
+    private static long getMaxNodes(String name) throws IllegalArgumentException {
+        if (name.equals("random"))
+            return 0;
+
+        int colon = name.indexOf(':');
+        if (colon >= 0 && (name.startsWith("material:") || name.startsWith("pst:"))) {
+            try {
+                long nodes = Long.parseLong(name.substring(colon + 1));
+                if (nodes >= 1)
+                    return nodes;
+            } catch (NumberFormatException e) {
+                // Falls through to the error below
+            }
+        }
+        throw new IllegalArgumentException("A player must be random, material:nodes, or pst:nodes, not " + name + ".");
+    }
+
+    //endregion
+
+    //region NESTED TYPES
+    /**
+     * <p>Represents a player that chooses the moves of one side of a game.</p>
+     *
+     * @author Nobel Zhou (nxz157)
+     * @version 1.0, 10/17/2026
+     */
+    public interface Player {
+        /**
+         * <p>Returns the move the player chooses for the side that is playing.</p>
+         *
+         * @return  the move, <code>null</code> if the side that is playing has no legal moves
+         * @since 1.0
+         */
+        ChessMove selectMove();
+
+        /**
+         * <p>Returns the number of nodes the player has searched.</p>
+         *
+         * @return  the number of nodes
+         * @since 1.0
+         */
+        long getNodes();
+    }
+
+    /**
+     * <p>Represents a player that chooses a random legal move.</p>
+     *
+     * @author Nobel Zhou (nxz157)
+     * @version 1.0, 10/17/2026
+     */
+    private static class RandomPlayer implements Player {
+        /**
+         * Stores the chessboard of the game.
+         */
+        private final ChessBoard board;
+
+        /**
+         * Stores the random numbers that choose the moves.
+         */
+        private final Random random;
+
+        /**
+         * <p>Creates a player that chooses random moves.</p>
+         *
+         * @param board the chessboard of the game
+         * @param seed  the seed of the random moves
+         * @since 1.0
+         */
+        private RandomPlayer(ChessBoard board, long seed) {
+            this.board = board;
+            random = new Random(seed);
+        }
+
+        @Override
+        public ChessMove selectMove() {
+            ChessMove[] moves = board.generateAllMoves();
+
+            return moves.length > 0 ? moves[random.nextInt(moves.length)] : null;
+        }
+
+        @Override
+        public long getNodes() {
+            return 0;
+        }
+    }
+
+    /**
+     * <p>Represents a player that chooses the best move of a search of a fixed number of nodes.</p>
+     *
+     * @author Nobel Zhou (nxz157)
+     * @version 1.0, 10/17/2026
+     */
+    private static class SearchPlayer implements Player {
+        /**
+         * Stores the search of the game.
+         */
+        private final SearchEngine engine;
+
+        /**
+         * Stores the number of nodes of each search.
+         */
+        private final long maxNodes;
+
+        /**
+         * Stores the number of nodes searched so far.
+         */
+        private long nodes;
+
+        /**
+         * <p>Creates a player that searches.</p>
+         *
+         * @param board     the chessboard of the game
+         * @param evaluator the evaluator that scores positions
+         * @param table     the transposition table of the player
+         * @param maxNodes  the number of nodes of each search
+         * @since 1.0
+         */
+        private SearchPlayer(ChessBoard board, Evaluator evaluator, TranspositionTable table, long maxNodes) {
+            engine = new SearchEngine(board.getGameRules(), board, evaluator, table);
+            this.maxNodes = maxNodes;
+        }
+
+        @Override
+        public ChessMove selectMove() {
+            ChessMove move = engine.search(SEARCH_TIME, maxNodes, SearchEngine.MAX_PLY);
+            nodes += engine.getNodes();
+            return move;
+        }
+
+        @Override
+        public long getNodes() {
+            return nodes;
+        }
+    }
+
+    /**
+     * <p>Represents a chessboard that records the result of its game when the game ends.</p>
+     *
+     * @author Nobel Zhou (nxz157)
+     * @version 1.0, 10/17/2026
+     */
+    private static class RecordingChessBoard extends BasicChessBoard {
+        /**
+         * Stores the result of the game, <code>null</code> if the game has not ended.
+         */
+        private ChessResult result;
+
+        /**
+         * Stores the side that won the game, <code>null</code> if there is none.
+         */
+        private ChessGame.Side winner;
+
+        /**
+         * <p>Creates an empty chessboard for a game.</p>
+         *
+         * @param game  the rules of the game
+         * @since 1.0
+         */
+        private RecordingChessBoard(ChessGame game) {
+            super(game);
+        }
+
+        /**
+         * <p>Records the result of the game, keeping the first result if there are several.</p>
+         *
+         * @param result    the result of the game
+         * @param side      the side that won, if there is one
+         * @since 1.0
+         */
+        @Override
+        public void terminate(ChessResult result, ChessGame.Side side) {
+            if (this.result == null) {
+                this.result = result;
+                winner = side;
+            }
+        }
+
+        /**
+         * <p>Returns the result of the game.</p>
+         *
+         * @return  the result, <code>null</code> if the game has not ended
+         * @since 1.0
+         */
+        private ChessResult getResult() {
+            return result;
+        }
+
+        /**
+         * <p>Returns the side that won the game.</p>
+         *
+         * @return  the side that won, <code>null</code> if there is none
+         * @since 1.0
+         */
+        private ChessGame.Side getWinner() {
+            return winner;
+        }
+    }
+
+    /**
+     * <p>Represents the result of one game.</p>
+     *
+     * @author Nobel Zhou (nxz157)
+     * @version 1.0, 10/17/2026
+     */
+    private static class GameResult {
+        /**
+         * Stores how the game ended.
+         */
+        private final ChessResult result;
+
+        /**
+         * Stores the score of the first player: 1 for a win, 0.5 for a draw, and 0 for a loss.
+         */
+        private final double score;
+
+        /**
+         * Stores the number of plies of the game.
+         */
+        private final int plies;
+
+        /**
+         * Stores the number of nodes searched by both players.
+         */
+        private final long nodes;
+
+        /**
+         * <p>Creates the result of a game.</p>
+         *
+         * @param result    how the game ended
+         * @param score     the score of the first player
+         * @param plies     the number of plies of the game
+         * @param nodes     the number of nodes searched by both players
+         * @since 1.0
+         */
+        private GameResult(ChessResult result, double score, int plies, long nodes) {
+            this.result = result;
+            this.score = score;
+            this.plies = plies;
+            this.nodes = nodes;
+        }
+    }
+
+    /**
+     * <p>Represents the results of many games between two players.</p>
+     *
+     * @author Nobel Zhou (nxz157)
+     * @version 1.0, 10/17/2026
+     */
+    public static class Summary {
+        /**
+         * Stores the number of games that ended each way.
+         */
+        private final Map<ChessResult, Integer> results = new EnumMap<>(ChessResult.class);
+
+        /**
+         * Stores the numbers of wins, draws, and losses of the first player.
+         */
+        private int wins, draws, losses;
+
+        /**
+         * Stores the number of plies of every game.
+         */
+        private long plies;
+
+        /**
+         * Stores the number of nodes searched in every game.
+         */
+        private long nodes;
+
+        /**
+         * Stores the time taken to play every game, in nanoseconds.
+         */
+        private long nanos;
+
+        /**
+         * <p>Adds the result of a game.</p>
+         *
+         * @param game  the result of the game
+         * @since 1.0
+         */
+        private void add(GameResult game) {
+            results.merge(game.result, 1, Integer::sum);
+            if (game.score == 1)
+                wins++;
+            else if (game.score == 0)
+                losses++;
+            else
+                draws++;
+
+            plies += game.plies;
+            nodes += game.nodes;
+        }
+
+        /**
+         * <p>Sets the time taken to play every game.</p>
+         *
+         * @param nanos the time, in nanoseconds
+         * @since 1.0
+         */
+        private void setTime(long nanos) {
+            this.nanos = Math.max(1, nanos);
+        }
+
+        /**
+         * <p>Returns the number of games played.</p>
+         *
+         * @return  the number of games
+         * @since 1.0
+         */
+        public int getNumGames() {
+            return wins + draws + losses;
+        }
+
+        /**
+         * <p>Returns the number of games that ended a given way.</p>
+         *
+         * @param result    how the games ended
+         * @return          the number of games
+         * @since 1.0
+         */
+        public int getCount(ChessResult result) {
+            return results.getOrDefault(result, 0);
+        }
+
+        /**
+         * <p>Returns the average score of the first player.</p>
+         *
+         * @return  the score, from 0 to 1
+         * @since 1.0
+         */
+        public double getScore() {
+            return (wins + draws / 2.0) / Math.max(1, getNumGames());
+        }
+
+        /**
+         * <p>Returns how much stronger the first player is than the second, in Elo.</p>
+         *
+         * @return  the Elo difference, infinite if one player won every game
+         * @since 1.0
+         */
+        public double getEloDifference() {
+            return getElo(getScore());
+        }
+
+        /**
+         * <p>Returns half the width of the 95% confidence interval of the Elo difference.</p>
+         * <p>The interval comes from the standard error of the score of a game, found from the wins, draws, and
+         * losses.</p>
+         *
+         * @return  the error of the Elo difference, infinite if one player won every game
+         * @since 1.0
+         */
+        public double getEloError() {
+            double score = getScore();
+            if (score <= 0 || score >= 1)
+                return Double.POSITIVE_INFINITY;
+
+            int numGames = Math.max(1, getNumGames());
+            double variance = (wins * Math.pow(1 - score, 2) + draws * Math.pow(0.5 - score, 2) + losses * Math.pow(score, 2)) / numGames;
+            double margin = 1.96 * Math.sqrt(variance / numGames);
+
+            return (getElo(Math.min(1, score + margin)) - getElo(Math.max(0, score - margin))) / 2;
+        }
+
+        /**
+         * <p>Returns the average number of plies of a game.</p>
+         *
+         * @return  the average number of plies
+         * @since 1.0
+         */
+        public double getAveragePlies() {
+            return (double) plies / Math.max(1, getNumGames());
+        }
+
+        /**
+         * <p>Returns the number of games played each second.</p>
+         *
+         * @return  the number of games per second
+         * @since 1.0
+         */
+        public double getGamesPerSecond() {
+            return getNumGames() * 1e9 / nanos;
+        }
+
+        /**
+         * <p>Returns the number of nodes searched each second, by every thread together.</p>
+         *
+         * @return  the number of nodes per second
+         * @since 1.0
+         */
+        public double getNodesPerSecond() {
+            return nodes * 1e9 / nanos;
+        }
+
+        /**
+         * <p>Prints the results.</p>
+         *
+         * @since 1.0
+         */
+        public void print() {
+            System.out.printf("Games: %d (+%d =%d -%d), score %.1f%%%n", getNumGames(), wins, draws, losses, getScore() * 100);
+            System.out.printf("Elo difference: %.1f +/- %.1f%n", getEloDifference(), getEloError());
+            for (Map.Entry<ChessResult, Integer> entry : results.entrySet())
+                System.out.println("  " + entry.getKey() + ": " + entry.getValue());
+            System.out.printf("Average length: %.1f plies%n", getAveragePlies());
+            System.out.printf("Speed: %.2f games/s, %.0f nodes/s%n", getGamesPerSecond(), getNodesPerSecond());
+        }
+
+        /**
+         * <p>Returns the Elo difference of an average score.</p>
+         *
+         * @param score the average score, from 0 to 1
+         * @return      the Elo difference
+         * @since 1.0
+         */
+        private static double getElo(double score) {
+            return -400 * Math.log10(1 / score - 1);
+        }
+    }
+    //endregion
+}
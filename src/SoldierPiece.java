@@ -3,7 +3,7 @@
  * <p>Dictates how a soldier can move.</p>
  *
  * @author Nobel Zhou
- * @version 1.0, 12/4/20
+ * @version 3.0, 10/17/26
  */
 public class SoldierPiece extends ChessPiece implements CanSoldierMove {
 
@@ -24,6 +24,18 @@ public class SoldierPiece extends ChessPiece implements CanSoldierMove {
     //endregion
 
     //region METHODS
+    /**
+     * <p>Creates a soldier piece of the same side, icon, and location on another chessboard.</p>
+     *
+     * @param chessBoard    the chessboard of the new soldier piece
+     * @return              the new soldier piece
+     * @since 3.0
+     */
+    @Override
+    protected ChessPiece createPiece(ChessBoard chessBoard) {
+        return new SoldierPiece(getSide(), chessBoard, (ChessIcon) getIcon(), getRow(), getColumn());
+    }
+
     /**
      * <p>Returns a boolean representing if the proposed move is legal, assuming that it is unoccupied.</p>
      *
@@ -50,6 +62,30 @@ public class SoldierPiece extends ChessPiece implements CanSoldierMove {
         return isLegalNonCaptureMove(row, column);
     }
 
+    /**
+     * <p>Adds the squares the soldier piece can capture on to a list of squares.</p>
+     * <p>Only the adjacent squares are checked.</p>
+     *
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    @Override
+    public void addCaptureSquares(SquareList squares) {
+        addCaptureSquares(SINGLE_ROW_OFFSETS, SINGLE_COLUMN_OFFSETS, squares);
+    }
+
+    /**
+     * <p>Adds the squares the soldier piece can move to to a list of squares.</p>
+     * <p>Only the adjacent squares are checked.</p>
+     *
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    @Override
+    public void addMoveSquares(SquareList squares) {
+        addMoveSquares(SINGLE_ROW_OFFSETS, SINGLE_COLUMN_OFFSETS, squares);
+    }
+
     /**
      * <p>Returns an array of <code>ChessPiece.ProposedMove</code> objects that shows how to move the soldier pieces.</p>
      *
@@ -0,0 +1,102 @@
+import java.util.Arrays;
+
+/**
+ * <p>Represents a list of squares of a chessboard, stored as rows and columns.</p>
+ * <p>The list is reused by clearing it, so squares can be collected without creating objects for each square.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class SquareList {
+
+    //region FIELDS
+    /**
+     * Stores the rows of the squares.
+     */
+    private int[] rows;
+
+    /**
+     * Stores the columns of the squares.
+     */
+    private int[] columns;
+
+    /**
+     * Stores the number of squares in the list.
+     */
+    private int size;
+    //endregion
+
+    //region CONSTRUCTORS
+    /**
+     * <p>Creates an empty list of squares.</p>
+     *
+     * @since 1.0
+     */
+    public SquareList() {
+        rows = new int[32];
+        columns = new int[32];
+        size = 0;
+    }
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Adds a square to the end of the list.</p>
+     *
+     * @param row       the row of the square
+     * @param column    the column of the square
+     * @since 1.0
+     */
+    public void add(int row, int column) {
+        // Grows the list if it is full
+        if (size == rows.length) {
+            rows = Arrays.copyOf(rows, 2 * size);
+            columns = Arrays.copyOf(columns, 2 * size);
+        }
+
+        rows[size] = row;
+        columns[size++] = column;
+    }
+
+    /**
+     * <p>Returns the row of a square of the list.</p>
+     *
+     * @param index the index of the square
+     * @return      the row of the square
+     * @since 1.0
+     */
+    public int getRow(int index) {
+        return rows[index];
+    }
+
+    /**
+     * <p>Returns the column of a square of the list.</p>
+     *
+     * @param index the index of the square
+     * @return      the column of the square
+     * @since 1.0
+     */
+    public int getColumn(int index) {
+        return columns[index];
+    }
+
+    /**
+     * <p>Returns the number of squares in the list.</p>
+     *
+     * @return  the number of squares
+     * @since 1.0
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * <p>Removes every square from the list.</p>
+     *
+     * @since 1.0
+     */
+    public void clear() {
+        size = 0;
+    }
+    //endregion
+}
@@ -0,0 +1,271 @@
+/**
+ * <p>Represents the static exchange evaluation of a move: the material won or lost once both sides have captured on
+ * the move's square for as long as it gains them anything.</p>
+ * <p>No moves are made. The pieces that capture are taken off a copy of the occupancy of the chessboard, so the
+ * attackers behind them are found as the exchange goes on: rooks, bishops, and queens behind a piece on the same line,
+ * and cannons whose screen changes. Each side captures with its least valuable attacker, and a center piece only
+ * captures when the other side has no attacker left.</p>
+ * <p>Pins are not considered, so the result is an estimate.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class StaticExchange {
+
+    //region FIELDS
+    /**
+     * Stores the value of a center piece when choosing the least valuable attacker, so it captures last.
+     */
+    private static final int CENTER_VALUE = 100000;
+
+    /**
+     * Stores the most captures in an exchange; every piece on the chessboard can capture at most once.
+     */
+    private static final int MAX_CAPTURES = 64;
+
+    /**
+     * Stores the chessboard of the exchange.
+     */
+    private final ChessBoard board;
+
+    /**
+     * Stores the rules of the game of the exchange.
+     */
+    private final ChessGame game;
+
+    /**
+     * Stores the row of the square of the exchange.
+     */
+    private final int row;
+
+    /**
+     * Stores the column of the square of the exchange.
+     */
+    private final int column;
+
+    /**
+     * Stores the squares whose pieces have been taken off by the exchange, indexed by square index.
+     */
+    private final boolean[] removed;
+
+    /**
+     * Stores the legs of a piece.
+     */
+    private final SquareList legs;
+    //endregion
+
+    //region CONSTRUCTORS
+    /**
+     * <p>Creates an exchange on the square of a move.</p>
+     *
+     * @param move  the move that starts the exchange
+     * @since 1.0
+     */
+    private StaticExchange(ChessMove move) {
+        board = move.getPiece().getChessBoard();
+        game = board.getGameRules();
+        row = move.getRow();
+        column = move.getColumn();
+        removed = new boolean[game.getNumRows() * game.getNumColumns()];
+        legs = new SquareList();
+    }
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Returns the material the side making a move wins once the exchange on the move's square is over.</p>
+     * <p>Values are from {@link MaterialEvaluator#getValue(ChessGame, String)}. A move that captures nothing has a
+     * value of 0 unless the piece can be captured, and a promotion gains the value of the new piece over the pawn.</p>
+     *
+     * @param move  the move, which must be legal
+     * @return      the material won, negative if material is lost
+     * @since 1.0
+     */
+    public static int evaluate(ChessMove move) {
+        return new StaticExchange(move).evaluate(move.getPiece(), move.getPromotion());
+    }
+
+    /**
+     * <p>Resolves the exchange and returns the material won by the side making the first capture.</p>
+     *
+     * @param mover     the piece making the first capture
+     * @param promotion the piece the mover is promoted to, <code>null</code> if there is none
+     * @return          the material won
+     * @since 1.0
+     */
+    private int evaluate(ChessPiece mover, ChessPiece promotion) {
+        // Stores the material gained by the side making each capture, assuming the exchange stops after it
+        int[] gains = new int[MAX_CAPTURES];
+
+        ChessPiece victim = board.getPiece(row, column);
+        if (victim == null && isEnPassantMove(mover)) {
+            // The pawn captured en passant is beside the capturing pawn
+            victim = board.getPiece(mover.getRow(), column);
+            removed[getSquare(mover.getRow(), column)] = true;
+        }
+
+        gains[0] = victim != null ? getValue(victim) : 0;
+        // Stores the value of the piece on the square, which the next capture takes
+        int onSquare = getValue(mover);
+        if (promotion != null) {
+            gains[0] += getValue(promotion) - onSquare;
+            onSquare = getValue(promotion);
+        }
+
+        removed[getSquare(mover.getRow(), mover.getColumn())] = true;
+        ChessGame.Side side = mover.getSide();
+        int captures = 0;
+
+        while (captures + 1 < MAX_CAPTURES) {
+            // Finds the least valuable attacker of the other sides, which captures next
+            ChessPiece attacker = findLeastValuableAttacker(side);
+            if (attacker == null)
+                break;
+
+            // A center piece cannot capture onto a square that is still attacked
+            if (attacker instanceof CenterPiece) {
+                removed[getSquare(attacker.getRow(), attacker.getColumn())] = true;
+                boolean defended = findLeastValuableAttacker(attacker.getSide()) != null;
+                removed[getSquare(attacker.getRow(), attacker.getColumn())] = false;
+
+                if (defended)
+                    break;
+            }
+
+            captures++;
+            gains[captures] = onSquare - gains[captures - 1];
+            onSquare = getValue(attacker);
+            removed[getSquare(attacker.getRow(), attacker.getColumn())] = true;
+            side = attacker.getSide();
+        }
+
+        // Each side only captures if it gains from it, from the last capture back to the first
+        while (captures > 0) {
+            gains[captures - 1] = -Math.max(-gains[captures - 1], gains[captures]);
+            captures--;
+        }
+        return gains[0];
+    }
+
+    /**
+     * <p>Returns the least valuable piece of the sides other than a side that can capture on the square of the
+     * exchange.</p>
+     *
+     * @param side  the side whose pieces are not counted
+     * @return      the least valuable attacker, <code>null</code> if there is none
+     * @since 1.0
+     */
+    private ChessPiece findLeastValuableAttacker(ChessGame.Side side) {
+        ChessPiece best = null;
+        int bestValue = Integer.MAX_VALUE;
+
+        for (ChessGame.Side s : ChessGame.Side.values()) {
+            if (s == side)
+                continue;
+
+            for (ChessPiece cp : board.getPieces(s)) {
+                int value = cp instanceof CenterPiece ? CENTER_VALUE : getValue(cp);
+
+                // Skips the pieces that have captured and the piece on the square
+                if (removed[getSquare(cp.getRow(), cp.getColumn())] || (cp.getRow() == row && cp.getColumn() == column))
+                    continue;
+
+                if (value < bestValue && attacks(cp)) {
+                    best = cp;
+                    bestValue = value;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * <p>Returns a boolean representing if a piece can capture on the square of the exchange, with the pieces taken
+     * off by the exchange removed.</p>
+     *
+     * @param cp    the piece
+     * @return      <code>true</code> if the piece can capture on the square
+     * @since 1.0
+     */
+    private boolean attacks(ChessPiece cp) {
+        // Checks pieces with legs, such as horses and elephants, which capture when their legs are empty
+        legs.clear();
+        cp.addLegSquares(row, column, legs);
+        if (legs.size() > 0) {
+            for (int i = 0; i < legs.size(); i++) {
+                if (isOccupied(legs.getRow(i), legs.getColumn(i)))
+                    return false;
+            }
+            return true;
+        }
+
+        int rowDistance = row - cp.getRow();
+        int columnDistance = column - cp.getColumn();
+
+        // Checks pieces that capture along a line, counting the pieces in between that are left
+        if (!(cp instanceof CenterPiece) && (rowDistance == 0 || columnDistance == 0 || Math.abs(rowDistance) == Math.abs(columnDistance))) {
+            int rowStep = Integer.signum(rowDistance);
+            int columnStep = Integer.signum(columnDistance);
+            int screens = cp.getLineScreens(rowStep, columnStep);
+
+            if (screens >= 0) {
+                int between = 0;
+                for (int r = cp.getRow() + rowStep, c = cp.getColumn() + columnStep; r != row || c != column; r += rowStep, c += columnStep) {
+                    if (isOccupied(r, c))
+                        between++;
+                }
+                return between == screens;
+            }
+        }
+
+        // Checks the other pieces, whose captures do not depend on the pieces around them
+        return cp.isLegalCaptureMove(row, column);
+    }
+
+    /**
+     * <p>Returns a boolean representing if a square has a piece that the exchange has not taken off.</p>
+     *
+     * @param r the row of the square
+     * @param c the column of the square
+     * @return  <code>true</code> if the square is occupied
+     * @since 1.0
+     */
+    private boolean isOccupied(int r, int c) {
+        return board.hasPiece(r, c) && !removed[getSquare(r, c)];
+    }
+
+    /**
+     * <p>Returns a boolean representing if a move onto the square of the exchange is an en passant capture.</p>
+     *
+     * @param mover the piece making the move
+     * @return      <code>true</code> if the move is an en passant capture
+     * @since 1.0
+     */
+    private boolean isEnPassantMove(ChessPiece mover) {
+        return mover instanceof CanEnPassantMove && row != mover.getRow() && column != mover.getColumn() && !board.hasPiece(row, column);
+    }
+
+    /**
+     * <p>Returns the value of a piece.</p>
+     *
+     * @param cp    the piece
+     * @return      the value of the piece
+     * @since 1.0
+     */
+    private int getValue(ChessPiece cp) {
+        return MaterialEvaluator.getValue(game, cp.getLabel());
+    }
+
+    /**
+     * <p>Returns the square index of a row and column.</p>
+     *
+     * @param r the row of the chessboard
+     * @param c the column of the chessboard
+     * @return  the square index
+     * @since 1.0
+     */
+    private int getSquare(int r, int c) {
+        return r * game.getNumColumns() + c;
+    }
+    //endregion
+}
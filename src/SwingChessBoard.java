@@ -14,7 +14,7 @@ import java.awt.event.WindowEvent;
  *
  * @author Nobel Zhou (nxz157)
  * @author Harold Connamacher
- * @version 1.0, 12/2/2020
+ * @version 3.0, 10/17/2026
  */
 public class SwingChessBoard implements ChessBoard {
 
@@ -34,6 +34,16 @@ public class SwingChessBoard implements ChessBoard {
      */
     private final ChessPiece[][] pieces;
 
+    /**
+     * Stores the pieces of each side of the Swing chessboard.
+     */
+    private final PieceList pieceList;
+
+    /**
+     * Stores the number of attackers of each square of the Swing chessboard.
+     */
+    private final AttackMap attackMap;
+
     /**
      * Stores the rules for the Swing chessboard.
      */
@@ -65,6 +75,8 @@ public class SwingChessBoard implements ChessBoard {
         this.gameRules = gameRules;
         this.boardDisplay = boardDisplay;
         pieces = new ChessPiece[gameRules.getNumRows()][gameRules.getNumColumns()];
+        pieceList = new PieceList(gameRules.getNumRows(), gameRules.getNumColumns());
+        attackMap = new AttackMap(gameRules.getNumRows(), gameRules.getNumColumns());
         squares = new JButton[gameRules.getNumRows()][gameRules.getNumColumns()];
 
         // Creates board visuals on Event Dispatch Thread
@@ -252,8 +264,14 @@ public class SwingChessBoard implements ChessBoard {
      */
     @Override
     public void simulateAddPiece(final ChessPiece piece, final int row, final int col) {
+        // Takes the piece being replaced, if any, out of the piece lists
+        if (pieces[row][col] != null)
+            pieceList.remove(pieces[row][col], row, col);
+
         pieces[row][col] = piece;
+        pieceList.add(piece, row, col);
         piece.setLocation(row, col);
+        attackMap.add(piece, row, col);
     }
 
     /**
@@ -298,6 +316,10 @@ public class SwingChessBoard implements ChessBoard {
     public ChessPiece simulateRemovePiece(final int row, final int col) {
         ChessPiece save = pieces[row][col];
         pieces[row][col] = null;
+        if (save != null) {
+            pieceList.remove(save, row, col);
+            attackMap.remove(row, col);
+        }
         return save;
     }
 
@@ -325,20 +347,85 @@ public class SwingChessBoard implements ChessBoard {
     }
 
     /**
-     * <p>Generates a <code>ChessPosition</code> object for the chessboard position.</p>
+     * <p>Returns an array of the <code>ChessPiece</code>s of the given side that are on the chessboard.</p>
+     * <p>The array is a copy, so the chessboard can be changed while iterating it.</p>
      *
-     * @return  the <code>ChessPosition</code> for the chessboard
-     * @since 1.0
+     * @param side  the side of the pieces
+     * @return      the pieces of the side
+     * @since 3.0
      */
     @Override
-    public ChessPosition generateChessPosition() {
-        // Clones the pieces to put into a ChessPosition
-        ChessPiece[][] chessPieces = pieces.clone();
-        for (int i = 0; i < chessPieces.length; i++) {
-            chessPieces[i] = chessPieces[i].clone();
-        }
+    public ChessPiece[] getPieces(ChessGame.Side side) {
+        return pieceList.getPieces(side);
+    }
+
+    /**
+     * <p>Returns the number of pieces of the given side that are on the chessboard.</p>
+     *
+     * @param side  the side of the pieces
+     * @return      the number of pieces of the side
+     * @since 3.0
+     */
+    @Override
+    public int getNumPieces(ChessGame.Side side) {
+        return pieceList.size(side);
+    }
 
-        return new ChessPosition(chessPieces, getGameRules().getCurrentSide());
+    /**
+     * <p>Returns a piece of the given side by its index in the piece list of the side, without copying the list.</p>
+     *
+     * @param side  the side of the piece
+     * @param index the index of the piece
+     * @return      the piece
+     * @throws IndexOutOfBoundsException if the side has no piece at the index
+     * @since 3.0
+     */
+    @Override
+    public ChessPiece getPiece(ChessGame.Side side, int index) throws IndexOutOfBoundsException {
+        return pieceList.get(side, index);
+    }
+
+    /**
+     * <p>Returns a <code>ChessPiece</code> that represents the central piece of the game, based on the passed in
+     * piece's side.</p>
+     *
+     * @param piece a piece of the game that has the same side as the central piece
+     * @return      the central piece of the same side
+     * @since 3.0
+     */
+    @Override
+    public CenterPiece getCentralPiece(ChessPiece piece) {
+        return pieceList.getCenterPiece(piece.getSide());
+    }
+
+    /**
+     * <p>Checks if the <code>ChessPiece</code> in question is threatened by any of the chess pieces of the
+     * opposing side.</p>
+     * <p>The attack counts of the square are looked up from the attack map.</p>
+     *
+     * @param row       the row of the chessboard
+     * @param column    the column of the chessboard
+     * @param piece     the chess piece that is possibly threatened
+     * @return          <code>true</code> if the chess piece is threatened by the opposing side's pieces
+     */
+    @Override
+    public boolean squareThreatened(int row, int column, ChessPiece piece) {
+        return attackMap.isThreatened(row, column, piece.getSide());
+    }
+
+    /**
+     * <p>Returns the number of pieces of the given side that can capture on a square, whether it is occupied or
+     * not.</p>
+     *
+     * @param side      the side of the attacking pieces
+     * @param row       the row of the chessboard
+     * @param column    the column of the chessboard
+     * @return          the number of pieces of the side attacking the square
+     * @since 3.0
+     */
+    @Override
+    public int getAttackCount(ChessGame.Side side, int row, int column) {
+        return attackMap.getAttackCount(side, row, column);
     }
 
     /**
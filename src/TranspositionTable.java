@@ -0,0 +1,261 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * <p>Represents a fixed-size table of results computed for positions, shared by any number of threads.</p>
+ * <p>Positions are looked up by their 64-bit Zobrist key, from {@link ChessGame#getHash()} or
+ * {@link Zobrist#getKey(ChessBoard)}. Each entry packs a depth, a bound, a 32-bit score or count, and a 16-bit move
+ * into one 64-bit word, and is kept outside the Java heap so a large table does not slow down garbage collection.</p>
+ * <p>Threads read and write entries without locks. An entry is stored as two words, the data and the key exclusive or
+ * the data, each read and written atomically. A thread that reads the two words while another thread is writing them
+ * gets a pair that does not match its key, and the entry is treated as missing.</p>
+ * <p>Entries are grouped into buckets of four that share a cache line. When a bucket is full, the entry searched to the
+ * least depth is replaced, counting entries from earlier searches as shallower so the table does not fill up with
+ * results that are no longer needed.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class TranspositionTable {
+
+    //region FIELDS
+    /**
+     * Stores the bound of a score that is at most the score of the position.
+     */
+    public static final int UPPER_BOUND = 1;
+
+    /**
+     * Stores the bound of a score that is at least the score of the position.
+     */
+    public static final int LOWER_BOUND = 2;
+
+    /**
+     * Stores the bound of a score that is the score of the position.
+     */
+    public static final int EXACT = 3;
+
+    /**
+     * Stores the largest size of a table, in megabytes.
+     */
+    public static final int MAX_MEGABYTES = 1024;
+
+    /**
+     * Stores the number of bytes of an entry: the key word and the data word.
+     */
+    private static final int ENTRY_BYTES = 16;
+
+    /**
+     * Stores the number of entries in a bucket.
+     */
+    private static final int BUCKET_ENTRIES = 4;
+
+    /**
+     * Stores the number of distinct ages, after which the age wraps around.
+     */
+    private static final int AGES = 64;
+
+    /**
+     * Stores the depth an entry loses for each search it is older than the current search when it is replaced.
+     */
+    private static final int AGE_PENALTY = 8;
+
+    /**
+     * Stores the handle that reads and writes the words of the table atomically.
+     */
+    private static final VarHandle WORDS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    /**
+     * Stores the entries of the table, outside the Java heap.
+     */
+    private final ByteBuffer entries;
+
+    /**
+     * Stores the number of buckets minus one, used to find the bucket of a key.
+     */
+    private final int bucketMask;
+
+    /**
+     * Stores the age of the current search.
+     */
+    private volatile int age;
+    //endregion
+
+    //region CONSTRUCTORS
+    /**
+     * <p>Creates an empty table of at most the given size.</p>
+     * <p>The number of buckets is rounded down to a power of two.</p>
+     *
+     * @param megabytes the size of the table, in megabytes
+     * @throws IllegalArgumentException if the size is not between 1 and {@link #MAX_MEGABYTES}
+     * @since 1.0
+     */
+    public TranspositionTable(int megabytes) throws IllegalArgumentException {
+        if (megabytes < 1 || megabytes > MAX_MEGABYTES)
+            throw new IllegalArgumentException("The size of a transposition table must be between 1 and " + MAX_MEGABYTES + " megabytes.");
+
+        int numBuckets = Integer.highestOneBit((int) ((long) megabytes * 1024 * 1024 / (ENTRY_BYTES * BUCKET_ENTRIES)));
+        entries = ByteBuffer.allocateDirect(numBuckets * ENTRY_BYTES * BUCKET_ENTRIES).order(ByteOrder.nativeOrder());
+        bucketMask = numBuckets - 1;
+    }
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Returns the data stored for a position.</p>
+     * <p>The parts of the data are read with {@link #getDepth(long)}, {@link #getBound(long)}, {@link #getScore(long)},
+     * and {@link #getMove(long)}.</p>
+     *
+     * @param key   the Zobrist key of the position
+     * @return      the data of the position, 0 if the table has none
+     * @since 1.0
+     */
+    public long probe(long key) {
+        int bucket = getBucket(key);
+
+        for (int i = 0; i < BUCKET_ENTRIES; i++) {
+            int entry = bucket + i * ENTRY_BYTES;
+            long data = (long) WORDS.getOpaque(entries, entry + 8);
+
+            if (data != 0 && ((long) WORDS.getOpaque(entries, entry) ^ data) == key)
+                return data;
+        }
+        return 0;
+    }
+
+    /**
+     * <p>Stores a result for a position.</p>
+     * <p>A result for a position already in the table replaces it unless the stored result is from the current search,
+     * is searched deeper, and is not exact while the new result is; a move of 0 keeps the stored move. Otherwise the
+     * least valuable entry of the bucket is replaced.</p>
+     *
+     * @param key   the Zobrist key of the position
+     * @param depth the depth the result was searched to, between 0 and 255
+     * @param bound the bound of the score: {@link #UPPER_BOUND}, {@link #LOWER_BOUND}, or {@link #EXACT}
+     * @param score the score or count of the position
+     * @param move  the best move of the position, 0 if there is none
+     * @since 1.0
+     */
+    public void store(long key, int depth, int bound, int score, int move) {
+        int bucket = getBucket(key);
+        int currentAge = age;
+
+        // Stores the entry to replace and how valuable it is
+        int replace = bucket;
+        int replaceValue = Integer.MAX_VALUE;
+
+        for (int i = 0; i < BUCKET_ENTRIES; i++) {
+            int entry = bucket + i * ENTRY_BYTES;
+            long data = (long) WORDS.getOpaque(entries, entry + 8);
+
+            if (data != 0 && ((long) WORDS.getOpaque(entries, entry) ^ data) == key) {
+                if (getAge(data) == currentAge && getDepth(data) > depth && (getBound(data) == EXACT || bound != EXACT))
+                    return;
+                if (move == 0)
+                    move = getMove(data);
+
+                replace = entry;
+                break;
+            }
+
+            int value = data == 0 ? Integer.MIN_VALUE : getDepth(data) - AGE_PENALTY * ((currentAge - getAge(data)) & (AGES - 1));
+            if (value < replaceValue) {
+                replace = entry;
+                replaceValue = value;
+            }
+        }
+
+        long data = (long) currentAge << 58 | (long) bound << 56 | (long) Math.max(0, Math.min(255, depth)) << 48 | (score & 0xFFFFFFFFL) << 16 | move & 0xFFFF;
+        WORDS.setOpaque(entries, replace, key ^ data);
+        WORDS.setOpaque(entries, replace + 8, data);
+    }
+
+    /**
+     * <p>Starts a new search, so that the entries of earlier searches are replaced first.</p>
+     *
+     * @since 1.0
+     */
+    public void newSearch() {
+        age = (age + 1) & (AGES - 1);
+    }
+
+    /**
+     * <p>Removes every entry from the table.</p>
+     * <p>No other thread should use the table while it is cleared.</p>
+     *
+     * @since 1.0
+     */
+    public void clear() {
+        for (int i = 0; i < entries.capacity(); i += 8)
+            WORDS.setOpaque(entries, i, 0L);
+        age = 0;
+    }
+
+    /**
+     * <p>Returns the depth of the data of an entry.</p>
+     *
+     * @param data  the data of the entry
+     * @return      the depth the result was searched to
+     * @since 1.0
+     */
+    public static int getDepth(long data) {
+        return (int) (data >>> 48) & 0xFF;
+    }
+
+    /**
+     * <p>Returns the bound of the data of an entry.</p>
+     *
+     * @param data  the data of the entry
+     * @return      the bound of the score
+     * @since 1.0
+     */
+    public static int getBound(long data) {
+        return (int) (data >>> 56) & 3;
+    }
+
+    /**
+     * <p>Returns the score of the data of an entry.</p>
+     *
+     * @param data  the data of the entry
+     * @return      the score or count of the position
+     * @since 1.0
+     */
+    public static int getScore(long data) {
+        return (int) (data >>> 16);
+    }
+
+    /**
+     * <p>Returns the move of the data of an entry.</p>
+     *
+     * @param data  the data of the entry
+     * @return      the best move of the position, 0 if there is none
+     * @since 1.0
+     */
+    public static int getMove(long data) {
+        return (int) data & 0xFFFF;
+    }
+
+    /**
+     * <p>Returns the age of the data of an entry.</p>
+     *
+     * @param data  the data of the entry
+     * @return      the age of the search that stored the entry
+     * @since 1.0
+     */
+    private static int getAge(long data) {
+        return (int) (data >>> 58);
+    }
+
+    /**
+     * <p>Returns the byte offset of the bucket of a key.</p>
+     *
+     * @param key   the Zobrist key of a position
+     * @return      the byte offset of the first entry of the bucket
+     * @since 1.0
+     */
+    private int getBucket(long key) {
+        return (int) (key & bucketMask) * ENTRY_BYTES * BUCKET_ENTRIES;
+    }
+    //endregion
+}
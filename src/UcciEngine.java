@@ -0,0 +1,175 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+
+/**
+ * <p>Represents a command-line engine that plays Xiangqi through the Universal Chinese Chess Interface (UCCI), so the
+ * rules and the search can be used by Xiangqi GUIs and tools.</p>
+ * <p>Moves are named in ICCS coordinates: the files <code>a</code> to <code>i</code> from the left of red, and the
+ * ranks <code>0</code> to <code>9</code> from red's side, such as <code>h2e2</code>. Times are in milliseconds.
+ * Searches run on their own thread, as described in {@link ProtocolEngine}.</p>
+ * <p>The commands handled are <code>ucci</code>, <code>isready</code>, <code>setoption</code> (<code>hashsize</code>,
+ * <code>threads</code>, and <code>newgame</code>), <code>position</code>, <code>go</code> (with <code>ponder</code>),
+ * <code>ponderhit</code>, <code>stop</code>, and <code>quit</code>.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class UcciEngine extends ProtocolEngine {
+
+    //region CONSTRUCTORS
+    /**
+     * <p>Creates an engine set up with the starting position.</p>
+     *
+     * @since 1.0
+     */
+    public UcciEngine() {
+        super(true);
+    }
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Runs the engine from the command line until standard input ends or <code>quit</code> is read.</p>
+     *
+     * @param args  not used
+     * @throws IOException if standard input cannot be read
+     * @since 1.0
+     */
+    public static void main(String[] args) throws IOException {
+        new UcciEngine().run(new BufferedReader(new InputStreamReader(System.in)));
+    }
+
+    /**
+     * <p>Handles a UCCI command.</p>
+     *
+     * @param tokens    the words of the command, of which there is at least one
+     * @return          <code>false</code> if the engine should quit
+     * @throws IllegalArgumentException if the command cannot be read
+     * @since 1.0
+     */
+    @Override
+    protected boolean handle(String[] tokens) throws IllegalArgumentException {
+        switch (tokens[0]) {
+            case "ucci":
+                send("id name Chess");
+                send("id author Nobel Zhou");
+                send("option hashsize type spin min 1 max " + TranspositionTable.MAX_MEGABYTES + " default " + DEFAULT_TABLE_SIZE);
+                send("option threads type spin min 1 max " + MAX_THREADS + " default 1");
+                send("option newgame type button");
+                send("ucciok");
+                break;
+            case "isready":
+                send("readyok");
+                break;
+            case "setoption":
+                setOption(tokens);
+                break;
+            case "position":
+                setPosition(tokens);
+                break;
+            case "go":
+                go(tokens);
+                break;
+            case "ponderhit":
+                ponderHit();
+                break;
+            case "stop":
+                stopSearch();
+                break;
+            case "quit":
+                stopSearch();
+                send("bye");
+                return false;
+            default: // Unknown commands are ignored
+        }
+        return true;
+    }
+
+    /**
+     * <p>Handles a <code>setoption</code> command, which names the option and then gives its value.</p>
+     *
+     * @param tokens    the words of the command
+     * @throws IllegalArgumentException if the value of the option is not a number in range
+     * @since 1.0
+     */
+    private void setOption(String[] tokens) throws IllegalArgumentException {
+        if (tokens.length < 2)
+            return;
+
+        switch (tokens[1]) {
+            case "hashsize":
+                if (tokens.length > 2)
+                    setTableSize(Integer.parseInt(tokens[2]));
+                break;
+            case "threads":
+                if (tokens.length > 2)
+                    setNumThreads(Integer.parseInt(tokens[2]));
+                break;
+            case "newgame":
+                clearTable();
+                break;
+            default: // Other options do not change this engine
+        }
+    }
+
+    /**
+     * <p>Handles a <code>go</code> command by starting a search on its own thread.</p>
+     * <p>The search is limited by <code>depth</code> or <code>nodes</code>, or is given a share of the remaining
+     * <code>time</code> of the side that is playing, split between the moves of <code>movestogo</code> or with the
+     * <code>increment</code> added after each move.</p>
+     *
+     * @param tokens    the words of the command
+     * @throws IllegalArgumentException if a number of the command cannot be read
+     * @since 1.0
+     */
+    private void go(String[] tokens) throws IllegalArgumentException {
+        String depth = getArgument(tokens, "depth");
+        boolean infinite = "infinite".equals(depth);
+        long timeMillis = Long.MAX_VALUE;
+        long remaining = getNumber(tokens, "time", -1);
+
+        if (remaining >= 0)
+            timeMillis = getTimeShare(remaining, getNumber(tokens, "increment", 0), getNumber(tokens, "movestogo", 0));
+        else if (depth == null && getArgument(tokens, "nodes") == null)
+            infinite = true;
+
+        startSearch(timeMillis, getNumber(tokens, "nodes", Long.MAX_VALUE), depth != null && !infinite ? Integer.parseInt(depth) : SearchEngine.MAX_PLY,
+                hasWord(tokens, "ponder"), infinite);
+    }
+
+    /**
+     * <p>Writes the result of a search as an <code>info</code> line and a <code>bestmove</code> line, or
+     * <code>nobestmove</code> if there is no legal move.</p>
+     *
+     * @param engine    the search
+     * @param game      the rules of the game of the position that was searched
+     * @param move      the best move, <code>null</code> if the side that is playing has no legal moves
+     * @param elapsed   the time the search took, in milliseconds
+     * @since 1.0
+     */
+    @Override
+    protected void sendResult(ParallelSearchEngine engine, ChessGame game, ChessMove move, long elapsed) {
+        if (move == null) {
+            send("nobestmove");
+            return;
+        }
+
+        String name = CoordinateNotation.write(move);
+        send("info depth " + engine.getDepth() + " score " + engine.getBestScore() + " nodes " + engine.getNodes()
+                + " time " + elapsed + " pv " + name);
+        send("bestmove " + name);
+    }
+
+    /**
+     * <p>Writes a message as an <code>info</code> line.</p>
+     *
+     * @param message   the message
+     * @since 1.0
+     */
+    @Override
+    protected void sendMessage(String message) {
+        send("info " + message);
+    }
+    //endregion
+}
@@ -0,0 +1,180 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+
+/**
+ * <p>Represents a command-line engine that plays Indo-European chess through the Universal Chess Interface (UCI), so
+ * the rules and the search can be used by chess GUIs and tournament managers.</p>
+ * <p>Moves are named by their squares, such as <code>e2e4</code> or <code>e7e8q</code>. Searches run on their own
+ * thread, as described in {@link ProtocolEngine}.</p>
+ * <p>The commands handled are <code>uci</code>, <code>isready</code>, <code>setoption</code> (<code>Hash</code> and
+ * <code>Threads</code>), <code>ucinewgame</code>, <code>position</code>, <code>go</code>, <code>stop</code>,
+ * <code>ponderhit</code>, and <code>quit</code>.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class UciEngine extends ProtocolEngine {
+
+    //region CONSTRUCTORS
+    /**
+     * <p>Creates an engine set up with the starting position.</p>
+     *
+     * @since 1.0
+     */
+    public UciEngine() {
+        super(false);
+    }
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Runs the engine from the command line until standard input ends or <code>quit</code> is read.</p>
+     *
+     * @param args  not used
+     * @throws IOException if standard input cannot be read
+     * @since 1.0
+     */
+    public static void main(String[] args) throws IOException {
+        new UciEngine().run(new BufferedReader(new InputStreamReader(System.in)));
+    }
+
+    /**
+     * <p>Handles a UCI command.</p>
+     *
+     * @param tokens    the words of the command, of which there is at least one
+     * @return          <code>false</code> if the engine should quit
+     * @throws IllegalArgumentException if the command cannot be read
+     * @since 1.0
+     */
+    @Override
+    protected boolean handle(String[] tokens) throws IllegalArgumentException {
+        switch (tokens[0]) {
+            case "uci":
+                send("id name Chess");
+                send("id author Nobel Zhou");
+                send("option name Hash type spin default " + DEFAULT_TABLE_SIZE + " min 1 max " + TranspositionTable.MAX_MEGABYTES);
+                send("option name Threads type spin default 1 min 1 max " + MAX_THREADS);
+                send("uciok");
+                break;
+            case "isready":
+                send("readyok");
+                break;
+            case "setoption":
+                setOption(tokens);
+                break;
+            case "ucinewgame":
+                clearTable();
+                break;
+            case "position":
+                setPosition(tokens);
+                break;
+            case "go":
+                go(tokens);
+                break;
+            case "stop":
+                stopSearch();
+                break;
+            case "ponderhit":
+                ponderHit();
+                break;
+            case "quit":
+                return false;
+            default: // Unknown commands are ignored, as the protocol asks
+        }
+        return true;
+    }
+
+    /**
+     * <p>Handles a <code>setoption</code> command.</p>
+     *
+     * @param tokens    the words of the command
+     * @throws IllegalArgumentException if the value of the option is not a number in range
+     * @since 1.0
+     */
+    private void setOption(String[] tokens) throws IllegalArgumentException {
+        String name = getArgument(tokens, "name");
+        String value = getArgument(tokens, "value");
+        if (name == null || value == null)
+            return;
+
+        if (name.equalsIgnoreCase("Hash"))
+            setTableSize(Integer.parseInt(value));
+        else if (name.equalsIgnoreCase("Threads"))
+            setNumThreads(Integer.parseInt(value));
+    }
+
+    /**
+     * <p>Handles a <code>go</code> command by starting a search on its own thread.</p>
+     * <p>The search is given the time of a <code>movetime</code>, or a share of the remaining time of the side that
+     * is playing.</p>
+     *
+     * @param tokens    the words of the command
+     * @throws IllegalArgumentException if a number of the command cannot be read
+     * @since 1.0
+     */
+    private void go(String[] tokens) throws IllegalArgumentException {
+        boolean white = getBoard().getGameRules().getCurrentSide() == ChessGame.Side.SOUTH;
+        long timeMillis = getNumber(tokens, "movetime", Long.MAX_VALUE);
+        long remaining = getNumber(tokens, white ? "wtime" : "btime", -1);
+
+        if (remaining >= 0)
+            timeMillis = Math.min(timeMillis, getTimeShare(remaining, getNumber(tokens, white ? "winc" : "binc", 0), getNumber(tokens, "movestogo", 0)));
+
+        // Stores if the search has no limit, so it only stops when told
+        boolean infinite = hasWord(tokens, "infinite") || (timeMillis == Long.MAX_VALUE && getArgument(tokens, "depth") == null && getArgument(tokens, "nodes") == null);
+
+        startSearch(timeMillis, getNumber(tokens, "nodes", Long.MAX_VALUE), (int) getNumber(tokens, "depth", SearchEngine.MAX_PLY),
+                hasWord(tokens, "ponder"), infinite);
+    }
+
+    /**
+     * <p>Writes the result of a search as an <code>info</code> line and a <code>bestmove</code> line.</p>
+     *
+     * @param engine    the search
+     * @param game      the rules of the game of the position that was searched
+     * @param move      the best move, <code>null</code> if the side that is playing has no legal moves
+     * @param elapsed   the time the search took, in milliseconds
+     * @since 1.0
+     */
+    @Override
+    protected void sendResult(ParallelSearchEngine engine, ChessGame game, ChessMove move, long elapsed) {
+        if (move == null) {
+            send("bestmove 0000");
+            return;
+        }
+
+        String name = CoordinateNotation.write(move);
+        send("info depth " + engine.getDepth() + " score " + getScoreName(engine.getBestScore()) + " nodes " + engine.getNodes()
+                + " nps " + engine.getNodes() * 1000 / elapsed + " time " + elapsed + " pv " + name);
+        send("bestmove " + name);
+    }
+
+    /**
+     * <p>Writes a message as an <code>info string</code> line.</p>
+     *
+     * @param message   the message
+     * @since 1.0
+     */
+    @Override
+    protected void sendMessage(String message) {
+        send("info string " + message);
+    }
+
+    /**
+     * <p>Returns the name of a score, in centipawns or in moves to mate.</p>
+     *
+     * @param score the score of a search
+     * @return      the name of the score
+     * @since 1.0
+     */
+    private static String getScoreName(int score) {
+        if (Math.abs(score) < SearchEngine.MATE - SearchEngine.MAX_PLY)
+            return "cp " + score;
+
+        // Stores the number of moves to mate, negative if the side that is playing is mated
+        int moves = (SearchEngine.MATE - Math.abs(score) + 1) / 2;
+        return "mate " + (score > 0 ? moves : -moves);
+    }
+    //endregion
+}
@@ -2,7 +2,7 @@
  * <p>Represents the ruleset for a game of Xiangqi.</p>
  *
  * @author Nobel Zhou (nxz157)
- * @version 1.0, 12/4/20
+ * @version 3.0, 10/17/26
  */
 public class Xiangqi implements ChessGame {
 
@@ -21,6 +21,21 @@ public class Xiangqi implements ChessGame {
      * Stores the number of non-pawn, non-capture moves in succession; used for determining the 50 move rule.
      */
     private int fiftyMoveRule;
+
+    /**
+     * Stores the Zobrist key of the current position.
+     */
+    private long hash;
+
+    /**
+     * Stores the score of the pieces of each side, indexed by the ordinal of the side.
+     */
+    private final int[] scores = new int[Side.values().length];
+
+    /**
+     * Stores the moves made since the position was set up.
+     */
+    private final MoveHistory history;
     //endregion
 
     //region CONSTRUCTORS
@@ -33,6 +48,22 @@ public class Xiangqi implements ChessGame {
     public Xiangqi(Side startingSide) {
         this.startingSide = startingSide;
         currentSide = startingSide;
+        history = new MoveHistory(true);
+    }
+
+    /**
+     * <p>Initializes the rules of Xiangqi to a copy of the state of another game.</p>
+     *
+     * @param game  the game to copy
+     * @since 3.0
+     */
+    public Xiangqi(Xiangqi game) {
+        startingSide = game.startingSide;
+        currentSide = game.currentSide;
+        fiftyMoveRule = game.fiftyMoveRule;
+        hash = game.hash;
+        System.arraycopy(game.scores, 0, scores, 0, scores.length);
+        history = new MoveHistory(game.history);
     }
     //endregion
 
@@ -66,6 +97,7 @@ public class Xiangqi implements ChessGame {
      * @return  the number of consecutive non-capture and non-pawn moves
      * @since 1.0
      */
+    @Override
     public int getFiftyMoveRule() {
         return fiftyMoveRule;
     }
@@ -76,10 +108,23 @@ public class Xiangqi implements ChessGame {
      * @param fiftyMoveRule     the new fifty move rule count
      * @since 1.0
      */
+    @Override
     public void setFiftyMoveRule(int fiftyMoveRule) {
         this.fiftyMoveRule = fiftyMoveRule;
     }
 
+    /**
+     * <p>Returns the number of consecutive plies without a capture or a pawn move after which the game is drawn, which
+     * is fifty plies, as this game has always counted them.</p>
+     *
+     * @return  50
+     * @since 3.0
+     */
+    @Override
+    public int getFiftyMovePlies() {
+        return 50;
+    }
+
     /**
      * <p>Returns a <code>ChessGame.Side</code> representing the side that is currently playing.</p>
      *
@@ -114,37 +159,148 @@ public class Xiangqi implements ChessGame {
     public boolean makeMove(ChessPiece piece, int toRow, int toColumn) {
         // Checks if the move can be played
         if (isCheckMove(toRow, toColumn, piece)) {
-            // Stores the chess board
-            ChessBoard board = piece.getChessBoard();
-            // Stores the move instructions
-            ChessPiece.ProposedMove[] moveInstructions = piece.getMoveInstructions(toRow, toColumn);
-
-            for (ChessPiece.ProposedMove instruction : moveInstructions) {
-                // Checks for capture move
-                if (!instruction.isReversible())
-                    setFiftyMoveRule(0); // Capture just took place; reset fifty move rule counter
-                else
-                    setFiftyMoveRule(getFiftyMoveRule() + 1);
-
-                // Moves the chess pieces
-                board.removePiece(instruction.getMovedPiece().getRow(), instruction.getMovedPiece().getColumn());
-                ChessPiece save = instruction.getRemovedPiece();
-                if (save != null)
-                    board.removePiece(save.getRow(), save.getColumn());
-                board.addPiece(instruction.getMovedPiece(), instruction.getRow(), instruction.getColumn());
-
-                // Piece post-move processing
-                instruction.getMovedPiece().moveDone();
-            }
-
-            //Now opposite player's turn
-            flipSide();
-
+            makeMove(new ChessMove(piece, toRow, toColumn));
             return true; //Successful move
         } else
             return false; //Unsuccessful move
     }
 
+    /**
+     * <p>Makes a move that is already known to be legal, and returns a record that can take it back.</p>
+     *
+     * @param move  the move to make
+     * @return      the record of the move
+     * @since 3.0
+     */
+    @Override
+    public MoveRecord makeMove(ChessMove move) {
+        // Stores the chess board
+        ChessBoard board = move.getPiece().getChessBoard();
+        // Stores the record of the move, which also stores the move instructions
+        MoveRecord record = new MoveRecord(move, getFiftyMoveRule(), getHash());
+        history.add(this, move);
+
+        // Takes the keys of the changed pieces and the side out of the key of the position, and their values out of the scores
+        hash ^= Zobrist.getKey(record.getChangedPieces()) ^ Zobrist.getSideKey(getCurrentSide());
+        PieceSquareEvaluator.addValues(scores, record.getChangedPieces(), -1);
+
+        for (ChessPiece.ProposedMove instruction : record.getInstructions()) {
+            // Checks for capture move
+            if (!instruction.isReversible())
+                setFiftyMoveRule(0); // Capture just took place; reset fifty move rule counter
+            else
+                setFiftyMoveRule(getFiftyMoveRule() + 1);
+
+            // Moves the chess pieces
+            board.removePiece(instruction.getFromRow(), instruction.getFromColumn());
+            ChessPiece save = instruction.getRemovedPiece();
+            if (save != null)
+                board.removePiece(save.getRow(), save.getColumn());
+            board.addPiece(instruction.getMovedPiece(), instruction.getRow(), instruction.getColumn());
+
+            // Piece post-move processing
+            instruction.getMovedPiece().moveDone();
+        }
+
+        //Now opposite player's turn
+        flipSide();
+
+        // Puts the keys of the changed pieces and the side back into the key of the position, and their values back into the scores
+        hash ^= Zobrist.getKey(record.getChangedPieces()) ^ Zobrist.getSideKey(getCurrentSide());
+        PieceSquareEvaluator.addValues(scores, record.getChangedPieces(), 1);
+
+        return record;
+    }
+
+    /**
+     * <p>Takes back the last move made with {@link #makeMove(ChessMove)}.</p>
+     *
+     * @param record    the record of the last move
+     * @since 3.0
+     */
+    @Override
+    public void unmakeMove(MoveRecord record) {
+        // Now the previous player's turn again
+        flipSide();
+        // Moves the changed pieces back, taking their values out of the scores and putting them back after
+        PieceSquareEvaluator.addValues(scores, record.getChangedPieces(), -1);
+        record.undo();
+        PieceSquareEvaluator.addValues(scores, record.getChangedPieces(), 1);
+        setFiftyMoveRule(record.getFiftyMoveRule());
+        hash = record.getHash();
+        history.removeLast();
+    }
+
+    /**
+     * <p>Returns the Zobrist key of the current position.</p>
+     *
+     * @return  the key of the current position
+     * @since 3.0
+     */
+    @Override
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * <p>Hashes the whole chessboard again to find the Zobrist key of the current position, and scores it again to find
+     * the score of each side.</p>
+     *
+     * @param board the chess board
+     * @since 3.0
+     */
+    @Override
+    public void resetHash(ChessBoard board) {
+        hash = Zobrist.getKey(board);
+        System.arraycopy(PieceSquareEvaluator.getScores(board), 0, scores, 0, scores.length);
+    }
+
+    /**
+     * <p>Returns the score of the pieces of a side, which is their material plus the bonuses of their squares.</p>
+     *
+     * @param side  the side
+     * @return      the score of the pieces of the side
+     * @since 3.0
+     */
+    @Override
+    public int getScore(Side side) {
+        return scores[side.ordinal()];
+    }
+
+    /**
+     * <p>Returns the moves made since the position was set up.</p>
+     *
+     * @return  the history of the game
+     * @since 3.0
+     */
+    @Override
+    public MoveHistory getMoveHistory() {
+        return history;
+    }
+
+    /**
+     * <p>Returns a copy of the rules and the state of the game.</p>
+     *
+     * @return  the copy of the game
+     * @since 3.0
+     */
+    @Override
+    public ChessGame copy() {
+        return new Xiangqi(this);
+    }
+
+    /**
+     * <p>Returns whether a side that cannot move, while not in check, loses the game.</p>
+     * <p>In Xiangqi, stalemate is a loss for the side that cannot move.</p>
+     *
+     * @return  <code>true</code>, since stalemate loses the game
+     * @since 3.0
+     */
+    @Override
+    public boolean isStalemateLoss() {
+        return true;
+    }
+
     /**
      * <p>Returns the number of rows in the chessboard.</p>
      *
@@ -213,7 +369,7 @@ public class Xiangqi implements ChessGame {
      * @since 1.0
      */
     private void checkFiftyMoveRule(ChessBoard board) {
-        if (getFiftyMoveRule() >= 50)
+        if (getFiftyMoveRule() >= getFiftyMovePlies())
             board.terminate(ChessResult.FIFTY_MOVE_RULE, null);
     }
 
@@ -264,5 +420,8 @@ public class Xiangqi implements ChessGame {
         // Kings
         chessBoard.addPiece(new XiangqiKingPiece(ChessGame.Side.SOUTH, chessBoard, ChessIcon.RED_GENERAL, 9, 4), 9, 4);
         chessBoard.addPiece(new XiangqiKingPiece(ChessGame.Side.NORTH, chessBoard, ChessIcon.BLACK_GENERAL, 0, 4), 0, 4);
+
+        resetHash(chessBoard);
+        history.reset(chessBoard);
     }
 }
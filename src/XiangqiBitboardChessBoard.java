@@ -0,0 +1,590 @@
+/**
+ * <p>Represents a chessboard with no GUI that stores its position in 128-bit occupancy masks.</p>
+ * <p>The 90 squares of Xiangqi do not fit into a single <code>long</code>, so each mask is a pair of longs: the low
+ * long holds squares 0 to 63 and the high long holds the rest. Each side has one mask pair per piece type.</p>
+ * <p>Rank and file masks let pieces count the blockers between two squares with mask operations instead of
+ * checking every square in between.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class XiangqiBitboardChessBoard implements ChessBoard {
+
+    //region FIELDS
+    /**
+     * Stores the mask index of soldier pieces.
+     */
+    private static final int SOLDIER = 0;
+
+    /**
+     * Stores the mask index of cannon pieces.
+     */
+    private static final int CANNON = 1;
+
+    /**
+     * Stores the mask index of chariot (rook) pieces.
+     */
+    private static final int CHARIOT = 2;
+
+    /**
+     * Stores the mask index of horse pieces.
+     */
+    private static final int HORSE = 3;
+
+    /**
+     * Stores the mask index of elephant pieces.
+     */
+    private static final int ELEPHANT = 4;
+
+    /**
+     * Stores the mask index of guard pieces.
+     */
+    private static final int GUARD = 5;
+
+    /**
+     * Stores the mask index of xiangqi king (general) pieces.
+     */
+    private static final int GENERAL = 6;
+
+    /**
+     * Stores the mask index of any other piece.
+     */
+    private static final int OTHER = 7;
+
+    /**
+     * Stores the index of the low long of a mask pair.
+     */
+    private static final int LOW = 0;
+
+    /**
+     * Stores the index of the high long of a mask pair.
+     */
+    private static final int HIGH = 1;
+
+    /**
+     * Stores the rules for the chessboard.
+     */
+    private final ChessGame gameRules;
+
+    /**
+     * Stores the number of columns of the chessboard, used to convert a row and column into a square index.
+     */
+    private final int numColumns;
+
+    /**
+     * Stores the chess piece objects by square index; only squares set in <code>occupied</code> are meaningful.
+     */
+    private final ChessPiece[] squares;
+
+    /**
+     * Stores the occupancy mask pairs of each piece type, indexed by side, then by piece type.
+     */
+    private final long[][][] pieceMasks;
+
+    /**
+     * Stores the occupancy mask pairs of each side.
+     */
+    private final long[][] sideMasks;
+
+    /**
+     * Stores the occupancy mask pairs of the center pieces of each side.
+     */
+    private final long[][] centerMasks;
+
+    /**
+     * Stores the occupancy mask pair of the whole chessboard.
+     */
+    private final long[] occupied;
+
+    /**
+     * Stores the lists of pieces of each side, so a piece can be found by its index without counting mask bits.
+     */
+    private final PieceList pieceList;
+
+    /**
+     * Stores the mask pair of each row.
+     */
+    private final long[][] rankMasks;
+
+    /**
+     * Stores the mask pair of each column.
+     */
+    private final long[][] fileMasks;
+
+    /**
+     * Stores the mask pair of the squares within two rows and two columns of each square.
+     */
+    private final long[][] nearMasks;
+    //endregion
+
+    //region CONSTRUCTORS
+    /**
+     * <p>Creates a 128-bit chessboard using the given game rules.</p>
+     *
+     * @param gameRules    the game rules for the chessboard
+     * @throws IllegalArgumentException if the game rules have more than 128 squares
+     * @since 1.0
+     */
+    public XiangqiBitboardChessBoard(ChessGame gameRules) throws IllegalArgumentException {
+        if (gameRules.getNumRows() * gameRules.getNumColumns() > 2 * Long.SIZE)
+            throw new IllegalArgumentException("A 128-bit chessboard cannot have more than 128 squares.");
+
+        // Initializes the board
+        this.gameRules = gameRules;
+        numColumns = gameRules.getNumColumns();
+        squares = new ChessPiece[gameRules.getNumRows() * numColumns];
+        pieceMasks = new long[ChessGame.Side.values().length][OTHER + 1][2];
+        sideMasks = new long[ChessGame.Side.values().length][2];
+        centerMasks = new long[ChessGame.Side.values().length][2];
+        occupied = new long[2];
+        pieceList = new PieceList(gameRules.getNumRows(), numColumns);
+
+        // The first rank is the lowest bits, and the first file is one bit per row; other ranks and files are shifts of them
+        long[] firstRank = getRange(0, numColumns);
+        long[] firstFile = new long[2];
+        for (int row = 0; row < gameRules.getNumRows(); row++)
+            setBit(firstFile, toSquare(row, 0));
+
+        rankMasks = new long[gameRules.getNumRows()][];
+        for (int row = 0; row < rankMasks.length; row++)
+            rankMasks[row] = shiftLeft(firstRank, row * numColumns);
+
+        fileMasks = new long[numColumns][];
+        for (int column = 0; column < fileMasks.length; column++)
+            fileMasks[column] = shiftLeft(firstFile, column);
+
+        nearMasks = new long[squares.length][2];
+        for (int row = 0; row < gameRules.getNumRows(); row++) {
+            for (int column = 0; column < numColumns; column++) {
+                for (int i = Math.max(0, row - 2); i <= Math.min(gameRules.getNumRows() - 1, row + 2); i++) {
+                    for (int j = Math.max(0, column - 2); j <= Math.min(numColumns - 1, column + 2); j++)
+                        setBit(nearMasks[toSquare(row, column)], toSquare(i, j));
+                }
+            }
+        }
+    }
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Returns a <code>ChessGame</code> representing the rules of the chessboard.</p>
+     * <p>For example, it can return either the rules for Indo-European Chess or Xiangqi.</p>
+     *
+     * @return the rules of the chessboard
+     * @since 1.0
+     */
+    @Override
+    public ChessGame getGameRules() {
+        return gameRules;
+    }
+
+    /**
+     * <p>Adds a <code>ChessPiece</code> to the chessboard at the given row and column.</p>
+     * <p>If the square is occupied, the piece on it is replaced.</p>
+     *
+     * @param piece  the chess piece to be added
+     * @param row    the row of the chessboard
+     * @param column the column of the chessboard
+     * @since 1.0
+     */
+    @Override
+    public void addPiece(ChessPiece piece, int row, int column) {
+        // Clears the masks of the piece being replaced, if any
+        removePiece(row, column);
+
+        int square = toSquare(row, column);
+        squares[square] = piece;
+        setBit(pieceMasks[piece.getSide().ordinal()][getType(piece)], square);
+        setBit(sideMasks[piece.getSide().ordinal()], square);
+        if (piece instanceof CenterPiece)
+            setBit(centerMasks[piece.getSide().ordinal()], square);
+        setBit(occupied, square);
+        pieceList.add(piece, row, column);
+        piece.setLocation(row, column);
+    }
+
+    /**
+     * <p>Adds a <code>ChessPiece</code> to the chessboard at the given row and column, but does not
+     * update the display.</p>
+     * <p>This is used to check for checks when doing a proposed move.</p>
+     * <p>For a 128-bit chessboard, this does the exact same thing as the <code>addPiece</code> function.</p>
+     *
+     * @param piece  the chess piece to be added
+     * @param row    the row of the chessboard
+     * @param column the column of the chessboard
+     * @since 1.0
+     */
+    @Override
+    public void simulateAddPiece(ChessPiece piece, int row, int column) {
+        addPiece(piece, row, column);
+    }
+
+    /**
+     * <p>Removes a <code>ChessPiece</code> from the chess board at the given row and column.</p>
+     * <p>Returns the <code>ChessPiece</code> that was just removed, if any.</p>
+     *
+     * @param row    the row of the chessboard
+     * @param column the column of the chessboard
+     * @return the chess piece that was just removed, <code>null</code> if there is no chess piece
+     * @since 1.0
+     */
+    @Override
+    public ChessPiece removePiece(int row, int column) {
+        int square = toSquare(row, column);
+
+        // Checks if the square is empty
+        if (!testBit(occupied, square))
+            return null;
+
+        ChessPiece save = squares[square];
+        squares[square] = null;
+        clearBit(pieceMasks[save.getSide().ordinal()][getType(save)], square);
+        clearBit(sideMasks[save.getSide().ordinal()], square);
+        clearBit(centerMasks[save.getSide().ordinal()], square);
+        clearBit(occupied, square);
+        pieceList.remove(save, row, column);
+        return save;
+    }
+
+    /**
+     * <p>Removes a <code>ChessPiece</code> from the chess board at the given row and column, but does not
+     * update the display./p>
+     * <p>This is used to check for checks when doing a proposed move.</p>
+     * <p>Returns the <code>ChessPiece</code> that was just removed, if any.</p>
+     * <p>For a 128-bit chessboard, this does the exact same thing as the <code>removePiece</code> function.</p>
+     *
+     * @param row    the row of the chessboard
+     * @param column the column of the chessboard
+     * @return the chess piece that was just removed, <code>null</code> if there is no chess piece
+     * @since 1.0
+     */
+    @Override
+    public ChessPiece simulateRemovePiece(int row, int column) {
+        return removePiece(row, column);
+    }
+
+    /**
+     * <p>Checks to see if a piece exists at the given row and column.</p>
+     *
+     * @param row    the row of the chessboard
+     * @param column the column of the chessboard
+     * @return <code>true</code> if the piece exists at the given row and column
+     */
+    @Override
+    public boolean hasPiece(int row, int column) {
+        return testBit(occupied, toSquare(row, column));
+    }
+
+    /**
+     * <p>Returns the <code>ChessPiece</code> of the chess board at the given row and column, if any.</p>
+     *
+     * @param row    the row of the chessboard
+     * @param column the column of the chessboard
+     * @return the chess piece at the given row and column, <code>null</code> if there is no chess piece
+     */
+    @Override
+    public ChessPiece getPiece(int row, int column) {
+        return hasPiece(row, column) ? squares[toSquare(row, column)] : null;
+    }
+
+    /**
+     * <p>Handles how to stop the chess game.</p>
+     * <p>For a 128-bit chessboard, this method does nothing.</p>
+     *
+     * @param result the result of the chess game
+     * @param side   the side of the winning player, if there was one
+     * @since 1.0
+     */
+    @Override
+    public void terminate(ChessResult result, ChessGame.Side side) {}
+
+    /**
+     * <p>Returns an array of the <code>ChessPiece</code>s of the given side that are on the chessboard.</p>
+     * <p>The array is a copy, so the chessboard can be changed while iterating it.</p>
+     *
+     * @param side  the side of the pieces
+     * @return      the pieces of the side
+     * @since 1.0
+     */
+    @Override
+    public ChessPiece[] getPieces(ChessGame.Side side) {
+        return pieceList.getPieces(side);
+    }
+
+    /**
+     * <p>Returns the number of pieces of the given side that are on the chessboard.</p>
+     *
+     * @param side  the side of the pieces
+     * @return      the number of pieces of the side
+     * @since 1.0
+     */
+    @Override
+    public int getNumPieces(ChessGame.Side side) {
+        return pieceList.size(side);
+    }
+
+    /**
+     * <p>Returns a piece of the given side by its index in the piece list of the side, without copying the list.</p>
+     *
+     * @param side  the side of the piece
+     * @param index the index of the piece
+     * @return      the piece
+     * @throws IndexOutOfBoundsException if the side has no piece at the index
+     * @since 1.0
+     */
+    @Override
+    public ChessPiece getPiece(ChessGame.Side side, int index) throws IndexOutOfBoundsException {
+        return pieceList.get(side, index);
+    }
+
+    /**
+     * <p>Returns a <code>ChessPiece</code> that represents the central piece of the game, based on the passed in
+     * piece's side.</p>
+     * <p>The central piece is found from the center piece mask pair of the side.</p>
+     *
+     * @param piece a piece of the game that has the same side as the central piece
+     * @return      the central piece of the same side
+     * @since 1.0
+     */
+    @Override
+    public CenterPiece getCentralPiece(ChessPiece piece) {
+        int square = getFirstSquare(centerMasks[piece.getSide().ordinal()]);
+        return (square < 0) ? null : (CenterPiece) squares[square];
+    }
+
+    /**
+     * <p>Returns the number of pieces strictly between two squares on the same row, column, or diagonal.</p>
+     * <p>Squares on the same row or column are counted with the rank or file mask and a range of square indexes.</p>
+     *
+     * @param fromRow       the row of the first square
+     * @param fromColumn    the column of the first square
+     * @param toRow         the row of the second square
+     * @param toColumn      the column of the second square
+     * @return              the number of pieces between the two squares
+     * @throws IllegalArgumentException if the squares are not on the same row, column, or diagonal
+     * @since 1.0
+     */
+    @Override
+    public int countPiecesBetween(int fromRow, int fromColumn, int toRow, int toColumn) throws IllegalArgumentException {
+        // Diagonals are at most a few squares long for xiangqi pieces, so they are checked square by square
+        if (fromRow != toRow && fromColumn != toColumn)
+            return ChessBoard.super.countPiecesBetween(fromRow, fromColumn, toRow, toColumn);
+
+        // Stores the squares in between, which are a range of square indexes on the row or column
+        int first = Math.min(toSquare(fromRow, fromColumn), toSquare(toRow, toColumn)) + 1;
+        int last = Math.max(toSquare(fromRow, fromColumn), toSquare(toRow, toColumn));
+        long[] line = (fromRow == toRow) ? rankMasks[fromRow] : fileMasks[fromColumn];
+        long betweenLow = getLowBits(last, LOW) & ~getLowBits(first, LOW) & line[LOW];
+        long betweenHigh = getLowBits(last, HIGH) & ~getLowBits(first, HIGH) & line[HIGH];
+
+        return Long.bitCount(betweenLow & occupied[LOW]) + Long.bitCount(betweenHigh & occupied[HIGH]);
+    }
+
+    /**
+     * <p>Checks if the <code>ChessPiece</code> in question is threatened by any of the chess pieces of the
+     * opposing side.</p>
+     * <p>Only opposing xiangqi pieces that move along lines and share the square's row or column, or that move a
+     * short distance and are within two squares of it, are asked.</p>
+     *
+     * @param row       the row of the chessboard
+     * @param column    the column of the chessboard
+     * @param piece     the chess piece that is possibly threatened
+     * @return          <code>true</code> if the chess piece is threatened by the opposing side's pieces
+     */
+    @Override
+    public boolean squareThreatened(int row, int column, ChessPiece piece) {
+        for (ChessGame.Side side : ChessGame.Side.values()) {
+            // Skips the side of the piece
+            if (side == piece.getSide())
+                continue;
+
+            for (int half = LOW; half <= HIGH; half++) {
+                for (long candidates = getCandidates(side, row, column, half); candidates != 0; candidates &= candidates - 1) {
+                    if (squares[half * Long.SIZE + Long.numberOfTrailingZeros(candidates)].isLegalCaptureMove(row, column))
+                        return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * <p>Returns the number of pieces of the given side that can capture on a square, whether it is occupied or
+     * not.</p>
+     * <p>Only the pieces of the side that could reach the square, as in {@link #squareThreatened(int, int, ChessPiece)},
+     * are asked.</p>
+     *
+     * @param side      the side of the attacking pieces
+     * @param row       the row of the chessboard
+     * @param column    the column of the chessboard
+     * @return          the number of pieces of the side attacking the square
+     * @since 1.0
+     */
+    @Override
+    public int getAttackCount(ChessGame.Side side, int row, int column) {
+        // Stores the number of attackers found
+        int count = 0;
+
+        for (int half = LOW; half <= HIGH; half++) {
+            for (long candidates = getCandidates(side, row, column, half); candidates != 0; candidates &= candidates - 1) {
+                if (squares[half * Long.SIZE + Long.numberOfTrailingZeros(candidates)].isLegalCaptureMove(row, column))
+                    count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * <p>Returns one half of the mask of the pieces of a side that could capture on a square.</p>
+     * <p>These are the pieces that move along lines and share the square's row or column, the pieces that move a short
+     * distance and are within two squares of it, and any other pieces.</p>
+     *
+     * @param side      the side of the pieces
+     * @param row       the row of the square
+     * @param column    the column of the square
+     * @param half      the half of the mask, either <code>LOW</code> or <code>HIGH</code>
+     * @return          the half of the mask of the candidate pieces
+     * @since 1.0
+     */
+    private long getCandidates(ChessGame.Side side, int row, int column, int half) {
+        long[][] masks = pieceMasks[side.ordinal()];
+
+        // Stores the pieces that move along lines and the pieces that move a short distance
+        long lineMovers = masks[CANNON][half] | masks[CHARIOT][half] | masks[GENERAL][half];
+        long nearMovers = masks[SOLDIER][half] | masks[HORSE][half] | masks[ELEPHANT][half] | masks[GUARD][half] | masks[GENERAL][half];
+        return (lineMovers & (rankMasks[row][half] | fileMasks[column][half])) |
+                (nearMovers & nearMasks[toSquare(row, column)][half]) | masks[OTHER][half];
+    }
+
+    /**
+     * <p>Returns the mask index of the type of the given piece.</p>
+     *
+     * @param piece the chess piece
+     * @return      the mask index of the piece type
+     * @since 1.0
+     */
+    private static int getType(ChessPiece piece) {
+        if (piece instanceof SoldierPiece)
+            return SOLDIER;
+        else if (piece instanceof CannonPiece)
+            return CANNON;
+        else if (piece instanceof RookPiece)
+            return CHARIOT;
+        else if (piece instanceof HorsePiece)
+            return HORSE;
+        else if (piece instanceof ElephantPiece)
+            return ELEPHANT;
+        else if (piece instanceof GuardPiece)
+            return GUARD;
+        else if (piece instanceof XiangqiKingPiece)
+            return GENERAL;
+        else
+            return OTHER;
+    }
+
+    /**
+     * <p>Returns the square index of the given row and column.</p>
+     *
+     * @param row       the row of the chessboard
+     * @param column    the column of the chessboard
+     * @return          the square index
+     * @since 1.0
+     */
+    private int toSquare(int row, int column) {
+        return row * numColumns + column;
+    }
+
+    /**
+     * <p>Returns a mask pair of the square indexes from <code>from</code> (inclusive) to <code>to</code> (exclusive).</p>
+     *
+     * @param from  the first square index of the range
+     * @param to    the square index after the last square of the range
+     * @return      the mask pair of the range
+     * @since 1.0
+     */
+    private static long[] getRange(int from, int to) {
+        return new long[] {getLowBits(to, LOW) & ~getLowBits(from, LOW), getLowBits(to, HIGH) & ~getLowBits(from, HIGH)};
+    }
+
+    /**
+     * <p>Returns one long of a mask pair with the given number of lowest bits set.</p>
+     *
+     * @param count the number of bits, from 0 to 128
+     * @param half  the long of the mask pair, either <code>LOW</code> or <code>HIGH</code>
+     * @return      the long of the mask pair
+     * @since 1.0
+     */
+    private static long getLowBits(int count, int half) {
+        // Stores the number of bits that fall into the requested long
+        int bits = Math.min(Math.max(count - half * Long.SIZE, 0), Long.SIZE);
+        return (bits == Long.SIZE) ? -1L : (1L << bits) - 1;
+    }
+
+    /**
+     * <p>Returns a mask pair shifted towards higher square indexes, for example from one rank to the next.</p>
+     *
+     * @param mask      the mask pair
+     * @param distance  the number of squares to shift by, from 0 to 127
+     * @return          the shifted mask pair
+     * @since 1.0
+     */
+    private static long[] shiftLeft(long[] mask, int distance) {
+        if (distance == 0)
+            return new long[] {mask[LOW], mask[HIGH]};
+        else if (distance < Long.SIZE)
+            return new long[] {mask[LOW] << distance, (mask[HIGH] << distance) | (mask[LOW] >>> (Long.SIZE - distance))};
+        else
+            return new long[] {0, mask[LOW] << (distance - Long.SIZE)};
+    }
+
+    /**
+     * <p>Returns the lowest square index set in a mask pair.</p>
+     *
+     * @param mask  the mask pair
+     * @return      the lowest square index, -1 if the mask is empty
+     * @since 1.0
+     */
+    private static int getFirstSquare(long[] mask) {
+        if (mask[LOW] != 0)
+            return Long.numberOfTrailingZeros(mask[LOW]);
+        else if (mask[HIGH] != 0)
+            return Long.SIZE + Long.numberOfTrailingZeros(mask[HIGH]);
+        else
+            return -1;
+    }
+
+    /**
+     * <p>Checks if a square index is set in a mask pair.</p>
+     *
+     * @param mask      the mask pair
+     * @param square    the square index
+     * @return          <code>true</code> if the square is set
+     * @since 1.0
+     */
+    private static boolean testBit(long[] mask, int square) {
+        return (mask[square >>> 6] & (1L << square)) != 0;
+    }
+
+    /**
+     * <p>Sets a square index in a mask pair.</p>
+     *
+     * @param mask      the mask pair
+     * @param square    the square index
+     * @since 1.0
+     */
+    private static void setBit(long[] mask, int square) {
+        mask[square >>> 6] |= 1L << square;
+    }
+
+    /**
+     * <p>Clears a square index in a mask pair.</p>
+     *
+     * @param mask      the mask pair
+     * @param square    the square index
+     * @since 1.0
+     */
+    private static void clearBit(long[] mask, int square) {
+        mask[square >>> 6] &= ~(1L << square);
+    }
+    //endregion
+}
@@ -0,0 +1,472 @@
+import java.io.IOException;
+
+/**
+ * <p>Represents the FEN of positions of Xiangqi, as used by WXF and UCCI, read onto and written from any
+ * {@link ChessBoard} in any orientation.</p>
+ * <p>A FEN lists the pieces of each rank from black's side to red's side, each from red's left to red's right, then
+ * the side to move, two unused fields, the half-move clock, and the full-move number:
+ * <code>rnbakabnr/9/1c5c1/p1p1p1p1p/9/9/P1P1P1P1P/1C5C1/9/RNBAKABNR w - - 0 1</code>. Capitals are red, which is the
+ * side that starts the game, and lower case letters are the side facing it. The pieces are <code>K</code> for the
+ * general, <code>A</code> for guards, <code>B</code> for elephants, <code>N</code> for horses, <code>R</code> for
+ * chariots, <code>C</code> for cannons, and <code>P</code> for soldiers; <code>E</code> and <code>H</code> are also
+ * read as elephants and horses.</p>
+ * <p>The ranks of the FEN are mapped onto the chessboard from red's side, so a red South side has the last rank of
+ * the FEN on its bottom row, and a red West side has it on its left column.</p>
+ * <p>A FEN is read one character at a time from a <code>CharSequence</code>, with no regular expressions and no
+ * substrings, and is written to any <code>Appendable</code>. Writing a FEN that was read gives the same FEN back, with
+ * the side to move written as <code>w</code> or <code>b</code>.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class XiangqiFen {
+
+    //region FIELDS
+    /**
+     * Stores the FEN of the starting position of Xiangqi.
+     */
+    public static final String START = "rnbakabnr/9/1c5c1/p1p1p1p1p/9/9/P1P1P1P1P/1C5C1/9/RNBAKABNR w - - 0 1";
+
+    /**
+     * Stores the number of ranks of a FEN.
+     */
+    private static final int RANKS = 10;
+
+    /**
+     * Stores the number of files of a FEN.
+     */
+    private static final int FILES = 9;
+    //endregion
+
+    //region CONSTRUCTORS
+    /**
+     * <p>Prevents the class of static methods from being created.</p>
+     *
+     * @since 1.0
+     */
+    private XiangqiFen() {}
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Reads a FEN onto an empty chessboard: places its pieces, and sets the side to move and the half-move clock of
+     * the chessboard's game.</p>
+     * <p>The side to move and the fields after it can be left out; they default to red, and 0 and 1 for the
+     * counters. The Zobrist key and the scores of the game are found again once the position is set up, and the move
+     * history of the game starts from the position with the full-move number of the FEN.</p>
+     *
+     * @param fen   the FEN
+     * @param board the empty chessboard of a game of Xiangqi, whose starting side is red
+     * @return      the full-move number of the FEN, which the game only keeps in its move history
+     * @throws IllegalArgumentException if the FEN cannot be read
+     * @since 1.0
+     */
+    public static int read(CharSequence fen, ChessBoard board) throws IllegalArgumentException {
+        ChessGame game = board.getGameRules();
+        if (game.getNumRows() * game.getNumColumns() != RANKS * FILES)
+            throw new IllegalArgumentException("A FEN of Xiangqi needs a 10 by 9 chessboard.");
+
+        ChessGame.Side red = game.getStartingSide();
+        int length = fen.length();
+        int i = skipSpaces(fen, 0);
+        int rank = 0;
+        int file = 0;
+
+        // Places the pieces, rank by rank from black's side
+        for (; i < length && !Character.isWhitespace(fen.charAt(i)); i++) {
+            char c = fen.charAt(i);
+
+            if (c == '/') {
+                if (file != FILES || ++rank >= RANKS)
+                    throw error("Each rank must have 9 files, and there must be 10 ranks", fen);
+                file = 0;
+            } else if (c >= '1' && c <= '9')
+                file += c - '0';
+            else {
+                if (file >= FILES)
+                    throw error("Each rank must have 9 files", fen);
+
+                int row = getRow(red, rank, file);
+                int column = getColumn(red, rank, file);
+                board.addPiece(createPiece(board, c, Character.isUpperCase(c) ? red : getOpposite(red), row, column), row, column);
+                file++;
+            }
+
+            if (file > FILES)
+                throw error("Each rank must have 9 files", fen);
+        }
+        if (rank != RANKS - 1 || file != FILES)
+            throw error("Each rank must have 9 files, and there must be 10 ranks", fen);
+
+        // Sets the side to move
+        i = skipSpaces(fen, i);
+        if (i < length) {
+            char c = fen.charAt(i++);
+            if (c != 'w' && c != 'r' && c != 'b')
+                throw error("The side to move must be w, r, or b", fen);
+            if ((c == 'b') != (game.getCurrentSide() != red))
+                game.flipSide();
+        }
+
+        // Skips the two unused fields
+        for (int field = 0; field < 2; field++) {
+            i = skipSpaces(fen, i);
+            while (i < length && !Character.isWhitespace(fen.charAt(i)))
+                i++;
+        }
+
+        // Reads the counters
+        i = skipSpaces(fen, i);
+        int halfMoves = 0;
+        for (; i < length && !Character.isWhitespace(fen.charAt(i)); i++)
+            halfMoves = halfMoves * 10 + getDigit(fen, i);
+        game.setFiftyMoveRule(halfMoves);
+
+        i = skipSpaces(fen, i);
+        int fullMoves = i < length ? 0 : 1;
+        for (; i < length && !Character.isWhitespace(fen.charAt(i)); i++)
+            fullMoves = fullMoves * 10 + getDigit(fen, i);
+
+        game.resetHash(board);
+        game.getMoveHistory().reset(board, fullMoves);
+        return fullMoves;
+    }
+
+    /**
+     * <p>Returns a new chessboard with no GUI set up with the position of a FEN, with red as the South side.</p>
+     *
+     * @param fen   the FEN
+     * @return      the chessboard
+     * @throws IllegalArgumentException if the FEN cannot be read
+     * @since 1.0
+     */
+    public static BasicChessBoard createBoard(CharSequence fen) throws IllegalArgumentException {
+        BasicChessBoard board = new BasicChessBoard(new Xiangqi(ChessGame.Side.SOUTH));
+
+        read(fen, board);
+        return board;
+    }
+
+    /**
+     * <p>Returns the FEN of the position on a chessboard.</p>
+     *
+     * @param board     the chessboard
+     * @param fullMoves the full-move number, which the game does not keep
+     * @return          the FEN
+     * @since 1.0
+     */
+    public static String write(ChessBoard board, int fullMoves) {
+        StringBuilder fen = new StringBuilder(100);
+
+        try {
+            write(board, fullMoves, fen);
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // A StringBuilder does not throw
+        }
+        return fen.toString();
+    }
+
+    /**
+     * <p>Writes the FEN of the position on a chessboard.</p>
+     *
+     * @param board     the chessboard
+     * @param fullMoves the full-move number, which the game does not keep
+     * @param out       the output the FEN is appended to
+     * @throws IOException if the output cannot be written
+     * @since 1.0
+     */
+    public static void write(ChessBoard board, int fullMoves, Appendable out) throws IOException {
+        ChessGame game = board.getGameRules();
+        ChessGame.Side red = game.getStartingSide();
+
+        // Writes the pieces, rank by rank from black's side
+        for (int rank = 0; rank < RANKS; rank++) {
+            int empty = 0;
+
+            for (int file = 0; file < FILES; file++) {
+                ChessPiece piece = board.getPiece(getRow(red, rank, file), getColumn(red, rank, file));
+
+                if (piece == null)
+                    empty++;
+                else {
+                    if (empty > 0)
+                        out.append((char) ('0' + empty));
+                    empty = 0;
+
+                    char letter = getLetter(piece.getLabel().charAt(0));
+                    out.append(piece.getSide() == red ? letter : Character.toLowerCase(letter));
+                }
+            }
+
+            if (empty > 0)
+                out.append((char) ('0' + empty));
+            if (rank < RANKS - 1)
+                out.append('/');
+        }
+
+        out.append(' ').append(game.getCurrentSide() == red ? 'w' : 'b').append(" - - ");
+        out.append(Integer.toString(game.getFiftyMoveRule())).append(' ').append(Integer.toString(fullMoves));
+    }
+
+    /**
+     * <p>Returns the FEN of a position, such as the position a move history started from.</p>
+     *
+     * @param position  the position
+     * @param red       the side of red, which starts the game
+     * @param fullMoves the full-move number, which the position does not keep
+     * @return          the FEN
+     * @throws IllegalArgumentException if a piece of the position is not a piece of Xiangqi
+     * @since 1.0
+     */
+    public static String write(ChessPosition position, ChessGame.Side red, int fullMoves) throws IllegalArgumentException {
+        StringBuilder fen = new StringBuilder(100);
+
+        // Writes the pieces, rank by rank from black's side
+        for (int rank = 0; rank < RANKS; rank++) {
+            int empty = 0;
+
+            for (int file = 0; file < FILES; file++) {
+                byte code = position.getSquare(getRow(red, rank, file), getColumn(red, rank, file));
+
+                if (code == ChessPosition.EMPTY)
+                    empty++;
+                else {
+                    if (empty > 0)
+                        fen.append((char) ('0' + empty));
+                    empty = 0;
+
+                    char letter = getLetter(ChessPosition.getLabel(code).charAt(0));
+                    fen.append(ChessPosition.getSide(code) == red ? letter : Character.toLowerCase(letter));
+                }
+            }
+
+            if (empty > 0)
+                fen.append((char) ('0' + empty));
+            if (rank < RANKS - 1)
+                fen.append('/');
+        }
+
+        fen.append(' ').append(position.getPlayer() == red ? 'w' : 'b').append(" - - ");
+        return fen.append(position.getFiftyMoveRule()).append(' ').append(fullMoves).toString();
+    }
+
+    /**
+     * <p>Returns the index of a square of the chessboard in the order of a FEN, which is the same in every
+     * orientation.</p>
+     *
+     * @param red       the side of red
+     * @param row       the row of the square
+     * @param column    the column of the square
+     * @return          the index of the square, the rank from black's side times 9 plus the file from red's left
+     * @since 1.0
+     */
+    public static int getSquare(ChessGame.Side red, int row, int column) {
+        switch (red) {
+            case SOUTH:
+                return row * FILES + column;
+            case NORTH:
+                return (RANKS - 1 - row) * FILES + FILES - 1 - column;
+            case WEST:
+                return (RANKS - 1 - column) * FILES + row;
+            default: // East
+                return column * FILES + FILES - 1 - row;
+        }
+    }
+
+    /**
+     * <p>Returns the row of the chessboard of a square in the order of a FEN.</p>
+     *
+     * @param red       the side of red
+     * @param square    the index of the square, as returned by {@link #getSquare(ChessGame.Side, int, int)}
+     * @return          the row of the square
+     * @since 1.0
+     */
+    public static int getRow(ChessGame.Side red, int square) {
+        return getRow(red, square / FILES, square % FILES);
+    }
+
+    /**
+     * <p>Returns the column of the chessboard of a square in the order of a FEN.</p>
+     *
+     * @param red       the side of red
+     * @param square    the index of the square, as returned by {@link #getSquare(ChessGame.Side, int, int)}
+     * @return          the column of the square
+     * @since 1.0
+     */
+    public static int getColumn(ChessGame.Side red, int square) {
+        return getColumn(red, square / FILES, square % FILES);
+    }
+
+    /**
+     * <p>Returns the row of the chessboard of a rank and file of a FEN.</p>
+     *
+     * @param red   the side of red
+     * @param rank  the rank, from 0 on black's side
+     * @param file  the file, from 0 on red's left
+     * @return      the row of the chessboard
+     * @since 1.0
+     */
+    private static int getRow(ChessGame.Side red, int rank, int file) {
+        switch (red) {
+            case SOUTH:
+                return rank;
+            case NORTH:
+                return RANKS - 1 - rank;
+            case WEST:
+                return file;
+            default: // East
+                return FILES - 1 - file;
+        }
+    }
+
+    /**
+     * <p>Returns the column of the chessboard of a rank and file of a FEN.</p>
+     *
+     * @param red   the side of red
+     * @param rank  the rank, from 0 on black's side
+     * @param file  the file, from 0 on red's left
+     * @return      the column of the chessboard
+     * @since 1.0
+     */
+    private static int getColumn(ChessGame.Side red, int rank, int file) {
+        switch (red) {
+            case SOUTH:
+                return file;
+            case NORTH:
+                return FILES - 1 - file;
+            case WEST:
+                return RANKS - 1 - rank;
+            default: // East
+                return rank;
+        }
+    }
+
+    /**
+     * <p>Returns the side facing a side.</p>
+     *
+     * @param side  the side
+     * @return      the side facing it
+     * @since 1.0
+     */
+    private static ChessGame.Side getOpposite(ChessGame.Side side) {
+        switch (side) {
+            case SOUTH:
+                return ChessGame.Side.NORTH;
+            case NORTH:
+                return ChessGame.Side.SOUTH;
+            case WEST:
+                return ChessGame.Side.EAST;
+            default: // East
+                return ChessGame.Side.WEST;
+        }
+    }
+
+    /**
+     * <p>Returns a new piece for a letter of a FEN.</p>
+     *
+     * @param board     the chessboard
+     * @param letter    the letter of the piece, upper case for red
+     * @param side      the side of the piece
+     * @param row       the row of the piece
+     * @param column    the column of the piece
+     * @return          the piece
+     * @throws IllegalArgumentException if the letter is not a piece of Xiangqi
+     * @since 1.0
+     */
+    private static ChessPiece createPiece(ChessBoard board, char letter, ChessGame.Side side, int row, int column) throws IllegalArgumentException {
+        boolean red = Character.isUpperCase(letter);
+
+        switch (Character.toLowerCase(letter)) {
+            case 'k':
+                return new XiangqiKingPiece(side, board, red ? ChessIcon.RED_GENERAL : ChessIcon.BLACK_GENERAL, row, column);
+            case 'a':
+                return new GuardPiece(side, board, red ? ChessIcon.RED_GUARD : ChessIcon.BLACK_GUARD, row, column);
+            case 'b':
+            case 'e':
+                return new ElephantPiece(side, board, red ? ChessIcon.RED_ELEPHANT : ChessIcon.BLACK_ELEPHANT, row, column);
+            case 'n':
+            case 'h':
+                return new HorsePiece(side, board, red ? ChessIcon.RED_HORSE : ChessIcon.BLACK_HORSE, row, column);
+            case 'r':
+                return new RookPiece(side, board, red ? ChessIcon.RED_CHARIOT : ChessIcon.BLACK_CHARIOT, row, column);
+            case 'c':
+                return new CannonPiece(side, board, red ? ChessIcon.RED_CANNON : ChessIcon.BLACK_CANNON, row, column);
+            case 'p':
+                return new SoldierPiece(side, board, red ? ChessIcon.RED_SOLDIER : ChessIcon.BLACK_SOLDIER, row, column);
+            default:
+                throw new IllegalArgumentException("'" + letter + "' is not a piece of Xiangqi.");
+        }
+    }
+
+    /**
+     * <p>Returns the upper case letter of a piece in a FEN.</p>
+     *
+     * @param label the first letter of the label of the piece
+     * @return      the letter of the piece
+     * @throws IllegalArgumentException if the piece is not a piece of Xiangqi
+     * @since 1.0
+     */
+    private static char getLetter(char label) throws IllegalArgumentException {
+        switch (label) {
+            case 'X':
+                return 'K';
+            case 'G':
+                return 'A';
+            case 'E':
+                return 'B';
+            case 'H':
+                return 'N';
+            case 'R':
+                return 'R';
+            case 'C':
+                return 'C';
+            case 'S':
+                return 'P';
+            default:
+                throw new IllegalArgumentException(label + " is not a piece of Xiangqi.");
+        }
+    }
+
+    /**
+     * <p>Returns the index of the first character at or after an index that is not a space.</p>
+     *
+     * @param fen   the FEN
+     * @param i     the index
+     * @return      the index of the first character that is not a space, or the length of the FEN
+     * @since 1.0
+     */
+    private static int skipSpaces(CharSequence fen, int i) {
+        while (i < fen.length() && Character.isWhitespace(fen.charAt(i)))
+            i++;
+        return i;
+    }
+
+    /**
+     * <p>Returns the digit at an index of a FEN.</p>
+     *
+     * @param fen   the FEN
+     * @param i     the index
+     * @return      the digit
+     * @throws IllegalArgumentException if the character is not a digit
+     * @since 1.0
+     */
+    private static int getDigit(CharSequence fen, int i) throws IllegalArgumentException {
+        char c = fen.charAt(i);
+        if (c < '0' || c > '9')
+            throw error("The move counters must be numbers", fen);
+        return c - '0';
+    }
+
+    /**
+     * <p>Returns the error of a FEN that cannot be read.</p>
+     *
+     * @param message   why the FEN cannot be read
+     * @param fen       the FEN
+     * @return          the error
+     * @since 1.0
+     */
+    private static IllegalArgumentException error(String message, CharSequence fen) {
+        return new IllegalArgumentException(message + ": " + fen);
+    }
+    //endregion
+}
@@ -5,7 +5,7 @@ import java.util.ArrayList;
  * <p>Dictates how a xiangqi king can move.</p>
  *
  * @author Nobel Zhou
- * @version 1.0, 12/5/20
+ * @version 3.0, 10/17/26
  */
 public class XiangqiKingPiece extends CenterPiece implements CanSingleStraightMove, CanPalaceMove, CanFaceKingMove {
 
@@ -26,6 +26,18 @@ public class XiangqiKingPiece extends CenterPiece implements CanSingleStraightMo
     //endregion
 
     //region METHODS
+    /**
+     * <p>Creates a xiangqi king piece of the same side, icon, and location on another chessboard.</p>
+     *
+     * @param chessBoard    the chessboard of the new xiangqi king piece
+     * @return              the new xiangqi king piece
+     * @since 3.0
+     */
+    @Override
+    protected ChessPiece createPiece(ChessBoard chessBoard) {
+        return new XiangqiKingPiece(getSide(), chessBoard, (ChessIcon) getIcon(), getRow(), getColumn());
+    }
+
     /**
      * <p>Returns a boolean representing if the proposed move is legal, assuming that it is unoccupied.</p>
      *
@@ -52,6 +64,32 @@ public class XiangqiKingPiece extends CenterPiece implements CanSingleStraightMo
         return isLegalNonCaptureMove(row, column) || isValidFaceKingMove(row, column, this);
     }
 
+    /**
+     * <p>Adds the squares the xiangqi king piece can capture on to a list of squares.</p>
+     * <p>The adjacent squares are checked, along with the first piece in each direction the king faces.</p>
+     *
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    @Override
+    public void addCaptureSquares(SquareList squares) {
+        addCaptureSquares(SINGLE_ROW_OFFSETS, SINGLE_COLUMN_OFFSETS, squares);
+        addFaceKingCaptureSquares(this, squares);
+    }
+
+    /**
+     * <p>Adds the squares the xiangqi king piece can move to to a list of squares.</p>
+     * <p>The adjacent squares are checked, along with the first piece in each direction the king faces.</p>
+     *
+     * @param squares   the list the squares are added to
+     * @since 3.0
+     */
+    @Override
+    public void addMoveSquares(SquareList squares) {
+        addMoveSquares(SINGLE_ROW_OFFSETS, SINGLE_COLUMN_OFFSETS, squares);
+        addFaceKingCaptureSquares(this, squares);
+    }
+
     /**
      * <p>Returns an array of <code>XiangqiKingPiece</code>s representing the opposing kings.</p>
      * <p>For xiangqi, there will only be 1 opposing king.</p>
@@ -64,19 +102,41 @@ public class XiangqiKingPiece extends CenterPiece implements CanSingleStraightMo
         // Stores all the opposing kings; note that since we don't know how many opposing kings there are, we have to use an ArrayList
         ArrayList<XiangqiKingPiece> opposingKings = new ArrayList<>();
 
-        // Iterates the chess board to look for the opposite side xiangqi king piece
-        for (int i = 0; i < getChessBoard().getGameRules().getNumRows(); i++) {
-            for (int j = 0; j < getChessBoard().getGameRules().getNumColumns(); j++) {
-                // Looks for opposite side king piece
-                try {
-                    if (!getChessBoard().getPiece(i, j).getSide().equals(getSide()))
-                        opposingKings.add((XiangqiKingPiece) getChessBoard().getPiece(i, j));
-                } catch (Exception ignored) {} // Not a XiangqiKingPiece or piece does not exist at that location; continue searching
+        // Iterates the pieces of every opposing side to look for their king pieces
+        for (ChessGame.Side side : ChessGame.Side.values()) {
+            if (side != getSide()) {
+                for (ChessPiece piece : getChessBoard().getPieces(side)) {
+                    if (piece instanceof XiangqiKingPiece)
+                        opposingKings.add((XiangqiKingPiece) piece);
+                }
             }
         }
 
         // Returns in array form
         return opposingKings.toArray(new XiangqiKingPiece[0]);
     }
+
+    /**
+     * <p>Returns the number of pieces that must be in between for the xiangqi king piece to capture along a line in
+     * the given direction.</p>
+     * <p>The xiangqi king piece captures an opposing xiangqi king piece it faces with nothing in between, along
+     * columns for the north and south sides and along rows for the east and west sides.</p>
+     *
+     * @param rowStep       the row step of the direction, from -1 to 1
+     * @param columnStep    the column step of the direction, from -1 to 1
+     * @return              the number of pieces that must be in between, -1 if the xiangqi king piece does not
+     *                      capture this way
+     * @since 3.0
+     */
+    @Override
+    public int getLineScreens(int rowStep, int columnStep) {
+        switch (getSide()) {
+            case NORTH:
+            case SOUTH:
+                return columnStep == 0 && rowStep != 0 ? 0 : -1;
+            default: // EAST and WEST
+                return rowStep == 0 && columnStep != 0 ? 0 : -1;
+        }
+    }
     //endregion
 }
@@ -0,0 +1,172 @@
+import java.util.SplittableRandom;
+
+/**
+ * <p>Represents the Zobrist keys used to hash chess positions into 64-bit numbers.</p>
+ * <p>Every piece label, side, and square has a random key, and the key of a position is the exclusive or of the keys
+ * of its pieces and the key of the side that is playing. Moving a piece therefore only needs the keys of the pieces
+ * that changed, so games can update the key of the position in {@link ChessGame#makeMove(ChessMove)} instead of
+ * hashing the whole chessboard.</p>
+ * <p>The state of a piece that decides castling and en passant is hashed with the piece: kings and rooks that have
+ * not moved yet, and pawns that another pawn can capture en passant, add another key for their square. A pawn that
+ * has just moved 2 spaces with no pawn next to it to capture it adds no key, so the position is the same as when it
+ * recurs later.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class Zobrist {
+
+    //region FIELDS
+    /**
+     * Stores the largest number of squares of a chessboard that has keys.
+     */
+    public static final int MAX_SQUARES = 128;
+
+    /**
+     * Stores the seed of the keys, so that the keys are the same every time.
+     */
+    private static final long SEED = 0x5A0B7157C4E55L;
+
+    /**
+     * Stores the keys of the pieces, indexed by side, then by the letter of the label, and then by square index.
+     */
+    private static final long[][][] PIECE_KEYS;
+
+    /**
+     * Stores the keys of the kings and rooks that have not moved yet, indexed by square index.
+     */
+    private static final long[] UNMOVED_KEYS;
+
+    /**
+     * Stores the keys of the pawns that can be captured en passant, indexed by square index.
+     */
+    private static final long[] EN_PASSANT_KEYS;
+
+    /**
+     * Stores the keys of the side that is playing.
+     */
+    private static final long[] SIDE_KEYS;
+
+    static {
+        // Stores the random number generator of the keys
+        SplittableRandom random = new SplittableRandom(SEED);
+
+        PIECE_KEYS = new long[ChessGame.Side.values().length][32][MAX_SQUARES];
+        for (long[][] sideKeys : PIECE_KEYS) {
+            for (long[] labelKeys : sideKeys) {
+                for (int i = 0; i < MAX_SQUARES; i++)
+                    labelKeys[i] = random.nextLong();
+            }
+        }
+
+        UNMOVED_KEYS = new long[MAX_SQUARES];
+        EN_PASSANT_KEYS = new long[MAX_SQUARES];
+        for (int i = 0; i < MAX_SQUARES; i++) {
+            UNMOVED_KEYS[i] = random.nextLong();
+            EN_PASSANT_KEYS[i] = random.nextLong();
+        }
+
+        SIDE_KEYS = new long[ChessGame.Side.values().length];
+        for (int i = 0; i < SIDE_KEYS.length; i++)
+            SIDE_KEYS[i] = random.nextLong();
+    }
+    //endregion
+
+    //region CONSTRUCTORS
+    /**
+     * <p>Prevents the class from being instantiated, since it only has static methods.</p>
+     *
+     * @since 1.0
+     */
+    private Zobrist() {}
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Returns the key of a piece of the given side and label on a square, without any castling or en passant
+     * state.</p>
+     *
+     * @param side      the side of the piece
+     * @param label     the label of the piece
+     * @param square    the square index of the piece
+     * @return          the key of the piece
+     * @throws IllegalArgumentException if the square index is outside of the keys
+     * @since 1.0
+     */
+    public static long getPieceKey(ChessGame.Side side, String label, int square) throws IllegalArgumentException {
+        if (square < 0 || square >= MAX_SQUARES)
+            throw new IllegalArgumentException("Zobrist keys only cover chessboards of up to " + MAX_SQUARES + " squares.");
+
+        return PIECE_KEYS[side.ordinal()][label.charAt(0) & 31][square];
+    }
+
+    /**
+     * <p>Returns the key of a piece on its current square, including its castling or en passant state.</p>
+     *
+     * @param piece the chess piece
+     * @return      the key of the piece
+     * @since 1.0
+     */
+    public static long getPieceKey(ChessPiece piece) {
+        int square = piece.getRow() * piece.getChessBoard().getGameRules().getNumColumns() + piece.getColumn();
+        long key = getPieceKey(piece.getSide(), piece.getLabel(), square);
+
+        // Adds the castling state of kings and rooks
+        if ((piece instanceof CanCastleMove || piece instanceof RookPiece) && piece.getNumMoves() == 0)
+            key ^= UNMOVED_KEYS[square];
+
+        // Adds the en passant state of pawns
+        if (piece instanceof PawnPiece && ((PawnPiece) piece).isEnPassantTarget())
+            key ^= EN_PASSANT_KEYS[square];
+
+        return key;
+    }
+
+    /**
+     * <p>Returns the key of the side that is playing.</p>
+     *
+     * @param side  the side that is playing
+     * @return      the key of the side
+     * @since 1.0
+     */
+    public static long getSideKey(ChessGame.Side side) {
+        return SIDE_KEYS[side.ordinal()];
+    }
+
+    /**
+     * <p>Returns the exclusive or of the keys of the given pieces that are on their chessboard.</p>
+     * <p>Pieces that were captured, replaced, or not placed yet are skipped, so the same pieces can be hashed before and
+     * after a move to find how the key of the position changes.</p>
+     *
+     * @param pieces    the chess pieces
+     * @return          the key of the pieces
+     * @since 1.0
+     */
+    public static long getKey(ChessPiece[] pieces) {
+        long key = 0;
+
+        for (ChessPiece piece : pieces) {
+            if (piece.getRow() >= 0 && piece.getColumn() >= 0 && piece.getChessBoard().getPiece(piece.getRow(), piece.getColumn()) == piece)
+                key ^= getPieceKey(piece);
+        }
+        return key;
+    }
+
+    /**
+     * <p>Returns the key of the position on a chessboard, hashing every piece and the side that is playing.</p>
+     *
+     * @param board the chessboard
+     * @return      the key of the position
+     * @since 1.0
+     */
+    public static long getKey(ChessBoard board) {
+        long key = getSideKey(board.getGameRules().getCurrentSide());
+
+        for (ChessGame.Side side : ChessGame.Side.values()) {
+            for (int i = 0; i < board.getNumPieces(side); i++)
+                key ^= getPieceKey(board.getPiece(side, i));
+        }
+        return key;
+    }
+    //endregion
+}
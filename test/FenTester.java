@@ -0,0 +1,183 @@
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * <p>Represents a class that tests reading and writing positions in Forsyth-Edwards Notation.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class FenTester {
+
+    //region METHODS
+    /**
+     * <p>Tests that the FEN of a position of Indo-European chess is written back as it was read, including after
+     * moves that change the castling rights, the en passant square, and the half-move clock.</p>
+     *
+     * @since 1.0
+     */
+    @Test
+    public void testEuropeanChessFen() {
+        for (String fen : new String[] {EuropeanChessFen.START, Perft.KIWIPETE, Perft.PROMOTIONS, "rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3"}) {
+            BasicChessBoard board = new BasicChessBoard(new EuropeanChess(ChessGame.Side.SOUTH));
+            assertEquals(fen, EuropeanChessFen.write(board, EuropeanChessFen.read(fen, board)));
+        }
+
+        BasicChessBoard board = new BasicChessBoard(new EuropeanChess(ChessGame.Side.SOUTH));
+        EuropeanChessFen.read(EuropeanChessFen.START, board);
+        board.getGameRules().makeMove(new ChessMove(board.getPiece(6, 4), 4, 4));
+        assertEquals("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1", EuropeanChessFen.write(board, 1));
+
+        board = new BasicChessBoard(new EuropeanChess(ChessGame.Side.SOUTH));
+        EuropeanChessFen.read("r3k2r/8/8/8/8/8/8/R3K2R w KQkq - 7 20", board);
+        board.getGameRules().makeMove(new ChessMove(board.getPiece(7, 7), 6, 7));
+        assertEquals("r3k2r/8/8/8/8/8/7R/R3K3 b Qkq - 8 20", EuropeanChessFen.write(board, 20));
+        assertEquals(board.getGameRules().getHash(), Zobrist.getKey(board));
+    }
+
+    /**
+     * <p>Tests that the FEN of a position of Xiangqi is written back as it was read in every orientation, and that the
+     * position has the same counts in every orientation.</p>
+     *
+     * @since 1.0
+     */
+    @Test
+    public void testXiangqiFen() {
+        String fen = "r1bakab1r/9/1cn4c1/p1p1p1p1p/9/9/P1P1P1P1P/1C2C1N2/9/RNBAKAB1R b - - 3 2";
+
+        for (ChessGame.Side side : ChessGame.Side.values()) {
+            BasicChessBoard board = new BasicChessBoard(new Xiangqi(side));
+            assertEquals(fen, XiangqiFen.write(board, XiangqiFen.read(fen, board)));
+            assertEquals(3, board.getGameRules().getFiftyMoveRule());
+
+            board = new BasicChessBoard(new Xiangqi(side));
+            XiangqiFen.read(XiangqiFen.START, board);
+            assertEquals(side.toString(), 1920, Perft.count(board, 2));
+        }
+    }
+
+    /**
+     * <p>Tests that the half-move clock counts a castling as one ply, and that a game of Indo-European chess is drawn by
+     * the fifty move rule after 100 plies without a capture or a pawn move and not before, while a game of Xiangqi is
+     * still drawn after 50 plies.</p>
+     *
+     * @since 1.0
+     */
+    @Test
+    public void testFiftyMoveRule() {
+        BasicChessBoard board = Perft.setUp(false, EuropeanChessFen.START);
+        for (String san : new String[] {"e4", "e5", "Nf3", "Nc6", "Bc4", "Nf6", "O-O"})
+            board.getGameRules().makeMove(EuropeanChessSan.read(san, board));
+        assertEquals("r1bqkb1r/pppp1ppp/2n2n2/4p3/2B1P3/5N2/PPPP1PPP/RNBQ1RK1 b kq - 5 4", EuropeanChessFen.write(board, 4));
+
+        // Stores the result the game was ended with
+        ChessResult[] result = new ChessResult[1];
+
+        String fen = "4k3/p7/8/8/8/8/P7/1R2K3 w - - 60 80";
+        board = createBoard(new EuropeanChess(ChessGame.Side.SOUTH), result);
+        assertEquals(fen, EuropeanChessFen.write(board, EuropeanChessFen.read(fen, board)));
+        makeMove(board, "Rb2");
+        assertEquals(61, board.getGameRules().getFiftyMoveRule());
+        assertNull(result[0]);
+
+        board = createBoard(new EuropeanChess(ChessGame.Side.SOUTH), result);
+        EuropeanChessFen.read("4k3/p7/8/8/8/8/P7/1R2K3 w - - 98 80", board);
+        makeMove(board, "Rb2");
+        assertNull(result[0]);
+        makeMove(board, "Ke7");
+        assertEquals(100, board.getGameRules().getFiftyMoveRule());
+        assertEquals(ChessResult.FIFTY_MOVE_RULE, result[0]);
+
+        for (ChessGame.Side side : ChessGame.Side.values()) {
+            result[0] = null;
+            board = createBoard(new Xiangqi(side), result);
+            XiangqiFen.read("5k3/9/9/9/R8/9/9/9/9/3K5 w - - 48 30", board);
+            makeMove(board, board.generateAllMoves()[0]);
+            assertNull(side.toString(), result[0]);
+            makeMove(board, board.generateAllMoves()[0]);
+            assertEquals(50, board.getGameRules().getFiftyMoveRule());
+            assertEquals(side.toString(), ChessResult.FIFTY_MOVE_RULE, result[0]);
+        }
+    }
+
+    /**
+     * <p>Tests that the game is drawn by threefold repetition the third time a position is reached after a pawn move,
+     * and that a pawn that just moved 2 spaces is only hashed and encoded with an en passant square when a pawn can
+     * capture it.</p>
+     *
+     * @since 1.0
+     */
+    @Test
+    public void testThreefoldRepetition() {
+        // Stores the result the game was ended with
+        ChessResult[] result = new ChessResult[1];
+
+        BasicChessBoard board = createBoard(new EuropeanChess(ChessGame.Side.SOUTH), result);
+        EuropeanChessFen.read(EuropeanChessFen.START, board);
+        String[] moves = {"e3", "Nf6", "Nf3", "Ng8", "Ng1", "Nf6", "Nf3", "Ng8", "Ng1"};
+        for (int i = 0; i < moves.length; i++) {
+            assertNull("Ply " + i, result[0]);
+            makeMove(board, moves[i]);
+        }
+        assertEquals(ChessResult.THREEFOLD_REPETITION, result[0]);
+
+        // Checks a pawn that moved 2 spaces with no pawn next to it
+        board = Perft.setUp(false, "4k3/8/8/8/8/8/4P3/4K3 w - - 0 1");
+        board.getGameRules().makeMove(EuropeanChessSan.read("e4", board));
+        BasicChessBoard expected = Perft.setUp(false, "4k3/8/8/8/4P3/8/8/4K3 b - - 0 1");
+        assertEquals(expected.getGameRules().getHash(), board.getGameRules().getHash());
+        assertEquals(expected.generateChessPosition(), board.generateChessPosition());
+
+        // Checks a pawn that moved 2 spaces next to a pawn that can capture it
+        board = Perft.setUp(false, "4k3/8/8/8/3p4/8/4P3/4K3 w - - 0 1");
+        board.getGameRules().makeMove(EuropeanChessSan.read("e4", board));
+        expected = Perft.setUp(false, "4k3/8/8/8/3pP3/8/8/4K3 b - - 0 1");
+        assertNotEquals(expected.getGameRules().getHash(), board.getGameRules().getHash());
+        assertNotEquals(expected.generateChessPosition(), board.generateChessPosition());
+        expected = Perft.setUp(false, "4k3/8/8/8/3pP3/8/8/4K3 b - e3 0 1");
+        assertEquals(expected.getGameRules().getHash(), board.getGameRules().getHash());
+        assertEquals(expected.generateChessPosition(), board.generateChessPosition());
+        assertEquals(Zobrist.getKey(board), board.getGameRules().getHash());
+    }
+
+    /**
+     * <p>Returns an empty chessboard that keeps the result the game is ended with.</p>
+     *
+     * @param game      the rules of the game
+     * @param result    the array the result is kept in
+     * @return          the chessboard
+     * @since 1.0
+     */
+    private BasicChessBoard createBoard(ChessGame game, ChessResult[] result) {
+        return new BasicChessBoard(game) {
+            @Override
+            public void terminate(ChessResult r, ChessGame.Side side) {
+                result[0] = r;
+            }
+        };
+    }
+
+    /**
+     * <p>Makes a move given in SAN and checks if it ends the game.</p>
+     *
+     * @param board the chessboard
+     * @param san   the move
+     * @since 1.0
+     */
+    private void makeMove(BasicChessBoard board, String san) {
+        makeMove(board, EuropeanChessSan.read(san, board));
+    }
+
+    /**
+     * <p>Makes a move and checks if it ends the game.</p>
+     *
+     * @param board the chessboard
+     * @param move  the move
+     * @since 1.0
+     */
+    private void makeMove(BasicChessBoard board, ChessMove move) {
+        board.getGameRules().makeMove(move);
+        board.getGameRules().handleEndConditions(board, board.getCentralPiece(move.getPiece()));
+    }
+    //endregion
+}
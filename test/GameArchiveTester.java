@@ -0,0 +1,83 @@
+import org.junit.Test;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/**
+ * <p>Represents a class that tests writing games to an archive and reading them back.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class GameArchiveTester {
+
+    //region METHODS
+    /**
+     * <p>Tests that games of both variants written to an archive are read back by their number and replay the same
+     * positions.</p>
+     *
+     * @throws IOException if the archive cannot be written or read
+     * @since 1.0
+     */
+    @Test
+    public void testGameArchive() throws IOException {
+        Path file = Files.createTempFile("games", ".cga");
+        BasicChessBoard[] boards = {Perft.setUp(false, "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 17"), Perft.setUp(true, XiangqiFen.START), Perft.setUp(false, EuropeanChessFen.START)};
+        Random random = new Random(1);
+
+        try {
+            try (GameArchiveWriter writer = new GameArchiveWriter(file)) {
+                for (BasicChessBoard board : boards) {
+                    ChessGame game = board.getGameRules();
+
+                    for (int ply = 0; ply < 40; ply++) {
+                        ChessMove[] moves = board.generateAllMoves();
+                        if (moves.length == 0)
+                            break;
+                        game.makeMove(moves[random.nextInt(moves.length)]);
+                    }
+                    writer.write(game, "1/2-1/2");
+                }
+            }
+
+            try (GameArchiveReader reader = new GameArchiveReader(file)) {
+                assertEquals(boards.length, reader.size());
+
+                for (int i = boards.length - 1; i >= 0; i--) {
+                    GameArchiveReader.Game game = reader.read(i);
+                    assertEquals("1/2-1/2", game.getResult());
+                    assertEquals(boards[i].getGameRules().getMoveHistory().size(), game.getMoveHistory().size());
+                    assertEquals(boards[i].getGameRules().getMoveHistory().getStartingFen(), game.getMoveHistory().getStartingFen());
+                    assertEquals(boards[i].getGameRules().getHash(), game.replay().getGameRules().getHash());
+                }
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * <p>Tests that a file that is not an archive of games cannot be read.</p>
+     *
+     * @throws IOException if the file cannot be written or deleted
+     * @since 1.0
+     */
+    @Test
+    public void testNotAnArchive() throws IOException {
+        Path file = Files.createTempFile("games", ".pgn");
+
+        try {
+            Files.write(file, "[Event \"?\"]\n\n*\n".getBytes(StandardCharsets.US_ASCII));
+            new GameArchiveReader(file).close();
+            fail("A PGN file was read as an archive.");
+        } catch (IOException e) {
+            assertEquals(file + " is not an archive of games.", e.getMessage());
+        } finally {
+            Files.delete(file);
+        }
+    }
+    //endregion
+}
@@ -0,0 +1,98 @@
+import org.junit.Test;
+import java.util.Arrays;
+import static org.junit.Assert.*;
+
+/**
+ * <p>Represents a class that tests the order the search tries moves in.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class MoveOrderingTester {
+
+    //region FIELDS
+    //Stores a position with captures of a queen by a pawn and by a queen, a capture of a rook by a knight, and quiet moves
+    private static final String CAPTURES = "4k3/8/8/3q4/2P4r/5N2/8/3Q2K1 w - - 0 1";
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Returns the names of moves, such as <code>d1d5</code>.</p>
+     *
+     * @param moves the moves
+     * @return      the names of the moves, in order
+     * @since 1.0
+     */
+    private String[] getNames(ChessMove[] moves) {
+        String[] names = new String[moves.length];
+        for (int i = 0; i < moves.length; i++)
+            names[i] = CoordinateNotation.write(moves[i]);
+        return names;
+    }
+
+    /**
+     * <p>Returns a move by its name.</p>
+     *
+     * @param moves the moves
+     * @param name  the name of the move
+     * @return      the move
+     * @since 1.0
+     */
+    private ChessMove findMove(ChessMove[] moves, String name) {
+        for (ChessMove move : moves) {
+            if (CoordinateNotation.write(move).equals(name))
+                return move;
+        }
+        throw new AssertionError(name + " is not one of the moves");
+    }
+
+    /**
+     * <p>Tests that captures come first, the most valuable victim first and then the least valuable attacker first.</p>
+     *
+     * @since 1.0
+     */
+    @Test
+    public void testCaptures() {
+        BasicChessBoard board = Perft.setUp(false, CAPTURES);
+        ChessGame game = board.getGameRules();
+        ChessMove[] moves = board.generateAllMoves();
+
+        new MoveOrdering(game).sort(moves, 0, 0);
+        String[] names = getNames(moves);
+        assertArrayEquals(new String[] {"c4d5", "d1d5", "f3h4"}, Arrays.copyOf(names, 3));
+        assertFalse(MoveOrdering.isCapture(moves[3]));
+    }
+
+    /**
+     * <p>Tests that the hash move comes before the captures, and that killer moves and then the moves with the most
+     * history come before the other quiet moves.</p>
+     *
+     * @since 1.0
+     */
+    @Test
+    public void testQuietMoves() {
+        BasicChessBoard board = Perft.setUp(false, CAPTURES);
+        ChessGame game = board.getGameRules();
+        ChessMove[] moves = board.generateAllMoves();
+        MoveOrdering ordering = new MoveOrdering(game);
+
+        ChessMove hashMove = findMove(moves, "g1f2");
+        ordering.sort(moves, 0, MoveOrdering.getCode(hashMove, game.getNumColumns()));
+        assertEquals("g1f2", CoordinateNotation.write(moves[0]));
+        assertEquals("c4d5", CoordinateNotation.write(moves[1]));
+
+        // Stores a killer move of ply 2 and a move with history from a cutoff at another ply
+        ordering.addCutoff(findMove(moves, "f3g5"), 2, 3);
+        ordering.addCutoff(findMove(moves, "d1a4"), 5, 4);
+
+        ordering.sort(moves, 2, 0);
+        assertEquals("f3g5", CoordinateNotation.write(moves[3]));
+        assertEquals("d1a4", CoordinateNotation.write(moves[4]));
+
+        // Checks that a new search forgets the killer move but keeps half the history, which is more for the deeper cutoff
+        ordering.newSearch();
+        ordering.sort(moves, 2, 0);
+        assertEquals("d1a4", CoordinateNotation.write(moves[3]));
+    }
+    //endregion
+}
@@ -0,0 +1,117 @@
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.Assert.*;
+
+/**
+ * <p>Represents a class that tests copying a chessboard with its game, and searching copies of a chessboard with
+ * several threads.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class ParallelSearchTester {
+
+    //region FIELDS
+    //Stores the most time and nodes of a search, which a forced mate is found well within
+    private static final long MAX_TIME = 60000, MAX_NODES = 10000000;
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Tests that a copy of a chessboard of either game has the same position, key, scores, and piece lists as the
+     * chessboard, and that moves made and taken back on the copy do not change the chessboard.</p>
+     *
+     * @since 1.0
+     */
+    @Test
+    public void testCopy() {
+        List<BasicChessBoard> boards = new ArrayList<>();
+        boards.add(Perft.setUp(false, Perft.KIWIPETE));
+        boards.add(Perft.setUp(false, "rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3"));
+        for (ChessGame.Side side : ChessGame.Side.values()) {
+            BasicChessBoard board = new BasicChessBoard(new Xiangqi(side));
+            XiangqiFen.read(XiangqiFen.START, board);
+            boards.add(board);
+        }
+
+        for (BasicChessBoard board : boards) {
+            ChessGame game = board.getGameRules();
+            long hash = game.getHash();
+            ChessPosition position = board.generateChessPosition();
+            int plies = game.getMoveHistory().size();
+
+            BasicChessBoard copy = new BasicChessBoard(board);
+            ChessGame copyGame = copy.getGameRules();
+            assertNotSame(game, copyGame);
+            assertEquals(hash, copyGame.getHash());
+            assertEquals(hash, Zobrist.getKey(copy));
+            assertEquals(position, copy.generateChessPosition());
+            assertEquals(game.getCurrentSide(), copyGame.getCurrentSide());
+            assertEquals(game.getFiftyMoveRule(), copyGame.getFiftyMoveRule());
+
+            for (ChessGame.Side side : ChessGame.Side.values()) {
+                assertEquals(game.getScore(side), copyGame.getScore(side));
+                assertEquals(board.getNumPieces(side), copy.getNumPieces(side));
+
+                for (int i = 0; i < copy.getNumPieces(side); i++) {
+                    ChessPiece piece = copy.getPiece(side, i);
+                    assertSame(copy, piece.getChessBoard());
+                    assertSame(piece, copy.getPiece(piece.getRow(), piece.getColumn()));
+                    assertNotSame(board.getPiece(piece.getRow(), piece.getColumn()), piece);
+                }
+            }
+
+            // Plays moves on the copy, and takes them back
+            List<MoveRecord> records = new ArrayList<>();
+            for (int ply = 0; ply < 4; ply++) {
+                ChessMove[] moves = copy.generateAllMoves();
+                records.add(copyGame.makeMove(moves[moves.length - 1]));
+                assertEquals(Zobrist.getKey(copy), copyGame.getHash());
+            }
+            assertNotEquals(hash, copyGame.getHash());
+            assertEquals(plies + 4, copyGame.getMoveHistory().size());
+
+            assertEquals(hash, game.getHash());
+            assertEquals(hash, Zobrist.getKey(board));
+            assertEquals(position, board.generateChessPosition());
+            assertEquals(plies, game.getMoveHistory().size());
+
+            for (int i = records.size() - 1; i >= 0; i--)
+                copyGame.unmakeMove(records.get(i));
+            assertEquals(hash, copyGame.getHash());
+            assertEquals(position, copy.generateChessPosition());
+        }
+    }
+
+    /**
+     * <p>Tests that a search with several threads finds a mate in one, and returns a legal move of the chessboard it
+     * was given without changing the chessboard.</p>
+     *
+     * @since 1.0
+     */
+    @Test
+    public void testParallelSearch() {
+        BasicChessBoard board = Perft.setUp(false, "6k1/5ppp/8/8/8/8/8/4R1K1 w - - 0 1");
+        ParallelSearchEngine engine = new ParallelSearchEngine(board, new PieceSquareEvaluator(), new TranspositionTable(1), 4);
+
+        assertEquals("e1e8", CoordinateNotation.write(engine.search(MAX_TIME, MAX_NODES, 4)));
+        assertEquals(SearchEngine.MATE - 1, engine.getBestScore());
+
+        board = Perft.setUp(false, Perft.KIWIPETE);
+        long hash = board.getGameRules().getHash();
+        engine = new ParallelSearchEngine(board, new PieceSquareEvaluator(), new TranspositionTable(1), 3);
+
+        ChessMove move = engine.search(MAX_TIME, MAX_NODES, 3);
+        assertNotNull(move);
+        assertSame(board, move.getPiece().getChessBoard());
+        boolean legal = false;
+        for (ChessMove other : board.generateAllMoves())
+            legal |= other.getPiece() == move.getPiece() && other.getRow() == move.getRow() && other.getColumn() == move.getColumn();
+        assertTrue(CoordinateNotation.write(move), legal);
+        assertTrue(engine.getNodes() > 0);
+        assertEquals(hash, board.getGameRules().getHash());
+        assertEquals(hash, Zobrist.getKey(board));
+    }
+    //endregion
+}
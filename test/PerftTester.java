@@ -0,0 +1,165 @@
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * <p>Represents a class that tests move generation by counting the positions of well-known positions.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class PerftTester {
+
+    //region FIELDS
+    //Stores the largest count checked, so the tests stay quick
+    private static final long MAX_NODES = 100000;
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Checks the counts of a position of the suite, up to the largest count checked.</p>
+     *
+     * @param c the position of the suite
+     * @since 1.0
+     */
+    private void checkCase(Perft.Case c) {
+        BasicChessBoard board = c.setUp();
+        long hash = board.getGameRules().getHash();
+
+        for (int depth = 1; depth <= c.getMaxDepth() && c.getCount(depth) <= MAX_NODES; depth++)
+            assertEquals(c.getName() + " at depth " + depth, c.getCount(depth), Perft.count(board, depth));
+
+        // Checks that the chessboard was left as it was
+        assertEquals(hash, board.getGameRules().getHash());
+        assertEquals(hash, Zobrist.getKey(board));
+    }
+
+    /**
+     * <p>Tests the counts of every position of the suite.</p>
+     *
+     * @since 1.0
+     */
+    @Test
+    public void testSuite() {
+        for (Perft.Case c : Perft.SUITE)
+            checkCase(c);
+    }
+
+    /**
+     * <p>Checks that a chessboard set up with a position of the suite has the known counts, and the same divide counts
+     * as a {@link BasicChessBoard}, up to the largest count checked.</p>
+     *
+     * @param c     the position of the suite
+     * @param board the empty chessboard
+     * @since 1.0
+     */
+    private void compareCase(Perft.Case c, ChessBoard board) {
+        if (c.isXiangqi())
+            XiangqiFen.read(c.getFen(), board);
+        else
+            EuropeanChessFen.read(c.getFen(), board);
+        BasicChessBoard basicBoard = c.setUp();
+        long hash = board.getGameRules().getHash();
+
+        for (int depth = 1; depth <= c.getMaxDepth() && c.getCount(depth) <= MAX_NODES; depth++)
+            assertEquals(c.getName() + " at depth " + depth, c.getCount(depth), Perft.count(board, depth));
+        assertEquals(c.getName(), Perft.divide(basicBoard, 2), Perft.divide(board, 2));
+
+        // Checks that the chessboard was left as it was
+        assertEquals(hash, board.getGameRules().getHash());
+        assertEquals(hash, Zobrist.getKey(board));
+    }
+
+    /**
+     * <p>Tests that a {@link BitboardChessBoard} has the counts of every position of Indo-European chess of the
+     * suite.</p>
+     *
+     * @since 1.0
+     */
+    @Test
+    public void testBitboardChessBoard() {
+        for (Perft.Case c : Perft.SUITE) {
+            if (!c.isXiangqi())
+                compareCase(c, new BitboardChessBoard(new EuropeanChess(ChessGame.Side.SOUTH)));
+        }
+    }
+
+    /**
+     * <p>Tests that a {@link XiangqiBitboardChessBoard} has the counts of every position of Xiangqi of the suite, and
+     * of the position with flying generals.</p>
+     *
+     * @since 1.0
+     */
+    @Test
+    public void testXiangqiBitboardChessBoard() {
+        for (Perft.Case c : Perft.SUITE) {
+            if (c.isXiangqi())
+                compareCase(c, new XiangqiBitboardChessBoard(new Xiangqi(ChessGame.Side.SOUTH)));
+        }
+
+        ChessBoard board = new XiangqiBitboardChessBoard(new Xiangqi(ChessGame.Side.SOUTH));
+        XiangqiFen.read("4k4/9/9/9/9/9/9/9/9/3K5 w - - 0 1", board);
+        assertFalse(Perft.divide(board, 1).containsKey("d0e0"));
+    }
+
+    /**
+     * <p>Tests that a parallel count matches the known counts and leaves the chessboard as it was, splitting every
+     * depth into tasks so the counts are made by the tasks.</p>
+     *
+     * @since 1.0
+     */
+    @Test
+    public void testParallelCount() {
+        BasicChessBoard board = Perft.setUp(false, Perft.KIWIPETE);
+        long hash = board.getGameRules().getHash();
+
+        assertEquals(97862, Perft.parallelCount(board, 3, 4, 1));
+        assertEquals(2039, Perft.count(board, 2, new PerftTable(1)));
+        assertEquals(hash, Zobrist.getKey(board));
+
+        assertEquals(79666, Perft.parallelCount(Perft.setUp(true, XiangqiFen.START), 3, 4, 1));
+    }
+
+    /**
+     * <p>Tests the divide counts of the starting position of Indo-European chess.</p>
+     *
+     * @since 1.0
+     */
+    @Test
+    public void testDivide() {
+        BasicChessBoard board = Perft.setUp(false, EuropeanChessFen.START);
+
+        // Checks that every first move has 20 replies
+        assertEquals(20, Perft.divide(board, 2).size());
+        for (long count : Perft.divide(board, 2).values())
+            assertEquals(20, count);
+
+        assertEquals(Long.valueOf(600), Perft.divide(board, 3).get("e2e4"));
+    }
+
+    /**
+     * <p>Tests that the en passant square of a FEN allows the en passant capture.</p>
+     *
+     * @since 1.0
+     */
+    @Test
+    public void testEnPassant() {
+        BasicChessBoard board = Perft.setUp(false, "rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3");
+
+        assertTrue(Perft.divide(board, 1).containsKey("e5f6"));
+        assertFalse(Perft.divide(board, 1).containsKey("e5d6"));
+    }
+
+    /**
+     * <p>Tests that a general cannot move onto the file of the other general with nothing in between.</p>
+     *
+     * @since 1.0
+     */
+    @Test
+    public void testFlyingGeneral() {
+        BasicChessBoard board = Perft.setUp(true, "4k4/9/9/9/9/9/9/9/9/3K5 w - - 0 1");
+
+        assertFalse(Perft.divide(board, 1).containsKey("d0e0"));
+        assertTrue(Perft.divide(board, 1).containsKey("d0d1"));
+    }
+    //endregion
+}
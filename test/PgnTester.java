@@ -0,0 +1,229 @@
+import org.junit.Test;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import static org.junit.Assert.*;
+
+/**
+ * <p>Represents a class that tests reading and writing moves and games in Standard Algebraic Notation and Portable
+ * Game Notation.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class PgnTester {
+
+    //region METHODS
+    /**
+     * <p>Tests that a SAN names the legal move it should, and that a move that is illegal or ambiguous cannot be
+     * read.</p>
+     *
+     * @since 1.0
+     */
+    @Test
+    public void testEuropeanChessSan() {
+        BasicChessBoard board = Perft.setUp(false, "r3k2r/1P6/8/8/8/2N3N1/8/R3K2R w KQkq - 0 1");
+        ChessGame game = board.getGameRules();
+
+        assertEquals("b7a8n", CoordinateNotation.write(EuropeanChessSan.read("bxa8=N+", board)));
+        assertEquals("e1c1", CoordinateNotation.write(EuropeanChessSan.read("O-O-O", board)));
+        assertEquals("g3e4", CoordinateNotation.write(EuropeanChessSan.read("Nge4", board)));
+
+        for (String san : new String[] {"Ne4", "b8", "Ke3", "Qd1", "O-O-O-O"}) {
+            try {
+                EuropeanChessSan.read(san, board);
+                fail(san + " should not be read");
+            } catch (IllegalArgumentException e) {
+                // Expected
+            }
+        }
+
+        game.makeMove(EuropeanChessSan.read("0-0", board));
+        assertEquals("r3k2r/1P6/8/8/8/2N3N1/8/R4RK1 b kq - 1 1", EuropeanChessFen.write(board, 1));
+    }
+
+    /**
+     * <p>Tests that the move history of a game follows made and taken back moves, is written as PGN, and replays the
+     * same position on a new chessboard.</p>
+     *
+     * @throws IOException never, as the PGN is written to a string
+     * @since 1.0
+     */
+    @Test
+    public void testMoveHistory() throws IOException {
+        BasicChessBoard board = Perft.setUp(false, EuropeanChessFen.START);
+        ChessGame game = board.getGameRules();
+
+        for (String san : new String[] {"e4", "e5", "Nf3", "Nc6", "Bb5", "Nf6", "O-O", "Nxe4", "d4", "exd4"})
+            game.makeMove(EuropeanChessSan.read(san, board));
+        MoveRecord record = game.makeMove(EuropeanChessSan.read("Re1", board));
+        game.unmakeMove(record);
+
+        MoveHistory history = game.getMoveHistory();
+        assertEquals(10, history.size());
+        assertEquals("e2", history.getSquareName(history.getFrom(history.getCode(0))));
+        assertEquals(game.getHash(), history.replay().getGameRules().getHash());
+
+        StringWriter pgn = new StringWriter();
+        PgnWriter.write(game, Collections.singletonMap("Result", "*"), pgn);
+        assertTrue(pgn.toString().endsWith("\n\n1. e4 e5 2. Nf3 Nc6 3. Bb5 Nf6 4. O-O Nxe4 5. d4 exd4 *\n\n"));
+
+        // Checks that a code of Xiangqi is the same move in every orientation
+        for (ChessGame.Side side : ChessGame.Side.values()) {
+            board = new BasicChessBoard(new Xiangqi(side));
+            XiangqiFen.read(XiangqiFen.START, board);
+            game = board.getGameRules();
+            history = game.getMoveHistory();
+
+            // Stores the code of h2e2, from the square 70 to the square 67
+            int code = 70 | 67 << 7;
+            game.makeMove(history.decode(code, game, board.generateAllMoves()));
+            assertEquals(code, history.getCode(0));
+            assertTrue(XiangqiFen.write(board, 1).startsWith("rnbakabnr/9/1c5c1/p1p1p1p1p/9/9/P1P1P1P1P/1C2C4/9/RNBAKABNR b "));
+        }
+    }
+
+    /**
+     * <p>Tests that PGN moves are told apart by the file or rank they move from when another piece of the same kind can
+     * move to the same square, and are marked as checking or mating.</p>
+     *
+     * @throws IOException never, as the PGN is written to a string
+     * @since 1.0
+     */
+    @Test
+    public void testPgnWriter() throws IOException {
+        BasicChessBoard board = Perft.setUp(false, "7k/8/8/8/8/4RN2/8/1N2R2K w - - 0 1");
+        ChessGame game = board.getGameRules();
+
+        for (String san : new String[] {"Nbd2", "Kg7", "R1e2", "Kh6", "Re6+", "Kh5"})
+            game.makeMove(EuropeanChessSan.read(san, board));
+
+        StringWriter pgn = new StringWriter();
+        PgnWriter.write(game, Collections.emptyMap(), pgn);
+        assertTrue(pgn.toString().contains("[SetUp \"1\"]\n[FEN \"7k/8/8/8/8/4RN2/8/1N2R2K w - - 0 1\"]\n"));
+        assertTrue(pgn.toString().endsWith("\n\n1. Nbd2 Kg7 2. R1e2 Kh6 3. Re6+ Kh5 *\n\n"));
+
+        board = Perft.setUp(false, "6k1/5ppp/8/8/8/8/8/4R1K1 w - - 0 1");
+        game = board.getGameRules();
+        game.makeMove(EuropeanChessSan.read("Re8", board));
+
+        pgn = new StringWriter();
+        PgnWriter.write(game, Collections.singletonMap("Result", "1-0"), pgn);
+        assertTrue(pgn.toString().endsWith("\n\n1. Re8# 1-0\n\n"));
+    }
+
+    /**
+     * <p>Tests that the moves of a game set up from a FEN are numbered from the full-move number of the FEN, which is
+     * written in the <code>FEN</code> tag, and are numbered the same when read back.</p>
+     *
+     * @throws IOException if the PGN file cannot be written or read
+     * @since 1.0
+     */
+    @Test
+    public void testFullMoveNumber() throws IOException {
+        String fen = "4k3/p7/8/8/8/8/P7/1R2K3 b - - 12 41";
+        BasicChessBoard board = new BasicChessBoard(new EuropeanChess(ChessGame.Side.SOUTH));
+        assertEquals(41, EuropeanChessFen.read(fen, board));
+        ChessGame game = board.getGameRules();
+
+        for (String san : new String[] {"Kd7", "Rb7+", "Kc6"})
+            game.makeMove(EuropeanChessSan.read(san, board));
+        assertEquals(41, game.getMoveHistory().getStartingMoveNumber());
+
+        StringWriter pgn = new StringWriter();
+        PgnWriter.write(game, Collections.emptyMap(), pgn);
+        assertTrue(pgn.toString().contains("[FEN \"" + fen + "\"]\n"));
+        assertTrue(pgn.toString().endsWith("\n\n41... Kd7 42. Rb7+ Kc6 *\n\n"));
+
+        Path file = Files.createTempFile("games", ".pgn");
+        try {
+            Files.write(file, pgn.toString().getBytes(StandardCharsets.UTF_8));
+            MoveHistory history = PgnReader.read(file, 1).get(0).getMoveHistory();
+            assertEquals(41, history.getStartingMoveNumber());
+            assertEquals(game.getHash(), history.replay().getGameRules().getHash());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * <p>Tests that the starting FEN of a move history is written from the position it started from, even after moves
+     * are made, and that the full-move number of a starting FEN is read from its last field.</p>
+     *
+     * @since 1.0
+     */
+    @Test
+    public void testStartingFen() {
+        for (String fen : new String[] {EuropeanChessFen.START, Perft.KIWIPETE, "rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3", "4k3/p7/8/8/8/8/P7/1R2K3 b - - 12 41"}) {
+            BasicChessBoard board = EuropeanChessFen.createBoard(fen);
+            ChessGame game = board.getGameRules();
+
+            game.makeMove(board.generateAllMoves()[0]);
+            assertEquals(fen, game.getMoveHistory().getStartingFen());
+        }
+
+        // Checks that an en passant square no pawn can capture on is left out
+        BasicChessBoard board = EuropeanChessFen.createBoard("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1");
+        assertEquals("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq - 0 1", board.getGameRules().getMoveHistory().getStartingFen());
+
+        String fen = "r1bakab1r/9/1cn4c1/p1p1p1p1p/9/9/P1P1P1P1P/1C2C1N2/9/RNBAKAB1R b - - 3 2";
+        for (ChessGame.Side side : ChessGame.Side.values()) {
+            board = new BasicChessBoard(new Xiangqi(side));
+            XiangqiFen.read(fen, board);
+            assertEquals(fen, board.getGameRules().getMoveHistory().getStartingFen());
+        }
+
+        MoveHistory history = new MoveHistory(false);
+        history.reset("  4k3/p7/8/8/8/8/P7/1R2K3 b - -  12   41 ");
+        assertEquals(41, history.getStartingMoveNumber());
+        history.reset("4k3/p7/8/8/8/8/P7/1R2K3 b - -");
+        assertEquals(1, history.getStartingMoveNumber());
+    }
+
+    /**
+     * <p>Tests that the games of a PGN file are replayed in order, with the tags, results, and errors of each.</p>
+     *
+     * @throws IOException if the PGN file cannot be written or read
+     * @since 1.0
+     */
+    @Test
+    public void testPgnReader() throws IOException {
+        Path file = Files.createTempFile("games", ".pgn");
+
+        try {
+            Files.write(file, ("[Event \"First\"]\n[White \"A \\\"B\\\"\"]\n\n"
+                    + "1. e4 {best by test} e5 (1... c5 2. Nf3) 2. Nf3 $1 Nc6 3. Bb5 a6 1/2-1/2\n\n"
+                    + "[Event \"Second\"]\n[SetUp \"1\"]\n[FEN \"4k3/P7/8/8/8/8/8/4K3 w - - 0 1\"]\n\n"
+                    + "1. a8=Q+ Kd7 2. Kd2 *\n\n"
+                    + "[Event \"Third\"]\n\n1. e4 e5 2. Ke3 Nf6 0-1\n\n"
+                    + "[Event \"Fourth\"]\n\n1. e4 e5 2. Nf3 Nc6 3. Bc4 Nf6 4. 0-0 Be7 5. d3 0-0 6.Re1 1-0\n").getBytes(StandardCharsets.UTF_8));
+
+            List<PgnReader.Game> games = PgnReader.read(file, 2);
+            assertEquals(4, games.size());
+
+            assertEquals("A \"B\"", games.get(0).getTag("White"));
+            assertEquals("1/2-1/2", games.get(0).getResult());
+            assertEquals(6, games.get(0).getPlies());
+            assertTrue(games.get(0).isValid());
+
+            assertEquals(3, games.get(1).getPlies());
+            assertTrue(games.get(1).isValid());
+
+            assertEquals(3, games.get(2).getNumber());
+            assertEquals(2, games.get(2).getPlies());
+            assertEquals("Ply 3: The move is not legal: Ke3", games.get(2).getError());
+
+            // Checks that castling written with zeros is read as a move and not as a move number
+            assertEquals(11, games.get(3).getPlies());
+            assertTrue(games.get(3).isValid());
+            assertEquals("1-0", games.get(3).getResult());
+        } finally {
+            Files.delete(file);
+        }
+    }
+    //endregion
+}
@@ -0,0 +1,102 @@
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.*;
+
+/**
+ * <p>Represents a class that tests that the scores a game keeps up to date as moves are made and taken back are the
+ * scores found by going over the chessboard.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class PieceSquareEvaluatorTester {
+
+    //region FIELDS
+    //Stores the number of random moves made and taken back in each game
+    private static final int PLIES = 300;
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Tests the scores of games of Indo-European chess started by either side, and of positions with castling,
+     * en passant, and promotions.</p>
+     *
+     * @since 1.0
+     */
+    @Test
+    public void testEuropeanChess() {
+        for (ChessGame.Side side : new ChessGame.Side[] {ChessGame.Side.SOUTH, ChessGame.Side.NORTH}) {
+            BasicChessBoard board = new BasicChessBoard(new EuropeanChess(side));
+            board.getGameRules().startGame(board);
+            checkScores(board, new Random(side.ordinal()));
+        }
+
+        checkScores(Perft.setUp(false, Perft.KIWIPETE), new Random(1));
+        checkScores(Perft.setUp(false, Perft.PROMOTIONS), new Random(2));
+    }
+
+    /**
+     * <p>Tests the scores of games of Xiangqi in every orientation, whose pieces are mapped onto the piece-square
+     * tables from every side.</p>
+     *
+     * @since 1.0
+     */
+    @Test
+    public void testXiangqi() {
+        for (ChessGame.Side side : ChessGame.Side.values()) {
+            BasicChessBoard board = new BasicChessBoard(new Xiangqi(side));
+            XiangqiFen.read(XiangqiFen.START, board);
+            checkScores(board, new Random(side.ordinal()));
+        }
+    }
+
+    /**
+     * <p>Makes random legal moves, and takes back a move now and then, checking after each that the scores kept by
+     * the game are the scores of the pieces on the chessboard.</p>
+     *
+     * @param board     the chessboard, which is set up with the position to start from
+     * @param random    the random moves
+     * @since 1.0
+     */
+    private void checkScores(BasicChessBoard board, Random random) {
+        ChessGame game = board.getGameRules();
+        List<MoveRecord> records = new ArrayList<>();
+        assertScores(board, "Start");
+
+        for (int ply = 0; ply < PLIES; ply++) {
+            if (!records.isEmpty() && random.nextInt(4) == 0) {
+                game.unmakeMove(records.remove(records.size() - 1));
+                assertScores(board, "Ply " + ply + " taken back");
+                continue;
+            }
+
+            ChessMove[] moves = board.generateAllMoves();
+            if (moves.length == 0)
+                break;
+            records.add(game.makeMove(moves[random.nextInt(moves.length)]));
+            assertScores(board, "Ply " + ply);
+        }
+
+        while (!records.isEmpty()) {
+            game.unmakeMove(records.remove(records.size() - 1));
+            assertScores(board, "Taken back");
+        }
+    }
+
+    /**
+     * <p>Checks that the scores kept by the game of a chessboard are the scores found by going over the chessboard.</p>
+     *
+     * @param board     the chessboard
+     * @param message   the message of a failure
+     * @since 1.0
+     */
+    private void assertScores(BasicChessBoard board, String message) {
+        int[] scores = PieceSquareEvaluator.getScores(board);
+
+        for (ChessGame.Side side : ChessGame.Side.values())
+            assertEquals(message + ", " + side, scores[side.ordinal()], board.getGameRules().getScore(side));
+    }
+    //endregion
+}
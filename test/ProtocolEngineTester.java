@@ -0,0 +1,176 @@
+import org.junit.Test;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import static org.junit.Assert.*;
+
+/**
+ * <p>Represents a class that tests the commands of the engines driven by a text protocol, read from an input as they
+ * would be from a GUI.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class ProtocolEngineTester {
+
+    //region FIELDS
+    //Stores the most time waited for a search to write its move, in milliseconds
+    private static final long MAX_TIME = 60000;
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Tests that the UCI engine answers <code>uci</code> and <code>isready</code>, and finds a mate in one after
+     * its options are set.</p>
+     *
+     * @throws IOException never, as the commands are read from strings
+     * @since 1.0
+     */
+    @Test
+    public void testUci() throws IOException {
+        String[] lines = run(new UciEngine(), "bestmove", "uci", "setoption name Hash value 1", "setoption name Threads value 2",
+                "isready", "ucinewgame", "position fen 6k1/5ppp/8/8/8/8/8/4R1K1 w - - 0 1", "go depth 2");
+
+        assertEquals("uciok", lines[4]);
+        assertEquals("readyok", lines[5]);
+        assertTrue(lines[6], lines[6].startsWith("info depth ") && lines[6].contains(" score mate 1 "));
+        assertEquals("bestmove e1e8", lines[7]);
+    }
+
+    /**
+     * <p>Tests that the UCI engine makes the moves of a <code>position</code> command and writes a legal move of the
+     * position it reaches.</p>
+     *
+     * @throws IOException never, as the commands are read from strings
+     * @since 1.0
+     */
+    @Test
+    public void testUciPosition() throws IOException {
+        String[] lines = run(new UciEngine(), "bestmove", "setoption name Hash value 1", "position startpos moves e2e4 e7e5 g1f3", "go depth 2");
+        String move = lines[lines.length - 1];
+
+        BasicChessBoard board = Perft.setUp(false, EuropeanChessFen.START);
+        for (String name : new String[] {"e2e4", "e7e5", "g1f3"})
+            board.getGameRules().makeMove(CoordinateNotation.read(name, board));
+        assertTrue(move, move.startsWith("bestmove "));
+        assertEquals(ChessGame.Side.NORTH, CoordinateNotation.read(move.substring(9), board).getPiece().getSide());
+    }
+
+    /**
+     * <p>Tests that an infinite search only writes its move once told to stop, before the next command is
+     * answered, and that a move that cannot be read is reported.</p>
+     *
+     * @throws IOException never, as the commands are read from strings
+     * @since 1.0
+     */
+    @Test
+    public void testUciStop() throws IOException {
+        String[] lines = run(new UciEngine(), null, "setoption name Hash value 1", "position startpos moves e2e5", "position startpos",
+                "go infinite", "isready", "stop", "isready", "quit", "isready");
+
+        assertEquals("info string The move is not legal: e2e5", lines[0]);
+        assertEquals("readyok", lines[1]);
+        assertTrue(lines[2], lines[2].startsWith("info depth "));
+        assertTrue(lines[3], lines[3].startsWith("bestmove "));
+        assertEquals("readyok", lines[4]);
+        assertEquals(5, lines.length);
+    }
+
+    /**
+     * <p>Tests that the UCCI engine answers <code>ucci</code>, makes the moves of a <code>position</code> command, and
+     * writes a legal move of the position it reaches in ICCS coordinates.</p>
+     *
+     * @throws IOException never, as the commands are read from strings
+     * @since 1.0
+     */
+    @Test
+    public void testUcci() throws IOException {
+        String[] lines = run(new UcciEngine(), "bestmove", "ucci", "setoption hashsize 1", "setoption threads 2", "isready",
+                "position fen " + XiangqiFen.START + " moves h2e2", "go depth 2");
+        String move = lines[lines.length - 1];
+
+        assertEquals("ucciok", lines[5]);
+        assertEquals("readyok", lines[6]);
+        BasicChessBoard board = Perft.setUp(true, XiangqiFen.START);
+        board.getGameRules().makeMove(CoordinateNotation.read("h2e2", board));
+        assertTrue(move, move.startsWith("bestmove "));
+        assertEquals(ChessGame.Side.NORTH, CoordinateNotation.read(move.substring(9), board).getPiece().getSide());
+    }
+
+    /**
+     * <p>Tests that the UCCI engine writes <code>nobestmove</code> when the side that is playing has no legal moves,
+     * and answers <code>quit</code> with <code>bye</code> without reading any more commands.</p>
+     *
+     * @throws IOException never, as the commands are read from strings
+     * @since 1.0
+     */
+    @Test
+    public void testUcciNoMove() throws IOException {
+        String[] lines = run(new UcciEngine(), null, "setoption hashsize 1", "position fen 3k5/R8/9/9/9/9/9/9/9/4K4 b - - 0 1",
+                "go depth 2", "quit", "isready");
+
+        assertArrayEquals(new String[] {"nobestmove", "bye"}, lines);
+    }
+
+    /**
+     * <p>Runs an engine on commands, and returns the lines it writes.</p>
+     *
+     * @param engine    the engine
+     * @param await     the start of the line to wait for once the commands are read, <code>null</code> to end the
+     *                  input at once
+     * @param commands  the commands
+     * @return          the lines written by the engine
+     * @throws IOException never, as the commands are read from strings
+     * @since 1.0
+     */
+    private String[] run(ProtocolEngine engine, String await, String... commands) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintStream out = System.out;
+
+        // Stores the commands, and ends the input once the engine has written the line waited for
+        BufferedReader in = new BufferedReader(new StringReader("")) {
+            private int next = 0;
+
+            @Override
+            public String readLine() {
+                if (next < commands.length)
+                    return commands[next++];
+
+                long end = System.currentTimeMillis() + MAX_TIME;
+                while (await != null && !getOutput(bytes).contains("\n" + await) && !getOutput(bytes).startsWith(await)
+                        && System.currentTimeMillis() < end) {
+                    try {
+                        Thread.sleep(1);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+                return null;
+            }
+        };
+
+        System.setOut(new PrintStream(bytes, true));
+        try {
+            engine.run(in);
+        } finally {
+            System.setOut(out);
+        }
+        return getOutput(bytes).split("\\R");
+    }
+
+    /**
+     * <p>Returns what an engine has written so far.</p>
+     *
+     * @param bytes the output of the engine
+     * @return      the output, as text
+     * @since 1.0
+     */
+    private static String getOutput(ByteArrayOutputStream bytes) {
+        return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    }
+    //endregion
+}
@@ -0,0 +1,68 @@
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * <p>Represents a class that tests that the search engine finds forced mates.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class SearchEngineTester {
+
+    //region FIELDS
+    //Stores the most time and nodes of a search, which a forced mate is found well within
+    private static final long MAX_TIME = 60000, MAX_NODES = 10000000;
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Tests that the search finds a mate in one on the back rank.</p>
+     *
+     * @since 1.0
+     */
+    @Test
+    public void testMateInOne() {
+        BasicChessBoard board = Perft.setUp(false, "6k1/5ppp/8/8/8/8/8/4R1K1 w - - 0 1");
+        SearchEngine engine = new SearchEngine(board.getGameRules(), board);
+
+        assertEquals("e1e8", CoordinateNotation.write(engine.search(MAX_TIME, MAX_NODES, 4)));
+        assertEquals(SearchEngine.MATE - 1, engine.getBestScore());
+        assertEquals(1, engine.getDepth());
+    }
+
+    /**
+     * <p>Tests that the search finds a mate in two, giving up a rook to open the back rank, and leaves the chessboard
+     * as it was.</p>
+     *
+     * @since 1.0
+     */
+    @Test
+    public void testMateInTwo() {
+        BasicChessBoard board = Perft.setUp(false, "r5k1/5ppp/8/8/8/8/4RPPP/4R1K1 w - - 0 1");
+        long hash = board.getGameRules().getHash();
+        SearchEngine engine = new SearchEngine(board.getGameRules(), board);
+
+        assertEquals("e2e8", CoordinateNotation.write(engine.search(MAX_TIME, MAX_NODES, 6)));
+        assertEquals(SearchEngine.MATE - 3, engine.getBestScore());
+        assertEquals(hash, Zobrist.getKey(board));
+    }
+
+    /**
+     * <p>Tests that the only legal move is played without searching, and that a side with no legal moves has no
+     * move.</p>
+     *
+     * @since 1.0
+     */
+    @Test
+    public void testOnlyMove() {
+        BasicChessBoard board = Perft.setUp(false, "6k1/8/8/8/8/1r6/r7/7K w - - 0 1");
+        SearchEngine engine = new SearchEngine(board.getGameRules(), board);
+
+        assertEquals("h1g1", CoordinateNotation.write(engine.search(MAX_TIME, MAX_NODES, 4)));
+        assertEquals(0, engine.getNodes());
+
+        board = Perft.setUp(false, "6k1/8/8/8/8/8/r7/1r5K w - - 0 1");
+        assertNull(new SearchEngine(board.getGameRules(), board).search(MAX_TIME, MAX_NODES, 4));
+    }
+    //endregion
+}
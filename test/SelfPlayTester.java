@@ -0,0 +1,67 @@
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * <p>Represents a class that tests playing games between two players and counting their results.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class SelfPlayTester {
+
+    //region METHODS
+    /**
+     * <p>Tests that a pair of games of either variant between a player that searches one node a move and a random
+     * player adds up to the games played, and that the games are the same whatever the number of threads, as the
+     * openings and the random moves come from fixed seeds.</p>
+     *
+     * @since 1.0
+     */
+    @Test
+    public void testPlay() {
+        for (boolean xiangqi : new boolean[] {false, true}) {
+            SelfPlay.Summary summary = SelfPlay.play(xiangqi, "pst:1", "random", 2, 2);
+            String variant = xiangqi ? "Xiangqi" : "Chess";
+
+            assertEquals(variant, 2, summary.getNumGames());
+            int count = 0;
+            for (ChessResult result : ChessResult.values())
+                count += summary.getCount(result);
+            assertEquals(variant, 2, count);
+            assertTrue(variant, summary.getScore() >= 0 && summary.getScore() <= 1);
+            assertTrue(variant, summary.getAveragePlies() > 0 && summary.getAveragePlies() <= SelfPlay.MAX_PLIES);
+            assertTrue(variant, summary.getGamesPerSecond() > 0);
+
+            SelfPlay.Summary again = SelfPlay.play(xiangqi, "pst:1", "random", 2, 1);
+            assertEquals(variant, summary.getScore(), again.getScore(), 0);
+            assertEquals(variant, summary.getAveragePlies(), again.getAveragePlies(), 0);
+            for (ChessResult result : ChessResult.values())
+                assertEquals(variant + ", " + result, summary.getCount(result), again.getCount(result));
+        }
+    }
+
+    /**
+     * <p>Tests that a player or a number of games that cannot be played is turned down before any game starts.</p>
+     *
+     * @since 1.0
+     */
+    @Test
+    public void testBadArguments() {
+        for (String player : new String[] {"pst", "pst:0", "material:x", "minimax:10"}) {
+            try {
+                SelfPlay.play(false, "random", player, 2, 1);
+                fail(player + " should not be read");
+            } catch (IllegalArgumentException e) {
+                // Expected
+            }
+        }
+
+        try {
+            SelfPlay.play(false, "random", "random", 0, 1);
+            fail("No games should not be played");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+    }
+    //endregion
+}
@@ -0,0 +1,79 @@
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * <p>Represents a class that tests the static exchange evaluation of captures.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class StaticExchangeTester {
+
+    //region METHODS
+    /**
+     * <p>Returns the static exchange evaluation of a move of the position of a FEN.</p>
+     *
+     * @param xiangqi   if the position is a position of Xiangqi
+     * @param fen       the FEN of the position
+     * @param name      the name of the move, such as <code>d1d5</code>
+     * @return          the material won by the move
+     * @since 1.0
+     */
+    private int evaluate(boolean xiangqi, String fen, String name) {
+        BasicChessBoard board = Perft.setUp(xiangqi, fen);
+
+        for (ChessMove move : board.generateAllMoves()) {
+            if (CoordinateNotation.write(move).equals(name))
+                return board.staticExchange(move);
+        }
+        throw new AssertionError(name + " is not a legal move of " + fen);
+    }
+
+    /**
+     * <p>Tests that a capture of a piece that is not defended wins the piece.</p>
+     *
+     * @since 1.0
+     */
+    @Test
+    public void testUndefendedCapture() {
+        assertEquals(100, evaluate(false, "4k3/8/8/3p4/8/8/8/3QK3 w - - 0 1", "d1d5"));
+        assertEquals(0, evaluate(false, "4k3/8/8/8/8/8/8/3QK3 w - - 0 1", "d1d5"));
+    }
+
+    /**
+     * <p>Tests that a queen capturing a pawn defended by a pawn or a rook loses the queen for the pawn.</p>
+     *
+     * @since 1.0
+     */
+    @Test
+    public void testDefendedCapture() {
+        assertEquals(-800, evaluate(false, "4k3/8/4p3/3p4/8/8/8/3QK3 w - - 0 1", "d1d5"));
+        assertEquals(-800, evaluate(false, "3rk3/8/8/3p4/8/8/8/3QK3 w - - 0 1", "d1d5"));
+    }
+
+    /**
+     * <p>Tests that a rook behind the capturing rook recaptures once the capturing rook is taken.</p>
+     *
+     * @since 1.0
+     */
+    @Test
+    public void testXRay() {
+        assertEquals(100, evaluate(false, "3rk3/8/8/3p4/8/8/3R4/3RK3 w - - 0 1", "d2d5"));
+        assertEquals(-400, evaluate(false, "3rk3/8/8/3p4/8/8/3R4/4K3 w - - 0 1", "d2d5"));
+    }
+
+    /**
+     * <p>Tests that a cannon recaptures once a capture leaves it one screen, and not once a capture takes its only
+     * screen away.</p>
+     *
+     * @since 1.0
+     */
+    @Test
+    public void testCannonScreen() {
+        // The soldier leaves the horse as the only screen of the cannon, which then recaptures the chariot
+        assertEquals(400, evaluate(true, "3k5/4r4/9/9/4n4/4P4/9/4N4/9/4CK3 w - - 0 1", "e4e5"));
+        // The soldier is the only screen of the cannon, which cannot recapture once the soldier captures
+        assertEquals(300, evaluate(true, "3k5/4r4/9/9/4n4/4P4/9/9/9/4CK3 w - - 0 1", "e4e5"));
+    }
+    //endregion
+}
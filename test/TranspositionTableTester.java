@@ -0,0 +1,102 @@
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * <p>Represents a class that tests storing and probing results in the transposition table, and which results are
+ * replaced.</p>
+ *
+ * @author Nobel Zhou (nxz157)
+ * @version 1.0, 10/17/2026
+ */
+public class TranspositionTableTester {
+
+    //region FIELDS
+    //Stores the step between keys of the same bucket of a table of one megabyte
+    private static final long BUCKET_STEP = 1L << 20;
+    //endregion
+
+    //region METHODS
+    /**
+     * <p>Tests that a stored result is probed back whole, and that a key that was not stored is not found.</p>
+     *
+     * @since 1.0
+     */
+    @Test
+    public void testStoreAndProbe() {
+        TranspositionTable table = new TranspositionTable(1);
+        long key = 0x123456789ABCDEFL;
+        assertEquals(0, table.probe(key));
+
+        table.store(key, 7, TranspositionTable.LOWER_BOUND, -SearchEngine.MATE + 3, 1234);
+        long data = table.probe(key);
+        assertEquals(7, TranspositionTable.getDepth(data));
+        assertEquals(TranspositionTable.LOWER_BOUND, TranspositionTable.getBound(data));
+        assertEquals(-SearchEngine.MATE + 3, TranspositionTable.getScore(data));
+        assertEquals(1234, TranspositionTable.getMove(data));
+
+        // Checks that a key of the same bucket is told apart
+        assertEquals(0, table.probe(key + BUCKET_STEP));
+
+        table.clear();
+        assertEquals(0, table.probe(key));
+    }
+
+    /**
+     * <p>Tests that a result of the same position replaces the stored result unless the stored result is deeper and
+     * as exact, and that a move of 0 keeps the stored move.</p>
+     *
+     * @since 1.0
+     */
+    @Test
+    public void testSamePosition() {
+        TranspositionTable table = new TranspositionTable(1);
+        long key = 42;
+
+        table.store(key, 6, TranspositionTable.EXACT, 10, 99);
+        table.store(key, 4, TranspositionTable.LOWER_BOUND, 20, 0);
+        assertEquals(10, TranspositionTable.getScore(table.probe(key)));
+
+        table.store(key, 8, TranspositionTable.UPPER_BOUND, 30, 0);
+        assertEquals(30, TranspositionTable.getScore(table.probe(key)));
+        assertEquals(99, TranspositionTable.getMove(table.probe(key)));
+
+        // Checks that an exact result replaces a deeper bound
+        table.store(key, 5, TranspositionTable.EXACT, 40, 0);
+        assertEquals(40, TranspositionTable.getScore(table.probe(key)));
+        assertEquals(5, TranspositionTable.getDepth(table.probe(key)));
+
+        // Checks that a result of an earlier search is replaced by a shallower one
+        table.newSearch();
+        table.store(key, 1, TranspositionTable.LOWER_BOUND, 50, 7);
+        assertEquals(50, TranspositionTable.getScore(table.probe(key)));
+        assertEquals(7, TranspositionTable.getMove(table.probe(key)));
+    }
+
+    /**
+     * <p>Tests that a full bucket replaces its shallowest result, and results of earlier searches before it.</p>
+     *
+     * @since 1.0
+     */
+    @Test
+    public void testReplacement() {
+        TranspositionTable table = new TranspositionTable(1);
+        int[] depths = {5, 3, 7, 6};
+
+        for (int i = 0; i < depths.length; i++)
+            table.store(1 + i * BUCKET_STEP, depths[i], TranspositionTable.EXACT, i, 0);
+        table.store(1 + 4 * BUCKET_STEP, 4, TranspositionTable.EXACT, 4, 0);
+
+        assertEquals(0, table.probe(1 + BUCKET_STEP));
+        for (int i : new int[] {0, 2, 3, 4})
+            assertEquals(i, TranspositionTable.getScore(table.probe(1 + i * BUCKET_STEP)));
+
+        // Checks that an old deep result is replaced before a new shallower one
+        table.newSearch();
+        table.newSearch();
+        table.store(1 + 5 * BUCKET_STEP, 2, TranspositionTable.EXACT, 5, 0);
+        table.store(1 + 6 * BUCKET_STEP, 1, TranspositionTable.EXACT, 6, 0);
+        assertEquals(5, TranspositionTable.getScore(table.probe(1 + 5 * BUCKET_STEP)));
+        assertEquals(6, TranspositionTable.getScore(table.probe(1 + 6 * BUCKET_STEP)));
+    }
+    //endregion
+}